@@ -0,0 +1,30 @@
+package com.nitroxen.demo.billing;
+
+import com.nitroxen.demo.dto.response.BillingRunResponse;
+import com.nitroxen.demo.service.RevenueService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+
+/**
+ * Bills every owner for the month that has just started. A run that is repeated, or that overlaps
+ * one triggered by an admin, records nothing twice.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MonthlyBillingJob {
+
+    private final RevenueService revenueService;
+
+    @Scheduled(cron = "${application.billing.run-cron:0 0 2 1 * *}")
+    public void run() {
+        BillingRunResponse result = revenueService.runBilling(YearMonth.now());
+        log.info("Billed {} owner(s) for {}: {} charge(s) recorded, {} already present, {} owner(s) failed",
+                result.getOwners(), result.getMonth(), result.getEntriesRecorded(), result.getEntriesSkipped(),
+                result.getOwnersFailed());
+    }
+}
@@ -0,0 +1,84 @@
+package com.nitroxen.demo.billing;
+
+import com.nitroxen.demo.entity.BillingLedgerEntry;
+import com.nitroxen.demo.entity.RevenueDaily;
+import com.nitroxen.demo.entity.RevenueMonthly;
+import com.nitroxen.demo.exception.ResourceNotFoundException;
+import com.nitroxen.demo.repository.BillingLedgerRepository;
+import com.nitroxen.demo.repository.RevenueDailyRepository;
+import com.nitroxen.demo.repository.RevenueMonthlyRepository;
+import com.nitroxen.demo.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The only writer of the billing ledger. Each entry is inserted together with an increment of the
+ * owner's daily and monthly revenue rows in the same transaction, so the aggregates always equal the
+ * sum of the ledger and reports never have to scan it.
+ * <p>
+ * Writes for an owner are serialized by locking the owner's user row first, which keeps the
+ * increment-or-insert of a new day or month free of races.
+ */
+@Component
+@RequiredArgsConstructor
+public class RevenueLedger {
+
+    private final BillingLedgerRepository billingLedgerRepository;
+    private final RevenueDailyRepository revenueDailyRepository;
+    private final RevenueMonthlyRepository revenueMonthlyRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * Record entries of one owner, skipping those whose reference is already in the ledger
+     * @return Entries recorded by this call
+     */
+    @Transactional
+    public List<BillingLedgerEntry> record(Long ownerId, List<BillingLedgerEntry> entries) {
+        userRepository.findLockedById(ownerId)
+                .orElseThrow(() -> new ResourceNotFoundException("Owner not found with id: " + ownerId));
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = now.toLocalDate();
+        List<BillingLedgerEntry> recorded = new ArrayList<>(entries.size());
+        for (BillingLedgerEntry entry : entries) {
+            if (entry.getReference() != null && billingLedgerRepository.existsByReference(entry.getReference())) {
+                continue;
+            }
+            entry.setOwnerId(ownerId);
+            entry.setRecordedOn(today);
+            recorded.add(billingLedgerRepository.save(entry));
+            addToAggregates(ownerId, entry, now);
+        }
+        return recorded;
+    }
+
+    // Helper method to fold one entry into the owner's day and month
+    private void addToAggregates(Long ownerId, BillingLedgerEntry entry, LocalDateTime now) {
+        LocalDate day = entry.getRecordedOn();
+        if (revenueDailyRepository.addEntry(ownerId, day, entry.getAmount(), now) == 0) {
+            revenueDailyRepository.save(RevenueDaily.builder()
+                    .ownerId(ownerId)
+                    .revenueDate(day)
+                    .amount(entry.getAmount())
+                    .entryCount(1L)
+                    .updatedAt(now)
+                    .build());
+        }
+        LocalDate month = day.withDayOfMonth(1);
+        if (revenueMonthlyRepository.addEntry(ownerId, month, entry.getAmount(), now) == 0) {
+            revenueMonthlyRepository.save(RevenueMonthly.builder()
+                    .ownerId(ownerId)
+                    .revenueMonth(month)
+                    .amount(entry.getAmount())
+                    .entryCount(1L)
+                    .updatedAt(now)
+                    .build());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.nitroxen.demo.billing;
+
+import com.nitroxen.demo.entity.BillingLedgerEntry;
+import com.nitroxen.demo.entity.Farm;
+import com.nitroxen.demo.enums.BillingChargeType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Turns an owner's farms and seats into the monthly subscription charges: a flat fee per farm, a fee
+ * per square meter of each farm's total area and a fee per seat. Zero-priced components are left out.
+ * Every charge carries a reference unique to the owner, month and component.
+ */
+@Component
+public class SubscriptionPricing {
+
+    private final BigDecimal pricePerFarm;
+    private final BigDecimal pricePerSquareMeter;
+    private final BigDecimal pricePerSeat;
+
+    public SubscriptionPricing(@Value("${application.billing.price-per-farm:20.00}") BigDecimal pricePerFarm,
+                               @Value("${application.billing.price-per-square-meter:0.05}") BigDecimal pricePerSquareMeter,
+                               @Value("${application.billing.price-per-seat:5.00}") BigDecimal pricePerSeat) {
+        this.pricePerFarm = pricePerFarm;
+        this.pricePerSquareMeter = pricePerSquareMeter;
+        this.pricePerSeat = pricePerSeat;
+    }
+
+    /**
+     * Charges of one owner for a month
+     * @param seats Users billed to the owner, the owner included
+     */
+    public List<BillingLedgerEntry> chargesFor(Long ownerId, List<Farm> farms, long seats, YearMonth month) {
+        LocalDate period = month.atDay(1);
+        List<BillingLedgerEntry> charges = new ArrayList<>(farms.size() * 2 + 1);
+        for (Farm farm : farms) {
+            addCharge(charges, ownerId, farm.getId(), BillingChargeType.FARM, 1, pricePerFarm, period,
+                    "Farm fee for " + farm.getName());
+            addCharge(charges, ownerId, farm.getId(), BillingChargeType.AREA, farm.getTotalArea(), pricePerSquareMeter, period,
+                    "Area fee for " + farm.getName());
+        }
+        addCharge(charges, ownerId, null, BillingChargeType.SEAT, seats, pricePerSeat, period, "Seat fee");
+        return charges;
+    }
+
+    private static void addCharge(List<BillingLedgerEntry> charges, Long ownerId, Long farmId, BillingChargeType type,
+                                  double quantity, BigDecimal unitPrice, LocalDate period, String description) {
+        if (quantity <= 0 || unitPrice.signum() == 0) {
+            return;
+        }
+        charges.add(BillingLedgerEntry.builder()
+                .ownerId(ownerId)
+                .farmId(farmId)
+                .chargeType(type)
+                .quantity(quantity)
+                .unitPrice(unitPrice)
+                .amount(unitPrice.multiply(BigDecimal.valueOf(quantity)).setScale(2, RoundingMode.HALF_UP))
+                .billingPeriod(period)
+                .reference(reference(period, type, farmId != null ? farmId : ownerId))
+                .description(description)
+                .build());
+    }
+
+    // Helper method to build the idempotency reference of a scheduled charge, e.g. 2026-10:AREA:7
+    static String reference(LocalDate period, BillingChargeType type, long subjectId) {
+        return YearMonth.from(period) + ":" + type + ":" + subjectId;
+    }
+}
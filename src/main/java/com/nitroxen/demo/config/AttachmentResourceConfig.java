@@ -0,0 +1,28 @@
+package com.nitroxen.demo.config;
+
+import com.nitroxen.demo.service.TaskAttachmentStorage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+/**
+ * Serves stored task and report attachments at the URLs TaskAttachmentStorage hands out.
+ * Files are named by their content hash and never change, so authenticated clients may cache them.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class AttachmentResourceConfig implements WebMvcConfigurer {
+
+    private final TaskAttachmentStorage attachmentStorage;
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        registry.addResourceHandler(TaskAttachmentStorage.URL_PREFIX + "**")
+                .addResourceLocations("file:" + attachmentStorage.getAttachmentDir().toAbsolutePath() + "/")
+                .setCacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable());
+    }
+}
@@ -0,0 +1,41 @@
+package com.nitroxen.demo.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sizes every Hikari pool (primary and replica) from the core count instead of Hikari's fixed default of 10:
+ * {@code cores * connections-per-core + extra-connections}, at most {@code max-size}. Pools are fixed-size,
+ * so a burst never waits for new connections to be opened. Enabled by setting {@code connections-per-core};
+ * without it {@code spring.datasource.hikari.maximum-pool-size} applies as usual.
+ */
+@Component
+@ConditionalOnProperty(prefix = "application.datasource.pool", name = "connections-per-core")
+public class ConnectionPoolSizer implements BeanPostProcessor {
+
+    private static final int MIN_SIZE = 2;
+
+    private final int poolSize;
+
+    public ConnectionPoolSizer(@Value("${application.datasource.pool.connections-per-core}") int connectionsPerCore,
+                               @Value("${application.datasource.pool.extra-connections:1}") int extraConnections,
+                               @Value("${application.datasource.pool.max-size:50}") int maxSize) {
+        this.poolSize = poolSize(Runtime.getRuntime().availableProcessors(), connectionsPerCore, extraConnections, maxSize);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource) {
+            dataSource.setMaximumPoolSize(poolSize);
+            dataSource.setMinimumIdle(poolSize);
+        }
+        return bean;
+    }
+
+    public static int poolSize(int cores, int connectionsPerCore, int extraConnections, int maxSize) {
+        return Math.max(MIN_SIZE, Math.min(maxSize, cores * connectionsPerCore + extraConnections));
+    }
+}
@@ -0,0 +1,64 @@
+package com.nitroxen.demo.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * Logs the connection pool, driver and Hibernate settings in effect once the application is ready,
+ * so a deployment shows which tuning it actually runs with. Passwords are masked.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DataSourceSettingsReport {
+
+    private static final Pattern URL_PASSWORD = Pattern.compile("(?i)(password=)[^&;]*");
+    private static final String[] HIBERNATE_SETTINGS = {
+            "hibernate.jdbc.batch_size", "hibernate.order_inserts", "hibernate.order_updates",
+            "hibernate.jdbc.batch_versioned_data", "hibernate.show_sql", "hibernate.format_sql"
+    };
+
+    private final ObjectProvider<HikariDataSource> dataSources;
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void report() {
+        dataSources.orderedStream().forEach(dataSource -> log.info(describe(dataSource)));
+        EntityManagerFactory factory = entityManagerFactory.getIfAvailable();
+        if (factory != null) {
+            log.info(describe(factory.getProperties()));
+        }
+    }
+
+    static String describe(HikariDataSource dataSource) {
+        Map<String, Object> driverProperties = new TreeMap<>();
+        Properties properties = dataSource.getDataSourceProperties();
+        for (String name : properties.stringPropertyNames()) {
+            driverProperties.put(name, name.toLowerCase().contains("password") ? "****" : properties.getProperty(name));
+        }
+        String url = dataSource.getJdbcUrl() == null ? null : URL_PASSWORD.matcher(dataSource.getJdbcUrl()).replaceAll("$1****");
+        return String.format("Pool %s: %d-%d connections, connection timeout %d ms, max lifetime %d ms, url %s, driver properties %s",
+                dataSource.getPoolName(), dataSource.getMinimumIdle(), dataSource.getMaximumPoolSize(),
+                dataSource.getConnectionTimeout(), dataSource.getMaxLifetime(), url, driverProperties);
+    }
+
+    static String describe(Map<String, Object> hibernateProperties) {
+        StringBuilder report = new StringBuilder("Hibernate:");
+        for (String setting : HIBERNATE_SETTINGS) {
+            report.append(' ').append(setting.substring("hibernate.".length())).append('=')
+                    .append(hibernateProperties.getOrDefault(setting, "default"));
+        }
+        return report.toString();
+    }
+}
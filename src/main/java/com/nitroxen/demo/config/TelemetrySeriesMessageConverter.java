@@ -0,0 +1,95 @@
+package com.nitroxen.demo.config;
+
+import com.nitroxen.demo.dto.response.TelemetrySeriesResponse;
+import com.nitroxen.demo.dto.response.TelemetrySeriesValuesResponse;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+
+/**
+ * Writes telemetry series as packed little-endian columns, for charts that would otherwise parse
+ * megabytes of JSON numbers. Chosen when the client sends {@code Accept: application/vnd.agriwealth.series}.
+ * <p>
+ * Layout: the magic {@code AWTS}, format version (1 byte), metric code (1 byte), aggregation ordinal
+ * (1 byte), one reserved byte, from, to and step (int64 each), step count and series count (int32 each),
+ * every source ID (int64 each), then each series' values in request order (float32 each, NaN for
+ * empty steps).
+ */
+@Component
+public class TelemetrySeriesMessageConverter extends AbstractHttpMessageConverter<TelemetrySeriesResponse> {
+
+    public static final String MEDIA_TYPE_VALUE = "application/vnd.agriwealth.series";
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+
+    static final int MAGIC = 0x53545741; // "AWTS" read as a little-endian int
+    static final byte VERSION = 1;
+    static final int HEADER_BYTES = 40;
+
+    public TelemetrySeriesMessageConverter() {
+        super(MEDIA_TYPE);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return TelemetrySeriesResponse.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected TelemetrySeriesResponse readInternal(Class<? extends TelemetrySeriesResponse> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Telemetry series cannot be submitted in the binary format", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(TelemetrySeriesResponse response, MediaType contentType) {
+        return (long) encodedLength(response);
+    }
+
+    @Override
+    protected void writeInternal(TelemetrySeriesResponse response, HttpOutputMessage outputMessage) throws IOException {
+        outputMessage.getBody().write(encode(response));
+    }
+
+    /**
+     * Encode a response in the packed layout described on the class
+     */
+    public static byte[] encode(TelemetrySeriesResponse response) {
+        List<TelemetrySeriesValuesResponse> series = response.getSeries();
+        ByteBuffer buffer = ByteBuffer.allocate(encodedLength(response)).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC)
+                .put(VERSION)
+                .put(response.getMetric().code())
+                .put((byte) response.getAggregation().ordinal())
+                .put((byte) 0)
+                .putLong(response.getFrom())
+                .putLong(response.getTo())
+                .putLong(response.getStep())
+                .putInt(response.getSteps())
+                .putInt(series.size());
+        for (TelemetrySeriesValuesResponse values : series) {
+            buffer.putLong(values.getSourceId());
+        }
+        for (TelemetrySeriesValuesResponse values : series) {
+            for (Double value : values.getValues()) {
+                buffer.putFloat(value == null ? Float.NaN : value.floatValue());
+            }
+        }
+        return buffer.array();
+    }
+
+    private static int encodedLength(TelemetrySeriesResponse response) {
+        return HEADER_BYTES + response.getSeries().size() * (Long.BYTES + response.getSteps() * Float.BYTES);
+    }
+}
@@ -0,0 +1,54 @@
+package com.nitroxen.demo.config;
+
+import com.nitroxen.demo.live.LiveChannelInterceptor;
+import com.nitroxen.demo.live.LiveSessionTracker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+@Configuration
+@EnableWebSocketMessageBroker
+@RequiredArgsConstructor
+public class WebSocketConfiguration implements WebSocketMessageBrokerConfigurer {
+
+    private final LiveChannelInterceptor liveChannelInterceptor;
+    private final LiveSessionTracker liveSessionTracker;
+
+    @Value("${application.live.allowed-origins:*}")
+    private String[] allowedOrigins;
+
+    @Value("${application.live.send-time-limit-millis:15000}")
+    private int sendTimeLimitMillis;
+
+    @Value("${application.live.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.addEndpoint("/ws").setAllowedOriginPatterns(allowedOrigins);
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        registry.enableSimpleBroker("/topic");
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(liveChannelInterceptor);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // Live frames are dropped well before these limits; they only stop a stuck client from holding memory
+        registration.setSendTimeLimit(sendTimeLimitMillis)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .addDecoratorFactory(liveSessionTracker);
+    }
+}
@@ -1,8 +1,15 @@
 package com.nitroxen.demo.controller;
 
 import com.nitroxen.demo.dto.request.CreateUserRequest;
+import com.nitroxen.demo.dto.request.RevenueAdjustmentRequest;
+import com.nitroxen.demo.dto.response.BillingRunResponse;
+import com.nitroxen.demo.dto.response.LedgerEntryResponse;
+import com.nitroxen.demo.dto.response.RevenuePeriodResponse;
+import com.nitroxen.demo.dto.response.RevenueResponse;
 import com.nitroxen.demo.dto.response.UserResponse;
 import com.nitroxen.demo.enums.Role;
+import com.nitroxen.demo.search.SearchIndexer;
+import com.nitroxen.demo.service.RevenueService;
 import com.nitroxen.demo.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -15,6 +22,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.YearMonth;
 import java.util.List;
 
 @RestController
@@ -26,6 +34,8 @@ import java.util.List;
 public class AdminController {
 
     private final UserService userService;
+    private final SearchIndexer searchIndexer;
+    private final RevenueService revenueService;
 
     @PostMapping("/owners")
     @Operation(summary = "Create a new farm owner", description = "Creates a new farm owner with subscription")
@@ -56,12 +66,50 @@ public class AdminController {
         return ResponseEntity.ok().build();
     }
 
+    @GetMapping("/users/unattached")
+    @Operation(summary = "Get users outside any team", description = "Returns one page of the managers or workers that belong to no owner's team, such as accounts created before teams were recorded")
+    public ResponseEntity<List<UserResponse>> getUnattachedUsers(@RequestParam Role role,
+                                                                 @RequestParam(defaultValue = "0") int page,
+                                                                 @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(userService.getUnattachedUsers(role, page, size));
+    }
+
     @GetMapping("/revenue")
-    @Operation(summary = "Get revenue tracking data", description = "Returns revenue tracking data for all farm owners")
-    public ResponseEntity<?> getRevenueTracking() {
-        // This is a placeholder for revenue tracking
-        // Implement actual revenue tracking logic in a future update
-        return ResponseEntity.ok().build();
+    @Operation(summary = "Get revenue tracking data", description = "Returns the revenue of every farm owner in a month (the current month by default)")
+    public ResponseEntity<RevenueResponse> getRevenueTracking(@RequestParam(required = false) YearMonth month) {
+        return ResponseEntity.ok(revenueService.getRevenue(month != null ? month : YearMonth.now()));
+    }
+
+    @GetMapping("/revenue/owners/{ownerId}")
+    @Operation(summary = "Get an owner's revenue", description = "Returns an owner's revenue per month between two months, or per day within one month when daily is set")
+    public ResponseEntity<List<RevenuePeriodResponse>> getOwnerRevenue(@PathVariable Long ownerId,
+                                                                       @RequestParam YearMonth from,
+                                                                       @RequestParam(required = false) YearMonth to,
+                                                                       @RequestParam(defaultValue = "false") boolean daily) {
+        return ResponseEntity.ok(daily
+                ? revenueService.getOwnerDailyRevenue(ownerId, from)
+                : revenueService.getOwnerMonthlyRevenue(ownerId, from, to != null ? to : from));
+    }
+
+    @PostMapping("/revenue/adjustments")
+    @Operation(summary = "Record a revenue adjustment", description = "Records a manual credit or debit on an owner's billing ledger")
+    public ResponseEntity<LedgerEntryResponse> recordAdjustment(@Valid @RequestBody RevenueAdjustmentRequest request,
+                                                                Authentication authentication) {
+        LedgerEntryResponse entry = revenueService.recordAdjustment(request, extractUserId(authentication));
+        return new ResponseEntity<>(entry, HttpStatus.CREATED);
+    }
+
+    @PostMapping("/revenue/billing-runs")
+    @Operation(summary = "Bill all owners for a month", description = "Records every owner's subscription charges for a month (the current month by default); charges already recorded are skipped")
+    public ResponseEntity<BillingRunResponse> runBilling(@RequestParam(required = false) YearMonth month) {
+        return ResponseEntity.ok(revenueService.runBilling(month != null ? month : YearMonth.now()));
+    }
+
+    @PostMapping("/search/rebuild")
+    @Operation(summary = "Rebuild search index", description = "Drops the full-text search index and rebuilds it from the database in the background")
+    public ResponseEntity<Void> rebuildSearchIndex() {
+        searchIndexer.requestRebuild();
+        return ResponseEntity.accepted().build();
     }
 
     // Helper method to extract user ID from authentication
@@ -2,6 +2,7 @@ package com.nitroxen.demo.controller;
 
 import com.nitroxen.demo.dto.entity.AgronomistDTO;
 import com.nitroxen.demo.dto.entity.AgronomistReportDTO;
+import com.nitroxen.demo.dto.entity.AgronomistSearchPageDTO;
 import com.nitroxen.demo.service.AgronomistService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -47,8 +48,11 @@ public class AgronomistController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<AgronomistDTO>> searchAgronomists(@RequestParam String keyword) {
-        return ResponseEntity.ok(agronomistService.searchAgronomists(keyword));
+    public ResponseEntity<AgronomistSearchPageDTO> searchAgronomists(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(agronomistService.searchAgronomists(keyword, page, size));
     }
 
     @PostMapping("/{id}/assign-farm/{farmId}")
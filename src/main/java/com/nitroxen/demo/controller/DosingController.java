@@ -0,0 +1,77 @@
+package com.nitroxen.demo.controller;
+
+import com.nitroxen.demo.dto.request.StockSolutionRequest;
+import com.nitroxen.demo.dto.response.MixingRecipeResponse;
+import com.nitroxen.demo.dto.response.StockSolutionResponse;
+import com.nitroxen.demo.entity.User;
+import com.nitroxen.demo.service.DosingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/manager/dosing")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "Dosing", description = "Manager endpoints for stock solutions and nutrient mixing recipes")
+public class DosingController {
+
+    private final DosingService dosingService;
+
+    @PostMapping("/farms/{farmId}/stock-solutions")
+    @Operation(summary = "Add stock solution", description = "Add a nutrient part or pH adjuster to a farm")
+    public ResponseEntity<StockSolutionResponse> createStockSolution(@PathVariable Long farmId,
+                                                                     @Valid @RequestBody StockSolutionRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        Long managerId = ((User) authentication.getPrincipal()).getId();
+
+        StockSolutionResponse response = dosingService.createStockSolution(farmId, request, managerId);
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    }
+
+    @GetMapping("/farms/{farmId}/stock-solutions")
+    @Operation(summary = "View stock solutions", description = "Retrieve the stock solutions of a farm")
+    public ResponseEntity<List<StockSolutionResponse>> getStockSolutions(@PathVariable Long farmId) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        Long managerId = ((User) authentication.getPrincipal()).getId();
+
+        return ResponseEntity.ok(dosingService.getStockSolutions(farmId, managerId));
+    }
+
+    @DeleteMapping("/stock-solutions/{id}")
+    @Operation(summary = "Remove stock solution", description = "Remove a stock solution from its farm")
+    public ResponseEntity<Void> deleteStockSolution(@PathVariable Long id) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        Long managerId = ((User) authentication.getPrincipal()).getId();
+
+        dosingService.deleteStockSolution(id, managerId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/reservoirs/{reservoirId}/recipe")
+    @Operation(summary = "View reservoir recipe", description = "Mixing recipe for a full reservoir, targeting the crops and stages it feeds")
+    public ResponseEntity<MixingRecipeResponse> getReservoirRecipe(@PathVariable Long reservoirId) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        Long managerId = ((User) authentication.getPrincipal()).getId();
+
+        return ResponseEntity.ok(dosingService.getReservoirRecipe(reservoirId, managerId));
+    }
+
+    @GetMapping("/farms/{farmId}/recipes")
+    @Operation(summary = "View farm recipes", description = "Mixing recipes for every reservoir of a farm")
+    public ResponseEntity<List<MixingRecipeResponse>> getFarmRecipes(@PathVariable Long farmId) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        Long managerId = ((User) authentication.getPrincipal()).getId();
+
+        return ResponseEntity.ok(dosingService.getFarmRecipes(farmId, managerId));
+    }
+}
@@ -0,0 +1,65 @@
+package com.nitroxen.demo.controller;
+
+import com.nitroxen.demo.dto.request.IrrigationProgramRequest;
+import com.nitroxen.demo.dto.response.IrrigationProgramResponse;
+import com.nitroxen.demo.dto.response.IrrigationScheduleResponse;
+import com.nitroxen.demo.entity.User;
+import com.nitroxen.demo.service.IrrigationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/manager/irrigation")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "Irrigation", description = "Manager endpoints for zone irrigation programs and farm schedules")
+public class IrrigationController {
+
+    private final IrrigationService irrigationService;
+
+    @PutMapping("/zones/{zoneId}/program")
+    @Operation(summary = "Set irrigation program", description = "Create or replace a zone's daily irrigation program")
+    public ResponseEntity<IrrigationProgramResponse> saveProgram(@PathVariable Long zoneId,
+                                                                 @Valid @RequestBody IrrigationProgramRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        Long managerId = ((User) authentication.getPrincipal()).getId();
+
+        return ResponseEntity.ok(irrigationService.saveProgram(zoneId, request, managerId));
+    }
+
+    @GetMapping("/zones/{zoneId}/program")
+    @Operation(summary = "View irrigation program", description = "Retrieve a zone's irrigation program")
+    public ResponseEntity<IrrigationProgramResponse> getProgram(@PathVariable Long zoneId) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        Long managerId = ((User) authentication.getPrincipal()).getId();
+
+        return ResponseEntity.ok(irrigationService.getProgram(zoneId, managerId));
+    }
+
+    @DeleteMapping("/zones/{zoneId}/program")
+    @Operation(summary = "Remove irrigation program", description = "Stop scheduling irrigation for a zone")
+    public ResponseEntity<Void> deleteProgram(@PathVariable Long zoneId) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        Long managerId = ((User) authentication.getPrincipal()).getId();
+
+        irrigationService.deleteProgram(zoneId, managerId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/farms/{farmId}/schedule")
+    @Operation(summary = "View farm irrigation schedule",
+            description = "Daily schedule of every programmed zone, staggered within reservoir capacity and pump limits")
+    public ResponseEntity<IrrigationScheduleResponse> getFarmSchedule(@PathVariable Long farmId) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        Long managerId = ((User) authentication.getPrincipal()).getId();
+
+        return ResponseEntity.ok(irrigationService.getFarmSchedule(farmId, managerId));
+    }
+}
@@ -1,6 +1,8 @@
 package com.nitroxen.demo.controller;
 
+import com.nitroxen.demo.dto.request.BroadcastRequest;
 import com.nitroxen.demo.dto.request.CreateUserRequest;
+import com.nitroxen.demo.dto.response.BroadcastResponse;
 import com.nitroxen.demo.dto.response.FarmResponse;
 import com.nitroxen.demo.dto.response.PolyhouseResponse;
 import com.nitroxen.demo.dto.response.ReservoirResponse;
@@ -8,6 +10,7 @@ import com.nitroxen.demo.dto.response.UserResponse;
 import com.nitroxen.demo.dto.response.ZoneResponse;
 import com.nitroxen.demo.entity.User;
 import com.nitroxen.demo.enums.Role;
+import com.nitroxen.demo.service.BroadcastService;
 import com.nitroxen.demo.service.ManagerService;
 import com.nitroxen.demo.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,6 +18,7 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -31,6 +35,7 @@ public class ManagerController {
 
     private final UserService userService;
     private final ManagerService managerService;
+    private final BroadcastService broadcastService;
 
     // Worker Management Endpoints
 
@@ -48,12 +53,13 @@ public class ManagerController {
     }
 
     @GetMapping("/workers")
-    @Operation(summary = "View assigned workers", description = "Retrieve all workers assigned to this manager")
-    public ResponseEntity<List<UserResponse>> getAssignedWorkers() {
+    @Operation(summary = "View assigned workers", description = "Retrieve one page of the workers created by this manager")
+    public ResponseEntity<List<UserResponse>> getAssignedWorkers(@RequestParam(defaultValue = "0") int page,
+                                                                 @RequestParam(defaultValue = "20") int size) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         Long managerId = ((User) authentication.getPrincipal()).getId();
 
-        List<UserResponse> workers = userService.getUsersCreatedBy(managerId, Role.WORKER);
+        List<UserResponse> workers = userService.getUsersCreatedBy(managerId, Role.WORKER, page, size);
         return ResponseEntity.ok(workers);
     }
 
@@ -134,4 +140,26 @@ public class ManagerController {
         List<ReservoirResponse> reservoirs = managerService.getReservoirsByFarm(id, managerId);
         return ResponseEntity.ok(reservoirs);
     }
+
+    // Broadcast Endpoints
+
+    @PostMapping("/farms/{id}/broadcasts")
+    @Operation(summary = "Broadcast to farm workers", description = "Queue a WhatsApp message for every worker with tasks on an assigned farm; poll the returned broadcast for delivery progress")
+    public ResponseEntity<BroadcastResponse> createBroadcast(@PathVariable Long id, @Valid @RequestBody BroadcastRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        Long managerId = ((User) authentication.getPrincipal()).getId();
+
+        BroadcastResponse broadcast = broadcastService.createBroadcast(id, request, managerId);
+        return new ResponseEntity<>(broadcast, HttpStatus.ACCEPTED);
+    }
+
+    @GetMapping("/broadcasts/{id}")
+    @Operation(summary = "View broadcast progress", description = "Delivery state of each recipient of a broadcast")
+    public ResponseEntity<BroadcastResponse> getBroadcast(@PathVariable Long id) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        Long managerId = ((User) authentication.getPrincipal()).getId();
+
+        BroadcastResponse broadcast = broadcastService.getBroadcast(id, managerId);
+        return ResponseEntity.ok(broadcast);
+    }
 }
@@ -1,9 +1,11 @@
 package com.nitroxen.demo.controller;
 
 import com.nitroxen.demo.dto.request.CreateUserRequest;
+import com.nitroxen.demo.dto.response.OwnerDashboardResponse;
 import com.nitroxen.demo.dto.response.UserResponse;
 import com.nitroxen.demo.entity.User;
 import com.nitroxen.demo.enums.Role;
+import com.nitroxen.demo.service.DashboardService;
 import com.nitroxen.demo.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -25,6 +27,7 @@ import java.util.List;
 public class OwnerController {
 
     private final UserService userService;
+    private final DashboardService dashboardService;
 
     @PostMapping("/managers")
     @Operation(summary = "Create manager", description = "Create a new manager account")
@@ -53,22 +56,34 @@ public class OwnerController {
     }
 
     @GetMapping("/managers")
-    @Operation(summary = "Get all managers", description = "Retrieve all managers created by this owner")
-    public ResponseEntity<List<UserResponse>> getAllManagers() {
+    @Operation(summary = "Get all managers", description = "Retrieve one page of the managers created by this owner")
+    public ResponseEntity<List<UserResponse>> getAllManagers(@RequestParam(defaultValue = "0") int page,
+                                                             @RequestParam(defaultValue = "20") int size) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         Long ownerId = ((User) authentication.getPrincipal()).getId();
 
-        List<UserResponse> managers = userService.getUsersCreatedBy(ownerId, Role.MANAGER);
+        List<UserResponse> managers = userService.getUsersCreatedBy(ownerId, Role.MANAGER, page, size);
         return ResponseEntity.ok(managers);
     }
 
     @GetMapping("/workers")
-    @Operation(summary = "Get all workers", description = "Retrieve all workers created by this owner")
-    public ResponseEntity<List<UserResponse>> getAllWorkers() {
+    @Operation(summary = "Get all workers", description = "Retrieve one page of the workers created by this owner or their managers")
+    public ResponseEntity<List<UserResponse>> getAllWorkers(@RequestParam(defaultValue = "0") int page,
+                                                            @RequestParam(defaultValue = "20") int size) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         Long ownerId = ((User) authentication.getPrincipal()).getId();
 
-        List<UserResponse> workers = userService.getUsersCreatedBy(ownerId, Role.WORKER);
+        List<UserResponse> workers = userService.getTeamUsers(ownerId, Role.WORKER, page, size);
         return ResponseEntity.ok(workers);
     }
+
+    @GetMapping("/dashboard")
+    @Operation(summary = "Get dashboard", description = "Retrieve the area, polyhouse, zone and reservoir totals of every farm of this owner")
+    public ResponseEntity<OwnerDashboardResponse> getDashboard() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        Long ownerId = ((User) authentication.getPrincipal()).getId();
+
+        OwnerDashboardResponse dashboard = dashboardService.getOwnerDashboard(ownerId);
+        return ResponseEntity.ok(dashboard);
+    }
 }
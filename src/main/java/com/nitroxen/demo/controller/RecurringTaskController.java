@@ -0,0 +1,57 @@
+package com.nitroxen.demo.controller;
+
+import com.nitroxen.demo.dto.request.RecurringTaskRequest;
+import com.nitroxen.demo.dto.response.RecurringTaskResponse;
+import com.nitroxen.demo.entity.User;
+import com.nitroxen.demo.service.RecurringTaskService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/manager/task-manager/schedules")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "Recurring Tasks", description = "Manager endpoints for periodic task schedules")
+public class RecurringTaskController {
+
+    private final RecurringTaskService recurringTaskService;
+
+    @PostMapping
+    @Operation(summary = "Create recurring task", description = "Create a schedule that generates tasks ahead of each occurrence")
+    public ResponseEntity<RecurringTaskResponse> createSchedule(@Valid @RequestBody RecurringTaskRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        Long managerId = ((User) authentication.getPrincipal()).getId();
+
+        RecurringTaskResponse response = recurringTaskService.createSchedule(request, managerId);
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    }
+
+    @GetMapping
+    @Operation(summary = "View recurring tasks", description = "Retrieve all active schedules of this manager")
+    public ResponseEntity<List<RecurringTaskResponse>> getSchedules() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        Long managerId = ((User) authentication.getPrincipal()).getId();
+
+        return ResponseEntity.ok(recurringTaskService.getSchedules(managerId));
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Cancel recurring task", description = "Stop a schedule from generating further tasks")
+    public ResponseEntity<Void> cancelSchedule(@PathVariable Long id) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        Long managerId = ((User) authentication.getPrincipal()).getId();
+
+        recurringTaskService.cancelSchedule(id, managerId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,41 @@
+package com.nitroxen.demo.controller;
+
+import com.nitroxen.demo.dto.response.SearchResultResponse;
+import com.nitroxen.demo.entity.User;
+import com.nitroxen.demo.search.SearchDocument;
+import com.nitroxen.demo.service.SearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/manager/search")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "Search", description = "Full-text search over tasks and reports")
+public class SearchController {
+
+    private final SearchService searchService;
+
+    @GetMapping
+    @Operation(summary = "Search tasks and reports",
+            description = "Ranked full-text search over task descriptions, worker reports and agronomist reports of the manager's farms")
+    public ResponseEntity<SearchResultResponse> search(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) Long farmId,
+            @RequestParam(required = false) Set<SearchDocument.Type> types,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        Long managerId = ((User) authentication.getPrincipal()).getId();
+
+        return ResponseEntity.ok(searchService.search(query, farmId, types, page, size, managerId));
+    }
+}
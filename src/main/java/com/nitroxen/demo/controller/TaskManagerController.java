@@ -1,11 +1,20 @@
 package com.nitroxen.demo.controller;
 
+import com.nitroxen.demo.dto.request.BulkTaskAssignmentRequest;
+import com.nitroxen.demo.dto.response.BulkTaskAssignmentResponse;
 import com.nitroxen.demo.entity.Report;
 import com.nitroxen.demo.entity.Task;
+import com.nitroxen.demo.entity.User;
+import com.nitroxen.demo.service.TaskEventBus;
 import com.nitroxen.demo.service.TaskManagerService;
+import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -14,9 +23,11 @@ import java.util.List;
 public class TaskManagerController {
 
     private final TaskManagerService taskManagerService;
+    private final TaskEventBus taskEventBus;
 
-    public TaskManagerController(TaskManagerService taskManagerService) {
+    public TaskManagerController(TaskManagerService taskManagerService, TaskEventBus taskEventBus) {
         this.taskManagerService = taskManagerService;
+        this.taskEventBus = taskEventBus;
     }
 
     @PostMapping("/assign")
@@ -25,17 +36,40 @@ public class TaskManagerController {
             @RequestParam String description,
             @RequestParam Long workerId,
             @RequestParam(required = false) String deadline,
+            @RequestParam(required = false) Long farmId,
             @RequestParam(value = "file", required = false) MultipartFile file) {
-        taskManagerService.assignTask(title, description, workerId, deadline, file);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        User manager = (User) authentication.getPrincipal();
+
+        taskManagerService.assignTask(title, description, workerId, deadline, farmId, file, manager.getId());
         return ResponseEntity.ok("Task assigned successfully");
     }
 
+    @PostMapping(value = "/assign/bulk", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<BulkTaskAssignmentResponse> assignTasks(
+            @Valid @RequestPart("request") BulkTaskAssignmentRequest request,
+            @RequestPart(value = "file", required = false) MultipartFile file) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        User manager = (User) authentication.getPrincipal();
+
+        BulkTaskAssignmentResponse response =
+                taskManagerService.assignTasks(request, file, manager.getId(), manager.getName());
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/worker/{workerId}")
     public ResponseEntity<List<Task>> getTasks(@PathVariable Long workerId) {
         List<Task> tasks = taskManagerService.getTasksByWorkerId(workerId);
         return ResponseEntity.ok(tasks);
     }
 
+    @GetMapping(value = "/worker/{workerId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTasks(
+            @PathVariable Long workerId,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return taskEventBus.subscribe(workerId, lastEventId);
+    }
+
     @PostMapping("/report")
     public ResponseEntity<String> submitReport(
             @RequestParam Long taskId,
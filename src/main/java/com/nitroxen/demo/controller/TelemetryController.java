@@ -0,0 +1,57 @@
+package com.nitroxen.demo.controller;
+
+import com.nitroxen.demo.config.TelemetrySeriesMessageConverter;
+import com.nitroxen.demo.dto.request.TelemetryIngestRequest;
+import com.nitroxen.demo.dto.response.TelemetryIngestResponse;
+import com.nitroxen.demo.dto.response.TelemetrySeriesResponse;
+import com.nitroxen.demo.entity.User;
+import com.nitroxen.demo.service.TelemetryService;
+import com.nitroxen.demo.telemetry.Aggregation;
+import com.nitroxen.demo.telemetry.Metric;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/telemetry")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "Telemetry", description = "Zone and reservoir sensor telemetry ingestion and charting")
+public class TelemetryController {
+
+    private final TelemetryService telemetryService;
+
+    @PostMapping("/readings")
+    @Operation(summary = "Submit sensor readings",
+            description = "Accepts a batch of zone and reservoir readings as parallel arrays. Responds 429 with Retry-After when ingestion is saturated")
+    public ResponseEntity<TelemetryIngestResponse> ingest(@Valid @RequestBody TelemetryIngestRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        User caller = (User) authentication.getPrincipal();
+
+        return new ResponseEntity<>(telemetryService.ingest(request, caller), HttpStatus.ACCEPTED);
+    }
+
+    @GetMapping(value = "/series", produces = {MediaType.APPLICATION_JSON_VALUE, TelemetrySeriesMessageConverter.MEDIA_TYPE_VALUE})
+    @Operation(summary = "Query aggregated series",
+            description = "Aggregates one metric of several zones or reservoirs per step. Responds with JSON, or with packed "
+                    + "little-endian columns when requested with Accept: " + TelemetrySeriesMessageConverter.MEDIA_TYPE_VALUE)
+    public ResponseEntity<TelemetrySeriesResponse> query(@RequestParam long[] sourceIds,
+                                                         @RequestParam Metric metric,
+                                                         @RequestParam long from,
+                                                         @RequestParam long to,
+                                                         @RequestParam long step,
+                                                         @RequestParam(defaultValue = "AVG") Aggregation agg) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        User caller = (User) authentication.getPrincipal();
+
+        return ResponseEntity.ok(telemetryService.query(sourceIds, metric, from, to, step, agg, caller));
+    }
+}
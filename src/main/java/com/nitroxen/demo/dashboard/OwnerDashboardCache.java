@@ -0,0 +1,77 @@
+package com.nitroxen.demo.dashboard;
+
+import com.nitroxen.demo.dto.response.OwnerDashboardResponse;
+import com.nitroxen.demo.events.HierarchyChangedEvent;
+import com.nitroxen.demo.events.HierarchyEventListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Caches each owner's dashboard.
+ * <p>
+ * Every committed hierarchy change published on the domain event bus evicts the owner's dashboard.
+ * Each eviction bumps the owner's generation, and a dashboard is only stored if no eviction
+ * happened while it was being built, so a build that read the old hierarchy cannot outlive the change.
+ * Entries also expire after {@code cache-ttl-millis} and the cache is cleared whenever it reaches
+ * {@code cache-size}.
+ */
+@Component
+public class OwnerDashboardCache implements HierarchyEventListener {
+
+    private final long ttlMillis;
+    private final int cacheSize;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<Long, Long> generations = new ConcurrentHashMap<>();
+
+    public OwnerDashboardCache(@Value("${application.dashboard.cache-ttl-millis:600000}") long ttlMillis,
+                               @Value("${application.dashboard.cache-size:10000}") int cacheSize) {
+        this.ttlMillis = ttlMillis;
+        this.cacheSize = cacheSize;
+    }
+
+    /**
+     * The owner's cached dashboard, or a fresh one from the loader
+     */
+    public OwnerDashboardResponse get(long ownerId, Supplier<OwnerDashboardResponse> loader) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(ownerId);
+        if (entry != null && now - entry.loadedAt() <= ttlMillis) {
+            return entry.dashboard();
+        }
+
+        long generation = generationOf(ownerId);
+        OwnerDashboardResponse dashboard = loader.get();
+        if (entries.size() >= cacheSize) {
+            entries.clear();
+        }
+        Entry loaded = new Entry(dashboard, now);
+        entries.compute(ownerId, (id, current) -> generationOf(id) == generation ? loaded : current);
+        return dashboard;
+    }
+
+    @Override
+    public void onHierarchyChanged(HierarchyChangedEvent event) {
+        evictOwner(event.ownerId());
+    }
+
+    public void evictOwner(long ownerId) {
+        generations.merge(ownerId, 1L, Long::sum);
+        entries.remove(ownerId);
+    }
+
+    int getCachedCount() {
+        return entries.size();
+    }
+
+    private long generationOf(long ownerId) {
+        return generations.getOrDefault(ownerId, 0L);
+    }
+
+    private record Entry(OwnerDashboardResponse dashboard, long loadedAt) {
+    }
+}
@@ -0,0 +1,169 @@
+package com.nitroxen.demo.datasource;
+
+import com.nitroxen.demo.entity.User;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Sends read-only transactions to the replica and everything else to the primary.
+ * <p>
+ * Must sit behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: the
+ * transaction managers ask for a connection before they mark the transaction read-only, and the proxy
+ * defers the real connection to the first statement, when the flag is set.
+ * <p>
+ * A user whose read-write transaction committed less than {@code sticky-millis} ago reads from the
+ * primary, so they always see their own changes despite replication lag. Write times are kept per
+ * user on this node only. The replica is probed every {@code health-check-millis}; while it is down,
+ * or if it fails to hand out a connection, reads fall back to the primary.
+ */
+@Slf4j
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+    static final String REPLICA = "replica";
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final long stickyMillis;
+    private final int probeTimeoutSeconds;
+    private final LongSupplier clock;
+
+    private final Map<Long, Long> lastWriteByUser = new ConcurrentHashMap<>();
+    private volatile boolean replicaHealthy = true;
+    private final Counter replicaReads;
+    private final Counter primaryReads;
+    private final Counter fallbacks;
+
+    public ReadReplicaRoutingDataSource(DataSource primary, DataSource replica, MeterRegistry meterRegistry,
+                                        long stickyMillis, int probeTimeoutSeconds) {
+        this(primary, replica, meterRegistry, stickyMillis, probeTimeoutSeconds, System::currentTimeMillis);
+    }
+
+    ReadReplicaRoutingDataSource(DataSource primary, DataSource replica, MeterRegistry meterRegistry,
+                                 long stickyMillis, int probeTimeoutSeconds, LongSupplier clock) {
+        this.primary = primary;
+        this.replica = replica;
+        this.stickyMillis = stickyMillis;
+        this.probeTimeoutSeconds = probeTimeoutSeconds;
+        this.clock = clock;
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+
+        Gauge.builder("datasource.replica.healthy", this, routing -> routing.isReplicaHealthy() ? 1 : 0)
+                .register(meterRegistry);
+        this.replicaReads = Counter.builder("datasource.reads").tag("target", REPLICA).register(meterRegistry);
+        this.primaryReads = Counter.builder("datasource.reads").tag("target", PRIMARY)
+                .description("Read-only transactions kept on the primary: recent writer, or replica down")
+                .register(meterRegistry);
+        this.fallbacks = Counter.builder("datasource.replica.fallbacks")
+                .description("Replica connections that failed and were replaced by a primary connection")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (REPLICA.equals(determineCurrentLookupKey())) {
+            try {
+                return replica.getConnection();
+            } catch (SQLException e) {
+                markReplicaDown(e);
+                fallbacks.increment();
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWriteOnCommit();
+            return PRIMARY;
+        }
+        if (replicaHealthy && !isRecentWriter(currentUserId())) {
+            replicaReads.increment();
+            return REPLICA;
+        }
+        primaryReads.increment();
+        return PRIMARY;
+    }
+
+    /**
+     * Probe the replica, and forget writes that are older than the sticky window
+     */
+    @Scheduled(fixedDelayString = "${application.datasource.replica.health-check-millis:5000}")
+    public void checkReplica() {
+        boolean healthy;
+        try (Connection connection = replica.getConnection()) {
+            healthy = connection.isValid(probeTimeoutSeconds);
+        } catch (SQLException e) {
+            healthy = false;
+        }
+        if (healthy != replicaHealthy) {
+            log.warn(healthy ? "Read replica is back, routing read-only transactions to it"
+                    : "Read replica is unavailable, routing read-only transactions to the primary");
+        }
+        replicaHealthy = healthy;
+
+        long cutoff = clock.getAsLong() - stickyMillis;
+        lastWriteByUser.values().removeIf(writtenAt -> writtenAt < cutoff);
+    }
+
+    public boolean isReplicaHealthy() {
+        return replicaHealthy;
+    }
+
+    // Helper method to remember, once the read-write transaction commits, that its user just wrote
+    private void recordWriteOnCommit() {
+        Long userId = currentUserId();
+        if (userId == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                lastWriteByUser.put(userId, clock.getAsLong());
+            }
+        });
+    }
+
+    private boolean isRecentWriter(Long userId) {
+        if (userId == null) {
+            return false;
+        }
+        Long writtenAt = lastWriteByUser.get(userId);
+        return writtenAt != null && clock.getAsLong() - writtenAt < stickyMillis;
+    }
+
+    private void markReplicaDown(SQLException e) {
+        if (replicaHealthy) {
+            log.warn("Read replica connection failed, routing read-only transactions to the primary", e);
+        }
+        replicaHealthy = false;
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof User user ? user.getId() : null;
+    }
+}
@@ -0,0 +1,162 @@
+package com.nitroxen.demo.dosing;
+
+import com.nitroxen.demo.entity.StockSolution;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Resolves zones to nutrient targets and caches the resulting mixing recipes.
+ * <p>
+ * Recipes are cached per farm under the distinct (crop, stage) targets a reservoir feeds and the
+ * reservoir volume, so a zone or reservoir edit simply leads to a different key. Stock solution
+ * changes evict the farm's recipes once their transaction commits. Each eviction bumps the farm's
+ * generation, which is read before the stock solutions are loaded, and a recipe is only stored if no
+ * eviction happened meanwhile, so a recipe mixed from the old stocks cannot outlive the change.
+ * The cache is cleared whenever it reaches {@code cache-size}. Whole-farm recalculations compute reservoirs in parallel on a small
+ * dedicated pool; callers pass in everything they loaded, so no database work happens on it.
+ */
+@Component
+@Slf4j
+public class DosingCalculator {
+
+    private static final Comparator<DosingTarget> TARGET_ORDER = Comparator.comparing(DosingTarget::crop)
+            .thenComparing(target -> target.stage() == null ? -1 : target.stage().ordinal());
+
+    private final DosingTargetCatalog catalog;
+    private final double sourceEc;
+    private final double sourcePh;
+    private final int cacheSize;
+    private final ExecutorService executor;
+    private final Map<RecipeKey, MixingRecipe> recipes = new ConcurrentHashMap<>();
+    private final Map<Long, Long> generations = new ConcurrentHashMap<>();
+
+    public DosingCalculator(DosingTargetCatalog catalog,
+                            @Value("${application.dosing.source-water-ec:0.2}") double sourceEc,
+                            @Value("${application.dosing.source-water-ph:7.0}") double sourcePh,
+                            @Value("${application.dosing.cache-size:10000}") int cacheSize,
+                            @Value("${application.dosing.threads:4}") int threads) {
+        this.catalog = catalog;
+        this.sourceEc = sourceEc;
+        this.sourcePh = sourcePh;
+        this.cacheSize = cacheSize;
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "dosing-calculator");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Recipe for a full reservoir feeding the given zones; the farm's stock solutions are only loaded on a cache miss
+     */
+    public MixingRecipe recipeFor(long farmId, List<ZoneCrop> zones, double volumeLiters,
+                                  Supplier<List<StockSolution>> stocks) {
+        long generation = generationOf(farmId);
+        RecipeKey key = keyFor(farmId, zones, volumeLiters);
+        MixingRecipe recipe = recipes.get(key);
+        return recipe != null ? recipe : mix(key, generation, stocks.get());
+    }
+
+    /**
+     * Recipes for many reservoirs of a farm, computed in parallel
+     * @return Recipe per reservoir ID, in the order of the given reservoirs
+     */
+    public Map<Long, MixingRecipe> recipesFor(long farmId, List<ReservoirBatch> reservoirs,
+                                              Supplier<List<StockSolution>> stocks) {
+        long generation = generationOf(farmId);
+        List<StockSolution> loaded = stocks.get();
+        List<CompletableFuture<MixingRecipe>> futures = new ArrayList<>(reservoirs.size());
+        for (ReservoirBatch reservoir : reservoirs) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                RecipeKey key = keyFor(farmId, reservoir.zones(), reservoir.volumeLiters());
+                MixingRecipe recipe = recipes.get(key);
+                return recipe != null ? recipe : mix(key, generation, loaded);
+            }, executor));
+        }
+        Map<Long, MixingRecipe> result = new LinkedHashMap<>();
+        for (int i = 0; i < reservoirs.size(); i++) {
+            result.put(reservoirs.get(i).reservoirId(), futures.get(i).join());
+        }
+        return result;
+    }
+
+    /**
+     * Drop the farm's cached recipes after the current transaction commits, e.g. when its stock solutions change
+     */
+    public void evictFarm(long farmId) {
+        Runnable evict = () -> {
+            generations.merge(farmId, 1L, Long::sum);
+            recipes.keySet().removeIf(key -> key.farmId() == farmId);
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict.run();
+                }
+            });
+        } else {
+            evict.run();
+        }
+    }
+
+    int getCachedCount() {
+        return recipes.size();
+    }
+
+    // Helper method to key a recipe by the distinct targets of the zones, so zones sharing a crop and stage share it
+    private RecipeKey keyFor(long farmId, List<ZoneCrop> zones, double volumeLiters) {
+        List<DosingTarget> targets = new ArrayList<>();
+        for (ZoneCrop zone : zones) {
+            DosingTarget target = catalog.targetFor(zone);
+            if (target != null && !targets.contains(target)) {
+                targets.add(target);
+            }
+        }
+        targets.sort(TARGET_ORDER);
+        return new RecipeKey(farmId, List.copyOf(targets), volumeLiters);
+    }
+
+    // Helper method to mix a recipe and cache it unless the farm was evicted since the generation was read
+    private MixingRecipe mix(RecipeKey key, long generation, List<StockSolution> stocks) {
+        MixingRecipe mixed = NutrientMixer.mix(key.targets(), stocks, key.volumeLiters(), sourceEc, sourcePh);
+        if (recipes.size() >= cacheSize) {
+            recipes.clear();
+        }
+        recipes.compute(key, (id, current) -> generationOf(id.farmId()) == generation ? mixed : current);
+        return mixed;
+    }
+
+    private long generationOf(long farmId) {
+        return generations.getOrDefault(farmId, 0L);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * One reservoir to mix for: its full volume and the zones it feeds
+     */
+    public record ReservoirBatch(long reservoirId, double volumeLiters, List<ZoneCrop> zones) {
+    }
+
+    private record RecipeKey(long farmId, List<DosingTarget> targets, double volumeLiters) {
+    }
+}
@@ -0,0 +1,9 @@
+package com.nitroxen.demo.dosing;
+
+import com.nitroxen.demo.enums.CropStage;
+
+/**
+ * Target EC (mS/cm) and pH of the catalog row matching a crop and stage; stage is null for an any-stage row
+ */
+public record DosingTarget(String crop, CropStage stage, double ec, double ph) {
+}
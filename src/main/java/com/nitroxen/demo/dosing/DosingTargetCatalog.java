@@ -0,0 +1,95 @@
+package com.nitroxen.demo.dosing;
+
+import com.nitroxen.demo.enums.CropStage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Nutrient targets per crop and growth stage, read from a CSV of {@code crop,stage,ec,ph} rows.
+ * <p>
+ * Crops are matched like crop bands: the zone's crop variety, else its crop type, else {@code default}.
+ * Within a crop the row for the zone's stage wins over the {@code *} row that covers every stage.
+ */
+@Component
+public class DosingTargetCatalog {
+
+    public static final String DEFAULT_CROP = "default";
+    public static final String ANY_STAGE = "*";
+
+    private final Map<String, DosingTarget[]> targetsByCrop;
+
+    @Autowired
+    public DosingTargetCatalog(@Value("${application.dosing.targets:classpath:dosing-targets.csv}") Resource resource) throws IOException {
+        try (Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+            this.targetsByCrop = parse(reader);
+        }
+    }
+
+    DosingTargetCatalog(Reader reader) throws IOException {
+        this.targetsByCrop = parse(reader);
+    }
+
+    /**
+     * Target for a zone's crop and stage, or null if not even the default crop has one
+     */
+    public DosingTarget targetFor(ZoneCrop zone) {
+        DosingTarget target = lookup(zone.cropVariety(), zone.stage());
+        if (target == null) {
+            target = lookup(zone.cropType(), zone.stage());
+        }
+        return target != null ? target : lookup(DEFAULT_CROP, zone.stage());
+    }
+
+    private DosingTarget lookup(String crop, CropStage stage) {
+        if (crop == null || crop.isBlank()) {
+            return null;
+        }
+        DosingTarget[] targets = targetsByCrop.get(normalize(crop));
+        if (targets == null) {
+            return null;
+        }
+        DosingTarget target = stage != null ? targets[stage.ordinal()] : null;
+        return target != null ? target : targets[targets.length - 1];
+    }
+
+    // Each crop maps to one slot per stage plus a last slot for its any-stage row
+    private static Map<String, DosingTarget[]> parse(Reader reader) throws IOException {
+        Map<String, DosingTarget[]> targets = new HashMap<>();
+        BufferedReader lines = new BufferedReader(reader);
+        String line;
+        int lineNumber = 0;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] fields = line.split(",");
+            if (fields.length != 4) {
+                throw new IllegalArgumentException("Dosing target line " + lineNumber + " must be crop,stage,ec,ph: " + line);
+            }
+            String crop = normalize(fields[0]);
+            String stageName = fields[1].trim();
+            CropStage stage = ANY_STAGE.equals(stageName) ? null : CropStage.valueOf(stageName.toUpperCase(Locale.ROOT));
+            DosingTarget target = new DosingTarget(crop, stage, Double.parseDouble(fields[2].trim()), Double.parseDouble(fields[3].trim()));
+            DosingTarget[] slots = targets.computeIfAbsent(crop, c -> new DosingTarget[CropStage.values().length + 1]);
+            slots[stage != null ? stage.ordinal() : slots.length - 1] = target;
+        }
+        return targets;
+    }
+
+    private static String normalize(String crop) {
+        return crop.trim().toLowerCase(Locale.ROOT);
+    }
+}
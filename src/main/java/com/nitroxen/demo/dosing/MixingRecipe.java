@@ -0,0 +1,16 @@
+package com.nitroxen.demo.dosing;
+
+import com.nitroxen.demo.enums.StockSolutionType;
+
+import java.util.List;
+
+/**
+ * Stock amounts that bring a volume of source water to a target EC and pH, with the values the
+ * linear stock model predicts and warnings for anything it could not reach
+ */
+public record MixingRecipe(double volumeLiters, double targetEc, double targetPh, double predictedEc,
+                           double predictedPh, List<Dose> doses, List<String> warnings) {
+
+    public record Dose(long stockSolutionId, String name, StockSolutionType type, double mlPerLiter, double totalMl) {
+    }
+}
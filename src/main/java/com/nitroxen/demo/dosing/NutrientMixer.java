@@ -0,0 +1,130 @@
+package com.nitroxen.demo.dosing;
+
+import com.nitroxen.demo.entity.StockSolution;
+import com.nitroxen.demo.enums.StockSolutionType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Works out a mixing recipe from stock solutions.
+ * <p>
+ * Each stock is modelled as adding a fixed EC and pH change per mL per liter, which holds well over
+ * the small doses used for a nutrient tank. Nutrient parts are dosed together in their ratio; one pH
+ * adjuster of the needed direction is added, and both amounts are solved together so the adjuster's
+ * own EC is accounted for. Several targets (zones growing different crops or stages from one
+ * reservoir) are averaged.
+ */
+public final class NutrientMixer {
+
+    public static final String NO_TARGET = "NO_TARGET";
+    public static final String NO_NUTRIENT_STOCK = "NO_NUTRIENT_STOCK";
+    public static final String NO_PH_DOWN_STOCK = "NO_PH_DOWN_STOCK";
+    public static final String NO_PH_UP_STOCK = "NO_PH_UP_STOCK";
+    public static final String SOURCE_EC_ABOVE_TARGET = "SOURCE_EC_ABOVE_TARGET";
+    public static final String EC_ABOVE_TARGET = "EC_ABOVE_TARGET";
+
+    private static final double PH_TOLERANCE = 0.05;
+
+    private NutrientMixer() {
+    }
+
+    public static MixingRecipe mix(List<DosingTarget> targets, List<StockSolution> stocks, double volumeLiters,
+                                   double sourceEc, double sourcePh) {
+        List<String> warnings = new ArrayList<>();
+        if (targets.isEmpty()) {
+            warnings.add(NO_TARGET);
+            return new MixingRecipe(volumeLiters, sourceEc, sourcePh, sourceEc, sourcePh, List.of(), warnings);
+        }
+        double targetEc = 0;
+        double targetPh = 0;
+        for (DosingTarget target : targets) {
+            targetEc += target.ec() / targets.size();
+            targetPh += target.ph() / targets.size();
+        }
+
+        // One "unit" of nutrient is every nutrient part dosed at its ratio in mL per liter
+        List<StockSolution> nutrients = new ArrayList<>();
+        double unitEc = 0;
+        double unitPh = 0;
+        for (StockSolution stock : stocks) {
+            if (stock.getType() == StockSolutionType.NUTRIENT) {
+                nutrients.add(stock);
+                unitEc += stock.getRatio() * stock.getEcPerMl();
+                unitPh += stock.getRatio() * stock.getPhPerMl();
+            }
+        }
+
+        double ecNeeded = targetEc - sourceEc;
+        if (ecNeeded < 0) {
+            warnings.add(SOURCE_EC_ABOVE_TARGET);
+            ecNeeded = 0;
+        }
+        if (ecNeeded > 0 && unitEc <= 0) {
+            warnings.add(NO_NUTRIENT_STOCK);
+        }
+        double units = unitEc > 0 ? ecNeeded / unitEc : 0;
+
+        double phNeeded = targetPh - sourcePh;
+        double phAfterNutrients = sourcePh + units * unitPh;
+        StockSolution adjuster = null;
+        if (phAfterNutrients > targetPh + PH_TOLERANCE) {
+            adjuster = first(stocks, StockSolutionType.PH_DOWN);
+            if (adjuster == null) {
+                warnings.add(NO_PH_DOWN_STOCK);
+            }
+        } else if (phAfterNutrients < targetPh - PH_TOLERANCE) {
+            adjuster = first(stocks, StockSolutionType.PH_UP);
+            if (adjuster == null) {
+                warnings.add(NO_PH_UP_STOCK);
+            }
+        }
+
+        double adjusterMl = 0;
+        if (adjuster != null && adjuster.getPhPerMl() != 0) {
+            double adjusterEc = adjuster.getEcPerMl();
+            double adjusterPh = adjuster.getPhPerMl();
+            // units * unitEc + ml * adjusterEc = ecNeeded and units * unitPh + ml * adjusterPh = phNeeded
+            double determinant = unitEc * adjusterPh - adjusterEc * unitPh;
+            if (unitEc > 0 && determinant != 0) {
+                units = (ecNeeded * adjusterPh - adjusterEc * phNeeded) / determinant;
+                adjusterMl = (unitEc * phNeeded - ecNeeded * unitPh) / determinant;
+            }
+            if (unitEc <= 0 || determinant == 0 || units < 0) {
+                // The adjuster alone already carries the EC: correct pH with it and let EC overshoot
+                units = 0;
+                adjusterMl = phNeeded / adjusterPh;
+            }
+            adjusterMl = Math.max(0, adjusterMl);
+        }
+
+        double predictedEc = sourceEc + units * unitEc;
+        double predictedPh = sourcePh + units * unitPh;
+        List<MixingRecipe.Dose> doses = new ArrayList<>();
+        for (StockSolution nutrient : nutrients) {
+            doses.add(dose(nutrient, units * nutrient.getRatio(), volumeLiters));
+        }
+        if (adjusterMl > 0) {
+            doses.add(dose(adjuster, adjusterMl, volumeLiters));
+            predictedEc += adjusterMl * adjuster.getEcPerMl();
+            predictedPh += adjusterMl * adjuster.getPhPerMl();
+        }
+        if (ecNeeded > 0 && predictedEc > targetEc + 0.05) {
+            warnings.add(EC_ABOVE_TARGET);
+        }
+        return new MixingRecipe(volumeLiters, targetEc, targetPh, predictedEc, predictedPh, List.copyOf(doses), List.copyOf(warnings));
+    }
+
+    private static MixingRecipe.Dose dose(StockSolution stock, double mlPerLiter, double volumeLiters) {
+        return new MixingRecipe.Dose(stock.getId(), stock.getName(), stock.getType(), mlPerLiter, mlPerLiter * volumeLiters);
+    }
+
+    private static StockSolution first(List<StockSolution> stocks, StockSolutionType type) {
+        for (StockSolution stock : stocks) {
+            if (stock.getType() == type) {
+                return stock;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,14 @@
+package com.nitroxen.demo.dosing;
+
+import com.nitroxen.demo.entity.Zone;
+import com.nitroxen.demo.enums.CropStage;
+
+/**
+ * What a zone grows, as far as its nutrient targets are concerned
+ */
+public record ZoneCrop(long zoneId, String cropType, String cropVariety, CropStage stage) {
+
+    public static ZoneCrop of(Zone zone) {
+        return new ZoneCrop(zone.getId(), zone.getCropType(), zone.getCropVariety(), zone.getCropStage());
+    }
+}
@@ -0,0 +1,22 @@
+package com.nitroxen.demo.dto.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AgronomistSearchPageDTO {
+    private String keyword;
+    private long total;
+    private int page;
+    private int size;
+
+    @Builder.Default
+    private List<AgronomistDTO> results = new ArrayList<>();
+}
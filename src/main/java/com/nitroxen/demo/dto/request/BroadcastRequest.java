@@ -0,0 +1,22 @@
+package com.nitroxen.demo.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request payload for a WhatsApp message to every worker of a farm")
+public class BroadcastRequest {
+
+    @NotBlank(message = "Message is required")
+    @Size(max = 1000, message = "Message must be at most 1000 characters")
+    @Schema(description = "Message text", example = "Spraying in polyhouse 2 from 14:00, keep out until 18:00")
+    private String message;
+}
@@ -0,0 +1,57 @@
+package com.nitroxen.demo.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request payload for assigning one task template to many workers and zones")
+public class BulkTaskAssignmentRequest {
+
+    @NotBlank(message = "Title is required")
+    @Schema(description = "Title of the task", example = "Neem oil spraying")
+    private String title;
+
+    @NotBlank(message = "Description is required")
+    @Schema(description = "Description of the task", example = "Spray 5ml/L neem oil on all rows, cover leaf undersides")
+    private String description;
+
+    @Schema(description = "Deadline of the task", example = "2025-10-12")
+    private String deadline;
+
+    @Schema(description = "Farm of the targets without a zone; only needed when the manager is assigned to several farms", example = "2")
+    private Long farmId;
+
+    @Valid
+    @NotEmpty(message = "At least one target is required")
+    @Size(max = 1000, message = "At most 1000 targets can be assigned in one request")
+    @Schema(description = "Worker/zone pairs the task is assigned to")
+    private List<Target> targets;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "A single worker, optionally scoped to a zone")
+    public static class Target {
+
+        @NotNull(message = "Worker ID is required")
+        @Schema(description = "ID of the worker", example = "12")
+        private Long workerId;
+
+        @Schema(description = "ID of the zone the task applies to", example = "3")
+        private Long zoneId;
+    }
+}
@@ -0,0 +1,48 @@
+package com.nitroxen.demo.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request payload for a zone's daily irrigation program")
+public class IrrigationProgramRequest {
+
+    @NotNull(message = "Start time is required")
+    @Schema(description = "Earliest time of day the first cycle may start", example = "06:00")
+    private LocalTime startTime;
+
+    @NotNull(message = "Cycles per day is required")
+    @Min(value = 1, message = "At least one cycle per day is required")
+    @Max(value = 96, message = "At most 96 cycles per day are allowed")
+    @Schema(description = "Irrigation cycles per day", example = "4")
+    private Integer cyclesPerDay;
+
+    @NotNull(message = "Cycle length is required")
+    @Min(value = 1, message = "A cycle lasts at least one minute")
+    @Max(value = 720, message = "A cycle lasts at most 720 minutes")
+    @Schema(description = "Length of each cycle in minutes", example = "10")
+    private Integer cycleMinutes;
+
+    @NotNull(message = "Interval is required")
+    @Min(value = 0, message = "Interval cannot be negative")
+    @Max(value = 1440, message = "Interval is at most a day")
+    @Schema(description = "Minimum minutes between the starts of consecutive cycles", example = "180")
+    private Integer intervalMinutes;
+
+    @NotNull(message = "Flow rate is required")
+    @Positive(message = "Flow rate must be positive")
+    @Schema(description = "Water delivered to the zone per minute while irrigating, in liters", example = "12.5")
+    private Double flowLitersPerMinute;
+}
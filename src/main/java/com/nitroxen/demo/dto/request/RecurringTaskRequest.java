@@ -0,0 +1,43 @@
+package com.nitroxen.demo.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request payload for creating a recurring task")
+public class RecurringTaskRequest {
+
+    @NotBlank(message = "Title is required")
+    @Schema(description = "Title of each generated task", example = "Irrigation check")
+    private String title;
+
+    @Schema(description = "Description of each generated task", example = "Check drippers and filter pressure")
+    private String description;
+
+    @NotNull(message = "Worker ID is required")
+    @Schema(description = "ID of the worker the tasks are assigned to", example = "12")
+    private Long workerId;
+
+    @NotNull(message = "Zone ID is required")
+    @Schema(description = "ID of the zone the tasks apply to, which also gives them their farm", example = "3")
+    private Long zoneId;
+
+    @NotBlank(message = "Recurrence rule is required")
+    @Schema(description = "RRULE-like recurrence (FREQ, INTERVAL, BYDAY, BYMONTHDAY, BYHOUR, BYMINUTE)",
+            example = "FREQ=WEEKLY;BYDAY=MO,TH;BYHOUR=7")
+    private String recurrenceRule;
+
+    @NotNull(message = "Start time is required")
+    @Schema(description = "First time the schedule may fire", example = "2025-10-01T07:00:00")
+    private LocalDateTime startAt;
+}
@@ -1,6 +1,8 @@
 package com.nitroxen.demo.dto.request;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
@@ -30,4 +32,9 @@ public class ReservoirRequest {
 
     @Schema(description = "Water treatment methods used", example = "UV filtration, Reverse Osmosis")
     private String waterTreatment;
+
+    @Min(value = 1, message = "Pump count must be at least 1")
+    @Max(value = 64, message = "Pump count must be at most 64")
+    @Schema(description = "Number of zones the reservoir's pumps can irrigate at the same time (default 1)", example = "2")
+    private Integer pumpCount;
 }
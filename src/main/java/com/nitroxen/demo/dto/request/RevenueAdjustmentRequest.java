@@ -0,0 +1,35 @@
+package com.nitroxen.demo.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request payload for a manual credit or debit on an owner's billing ledger")
+public class RevenueAdjustmentRequest {
+
+    @NotNull(message = "Owner ID is required")
+    @Schema(description = "Owner the adjustment is billed to", example = "3")
+    private Long ownerId;
+
+    @NotNull(message = "Amount is required")
+    @Digits(integer = 12, fraction = 2, message = "Amount must have at most 12 digits and 2 decimals")
+    @Schema(description = "Amount to bill; negative for a credit", example = "-15.00")
+    private BigDecimal amount;
+
+    @NotBlank(message = "Description is required")
+    @Size(max = 255, message = "Description must be at most 255 characters")
+    @Schema(description = "Reason for the adjustment", example = "Goodwill credit for sensor outage")
+    private String description;
+}
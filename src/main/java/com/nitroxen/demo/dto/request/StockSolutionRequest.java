@@ -0,0 +1,41 @@
+package com.nitroxen.demo.dto.request;
+
+import com.nitroxen.demo.enums.StockSolutionType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request payload for a stock solution used in nutrient mixing")
+public class StockSolutionRequest {
+
+    @NotBlank(message = "Name is required")
+    @Schema(description = "Name of the stock solution", example = "Grow A")
+    private String name;
+
+    @NotNull(message = "Type is required")
+    @Schema(description = "NUTRIENT, PH_DOWN or PH_UP", example = "NUTRIENT")
+    private StockSolutionType type;
+
+    @NotNull(message = "EC per mL is required")
+    @PositiveOrZero(message = "EC per mL cannot be negative")
+    @Schema(description = "EC (mS/cm) added by one mL of stock per liter of water", example = "0.12")
+    private Double ecPerMl;
+
+    @NotNull(message = "pH per mL is required")
+    @Schema(description = "pH change caused by one mL of stock per liter of water; negative for acids", example = "-0.05")
+    private Double phPerMl;
+
+    @Positive(message = "Ratio must be positive")
+    @Schema(description = "Share of this part among the nutrient stocks; 1 when absent", example = "1.0")
+    private Double ratio;
+}
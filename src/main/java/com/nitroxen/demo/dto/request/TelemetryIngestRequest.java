@@ -0,0 +1,43 @@
+package com.nitroxen.demo.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.nitroxen.demo.telemetry.Metric;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Columnar batch of sensor readings: element i of each array describes reading i. The metric
+ * decides what the source ID refers to: a zone, or a reservoir for reservoir metrics such as WATER_LEVEL.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Batch of zone and reservoir sensor readings as parallel arrays")
+public class TelemetryIngestRequest {
+
+    public static final int MAX_READINGS = 10_000;
+
+    @NotNull(message = "Source IDs are required")
+    @Size(min = 1, max = MAX_READINGS, message = "A batch holds between 1 and 10000 readings")
+    @JsonAlias("zoneIds")
+    @Schema(description = "Zone (or reservoir, for reservoir metrics) of each reading", example = "[1, 1, 2]")
+    private long[] sourceIds;
+
+    @NotNull(message = "Metrics are required")
+    @Schema(description = "Metric of each reading", example = "[\"TEMPERATURE\", \"EC\", \"TEMPERATURE\"]")
+    private Metric[] metrics;
+
+    @NotNull(message = "Timestamps are required")
+    @Schema(description = "Time of each reading in epoch milliseconds", example = "[1760000000000, 1760000000000, 1760000001000]")
+    private long[] timestamps;
+
+    @NotNull(message = "Values are required")
+    @Schema(description = "Value of each reading", example = "[24.5, 1.8, 25.1]")
+    private double[] values;
+}
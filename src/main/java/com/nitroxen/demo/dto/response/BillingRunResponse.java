@@ -0,0 +1,32 @@
+package com.nitroxen.demo.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.YearMonth;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Outcome of billing every owner for a month")
+public class BillingRunResponse {
+
+    @Schema(description = "Billed month", example = "2026-10")
+    private YearMonth month;
+
+    @Schema(description = "Owners billed", example = "42")
+    private int owners;
+
+    @Schema(description = "Charges recorded by this run", example = "130")
+    private int entriesRecorded;
+
+    @Schema(description = "Charges already recorded by an earlier run for the month", example = "0")
+    private int entriesSkipped;
+
+    @Schema(description = "Owners whose charges could not be recorded", example = "0")
+    private int ownersFailed;
+}
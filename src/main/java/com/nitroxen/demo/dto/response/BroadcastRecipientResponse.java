@@ -0,0 +1,33 @@
+package com.nitroxen.demo.dto.response;
+
+import com.nitroxen.demo.enums.NotificationStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Delivery state of a broadcast to one phone number")
+public class BroadcastRecipientResponse {
+
+    @Schema(description = "Recipient phone number", example = "+919876543210")
+    private String phoneNumber;
+
+    @Schema(description = "PENDING, SENT or FAILED", example = "SENT")
+    private NotificationStatus status;
+
+    @Schema(description = "Delivery attempts started", example = "1")
+    private Integer attempts;
+
+    @Schema(description = "When the message was handed to the provider")
+    private LocalDateTime sentAt;
+
+    @Schema(description = "Error of the last failed attempt")
+    private String lastError;
+}
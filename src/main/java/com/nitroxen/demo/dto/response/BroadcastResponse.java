@@ -0,0 +1,48 @@
+package com.nitroxen.demo.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "A broadcast to the workers of a farm and its delivery progress")
+public class BroadcastResponse {
+
+    @Schema(description = "Broadcast ID", example = "7")
+    private Long id;
+
+    @Schema(description = "Farm ID", example = "1")
+    private Long farmId;
+
+    @Schema(description = "Message text")
+    private String message;
+
+    @Schema(description = "Distinct phone numbers the message was queued for", example = "42")
+    private Integer recipientCount;
+
+    @Schema(description = "Recipients still waiting to be sent (or retried)", example = "12")
+    private Integer pending;
+
+    @Schema(description = "Recipients the message was sent to", example = "29")
+    private Integer sent;
+
+    @Schema(description = "Recipients given up on after the maximum number of attempts", example = "1")
+    private Integer failed;
+
+    @Schema(description = "True once no recipient is pending", example = "false")
+    private Boolean complete;
+
+    @Schema(description = "Delivery state of each recipient")
+    private List<BroadcastRecipientResponse> recipients;
+
+    @Schema(description = "Creation timestamp")
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,24 @@
+package com.nitroxen.demo.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Result of a bulk task assignment")
+public class BulkTaskAssignmentResponse {
+
+    @Schema(description = "Number of tasks created", example = "48")
+    private int assignedCount;
+
+    @Schema(description = "Number of duplicate worker/zone targets that were ignored", example = "2")
+    private int duplicateTargets;
+
+    @Schema(description = "URL of the attachment shared by all created tasks", example = "/attachments/9f86d081884c7d65.pdf")
+    private String fileUrl;
+}
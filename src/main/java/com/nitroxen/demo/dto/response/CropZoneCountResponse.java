@@ -0,0 +1,21 @@
+package com.nitroxen.demo.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Number of zones growing one crop type")
+public class CropZoneCountResponse {
+
+    @Schema(description = "Crop type; null for zones without a crop", example = "Tomato")
+    private String cropType;
+
+    @Schema(description = "Number of zones", example = "12")
+    private long zoneCount;
+}
@@ -0,0 +1,31 @@
+package com.nitroxen.demo.dto.response;
+
+import com.nitroxen.demo.enums.StockSolutionType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Amount of one stock solution in a mixing recipe")
+public class DoseResponse {
+
+    @Schema(description = "Stock solution ID", example = "3")
+    private Long stockSolutionId;
+
+    @Schema(description = "Name of the stock solution", example = "Grow A")
+    private String name;
+
+    @Schema(description = "NUTRIENT, PH_DOWN or PH_UP", example = "NUTRIENT")
+    private StockSolutionType type;
+
+    @Schema(description = "mL of stock per liter of water", example = "9.2")
+    private Double mlPerLiter;
+
+    @Schema(description = "mL of stock for the whole reservoir", example = "92000.0")
+    private Double totalMl;
+}
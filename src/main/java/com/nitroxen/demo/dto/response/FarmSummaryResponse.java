@@ -0,0 +1,56 @@
+package com.nitroxen.demo.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Totals of one farm")
+public class FarmSummaryResponse {
+
+    @Schema(description = "Farm ID", example = "7")
+    private Long farmId;
+
+    @Schema(description = "Farm name", example = "North Farm")
+    private String name;
+
+    @Schema(description = "Farm location", example = "Nashik")
+    private String location;
+
+    @Schema(description = "Total area in square meters", example = "8000.0")
+    private double totalArea;
+
+    @Schema(description = "Area covered by polyhouses in square meters", example = "5200.0")
+    private double usedArea;
+
+    @Schema(description = "Area still free in square meters", example = "2800.0")
+    private double remainingArea;
+
+    @Schema(description = "Number of polyhouses", example = "4")
+    private long polyhouseCount;
+
+    @Schema(description = "Number of zones", example = "22")
+    private long zoneCount;
+
+    @Schema(description = "Zone count per crop type, largest first")
+    private List<CropZoneCountResponse> zonesByCropType;
+
+    @Schema(description = "Number of reservoirs", example = "3")
+    private long reservoirCount;
+
+    @Schema(description = "Capacity of the farm's reservoirs in liters", example = "30000.0")
+    private double reservoirCapacity;
+
+    @Schema(description = "Zones not served by any reservoir", example = "2")
+    private long unservedZoneCount;
+
+    @Schema(description = "Reservoirs with the number of zones each serves")
+    private List<ReservoirSummaryResponse> reservoirs;
+}
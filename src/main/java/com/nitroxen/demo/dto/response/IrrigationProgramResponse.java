@@ -0,0 +1,45 @@
+package com.nitroxen.demo.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "A zone's daily irrigation program")
+public class IrrigationProgramResponse {
+
+    @Schema(description = "Program ID", example = "1")
+    private Long id;
+
+    @Schema(description = "Zone ID", example = "4")
+    private Long zoneId;
+
+    @Schema(description = "Farm ID", example = "1")
+    private Long farmId;
+
+    @Schema(description = "Earliest time of day the first cycle may start", example = "06:00")
+    private LocalTime startTime;
+
+    @Schema(description = "Irrigation cycles per day", example = "4")
+    private Integer cyclesPerDay;
+
+    @Schema(description = "Length of each cycle in minutes", example = "10")
+    private Integer cycleMinutes;
+
+    @Schema(description = "Minimum minutes between the starts of consecutive cycles", example = "180")
+    private Integer intervalMinutes;
+
+    @Schema(description = "Water delivered per minute in liters", example = "12.5")
+    private Double flowLitersPerMinute;
+
+    @Schema(description = "Last update timestamp", example = "2025-09-29T14:20:15")
+    private LocalDateTime updatedAt;
+}
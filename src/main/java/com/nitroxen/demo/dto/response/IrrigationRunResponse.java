@@ -0,0 +1,38 @@
+package com.nitroxen.demo.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "One irrigation cycle of a zone in the daily schedule")
+public class IrrigationRunResponse {
+
+    @Schema(description = "Zone ID", example = "4")
+    private Long zoneId;
+
+    @Schema(description = "Reservoir the cycle draws from, absent if the zone has none", example = "2")
+    private Long reservoirId;
+
+    @Schema(description = "Cycle number within the zone's day, from 1", example = "2")
+    private Integer cycle;
+
+    @Schema(description = "Scheduled start; absent if the cycle could not be scheduled", example = "09:10")
+    private LocalTime start;
+
+    @Schema(description = "Scheduled end; absent if the cycle could not be scheduled", example = "09:20")
+    private LocalTime end;
+
+    @Schema(description = "Water drawn by the cycle in liters", example = "125.0")
+    private Double liters;
+
+    @Schema(description = "Why the cycle could not be scheduled (RESERVOIR_CAPACITY or NO_SLOT)", example = "NO_SLOT")
+    private String unscheduledReason;
+}
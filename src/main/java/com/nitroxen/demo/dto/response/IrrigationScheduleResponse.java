@@ -0,0 +1,34 @@
+package com.nitroxen.demo.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Daily irrigation schedule of a farm")
+public class IrrigationScheduleResponse {
+
+    @Schema(description = "Farm ID", example = "1")
+    private Long farmId;
+
+    @Schema(description = "When the schedule was computed", example = "2025-09-29T05:00:00")
+    private LocalDateTime plannedAt;
+
+    @Schema(description = "Scheduled cycles ordered by start time")
+    private List<IrrigationRunResponse> runs;
+
+    @Schema(description = "Cycles that did not fit within reservoir capacity or pump limits")
+    private List<IrrigationRunResponse> unscheduled;
+
+    @Schema(description = "Liters scheduled per reservoir ID")
+    private Map<Long, Double> litersByReservoir;
+}
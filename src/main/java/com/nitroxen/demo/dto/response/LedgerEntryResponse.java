@@ -0,0 +1,53 @@
+package com.nitroxen.demo.dto.response;
+
+import com.nitroxen.demo.enums.BillingChargeType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Billing ledger entry of an owner")
+public class LedgerEntryResponse {
+
+    @Schema(description = "Entry ID", example = "120")
+    private Long id;
+
+    @Schema(description = "Owner ID", example = "3")
+    private Long ownerId;
+
+    @Schema(description = "Farm the charge is for, if any", example = "7")
+    private Long farmId;
+
+    @Schema(description = "FARM, AREA, SEAT or ADJUSTMENT", example = "AREA")
+    private BillingChargeType chargeType;
+
+    @Schema(description = "Farms, square meters or seats charged", example = "2500.0")
+    private Double quantity;
+
+    @Schema(description = "Price per unit", example = "0.0500")
+    private BigDecimal unitPrice;
+
+    @Schema(description = "Billed amount; negative for credits", example = "125.00")
+    private BigDecimal amount;
+
+    @Schema(description = "First day of the month the charge covers", example = "2026-10-01")
+    private LocalDate billingPeriod;
+
+    @Schema(description = "Day the entry counts towards in revenue reports", example = "2026-10-01")
+    private LocalDate recordedOn;
+
+    @Schema(description = "Description", example = "Area fee for North Farm")
+    private String description;
+
+    @Schema(description = "When the entry was recorded")
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,21 @@
+package com.nitroxen.demo.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Latest reading of a zone metric")
+public class LiveReadingResponse {
+
+    @Schema(description = "Reading value", example = "24.5")
+    private double value;
+
+    @Schema(description = "Reading time in epoch milliseconds", example = "1759215600000")
+    private long timestamp;
+}
@@ -0,0 +1,40 @@
+package com.nitroxen.demo.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Frame on a farm's live zone channel")
+public class LiveZoneFrameResponse {
+
+    public static final String SNAPSHOT = "SNAPSHOT";
+    public static final String DELTA = "DELTA";
+
+    @Schema(description = "SNAPSHOT (every zone) or DELTA (changed zones and metrics only)", example = "DELTA")
+    private String type;
+
+    @Schema(description = "Farm ID", example = "1")
+    private Long farmId;
+
+    @Schema(description = "Frame sequence of the farm; a delta applies on top of the frame with the previous sequence", example = "42")
+    private Long sequence;
+
+    @Schema(description = "When the frame was built, in epoch milliseconds", example = "1759215600000")
+    private Long sentAt;
+
+    @Schema(description = "Zones in the snapshot, or zones that changed since the previous frame")
+    private List<LiveZoneResponse> zones;
+
+    @Schema(description = "Zones deleted since the previous frame")
+    private List<Long> removedZoneIds;
+}
@@ -0,0 +1,44 @@
+package com.nitroxen.demo.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.nitroxen.demo.enums.CropStage;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "A zone in a live dashboard frame; in deltas, unchanged details and metrics are left out")
+public class LiveZoneResponse {
+
+    @Schema(description = "Zone ID", example = "4")
+    private Long zoneId;
+
+    @Schema(description = "Zone name", example = "Zone 1")
+    private String name;
+
+    @Schema(description = "Polyhouse ID", example = "1")
+    private Long polyhouseId;
+
+    @Schema(description = "Polyhouse name", example = "Polyhouse A")
+    private String polyhouseName;
+
+    @Schema(description = "Type of crop", example = "Tomato")
+    private String cropType;
+
+    @Schema(description = "Crop variety", example = "Roma")
+    private String cropVariety;
+
+    @Schema(description = "Growth stage", example = "FRUITING")
+    private CropStage cropStage;
+
+    @Schema(description = "Latest reading per metric name")
+    private Map<String, LiveReadingResponse> metrics;
+}
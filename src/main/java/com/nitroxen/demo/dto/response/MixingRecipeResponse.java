@@ -0,0 +1,47 @@
+package com.nitroxen.demo.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Nutrient mixing recipe for a full reservoir")
+public class MixingRecipeResponse {
+
+    @Schema(description = "Reservoir ID", example = "2")
+    private Long reservoirId;
+
+    @Schema(description = "Reservoir name", example = "Main Tank")
+    private String reservoirName;
+
+    @Schema(description = "Volume the recipe is mixed for, in liters", example = "10000.0")
+    private Double volumeLiters;
+
+    @Schema(description = "Zones fed by the reservoir")
+    private List<Long> zoneIds;
+
+    @Schema(description = "Target EC in mS/cm, averaged over the crop stages fed", example = "2.5")
+    private Double targetEc;
+
+    @Schema(description = "Target pH, averaged over the crop stages fed", example = "6.0")
+    private Double targetPh;
+
+    @Schema(description = "EC expected after mixing", example = "2.5")
+    private Double predictedEc;
+
+    @Schema(description = "pH expected after mixing", example = "6.0")
+    private Double predictedPh;
+
+    @Schema(description = "Stock solution amounts, nutrients first")
+    private List<DoseResponse> doses;
+
+    @Schema(description = "Why the targets cannot be met exactly, e.g. NO_PH_DOWN_STOCK")
+    private List<String> warnings;
+}
@@ -0,0 +1,48 @@
+package com.nitroxen.demo.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Totals of every farm of an owner, for the owner app home screen")
+public class OwnerDashboardResponse {
+
+    @Schema(description = "Owner ID", example = "3")
+    private Long ownerId;
+
+    @Schema(description = "Number of farms", example = "2")
+    private int farmCount;
+
+    @Schema(description = "Total area of all farms in square meters", example = "12000.0")
+    private double totalArea;
+
+    @Schema(description = "Area covered by polyhouses in square meters", example = "7400.0")
+    private double usedArea;
+
+    @Schema(description = "Number of polyhouses", example = "6")
+    private long polyhouseCount;
+
+    @Schema(description = "Number of zones", example = "31")
+    private long zoneCount;
+
+    @Schema(description = "Number of reservoirs", example = "4")
+    private long reservoirCount;
+
+    @Schema(description = "Capacity of all reservoirs in liters", example = "40000.0")
+    private double reservoirCapacity;
+
+    @Schema(description = "Per-farm totals")
+    private List<FarmSummaryResponse> farms;
+
+    @Schema(description = "When these totals were computed; they are refreshed after any farm, polyhouse, zone or reservoir change")
+    private LocalDateTime generatedAt;
+}
@@ -0,0 +1,29 @@
+package com.nitroxen.demo.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Revenue billed to one owner in a month")
+public class OwnerRevenueResponse {
+
+    @Schema(description = "Owner ID", example = "3")
+    private Long ownerId;
+
+    @Schema(description = "Owner name", example = "John Doe")
+    private String ownerName;
+
+    @Schema(description = "Billed amount", example = "245.00")
+    private BigDecimal amount;
+
+    @Schema(description = "Number of ledger entries", example = "5")
+    private Long entryCount;
+}
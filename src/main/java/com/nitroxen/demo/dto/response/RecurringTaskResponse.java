@@ -0,0 +1,47 @@
+package com.nitroxen.demo.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Response containing recurring task details")
+public class RecurringTaskResponse {
+
+    @Schema(description = "Schedule ID", example = "1")
+    private Long id;
+
+    @Schema(description = "Title of each generated task", example = "Irrigation check")
+    private String title;
+
+    @Schema(description = "Description of each generated task", example = "Check drippers and filter pressure")
+    private String description;
+
+    @Schema(description = "ID of the worker the tasks are assigned to", example = "12")
+    private Long workerId;
+
+    @Schema(description = "ID of the zone the tasks apply to", example = "3")
+    private Long zoneId;
+
+    @Schema(description = "Recurrence rule", example = "FREQ=WEEKLY;BYDAY=MO,TH;BYHOUR=7")
+    private String recurrenceRule;
+
+    @Schema(description = "First time the schedule may fire", example = "2025-10-01T07:00:00")
+    private LocalDateTime startAt;
+
+    @Schema(description = "Next occurrence not yet turned into a task", example = "2025-10-06T07:00:00")
+    private LocalDateTime nextOccurrenceAt;
+
+    @Schema(description = "Whether the schedule is still generating tasks", example = "true")
+    private Boolean active;
+
+    @Schema(description = "Creation timestamp", example = "2025-09-29T10:15:30")
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,39 @@
+package com.nitroxen.demo.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Current water level of a reservoir and its time-to-empty forecast")
+public class ReservoirLevelResponse {
+
+    @Schema(description = "Latest reported level in liters", example = "6400.0")
+    private Double currentLevel;
+
+    @Schema(description = "Latest level as a percentage of capacity", example = "64.0")
+    private Double levelPercent;
+
+    @Schema(description = "Time of the latest level reading", example = "2025-09-29T14:20:15")
+    private LocalDateTime levelReadAt;
+
+    @Schema(description = "Smoothed consumption in liters per hour", example = "180.5")
+    private Double consumptionLitersPerHour;
+
+    @Schema(description = "Hours until empty at the current consumption; absent while the level is not falling", example = "33.2")
+    private Double hoursToEmpty;
+
+    @Schema(description = "Forecast time the reservoir runs dry; absent while the level is not falling", example = "2025-10-01T00:32:00")
+    private LocalDateTime estimatedEmptyAt;
+
+    @Schema(description = "Consumption attributed to each serving zone")
+    private List<ZoneWaterUseResponse> zoneConsumption;
+}
@@ -30,6 +30,9 @@ public class ReservoirResponse {
     @Schema(description = "Water treatment methods used", example = "UV filtration, Reverse Osmosis")
     private String waterTreatment;
 
+    @Schema(description = "Number of zones the reservoir's pumps can irrigate at the same time", example = "2")
+    private Integer pumpCount;
+
     @Schema(description = "ID of the farm this reservoir belongs to", example = "1")
     private Long farmId;
 
@@ -39,6 +42,9 @@ public class ReservoirResponse {
     @Schema(description = "Number of zones this reservoir serves", example = "3")
     private Integer servingZonesCount;
 
+    @Schema(description = "Water level and time-to-empty forecast; absent until the reservoir reports WATER_LEVEL telemetry")
+    private ReservoirLevelResponse waterLevel;
+
     @Schema(description = "Creation timestamp", example = "2025-09-29T10:15:30")
     private LocalDateTime createdAt;
 
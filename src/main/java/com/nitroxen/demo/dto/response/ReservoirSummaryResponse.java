@@ -0,0 +1,27 @@
+package com.nitroxen.demo.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Reservoir with the number of zones it serves")
+public class ReservoirSummaryResponse {
+
+    @Schema(description = "Reservoir ID", example = "4")
+    private Long reservoirId;
+
+    @Schema(description = "Reservoir name", example = "Main Tank")
+    private String name;
+
+    @Schema(description = "Capacity in liters", example = "10000.0")
+    private Double capacity;
+
+    @Schema(description = "Number of zones it serves", example = "8")
+    private long servingZoneCount;
+}
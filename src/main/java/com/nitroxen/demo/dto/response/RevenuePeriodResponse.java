@@ -0,0 +1,27 @@
+package com.nitroxen.demo.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Revenue billed to an owner in one day or month")
+public class RevenuePeriodResponse {
+
+    @Schema(description = "Day, or first day of the month", example = "2026-10-01")
+    private LocalDate periodStart;
+
+    @Schema(description = "Billed amount", example = "245.00")
+    private BigDecimal amount;
+
+    @Schema(description = "Number of ledger entries", example = "5")
+    private Long entryCount;
+}
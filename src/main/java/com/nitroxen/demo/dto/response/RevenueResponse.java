@@ -0,0 +1,28 @@
+package com.nitroxen.demo.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Revenue of a month across all owners")
+public class RevenueResponse {
+
+    @Schema(description = "Month", example = "2026-10")
+    private YearMonth month;
+
+    @Schema(description = "Total billed in the month", example = "12450.00")
+    private BigDecimal total;
+
+    @Schema(description = "Revenue per owner, highest first")
+    private List<OwnerRevenueResponse> owners;
+}
@@ -0,0 +1,34 @@
+package com.nitroxen.demo.dto.response;
+
+import com.nitroxen.demo.search.SearchDocument;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Single full-text search match")
+public class SearchHitResponse {
+
+    @Schema(description = "Kind of document that matched", example = "REPORT")
+    private SearchDocument.Type type;
+
+    @Schema(description = "ID of the task, report or agronomist report", example = "42")
+    private Long id;
+
+    @Schema(description = "Farm the document belongs to", example = "1")
+    private Long farmId;
+
+    @Schema(description = "Title of the document, if it has one", example = "Neem oil spraying")
+    private String title;
+
+    @Schema(description = "Beginning of the matched text", example = "Found aphids on the underside of leaves in row 4")
+    private String snippet;
+
+    @Schema(description = "Relevance score, higher is better", example = "3.71")
+    private float score;
+}
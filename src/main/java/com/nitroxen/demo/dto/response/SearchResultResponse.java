@@ -0,0 +1,32 @@
+package com.nitroxen.demo.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Page of full-text search results, best match first")
+public class SearchResultResponse {
+
+    @Schema(description = "Query that was run", example = "aphid")
+    private String query;
+
+    @Schema(description = "Total number of matches across all pages", example = "37")
+    private long total;
+
+    @Schema(description = "Zero-based page number", example = "0")
+    private int page;
+
+    @Schema(description = "Page size", example = "20")
+    private int size;
+
+    @Schema(description = "Matches on this page")
+    private List<SearchHitResponse> hits;
+}
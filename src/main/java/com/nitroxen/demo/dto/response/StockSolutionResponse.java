@@ -0,0 +1,42 @@
+package com.nitroxen.demo.dto.response;
+
+import com.nitroxen.demo.enums.StockSolutionType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Stock solution used in nutrient mixing")
+public class StockSolutionResponse {
+
+    @Schema(description = "Stock solution ID", example = "3")
+    private Long id;
+
+    @Schema(description = "Farm ID", example = "1")
+    private Long farmId;
+
+    @Schema(description = "Name of the stock solution", example = "Grow A")
+    private String name;
+
+    @Schema(description = "NUTRIENT, PH_DOWN or PH_UP", example = "NUTRIENT")
+    private StockSolutionType type;
+
+    @Schema(description = "EC (mS/cm) added by one mL of stock per liter of water", example = "0.12")
+    private Double ecPerMl;
+
+    @Schema(description = "pH change caused by one mL of stock per liter of water", example = "-0.05")
+    private Double phPerMl;
+
+    @Schema(description = "Share of this part among the nutrient stocks", example = "1.0")
+    private Double ratio;
+
+    @Schema(description = "Last update timestamp")
+    private LocalDateTime updatedAt;
+}
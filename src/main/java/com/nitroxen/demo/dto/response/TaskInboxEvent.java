@@ -0,0 +1,43 @@
+package com.nitroxen.demo.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Event pushed to a worker's task inbox stream")
+public class TaskInboxEvent {
+
+    public enum Type { TASK_ASSIGNED, REPORT_SUBMITTED, RESYNC }
+
+    @Schema(description = "Event ID, usable as Last-Event-ID when reconnecting", example = "1727600000123")
+    private Long id;
+
+    @Schema(description = "Type of the event", example = "TASK_ASSIGNED")
+    private Type type;
+
+    @Schema(description = "ID of the worker the event is for", example = "12")
+    private Long workerId;
+
+    @Schema(description = "ID of the task, when known", example = "42")
+    private Long taskId;
+
+    @Schema(description = "Title of the task", example = "Neem oil spraying")
+    private String title;
+
+    @Schema(description = "Deadline of the task", example = "2025-10-12")
+    private String deadline;
+
+    @Schema(description = "ID of the zone the task applies to", example = "3")
+    private Long zoneId;
+
+    @Schema(description = "Time the event occurred", example = "2025-09-29T10:15:30")
+    private LocalDateTime occurredAt;
+}
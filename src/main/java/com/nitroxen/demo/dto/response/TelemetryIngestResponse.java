@@ -0,0 +1,18 @@
+package com.nitroxen.demo.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Result of a telemetry batch submission")
+public class TelemetryIngestResponse {
+
+    @Schema(description = "Number of readings accepted for storage", example = "500")
+    private int accepted;
+}
@@ -0,0 +1,44 @@
+package com.nitroxen.demo.dto.response;
+
+import com.nitroxen.demo.telemetry.Aggregation;
+import com.nitroxen.demo.telemetry.Metric;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Step-aggregated values of one metric for several sources. Step i covers
+ * [from + i * step, from + (i + 1) * step); timestamps are implied rather than repeated per value.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Aggregated telemetry series of several zones or reservoirs over the same steps")
+public class TelemetrySeriesResponse {
+
+    @Schema(description = "Queried metric", example = "TEMPERATURE")
+    private Metric metric;
+
+    @Schema(description = "Aggregate computed per step", example = "AVG")
+    private Aggregation aggregation;
+
+    @Schema(description = "Start of the first step in epoch milliseconds", example = "1760000000000")
+    private long from;
+
+    @Schema(description = "End of the range (exclusive) in epoch milliseconds", example = "1760086400000")
+    private long to;
+
+    @Schema(description = "Step width in milliseconds", example = "3600000")
+    private long step;
+
+    @Schema(description = "Number of steps in every series", example = "24")
+    private int steps;
+
+    @Schema(description = "One series per requested source, in request order")
+    private List<TelemetrySeriesValuesResponse> series;
+}
@@ -0,0 +1,21 @@
+package com.nitroxen.demo.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Aggregated values of one zone or reservoir")
+public class TelemetrySeriesValuesResponse {
+
+    @Schema(description = "Zone or reservoir ID", example = "4")
+    private long sourceId;
+
+    @Schema(description = "Aggregate of each step; null where the step holds no readings", example = "[24.1, 24.6, null, 25.0]")
+    private Double[] values;
+}
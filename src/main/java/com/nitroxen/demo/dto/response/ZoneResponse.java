@@ -1,5 +1,6 @@
 package com.nitroxen.demo.dto.response;
 
+import com.nitroxen.demo.enums.CropStage;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -30,6 +31,9 @@ public class ZoneResponse {
     @Schema(description = "Specific variety of crop", example = "Butterhead Lettuce")
     private String cropVariety;
 
+    @Schema(description = "Current growth stage of the crop", example = "VEGETATIVE")
+    private CropStage cropStage;
+
     @Schema(description = "Configuration for planting", example = "15cm spacing, staggered pattern")
     private String plantingConfiguration;
 
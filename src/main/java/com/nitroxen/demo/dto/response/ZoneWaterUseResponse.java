@@ -0,0 +1,27 @@
+package com.nitroxen.demo.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Share of a reservoir's consumption attributed to one zone")
+public class ZoneWaterUseResponse {
+
+    @Schema(description = "Zone ID", example = "4")
+    private Long zoneId;
+
+    @Schema(description = "Zone name", example = "Bay 3")
+    private String zoneName;
+
+    @Schema(description = "Fraction of the reservoir's recent draw used by this zone", example = "0.42")
+    private Double share;
+
+    @Schema(description = "Attributed consumption in liters per hour", example = "75.8")
+    private Double litersPerHour;
+}
@@ -4,7 +4,9 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "agronomist_report")
+@Table(name = "agronomist_report", indexes = {
+        @Index(name = "idx_agronomist_report_farm", columnList = "farm_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,78 @@
+package com.nitroxen.demo.entity;
+
+import com.nitroxen.demo.enums.BillingChargeType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * One charge or adjustment billed to an owner. Entries are only ever inserted: corrections are
+ * recorded as ADJUSTMENT entries, so the daily and monthly revenue aggregates never need recomputing.
+ */
+@Entity
+@Table(name = "billing_ledger", indexes = {
+        @Index(name = "idx_billing_ledger_owner", columnList = "owner_id, recorded_on")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_billing_ledger_reference", columnNames = "reference")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class BillingLedgerEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "owner_id", nullable = false, updatable = false)
+    private Long ownerId;
+
+    @Column(name = "farm_id", updatable = false)
+    private Long farmId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false, length = 16)
+    private BillingChargeType chargeType;
+
+    // Farms, square meters or seats charged; 1 for adjustments
+    @Column(nullable = false, updatable = false)
+    private Double quantity;
+
+    @Column(nullable = false, updatable = false, precision = 12, scale = 4)
+    private BigDecimal unitPrice;
+
+    // Negative for credits
+    @Column(nullable = false, updatable = false, precision = 14, scale = 2)
+    private BigDecimal amount;
+
+    // First day of the month the charge covers
+    @Column(nullable = false, updatable = false)
+    private LocalDate billingPeriod;
+
+    // Day the entry counts towards in the revenue aggregates
+    @Column(name = "recorded_on", nullable = false, updatable = false)
+    private LocalDate recordedOn;
+
+    // Identifies a scheduled charge so a billing run never records it twice; null for adjustments
+    @Column(updatable = false, length = 64)
+    private String reference;
+
+    @Column(updatable = false)
+    private String description;
+
+    private Long recordedBy;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
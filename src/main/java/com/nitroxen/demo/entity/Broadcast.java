@@ -0,0 +1,48 @@
+package com.nitroxen.demo.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * A message a manager sent to every worker of a farm. Each recipient's delivery is an
+ * {@link OutboundNotification} referencing "broadcast:{id}".
+ */
+@Entity
+@Table(name = "broadcasts", indexes = {
+        @Index(name = "idx_broadcast_farm", columnList = "farm_id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class Broadcast {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "farm_id", nullable = false, updatable = false)
+    private Long farmId;
+
+    @Column(nullable = false, updatable = false)
+    private Long managerId;
+
+    @Column(nullable = false, updatable = false, length = 1000)
+    private String message;
+
+    // Distinct phone numbers the message was queued for
+    @Column(nullable = false, updatable = false)
+    private Integer recipientCount;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
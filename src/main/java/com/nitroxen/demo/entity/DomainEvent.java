@@ -0,0 +1,56 @@
+package com.nitroxen.demo.entity;
+
+import com.nitroxen.demo.enums.HierarchyChangeType;
+import com.nitroxen.demo.enums.HierarchyEntityType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbox row of a hierarchy change, inserted in the transaction that made the change. It stays
+ * unpublished until every subscriber has seen the event, so events committed before a crash are
+ * delivered after the restart.
+ */
+@Entity
+@Table(name = "domain_event_outbox", indexes = {
+        @Index(name = "idx_domain_event_outbox_pending", columnList = "published_at, id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DomainEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false, length = 16)
+    private HierarchyEntityType entityType;
+
+    @Column(nullable = false, updatable = false)
+    private Long entityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false, length = 16)
+    private HierarchyChangeType changeType;
+
+    // Aggregate root: events of one farm are delivered in order
+    @Column(name = "farm_id", nullable = false, updatable = false)
+    private Long farmId;
+
+    @Column(name = "owner_id", nullable = false, updatable = false)
+    private Long ownerId;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime occurredAt;
+
+    // Null until every subscriber has seen the event
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+}
@@ -14,7 +14,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "farms")
+@Table(name = "farms", uniqueConstraints = {
+        @UniqueConstraint(name = Farm.UNIQUE_NAME, columnNames = {"owner_id", "name"})
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -22,6 +24,8 @@ import java.util.List;
 @EntityListeners(AuditingEntityListener.class)
 public class Farm {
 
+    public static final String UNIQUE_NAME = "uk_farm_owner_name";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
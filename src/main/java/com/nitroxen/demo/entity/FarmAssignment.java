@@ -12,7 +12,9 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "farm_assignments")
+@Table(name = "farm_assignments", indexes = {
+        @Index(name = "idx_farm_assignment_manager", columnList = "manager_id, active, farm_id")
+})
 @Data
 @Builder
 @NoArgsConstructor
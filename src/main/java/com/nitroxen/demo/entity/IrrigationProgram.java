@@ -0,0 +1,68 @@
+package com.nitroxen.demo.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+@Entity
+@Table(name = "irrigation_programs", indexes = {
+        @Index(name = "idx_irrigation_program_farm", columnList = "farm_id, active")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_irrigation_program_zone", columnNames = "zone_id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class IrrigationProgram {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "zone_id", nullable = false)
+    private Long zoneId;
+
+    @Column(name = "farm_id", nullable = false)
+    private Long farmId;
+
+    // Earliest time of day the first cycle may start
+    @Column(nullable = false)
+    private LocalTime startTime;
+
+    @Column(nullable = false)
+    private Integer cyclesPerDay;
+
+    @Column(nullable = false)
+    private Integer cycleMinutes;
+
+    // Minimum time between the starts of consecutive cycles
+    @Column(nullable = false)
+    private Integer intervalMinutes;
+
+    @Column(nullable = false)
+    private Double flowLitersPerMinute;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Boolean active = true;
+
+    private Long updatedBy;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,69 @@
+package com.nitroxen.demo.entity;
+
+import com.nitroxen.demo.enums.NotificationCategory;
+import com.nitroxen.demo.enums.NotificationStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * One message to one phone number, inserted in the transaction of the change it reports and sent
+ * afterwards by the notification relay.
+ */
+@Entity
+@Table(name = "notification_outbox", indexes = {
+        @Index(name = "idx_notification_outbox_due", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_notification_outbox_reference", columnList = "reference")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class OutboundNotification {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false, length = 16)
+    private NotificationCategory category;
+
+    // What the message is about, e.g. "alert:12:OPEN" or "broadcast:7"
+    @Column(nullable = false, updatable = false, length = 64)
+    private String reference;
+
+    @Column(nullable = false, updatable = false, length = 20)
+    private String phoneNumber;
+
+    @Column(nullable = false, updatable = false, length = 1600)
+    private String message;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private NotificationStatus status;
+
+    // Delivery attempts started, counted when a relay claims the row
+    @Column(nullable = false)
+    private Integer attempts;
+
+    // Earliest time a relay may claim the row; pushed forward by the claim lease and by retry backoff
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    private LocalDateTime sentAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -14,7 +14,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "polyhouses")
+@Table(name = "polyhouses", uniqueConstraints = {
+        @UniqueConstraint(name = Polyhouse.UNIQUE_NAME, columnNames = {"farm_id", "name"})
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -22,6 +24,8 @@ import java.util.List;
 @EntityListeners(AuditingEntityListener.class)
 public class Polyhouse {
 
+    public static final String UNIQUE_NAME = "uk_polyhouse_farm_name";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
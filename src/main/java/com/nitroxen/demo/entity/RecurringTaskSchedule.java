@@ -0,0 +1,69 @@
+package com.nitroxen.demo.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "recurring_task_schedules", indexes = {
+        @Index(name = "idx_recurring_task_next", columnList = "active, next_occurrence_at"),
+        @Index(name = "idx_recurring_task_manager", columnList = "manager_id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class RecurringTaskSchedule {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String title;
+
+    private String description;
+
+    @Column(nullable = false)
+    private Long workerId;
+
+    private Long zoneId;
+
+    @Column(name = "manager_id", nullable = false)
+    private Long managerId;
+
+    @Column(nullable = false)
+    private String recurrenceRule; // e.g. FREQ=WEEKLY;BYDAY=MO,TH;BYHOUR=7
+
+    @Column(nullable = false)
+    private LocalDateTime startAt;
+
+    // First occurrence that has not been materialized into a Task yet
+    @Column(name = "next_occurrence_at")
+    private LocalDateTime nextOccurrenceAt;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Boolean active = true;
+
+    // Node currently materializing this schedule, so only one node creates its tasks
+    private String leaseOwner;
+
+    private LocalDateTime leaseExpiresAt;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
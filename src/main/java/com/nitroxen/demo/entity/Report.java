@@ -6,6 +6,9 @@ import lombok.Data;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(name = "report", indexes = {
+        @Index(name = "idx_report_task", columnList = "task_id")
+})
 @Data
 public class Report {
 
@@ -14,7 +14,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "reservoirs")
+@Table(name = "reservoirs", uniqueConstraints = {
+        @UniqueConstraint(name = Reservoir.UNIQUE_NAME, columnNames = {"farm_id", "name"})
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -22,6 +24,8 @@ import java.util.List;
 @EntityListeners(AuditingEntityListener.class)
 public class Reservoir {
 
+    public static final String UNIQUE_NAME = "uk_reservoir_farm_name";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -36,6 +40,8 @@ public class Reservoir {
 
     private String waterTreatment; // filtration, UV, RO, etc.
 
+    private Integer pumpCount; // zones that can draw at the same time; one when unset
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "farm_id", nullable = false)
     private Farm farm;
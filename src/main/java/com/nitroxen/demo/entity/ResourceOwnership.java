@@ -0,0 +1,43 @@
+package com.nitroxen.demo.entity;
+
+import com.nitroxen.demo.enums.ResourceType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Farm and owner of one resource, flattened from the farm → polyhouse → zone → task hierarchy.
+ * A resource never moves to another farm, so a row never changes: it is written with the resource
+ * and deleted with it.
+ */
+@Entity
+@Table(name = "resource_ownership", indexes = {
+        @Index(name = "idx_resource_ownership_farm", columnList = "farm_id")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_resource_ownership_resource", columnNames = {"resource_type", "resource_id"})
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceOwnership {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "resource_type", nullable = false, length = 20)
+    private ResourceType resourceType;
+
+    @Column(name = "resource_id", nullable = false)
+    private Long resourceId;
+
+    @Column(name = "farm_id", nullable = false)
+    private Long farmId;
+
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+}
@@ -0,0 +1,47 @@
+package com.nitroxen.demo.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Revenue of one owner on one day, kept up to date by every ledger write
+ */
+@Entity
+@Table(name = "revenue_daily", indexes = {
+        @Index(name = "idx_revenue_daily_period", columnList = "revenue_date")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_revenue_daily_owner_period", columnNames = {"owner_id", "revenue_date"})
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevenueDaily {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+
+    @Column(name = "revenue_date", nullable = false)
+    private LocalDate revenueDate;
+
+    @Column(nullable = false, precision = 16, scale = 2)
+    private BigDecimal amount;
+
+    @Column(nullable = false)
+    private Long entryCount;
+
+    // Set explicitly: aggregates are bumped with bulk updates that bypass the auditing listener
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
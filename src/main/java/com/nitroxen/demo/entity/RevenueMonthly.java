@@ -0,0 +1,48 @@
+package com.nitroxen.demo.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Revenue of one owner in one month, kept up to date by every ledger write
+ */
+@Entity
+@Table(name = "revenue_monthly", indexes = {
+        @Index(name = "idx_revenue_monthly_period", columnList = "revenue_month")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_revenue_monthly_owner_period", columnNames = {"owner_id", "revenue_month"})
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevenueMonthly {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+
+    // First day of the month
+    @Column(name = "revenue_month", nullable = false)
+    private LocalDate revenueMonth;
+
+    @Column(nullable = false, precision = 16, scale = 2)
+    private BigDecimal amount;
+
+    @Column(nullable = false)
+    private Long entryCount;
+
+    // Set explicitly: aggregates are bumped with bulk updates that bypass the auditing listener
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
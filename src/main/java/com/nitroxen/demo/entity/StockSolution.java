@@ -0,0 +1,60 @@
+package com.nitroxen.demo.entity;
+
+import com.nitroxen.demo.enums.StockSolutionType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "stock_solutions", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_stock_solution_farm_name", columnNames = {"farm_id", "name"})
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class StockSolution {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "farm_id", nullable = false)
+    private Long farmId;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private StockSolutionType type;
+
+    // EC (mS/cm) added by one mL of stock per liter of water
+    @Column(nullable = false)
+    private Double ecPerMl;
+
+    // pH change caused by one mL of stock per liter of water; negative for acids
+    @Column(nullable = false)
+    private Double phPerMl;
+
+    // Share of this part among the farm's nutrient stocks, e.g. 1 and 1 for an A/B pair
+    @Column(nullable = false)
+    @Builder.Default
+    private Double ratio = 1.0;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
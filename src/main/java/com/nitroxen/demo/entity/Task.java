@@ -4,6 +4,9 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(name = "task", indexes = {
+        @Index(name = "idx_task_worker", columnList = "worker_id")
+})
 public class Task {
 
     @Id
@@ -18,6 +21,8 @@ public class Task {
 
     private Long workerId;
 
+    private Long zoneId;
+
     private String createdBy;
 
     private String fileUrl;
@@ -65,6 +70,14 @@ public class Task {
         this.workerId = workerId;
     }
 
+    public Long getZoneId() {
+        return zoneId;
+    }
+
+    public void setZoneId(Long zoneId) {
+        this.zoneId = zoneId;
+    }
+
     public String getCreatedBy() {
         return createdBy;
     }
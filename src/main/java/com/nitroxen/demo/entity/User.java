@@ -18,7 +18,10 @@ import java.util.Collection;
 import java.util.List;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_created_by_role", columnList = "created_by, role"),
+        @Index(name = "idx_users_owner_role", columnList = "owner_id, role")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -50,6 +53,15 @@ public class User implements UserDetails {
     @Builder.Default
     private Boolean enabled = true;
 
+    // User who created this account; null for seeded accounts
+    @Column(name = "created_by", updatable = false)
+    private Long createdBy;
+
+    // Owner at the top of this user's owner -> manager -> worker chain, materialized so a whole team
+    // is one indexed lookup; null for admins and owners
+    @Column(name = "owner_id", updatable = false)
+    private Long ownerId;
+
     @CreatedDate
     @Column(name = "created_at")
     private LocalDateTime createdDate;
@@ -1,5 +1,6 @@
 package com.nitroxen.demo.entity;
 
+import com.nitroxen.demo.enums.CropStage;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -12,7 +13,9 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "zones")
+@Table(name = "zones", uniqueConstraints = {
+        @UniqueConstraint(name = Zone.UNIQUE_NAME, columnNames = {"polyhouse_id", "name"})
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -20,6 +23,8 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 public class Zone {
 
+    public static final String UNIQUE_NAME = "uk_zone_polyhouse_name";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -35,6 +40,9 @@ public class Zone {
 
     private String cropVariety; // Specific crop variety
 
+    @Enumerated(EnumType.STRING)
+    private CropStage cropStage; // Growth stage, selects the nutrient targets
+
     private String plantingConfiguration; // Spacing, density, etc.
 
     private String irrigationSetup; // Details about irrigation
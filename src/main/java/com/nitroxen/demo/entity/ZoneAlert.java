@@ -0,0 +1,84 @@
+package com.nitroxen.demo.entity;
+
+import com.nitroxen.demo.enums.AlertStatus;
+import com.nitroxen.demo.enums.ThresholdBreach;
+import com.nitroxen.demo.telemetry.Metric;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "zone_alerts", indexes = {
+        @Index(name = "idx_zone_alert_status", columnList = "status, farm_id"),
+        @Index(name = "idx_zone_alert_zone", columnList = "zone_id, started_at")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_zone_alert_open", columnNames = "open_key")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class ZoneAlert {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "zone_id", nullable = false)
+    private Long zoneId;
+
+    @Column(name = "farm_id")
+    private Long farmId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Metric metric;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ThresholdBreach breach;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private AlertStatus status;
+
+    // Set only while the alert is open, so a zone has at most one open alert per metric
+    @Column(name = "open_key", length = 64)
+    private String openKey;
+
+    @Column(nullable = false)
+    private Double bandLow;
+
+    @Column(nullable = false)
+    private Double bandHigh;
+
+    @Column(nullable = false)
+    private Double triggerValue;
+
+    private Double lastValue;
+
+    // Reading time at which the value first left the band
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    private LocalDateTime resolvedAt;
+
+    // When the latest raise or resolve notification was queued for sending
+    private LocalDateTime notifiedAt;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
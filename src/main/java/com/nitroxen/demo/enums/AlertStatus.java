@@ -0,0 +1,6 @@
+package com.nitroxen.demo.enums;
+
+public enum AlertStatus {
+    OPEN,
+    RESOLVED
+}
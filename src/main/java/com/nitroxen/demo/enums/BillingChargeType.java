@@ -0,0 +1,8 @@
+package com.nitroxen.demo.enums;
+
+public enum BillingChargeType {
+    FARM, // flat monthly fee per farm
+    AREA, // monthly fee per square meter of a farm's total area
+    SEAT, // monthly fee per user seat of an owner
+    ADJUSTMENT // manual credit or debit recorded by an admin
+}
@@ -0,0 +1,8 @@
+package com.nitroxen.demo.enums;
+
+public enum CropStage {
+    PROPAGATION,
+    VEGETATIVE,
+    FLOWERING,
+    FRUITING
+}
@@ -0,0 +1,7 @@
+package com.nitroxen.demo.enums;
+
+public enum HierarchyChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,8 @@
+package com.nitroxen.demo.enums;
+
+public enum HierarchyEntityType {
+    FARM,
+    POLYHOUSE,
+    ZONE,
+    RESERVOIR
+}
@@ -0,0 +1,6 @@
+package com.nitroxen.demo.enums;
+
+public enum NotificationCategory {
+    ALERT, // a zone alert raised or resolved
+    BROADCAST // a manager's message to the workers of a farm
+}
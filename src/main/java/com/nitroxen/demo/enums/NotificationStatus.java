@@ -0,0 +1,7 @@
+package com.nitroxen.demo.enums;
+
+public enum NotificationStatus {
+    PENDING, // waiting for (another) delivery attempt
+    SENT,
+    FAILED // gave up after the maximum number of attempts
+}
@@ -0,0 +1,11 @@
+package com.nitroxen.demo.enums;
+
+public enum ResourceType {
+    FARM,
+    POLYHOUSE,
+    ZONE,
+    RESERVOIR,
+    TASK, // through its zone, or the assigning manager's farm if it has none
+    REPORT, // a worker's report, through its task
+    AGRONOMIST_REPORT
+}
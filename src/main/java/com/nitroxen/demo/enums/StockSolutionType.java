@@ -0,0 +1,7 @@
+package com.nitroxen.demo.enums;
+
+public enum StockSolutionType {
+    NUTRIENT,
+    PH_DOWN,
+    PH_UP
+}
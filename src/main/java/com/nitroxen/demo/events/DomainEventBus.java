@@ -0,0 +1,197 @@
+package com.nitroxen.demo.events;
+
+import com.nitroxen.demo.entity.DomainEvent;
+import com.nitroxen.demo.enums.HierarchyChangeType;
+import com.nitroxen.demo.enums.HierarchyEntityType;
+import com.nitroxen.demo.repository.DomainEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process bus announcing hierarchy changes to every {@link HierarchyEventListener}.
+ * <p>
+ * Publishing inserts an outbox row in the caller's transaction and hands the event to the
+ * listeners only once that transaction commits. Events are delivered on {@code stripes}
+ * single-thread executors with bounded queues, picked by farm, so the events of one farm arrive
+ * in order and a slow listener never holds up the committing thread. Delivered events are marked
+ * published in batches. Events that were not delivered (queue full, or the process died first) are
+ * picked up again from the outbox after {@code redeliver-after-millis}; they may then arrive after
+ * newer events of the same farm.
+ */
+@Component
+@Slf4j
+public class DomainEventBus {
+
+    private static final int MARK_BATCH_SIZE = 500;
+
+    private final DomainEventRepository domainEventRepository;
+    private final List<HierarchyEventListener> listeners;
+    private final long redeliverAfterMillis;
+    private final int redeliverBatchSize;
+    private final long retentionHours;
+
+    private final ThreadPoolExecutor[] stripes;
+    private final Queue<Long> delivered = new ConcurrentLinkedQueue<>();
+    private final Counter deliveredCounter;
+    private final Counter deferredCounter;
+    private final Counter failedCounter;
+
+    public DomainEventBus(DomainEventRepository domainEventRepository,
+                          List<HierarchyEventListener> listeners,
+                          MeterRegistry meterRegistry,
+                          @Value("${application.events.stripes:4}") int stripeCount,
+                          @Value("${application.events.queue-capacity:10000}") int queueCapacity,
+                          @Value("${application.events.redeliver-after-millis:30000}") long redeliverAfterMillis,
+                          @Value("${application.events.redeliver-batch-size:1000}") int redeliverBatchSize,
+                          @Value("${application.events.retention-hours:168}") long retentionHours) {
+        this.domainEventRepository = domainEventRepository;
+        this.listeners = listeners;
+        this.redeliverAfterMillis = redeliverAfterMillis;
+        this.redeliverBatchSize = redeliverBatchSize;
+        this.retentionHours = retentionHours;
+        this.stripes = new ThreadPoolExecutor[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            String name = "domain-events-" + i;
+            stripes[i] = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, name);
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+        }
+
+        Gauge.builder("events.queued", this, DomainEventBus::getQueuedCount)
+                .description("Committed hierarchy events waiting for delivery")
+                .register(meterRegistry);
+        this.deliveredCounter = Counter.builder("events.delivered").register(meterRegistry);
+        this.deferredCounter = Counter.builder("events.deferred")
+                .description("Events left in the outbox because their delivery queue was full")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("events.listener.failed").register(meterRegistry);
+    }
+
+    /**
+     * Record a hierarchy change; inside a transaction its listeners are only called once it commits
+     * @param farmId Farm the entity belongs to (the farm itself for FARM events)
+     */
+    public void publish(HierarchyEntityType entityType, Long entityId, HierarchyChangeType changeType,
+                        Long farmId, Long ownerId) {
+        DomainEvent row = domainEventRepository.save(DomainEvent.builder()
+                .entityType(entityType)
+                .entityId(entityId)
+                .changeType(changeType)
+                .farmId(farmId)
+                .ownerId(ownerId)
+                .occurredAt(LocalDateTime.now())
+                .build());
+        HierarchyChangedEvent event = HierarchyChangedEvent.of(row);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(event);
+                }
+            });
+        } else {
+            dispatch(event);
+        }
+    }
+
+    /**
+     * Mark the events delivered since the last call as published
+     */
+    @Scheduled(fixedDelayString = "${application.events.mark-published-millis:1000}")
+    public void markDelivered() {
+        List<Long> ids = new ArrayList<>();
+        Long id;
+        while ((id = delivered.poll()) != null) {
+            ids.add(id);
+            if (ids.size() == MARK_BATCH_SIZE) {
+                domainEventRepository.markPublished(ids, LocalDateTime.now());
+                ids.clear();
+            }
+        }
+        if (!ids.isEmpty()) {
+            domainEventRepository.markPublished(ids, LocalDateTime.now());
+        }
+    }
+
+    /**
+     * Deliver events that have stayed unpublished for too long and purge old published ones
+     */
+    @Scheduled(fixedDelayString = "${application.events.redeliver-after-millis:30000}")
+    public void redeliverPending() {
+        markDelivered();
+        LocalDateTime now = LocalDateTime.now();
+        List<DomainEvent> pending = domainEventRepository.findUnpublished(
+                now.minusNanos(TimeUnit.MILLISECONDS.toNanos(redeliverAfterMillis)), PageRequest.of(0, redeliverBatchSize));
+        if (!pending.isEmpty()) {
+            log.info("Redelivering {} unpublished hierarchy event(s)", pending.size());
+            pending.forEach(row -> dispatch(HierarchyChangedEvent.of(row)));
+        }
+        int purged = domainEventRepository.deletePublishedBefore(now.minusHours(retentionHours));
+        if (purged > 0) {
+            log.debug("Purged {} published hierarchy event(s)", purged);
+        }
+    }
+
+    public int getQueuedCount() {
+        return Arrays.stream(stripes).mapToInt(stripe -> stripe.getQueue().size()).sum();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (ThreadPoolExecutor stripe : stripes) {
+            stripe.shutdown();
+        }
+        for (ThreadPoolExecutor stripe : stripes) {
+            stripe.awaitTermination(5, TimeUnit.SECONDS);
+        }
+        markDelivered();
+    }
+
+    private void dispatch(HierarchyChangedEvent event) {
+        ThreadPoolExecutor stripe = stripes[Math.floorMod(Long.hashCode(event.farmId()), stripes.length)];
+        try {
+            stripe.execute(() -> deliver(event));
+        } catch (RejectedExecutionException e) {
+            // Left unpublished in the outbox: redeliverPending picks it up once the backlog clears
+            deferredCounter.increment();
+            log.debug("Event queue full, deferring {} {} {}", event.changeType(), event.entityType(), event.entityId());
+        }
+    }
+
+    private void deliver(HierarchyChangedEvent event) {
+        for (HierarchyEventListener listener : listeners) {
+            try {
+                listener.onHierarchyChanged(event);
+            } catch (RuntimeException e) {
+                // Redelivering to every listener would not help the one that failed
+                failedCounter.increment();
+                log.error("Listener {} failed on event {}", listener.getClass().getSimpleName(), event.eventId(), e);
+            }
+        }
+        deliveredCounter.increment();
+        delivered.add(event.eventId());
+    }
+}
@@ -0,0 +1,26 @@
+package com.nitroxen.demo.events;
+
+import com.nitroxen.demo.entity.DomainEvent;
+import com.nitroxen.demo.enums.HierarchyChangeType;
+import com.nitroxen.demo.enums.HierarchyEntityType;
+
+import java.time.LocalDateTime;
+
+/**
+ * A farm, polyhouse, zone or reservoir that was created, updated or deleted
+ * @param eventId ID of the outbox row; an event redelivered after a failure keeps its ID
+ * @param farmId Farm the entity belongs to (the farm itself for FARM events)
+ */
+public record HierarchyChangedEvent(long eventId,
+                                    HierarchyEntityType entityType,
+                                    long entityId,
+                                    HierarchyChangeType changeType,
+                                    long farmId,
+                                    long ownerId,
+                                    LocalDateTime occurredAt) {
+
+    static HierarchyChangedEvent of(DomainEvent row) {
+        return new HierarchyChangedEvent(row.getId(), row.getEntityType(), row.getEntityId(), row.getChangeType(),
+                row.getFarmId(), row.getOwnerId(), row.getOccurredAt());
+    }
+}
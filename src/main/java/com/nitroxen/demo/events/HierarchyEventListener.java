@@ -0,0 +1,12 @@
+package com.nitroxen.demo.events;
+
+/**
+ * Subscriber to hierarchy changes; every bean implementing it is registered with the {@link DomainEventBus}.
+ * <p>
+ * Called on a delivery thread after the change committed, in order for the events of one farm.
+ * Delivery is at least once, so handling an event twice must be harmless.
+ */
+public interface HierarchyEventListener {
+
+    void onHierarchyChanged(HierarchyChangedEvent event);
+}
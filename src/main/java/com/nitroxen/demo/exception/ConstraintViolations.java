@@ -0,0 +1,30 @@
+package com.nitroxen.demo.exception;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+/**
+ * Recognises which database constraint rejected a write, so a service can turn a unique key violation
+ * into a {@link ValidationException} instead of checking for duplicates with a query first.
+ */
+public final class ConstraintViolations {
+
+    private ConstraintViolations() {
+    }
+
+    /**
+     * Whether the exception was raised by the named constraint. Drivers report the name in different forms
+     * (MySQL prefixes the table, H2 upper-cases it and appends the index), so the name is matched as a substring.
+     */
+    public static boolean isViolationOf(DataIntegrityViolationException ex, String constraintName) {
+        String reported = ex.getCause() instanceof ConstraintViolationException violation
+                ? violation.getConstraintName()
+                : null;
+        if (reported == null) {
+            reported = ex.getMostSpecificCause().getMessage();
+        }
+        return reported != null && reported.toLowerCase(Locale.ROOT).contains(constraintName.toLowerCase(Locale.ROOT));
+    }
+}
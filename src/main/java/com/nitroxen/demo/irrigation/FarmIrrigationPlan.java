@@ -0,0 +1,197 @@
+package com.nitroxen.demo.irrigation;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One farm's daily irrigation schedule at minute resolution.
+ * <p>
+ * Each reservoir is a lane with a load per minute of the day: at most {@code pumpCount} zones draw
+ * from it at once, so zones sharing a reservoir are staggered rather than started together, and the
+ * liters scheduled against it over the day never exceed its capacity. A farm-wide limit bounds how
+ * many zones irrigate at once in total. Cycles are placed greedily at the earliest free start no
+ * earlier than the program asks for; each cycle of a zone starts at least {@code intervalMinutes}
+ * after the previous one and never overlaps it. Cycles that cannot be placed are kept with a reason.
+ * <p>
+ * Replacing one zone's program only releases and re-places that zone, so a change costs a few
+ * array scans instead of a replan; the result can differ from a full replan, which the planner runs
+ * whenever the cached plan expires.
+ */
+public final class FarmIrrigationPlan {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
+    public static final String RESERVOIR_CAPACITY = "RESERVOIR_CAPACITY";
+    public static final String NO_SLOT = "NO_SLOT";
+
+    private final int farmPumpLimit;
+    private final long plannedAtMillis;
+    private final short[] farmLoad = new short[MINUTES_PER_DAY];
+    private final Map<Long, Lane> lanes = new HashMap<>();
+    private final Map<Long, ZoneSchedule> zones = new HashMap<>();
+
+    public FarmIrrigationPlan(int farmPumpLimit, long plannedAtMillis) {
+        this.farmPumpLimit = farmPumpLimit;
+        this.plannedAtMillis = plannedAtMillis;
+    }
+
+    public synchronized void addReservoir(long reservoirId, int pumpCount, double capacityLiters) {
+        lanes.put(reservoirId, new Lane(Math.max(1, pumpCount), capacityLiters));
+    }
+
+    /**
+     * Place every cycle of a zone's program; the zone must not be in the plan yet
+     */
+    public synchronized void place(ProgramSpec program) {
+        Lane lane = program.reservoirId() == 0 ? null
+                : lanes.computeIfAbsent(program.reservoirId(), id -> new Lane(1, Double.POSITIVE_INFINITY));
+        int[] starts = new int[program.cycles()];
+        String[] reasons = new String[program.cycles()];
+        int desired = program.startMinute();
+        for (int cycle = 0; cycle < program.cycles(); cycle++) {
+            starts[cycle] = -1;
+            if (lane != null && lane.scheduledLiters + program.litersPerCycle() > lane.capacityLiters) {
+                reasons[cycle] = RESERVOIR_CAPACITY;
+                continue;
+            }
+            int start = findSlot(desired, program.cycleMinutes(), lane);
+            if (start < 0) {
+                reasons[cycle] = NO_SLOT;
+                continue;
+            }
+            occupy(start, program.cycleMinutes(), lane, 1);
+            if (lane != null) {
+                lane.scheduledLiters += program.litersPerCycle();
+            }
+            starts[cycle] = start;
+            desired = Math.max(start + program.intervalMinutes(), start + program.cycleMinutes());
+        }
+        zones.put(program.zoneId(), new ZoneSchedule(program, starts, reasons));
+    }
+
+    /**
+     * Release a zone's cycles
+     */
+    public synchronized void remove(long zoneId) {
+        ZoneSchedule schedule = zones.remove(zoneId);
+        if (schedule == null) {
+            return;
+        }
+        ProgramSpec program = schedule.program();
+        Lane lane = program.reservoirId() == 0 ? null : lanes.get(program.reservoirId());
+        for (int start : schedule.starts()) {
+            if (start >= 0) {
+                occupy(start, program.cycleMinutes(), lane, -1);
+                if (lane != null) {
+                    lane.scheduledLiters -= program.litersPerCycle();
+                }
+            }
+        }
+    }
+
+    /**
+     * Swap a zone's program for a new one, or drop it when program is null
+     */
+    public synchronized void replace(long zoneId, ProgramSpec program) {
+        remove(zoneId);
+        if (program != null) {
+            place(program);
+        }
+    }
+
+    public long getPlannedAtMillis() {
+        return plannedAtMillis;
+    }
+
+    public synchronized int getZoneCount() {
+        return zones.size();
+    }
+
+    /**
+     * Every cycle of every zone, scheduled ones by start time, unscheduled ones last
+     */
+    public synchronized List<Run> runs() {
+        List<Run> runs = new ArrayList<>();
+        for (ZoneSchedule schedule : zones.values()) {
+            ProgramSpec program = schedule.program();
+            for (int cycle = 0; cycle < schedule.starts().length; cycle++) {
+                runs.add(new Run(program.zoneId(), program.reservoirId(), cycle + 1, schedule.starts()[cycle],
+                        program.cycleMinutes(), program.litersPerCycle(), schedule.reasons()[cycle]));
+            }
+        }
+        runs.sort(Comparator.comparingInt((Run run) -> run.startMinute() < 0 ? Integer.MAX_VALUE : run.startMinute())
+                .thenComparingLong(Run::zoneId)
+                .thenComparingInt(Run::cycle));
+        return runs;
+    }
+
+    public synchronized Map<Long, Double> litersByReservoir() {
+        Map<Long, Double> liters = new HashMap<>();
+        lanes.forEach((reservoirId, lane) -> liters.put(reservoirId, lane.scheduledLiters));
+        return liters;
+    }
+
+    /**
+     * Peak number of zones irrigating at once from the reservoir, or across the farm when reservoirId is 0
+     */
+    synchronized int peakLoad(long reservoirId) {
+        short[] load = reservoirId == 0 ? farmLoad : lanes.get(reservoirId).load;
+        int peak = 0;
+        for (short minute : load) {
+            peak = Math.max(peak, minute);
+        }
+        return peak;
+    }
+
+    // Helper method to find the earliest start at or after desired with the farm and lane free for the whole cycle
+    private int findSlot(int desired, int minutes, Lane lane) {
+        int start = desired;
+        search:
+        while (start + minutes <= MINUTES_PER_DAY) {
+            // Scan backwards so a busy minute lets the search skip straight past it
+            for (int minute = start + minutes - 1; minute >= start; minute--) {
+                if (farmLoad[minute] >= farmPumpLimit || (lane != null && lane.load[minute] >= lane.pumpCount)) {
+                    start = minute + 1;
+                    continue search;
+                }
+            }
+            return start;
+        }
+        return -1;
+    }
+
+    private void occupy(int start, int minutes, Lane lane, int delta) {
+        for (int minute = start; minute < start + minutes; minute++) {
+            farmLoad[minute] += delta;
+            if (lane != null) {
+                lane.load[minute] += delta;
+            }
+        }
+    }
+
+    /**
+     * One cycle of a zone; startMinute is -1 and unscheduledReason set when it could not be placed
+     */
+    public record Run(long zoneId, long reservoirId, int cycle, int startMinute, int minutes, double liters,
+                      String unscheduledReason) {
+    }
+
+    private record ZoneSchedule(ProgramSpec program, int[] starts, String[] reasons) {
+    }
+
+    private static final class Lane {
+
+        private final int pumpCount;
+        private final double capacityLiters;
+        private final short[] load = new short[MINUTES_PER_DAY];
+        private double scheduledLiters;
+
+        private Lane(int pumpCount, double capacityLiters) {
+            this.pumpCount = pumpCount;
+            this.capacityLiters = capacityLiters;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.nitroxen.demo.irrigation;
+
+import com.nitroxen.demo.entity.IrrigationProgram;
+import com.nitroxen.demo.entity.Reservoir;
+import com.nitroxen.demo.enums.HierarchyEntityType;
+import com.nitroxen.demo.events.HierarchyChangedEvent;
+import com.nitroxen.demo.events.HierarchyEventListener;
+import com.nitroxen.demo.repository.IrrigationProgramRepository;
+import com.nitroxen.demo.repository.ReservoirRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds and caches each farm's daily irrigation plan.
+ * <p>
+ * A plan is built from the farm's active programs and reservoirs in start-time order on first use and
+ * rebuilt once it is older than {@code plan-ttl-millis}. A committed zone or reservoir change drops the farm's plan.
+ * Program changes are applied to the cached plan incrementally once their transaction commits.
+ */
+@Component
+@Slf4j
+public class IrrigationPlanner implements HierarchyEventListener {
+
+    private final IrrigationProgramRepository programRepository;
+    private final ReservoirRepository reservoirRepository;
+    private final int farmPumpLimit;
+    private final long planTtlMillis;
+
+    private final Map<Long, FarmIrrigationPlan> plans = new ConcurrentHashMap<>();
+
+    public IrrigationPlanner(IrrigationProgramRepository programRepository,
+                             ReservoirRepository reservoirRepository,
+                             @Value("${application.irrigation.max-concurrent-zones-per-farm:8}") int farmPumpLimit,
+                             @Value("${application.irrigation.plan-ttl-millis:900000}") long planTtlMillis) {
+        this.programRepository = programRepository;
+        this.reservoirRepository = reservoirRepository;
+        this.farmPumpLimit = farmPumpLimit;
+        this.planTtlMillis = planTtlMillis;
+    }
+
+    public FarmIrrigationPlan planFor(long farmId) {
+        FarmIrrigationPlan plan = plans.get(farmId);
+        if (plan == null || System.currentTimeMillis() - plan.getPlannedAtMillis() > planTtlMillis) {
+            plan = build(farmId);
+            plans.put(farmId, plan);
+        }
+        return plan;
+    }
+
+    /**
+     * Apply one zone's new program (null when removed) to the cached plan after the current transaction commits
+     */
+    public void updateZone(long farmId, long zoneId, ProgramSpec program) {
+        Runnable update = () -> {
+            FarmIrrigationPlan plan = plans.get(farmId);
+            if (plan != null) {
+                plan.replace(zoneId, program);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+
+    @Override
+    public void onHierarchyChanged(HierarchyChangedEvent event) {
+        if (event.entityType() == HierarchyEntityType.ZONE || event.entityType() == HierarchyEntityType.RESERVOIR
+                || event.entityType() == HierarchyEntityType.FARM) {
+            plans.remove(event.farmId());
+        }
+    }
+
+    FarmIrrigationPlan build(long farmId) {
+        long started = System.nanoTime();
+        FarmIrrigationPlan plan = new FarmIrrigationPlan(farmPumpLimit, System.currentTimeMillis());
+        for (Reservoir reservoir : reservoirRepository.findByFarmId(farmId)) {
+            plan.addReservoir(reservoir.getId(),
+                    reservoir.getPumpCount() == null ? 1 : reservoir.getPumpCount(),
+                    reservoir.getCapacity());
+        }
+
+        List<ProgramSpec> programs = new ArrayList<>();
+        for (Object[] row : programRepository.findActiveWithReservoirByFarmId(farmId)) {
+            programs.add(ProgramSpec.of((IrrigationProgram) row[0], (Long) row[1]));
+        }
+        programs.sort(Comparator.comparingInt(ProgramSpec::startMinute).thenComparingLong(ProgramSpec::zoneId));
+        programs.forEach(plan::place);
+
+        log.debug("Planned irrigation for farm {}: {} zone(s) in {} us", farmId, programs.size(),
+                TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - started));
+        return plan;
+    }
+}
@@ -0,0 +1,21 @@
+package com.nitroxen.demo.irrigation;
+
+import com.nitroxen.demo.entity.IrrigationProgram;
+
+/**
+ * A zone's irrigation program reduced to what the planner needs. reservoirId is 0 for a zone without a reservoir.
+ */
+public record ProgramSpec(long zoneId, long reservoirId, int startMinute, int cycles, int cycleMinutes,
+                          int intervalMinutes, double litersPerCycle) {
+
+    public static ProgramSpec of(IrrigationProgram program, Long reservoirId) {
+        return new ProgramSpec(
+                program.getZoneId(),
+                reservoirId == null ? 0 : reservoirId,
+                program.getStartTime().getHour() * 60 + program.getStartTime().getMinute(),
+                program.getCyclesPerDay(),
+                program.getCycleMinutes(),
+                program.getIntervalMinutes(),
+                program.getCycleMinutes() * program.getFlowLitersPerMinute());
+    }
+}
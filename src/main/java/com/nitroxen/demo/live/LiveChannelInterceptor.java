@@ -0,0 +1,102 @@
+package com.nitroxen.demo.live;
+
+import com.nitroxen.demo.config.JwtService;
+import com.nitroxen.demo.entity.User;
+import com.nitroxen.demo.enums.Role;
+import com.nitroxen.demo.repository.FarmAssignmentRepository;
+import com.nitroxen.demo.repository.FarmRepository;
+import io.jsonwebtoken.JwtException;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+
+/**
+ * Authenticates STOMP sessions and guards the live channels.
+ * <p>
+ * Browsers cannot set headers on the WebSocket handshake, so the JWT travels in the
+ * {@code Authorization} header of the CONNECT frame instead. Subscriptions are only allowed to the
+ * zone channel of a farm the user owns or manages, and clients cannot send to any destination.
+ */
+@Component
+public class LiveChannelInterceptor implements ChannelInterceptor {
+
+    private static final String BEARER = "Bearer ";
+
+    private final JwtService jwtService;
+    private final UserDetailsService userDetailsService;
+    private final FarmAssignmentRepository farmAssignmentRepository;
+    private final FarmRepository farmRepository;
+
+    public LiveChannelInterceptor(JwtService jwtService,
+                                  @Lazy UserDetailsService userDetailsService,
+                                  FarmAssignmentRepository farmAssignmentRepository,
+                                  FarmRepository farmRepository) {
+        this.jwtService = jwtService;
+        this.userDetailsService = userDetailsService;
+        this.farmAssignmentRepository = farmAssignmentRepository;
+        this.farmRepository = farmRepository;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+        if (accessor.getCommand() == StompCommand.CONNECT) {
+            accessor.setUser(authenticate(accessor.getFirstNativeHeader("Authorization")));
+        } else if (accessor.getCommand() == StompCommand.SUBSCRIBE) {
+            authorizeSubscription(accessor.getUser(), accessor.getDestination());
+        } else if (accessor.getCommand() == StompCommand.SEND) {
+            throw new AccessDeniedException("Live channels are read-only");
+        }
+        return message;
+    }
+
+    // Helper method to turn the CONNECT frame's bearer token into an authenticated user
+    private UsernamePasswordAuthenticationToken authenticate(String authorization) {
+        if (authorization == null || !authorization.startsWith(BEARER)) {
+            throw new BadCredentialsException("Missing bearer token");
+        }
+        String jwt = authorization.substring(BEARER.length());
+        try {
+            UserDetails userDetails = userDetailsService.loadUserByUsername(jwtService.extractUsername(jwt));
+            if (!jwtService.isTokenValid(jwt, userDetails)) {
+                throw new BadCredentialsException("Invalid token");
+            }
+            return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        } catch (JwtException e) {
+            throw new BadCredentialsException("Invalid token", e);
+        }
+    }
+
+    // Helper method to allow only the zone channel of a farm the user owns or is assigned to
+    private void authorizeSubscription(Principal principal, String destination) {
+        long farmId = LiveZoneHub.farmIdOf(destination);
+        if (farmId < 0) {
+            throw new AccessDeniedException("Unknown destination: " + destination);
+        }
+        if (!(principal instanceof UsernamePasswordAuthenticationToken token) || !(token.getPrincipal() instanceof User user)) {
+            throw new AccessDeniedException("Not authenticated");
+        }
+        boolean allowed = user.getRole() == Role.OWNER
+                ? farmRepository.existsByIdAndOwnerId(farmId, user.getId())
+                : user.getRole() == Role.MANAGER
+                && farmAssignmentRepository.existsByFarmIdAndManagerIdAndActiveTrue(farmId, user.getId());
+        if (!allowed) {
+            throw new AccessDeniedException("Farm not accessible: " + farmId);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.nitroxen.demo.live;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tells which WebSocket sessions cannot keep up.
+ * <p>
+ * Every session handed to the STOMP handler is wrapped so the time a socket write has been
+ * blocked can be seen. The STOMP layer buffers further messages while a write is blocked, so a
+ * session whose write has been stuck for {@code stall-millis} is one that frames should be dropped for.
+ */
+@Component
+public class LiveSessionTracker implements WebSocketHandlerDecoratorFactory {
+
+    private final long stallNanos;
+    private final Map<String, TrackedSession> sessions = new ConcurrentHashMap<>();
+
+    public LiveSessionTracker(@Value("${application.live.stall-millis:1000}") long stallMillis) {
+        this.stallNanos = TimeUnit.MILLISECONDS.toNanos(stallMillis);
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                TrackedSession tracked = new TrackedSession(session);
+                sessions.put(session.getId(), tracked);
+                super.afterConnectionEstablished(tracked);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                sessions.remove(session.getId());
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    /**
+     * Whether a write to the session has been blocked for longer than the stall threshold
+     */
+    public boolean isStalled(String sessionId) {
+        TrackedSession session = sessions.get(sessionId);
+        if (session == null) {
+            return false;
+        }
+        long since = session.writingSince;
+        return since != 0 && System.nanoTime() - since > stallNanos;
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    private static final class TrackedSession extends WebSocketSessionDecorator {
+
+        private volatile long writingSince;
+
+        private TrackedSession(WebSocketSession delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            // Zero means idle, so a start that happens to read zero is nudged
+            long now = System.nanoTime();
+            writingSince = now != 0 ? now : 1;
+            try {
+                super.sendMessage(message);
+            } finally {
+                writingSince = 0;
+            }
+        }
+    }
+}
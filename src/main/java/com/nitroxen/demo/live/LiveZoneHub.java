@@ -0,0 +1,420 @@
+package com.nitroxen.demo.live;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nitroxen.demo.dto.response.LiveReadingResponse;
+import com.nitroxen.demo.dto.response.LiveZoneFrameResponse;
+import com.nitroxen.demo.dto.response.LiveZoneResponse;
+import com.nitroxen.demo.enums.CropStage;
+import com.nitroxen.demo.repository.ZoneRepository;
+import com.nitroxen.demo.telemetry.LongLongHashMap;
+import com.nitroxen.demo.telemetry.Metric;
+import com.nitroxen.demo.telemetry.SourceType;
+import com.nitroxen.demo.telemetry.TelemetryBatch;
+import com.nitroxen.demo.telemetry.TelemetrySink;
+import com.nitroxen.demo.telemetry.store.SeriesKey;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Publishes each farm's zones to its live channel {@code /topic/farms/{farmId}/zones}.
+ * <p>
+ * The latest reading of every zone metric is kept as readings are flushed, stamped with a version.
+ * Every {@code frame-interval-millis} a publisher thread sends each subscription of a watched farm
+ * either a SNAPSHOT (on subscribe, or after frames were dropped) or one DELTA holding only the zones
+ * and metrics that changed since the previous frame, so bursts of readings coalesce into one frame.
+ * Zone details are reloaded every {@code zones-refresh-millis} and changes go out the same way.
+ * <p>
+ * Frames are addressed to each subscription directly rather than through the broker. A session
+ * whose socket write is stalled gets no frames at all until it recovers, then a fresh snapshot,
+ * so a slow client costs at most the frames already in flight. State lives in memory only.
+ */
+@Component
+@Slf4j
+public class LiveZoneHub implements TelemetrySink {
+
+    static final String DESTINATION_PREFIX = "/topic/farms/";
+    static final String DESTINATION_SUFFIX = "/zones";
+
+    private static final Metric[] ZONE_METRICS = Arrays.stream(Metric.values())
+            .filter(metric -> metric.source() == SourceType.ZONE)
+            .toArray(Metric[]::new);
+
+    private final ZoneRepository zoneRepository;
+    private final MessageChannel clientOutboundChannel;
+    private final LiveSessionTracker sessionTracker;
+    private final ObjectMapper objectMapper;
+    private final long frameIntervalMillis;
+    private final long zonesRefreshMillis;
+    private final Counter framesSent;
+    private final Counter framesDropped;
+
+    // Latest reading per zone series; guarded by this
+    private final LongLongHashMap slots = new LongLongHashMap(1024);
+    private long[] timestamps = new long[256];
+    private double[] values = new double[256];
+    private long[] versions = new long[256];
+    private int slotCount;
+    private long version;
+
+    private final Map<Long, FarmChannel> channels = new ConcurrentHashMap<>();
+    private volatile boolean running = true;
+    private Thread publisher;
+
+    public LiveZoneHub(ZoneRepository zoneRepository,
+                       @Qualifier("clientOutboundChannel") MessageChannel clientOutboundChannel,
+                       LiveSessionTracker sessionTracker,
+                       ObjectMapper objectMapper,
+                       MeterRegistry meterRegistry,
+                       @Value("${application.live.frame-interval-millis:1000}") long frameIntervalMillis,
+                       @Value("${application.live.zones-refresh-millis:30000}") long zonesRefreshMillis) {
+        this.zoneRepository = zoneRepository;
+        this.clientOutboundChannel = clientOutboundChannel;
+        this.sessionTracker = sessionTracker;
+        this.objectMapper = objectMapper;
+        this.frameIntervalMillis = frameIntervalMillis;
+        this.zonesRefreshMillis = zonesRefreshMillis;
+
+        Gauge.builder("live.subscriptions", this, LiveZoneHub::getSubscriptionCount)
+                .description("Open live zone channel subscriptions")
+                .register(meterRegistry);
+        this.framesSent = Counter.builder("live.frames.sent").register(meterRegistry);
+        this.framesDropped = Counter.builder("live.frames.dropped")
+                .description("Frames not sent because the client could not keep up")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        publisher = new Thread(this::run, "live-zone-publisher");
+        publisher.setDaemon(true);
+        publisher.start();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (publisher != null) {
+            publisher.interrupt();
+            publisher.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    @Override
+    public synchronized void write(TelemetryBatch batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            byte metric = batch.metric(i);
+            if (Metric.fromCode(metric).source() != SourceType.ZONE) {
+                continue;
+            }
+            long key = SeriesKey.of(SourceType.ZONE, batch.sourceId(i), metric);
+            long slot = slots.get(key);
+            if (slot == LongLongHashMap.MISSING) {
+                slot = addSlot(key);
+            } else if (batch.timestamp(i) < timestamps[(int) slot]) {
+                continue;
+            }
+            timestamps[(int) slot] = batch.timestamp(i);
+            values[(int) slot] = batch.value(i);
+            versions[(int) slot] = ++version;
+        }
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        subscribe(accessor.getSessionId(), accessor.getSubscriptionId(), accessor.getDestination());
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        unsubscribe(event.getSessionId(), null);
+    }
+
+    /**
+     * Farm of a live zone channel destination, or -1 if it is not one
+     */
+    public static long farmIdOf(String destination) {
+        if (destination == null || !destination.startsWith(DESTINATION_PREFIX) || !destination.endsWith(DESTINATION_SUFFIX)) {
+            return -1;
+        }
+        String farmId = destination.substring(DESTINATION_PREFIX.length(), destination.length() - DESTINATION_SUFFIX.length());
+        try {
+            return Long.parseLong(farmId);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    public int getSubscriptionCount() {
+        return channels.values().stream().mapToInt(channel -> channel.subscribers.size()).sum();
+    }
+
+    void subscribe(String sessionId, String subscriptionId, String destination) {
+        long farmId = farmIdOf(destination);
+        if (farmId < 0) {
+            return;
+        }
+        synchronized (channels) {
+            channels.computeIfAbsent(farmId, FarmChannel::new).subscribers.add(new Subscriber(sessionId, subscriptionId));
+        }
+    }
+
+    // Helper method to drop one subscription, or every subscription of the session when subscriptionId is null
+    void unsubscribe(String sessionId, String subscriptionId) {
+        synchronized (channels) {
+            channels.values().removeIf(channel -> {
+                channel.subscribers.removeIf(subscriber -> subscriber.sessionId.equals(sessionId)
+                        && (subscriptionId == null || subscriber.subscriptionId.equals(subscriptionId)));
+                return channel.subscribers.isEmpty();
+            });
+        }
+    }
+
+    /**
+     * Send every watched farm's frame for this tick
+     */
+    void publish() {
+        for (FarmChannel channel : channels.values()) {
+            try {
+                publish(channel, System.currentTimeMillis());
+            } catch (RuntimeException e) {
+                log.error("Failed to publish live frame for farm {}", channel.farmId, e);
+            }
+        }
+    }
+
+    private void run() {
+        while (running) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(frameIntervalMillis));
+            if (running) {
+                publish();
+            }
+        }
+    }
+
+    private void publish(FarmChannel channel, long now) {
+        // A new channel only has subscribers waiting for a snapshot, so there is nothing to diff against
+        boolean opened = channel.zones == null;
+        if (opened || now - channel.zonesLoadedAt >= zonesRefreshMillis) {
+            refreshZones(channel, now);
+        }
+
+        long upTo;
+        List<LiveZoneResponse> changes = new ArrayList<>();
+        synchronized (this) {
+            upTo = version;
+            for (ZoneDetails zone : opened ? List.<ZoneDetails>of() : channel.zones.values()) {
+                boolean detailsChanged = channel.changedZones.contains(zone.zoneId());
+                Map<String, LiveReadingResponse> metrics = readings(zone.zoneId(), channel.publishedVersion);
+                if (detailsChanged || metrics != null) {
+                    changes.add(toResponse(zone, detailsChanged, metrics));
+                }
+            }
+        }
+        byte[] delta = null;
+        if (!changes.isEmpty() || !channel.removedZones.isEmpty()) {
+            delta = serialize(LiveZoneFrameResponse.builder()
+                    .type(LiveZoneFrameResponse.DELTA)
+                    .farmId(channel.farmId)
+                    .sequence(++channel.sequence)
+                    .sentAt(now)
+                    .zones(changes)
+                    .removedZoneIds(channel.removedZones.isEmpty() ? null : List.copyOf(channel.removedZones))
+                    .build());
+        }
+        channel.publishedVersion = upTo;
+        channel.changedZones.clear();
+        channel.removedZones.clear();
+
+        byte[] snapshot = null;
+        for (Subscriber subscriber : channel.subscribers) {
+            if (!subscriber.needsSnapshot && delta == null) {
+                continue;
+            }
+            if (sessionTracker.isStalled(subscriber.sessionId)) {
+                // Anything this client misses is replaced by a snapshot once it catches up
+                subscriber.needsSnapshot = true;
+                framesDropped.increment();
+                continue;
+            }
+            if (subscriber.needsSnapshot) {
+                if (snapshot == null) {
+                    snapshot = serialize(snapshot(channel, now));
+                }
+                send(channel.farmId, subscriber, snapshot);
+                subscriber.needsSnapshot = false;
+            } else {
+                send(channel.farmId, subscriber, delta);
+            }
+        }
+    }
+
+    // Helper method to reload a farm's zone details, noting which zones changed or disappeared
+    private void refreshZones(FarmChannel channel, long now) {
+        Map<Long, ZoneDetails> fresh = new LinkedHashMap<>();
+        for (Object[] row : zoneRepository.findLiveZonesByFarmId(channel.farmId)) {
+            ZoneDetails zone = new ZoneDetails((Long) row[0], (String) row[1], (Long) row[2], (String) row[3],
+                    (String) row[4], (String) row[5], (CropStage) row[6]);
+            fresh.put(zone.zoneId(), zone);
+        }
+        if (channel.zones != null) {
+            for (ZoneDetails zone : fresh.values()) {
+                if (!zone.equals(channel.zones.get(zone.zoneId()))) {
+                    channel.changedZones.add(zone.zoneId());
+                }
+            }
+            for (Long zoneId : channel.zones.keySet()) {
+                if (!fresh.containsKey(zoneId)) {
+                    channel.removedZones.add(zoneId);
+                }
+            }
+        }
+        channel.zones = fresh;
+        channel.zonesLoadedAt = now;
+    }
+
+    private LiveZoneFrameResponse snapshot(FarmChannel channel, long now) {
+        List<LiveZoneResponse> zones = new ArrayList<>(channel.zones.size());
+        synchronized (this) {
+            for (ZoneDetails zone : channel.zones.values()) {
+                zones.add(toResponse(zone, true, readings(zone.zoneId(), 0)));
+            }
+        }
+        return LiveZoneFrameResponse.builder()
+                .type(LiveZoneFrameResponse.SNAPSHOT)
+                .farmId(channel.farmId)
+                .sequence(channel.sequence)
+                .sentAt(now)
+                .zones(zones)
+                .build();
+    }
+
+    // Helper method to collect a zone's readings newer than the given version, or null if there are none
+    private Map<String, LiveReadingResponse> readings(long zoneId, long sinceVersion) {
+        Map<String, LiveReadingResponse> readings = null;
+        for (Metric metric : ZONE_METRICS) {
+            long slot = slots.get(SeriesKey.of(SourceType.ZONE, zoneId, metric));
+            if (slot != LongLongHashMap.MISSING && versions[(int) slot] > sinceVersion) {
+                if (readings == null) {
+                    readings = new LinkedHashMap<>();
+                }
+                readings.put(metric.name(), new LiveReadingResponse(values[(int) slot], timestamps[(int) slot]));
+            }
+        }
+        return readings;
+    }
+
+    private static LiveZoneResponse toResponse(ZoneDetails zone, boolean withDetails, Map<String, LiveReadingResponse> metrics) {
+        LiveZoneResponse.LiveZoneResponseBuilder response = LiveZoneResponse.builder()
+                .zoneId(zone.zoneId())
+                .metrics(metrics);
+        if (withDetails) {
+            response.name(zone.name())
+                    .polyhouseId(zone.polyhouseId())
+                    .polyhouseName(zone.polyhouseName())
+                    .cropType(zone.cropType())
+                    .cropVariety(zone.cropVariety())
+                    .cropStage(zone.cropStage());
+        }
+        return response.build();
+    }
+
+    private byte[] serialize(LiveZoneFrameResponse frame) {
+        try {
+            return objectMapper.writeValueAsBytes(frame);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize live frame", e);
+        }
+    }
+
+    private void send(long farmId, Subscriber subscriber, byte[] payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(subscriber.sessionId);
+        accessor.setSubscriptionId(subscriber.subscriptionId);
+        accessor.setDestination(DESTINATION_PREFIX + farmId + DESTINATION_SUFFIX);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        clientOutboundChannel.send(MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+        framesSent.increment();
+    }
+
+    private int addSlot(long key) {
+        if (slotCount == values.length) {
+            int capacity = values.length * 2;
+            timestamps = Arrays.copyOf(timestamps, capacity);
+            values = Arrays.copyOf(values, capacity);
+            versions = Arrays.copyOf(versions, capacity);
+        }
+        slots.put(key, slotCount);
+        return slotCount++;
+    }
+
+    private record ZoneDetails(Long zoneId, String name, Long polyhouseId, String polyhouseName,
+                               String cropType, String cropVariety, CropStage cropStage) {
+    }
+
+    private static final class Subscriber {
+
+        private final String sessionId;
+        private final String subscriptionId;
+        private volatile boolean needsSnapshot = true;
+
+        private Subscriber(String sessionId, String subscriptionId) {
+            this.sessionId = sessionId;
+            this.subscriptionId = subscriptionId;
+        }
+    }
+
+    // Frame state is only touched by the publisher thread; subscribers are added and removed concurrently
+    private static final class FarmChannel {
+
+        private final long farmId;
+        private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+        private final Set<Long> changedZones = new HashSet<>();
+        private final Set<Long> removedZones = new HashSet<>();
+        private Map<Long, ZoneDetails> zones;
+        private long zonesLoadedAt;
+        private long publishedVersion;
+        private long sequence;
+
+        private FarmChannel(long farmId) {
+            this.farmId = farmId;
+        }
+    }
+}
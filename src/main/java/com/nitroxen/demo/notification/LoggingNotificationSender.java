@@ -0,0 +1,38 @@
+package com.nitroxen.demo.notification;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Local stand-in for a real channel: logs each message and keeps the most recent ones in memory.
+ */
+@Component
+@ConditionalOnProperty(name = "application.notifications.sender", havingValue = "log", matchIfMissing = true)
+@Slf4j
+public class LoggingNotificationSender implements NotificationSender {
+
+    private static final int HISTORY_SIZE = 100;
+
+    private final Deque<SentMessage> sent = new ArrayDeque<>();
+
+    @Override
+    public synchronized void send(String phoneNumber, String message) {
+        log.info("Notification to {}: {}", phoneNumber, message);
+        if (sent.size() == HISTORY_SIZE) {
+            sent.removeFirst();
+        }
+        sent.addLast(new SentMessage(phoneNumber, message));
+    }
+
+    public synchronized List<SentMessage> getSent() {
+        return List.copyOf(sent);
+    }
+
+    public record SentMessage(String phoneNumber, String message) {
+    }
+}
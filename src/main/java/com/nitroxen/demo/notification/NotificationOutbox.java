@@ -0,0 +1,48 @@
+package com.nitroxen.demo.notification;
+
+import com.nitroxen.demo.entity.OutboundNotification;
+import com.nitroxen.demo.enums.NotificationCategory;
+import com.nitroxen.demo.enums.NotificationStatus;
+import com.nitroxen.demo.repository.OutboundNotificationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Queues notifications in the caller's transaction, so they are sent if and only if the change they
+ * report commits. Nothing is sent here: the {@link NotificationRelay} delivers them afterwards.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationOutbox {
+
+    private final OutboundNotificationRepository outboundNotificationRepository;
+
+    /**
+     * Queue one message per distinct phone number
+     * @param reference What the message is about, e.g. "alert:12:OPEN"
+     * @return Number of messages queued
+     */
+    @Transactional
+    public int enqueue(NotificationCategory category, String reference, Collection<String> phoneNumbers, String message) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboundNotification> notifications = new LinkedHashSet<>(phoneNumbers).stream()
+                .map(phoneNumber -> OutboundNotification.builder()
+                        .category(category)
+                        .reference(reference)
+                        .phoneNumber(phoneNumber)
+                        .message(message)
+                        .status(NotificationStatus.PENDING)
+                        .attempts(0)
+                        .nextAttemptAt(now)
+                        .build())
+                .toList();
+        outboundNotificationRepository.saveAll(notifications);
+        return notifications.size();
+    }
+}
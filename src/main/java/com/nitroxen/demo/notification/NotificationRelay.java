@@ -0,0 +1,208 @@
+package com.nitroxen.demo.notification;
+
+import com.nitroxen.demo.entity.OutboundNotification;
+import com.nitroxen.demo.enums.NotificationStatus;
+import com.nitroxen.demo.repository.OutboundNotificationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Delivers queued notifications through the active {@link NotificationSender}.
+ * <p>
+ * Each round claims up to {@code batch-size} due rows in a short transaction with
+ * {@code SELECT ... FOR UPDATE SKIP LOCKED}, so relays on several nodes never claim the same row,
+ * and leases them by moving their next attempt {@code lease-millis} ahead. The claimed messages are
+ * sent outside any transaction on {@code concurrency} threads, no faster than {@code max-per-second}
+ * on this node, then marked SENT in one update.
+ * A failed message is retried with exponential backoff and marked FAILED after {@code max-attempts}.
+ * If a node dies mid-batch its lease runs out and another relay sends the rest: delivery is at least once.
+ */
+@Component
+@Slf4j
+public class NotificationRelay {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OutboundNotificationRepository outboundNotificationRepository;
+    private final NotificationSender notificationSender;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long leaseMillis;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final ExecutorService senders;
+    private final SendRateLimiter rateLimiter;
+
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+
+    public NotificationRelay(OutboundNotificationRepository outboundNotificationRepository,
+                             NotificationSender notificationSender,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry,
+                             @Value("${application.notifications.batch-size:100}") int batchSize,
+                             @Value("${application.notifications.concurrency:8}") int concurrency,
+                             @Value("${application.notifications.lease-millis:60000}") long leaseMillis,
+                             @Value("${application.notifications.max-attempts:5}") int maxAttempts,
+                             @Value("${application.notifications.retry-backoff-millis:30000}") long retryBackoffMillis,
+                             @Value("${application.notifications.max-per-second:10}") double maxPerSecond) {
+        this.outboundNotificationRepository = outboundNotificationRepository;
+        this.notificationSender = notificationSender;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.leaseMillis = leaseMillis;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "notification-relay-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.rateLimiter = new SendRateLimiter(maxPerSecond);
+
+        this.sentCounter = Counter.builder("notifications.sent").register(meterRegistry);
+        this.retriedCounter = Counter.builder("notifications.retried")
+                .description("Failed sends scheduled for another attempt")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("notifications.failed")
+                .description("Notifications given up after the maximum number of attempts")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Send due notifications until none are left
+     */
+    @Scheduled(fixedDelayString = "${application.notifications.poll-millis:1000}")
+    public void relay() {
+        int claimed;
+        do {
+            claimed = relayBatch();
+        } while (claimed == batchSize);
+    }
+
+    /**
+     * Claim, send and record one batch
+     * @return Number of notifications claimed
+     */
+    int relayBatch() {
+        List<OutboundNotification> batch = claim();
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<Future<RuntimeException>> results = new ArrayList<>(batch.size());
+        for (OutboundNotification notification : batch) {
+            results.add(senders.submit((Callable<RuntimeException>) () -> {
+                try {
+                    rateLimiter.acquire();
+                    notificationSender.send(notification.getPhoneNumber(), notification.getMessage());
+                    return null;
+                } catch (RuntimeException e) {
+                    return e;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return new IllegalStateException("Interrupted before sending", e);
+                }
+            }));
+        }
+
+        List<Long> sentIds = new ArrayList<>(batch.size());
+        List<Failure> failures = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            RuntimeException error = await(results.get(i));
+            if (error == null) {
+                sentIds.add(batch.get(i).getId());
+            } else {
+                failures.add(new Failure(batch.get(i), error));
+            }
+        }
+        record(sentIds, failures);
+        return batch.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+    }
+
+    // Helper method to lock due rows, lease them to this relay and count the attempt
+    private List<OutboundNotification> claim() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboundNotification> due = outboundNotificationRepository.lockDue(NotificationStatus.PENDING, now,
+                    PageRequest.of(0, batchSize));
+            LocalDateTime leaseEnd = now.plusNanos(TimeUnit.MILLISECONDS.toNanos(leaseMillis));
+            for (OutboundNotification notification : due) {
+                notification.setAttempts(notification.getAttempts() + 1);
+                notification.setNextAttemptAt(leaseEnd);
+            }
+            return due;
+        });
+    }
+
+    // Helper method to mark sent rows in one update and reschedule or give up on failed ones
+    private void record(List<Long> sentIds, List<Failure> failures) {
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!sentIds.isEmpty()) {
+                outboundNotificationRepository.markSent(sentIds, now);
+            }
+            for (Failure failure : failures) {
+                OutboundNotification notification = failure.notification();
+                boolean exhausted = notification.getAttempts() >= maxAttempts;
+                long backoff = retryBackoffMillis << Math.min(notification.getAttempts() - 1, 16);
+                outboundNotificationRepository.markFailed(notification.getId(),
+                        exhausted ? NotificationStatus.FAILED : NotificationStatus.PENDING,
+                        exhausted ? notification.getNextAttemptAt() : now.plusNanos(TimeUnit.MILLISECONDS.toNanos(backoff)),
+                        truncate(String.valueOf(failure.error().getMessage())));
+                if (exhausted) {
+                    log.error("Giving up on notification {} ({}) after {} attempt(s)", notification.getId(),
+                            notification.getReference(), notification.getAttempts(), failure.error());
+                }
+            }
+        });
+        sentCounter.increment(sentIds.size());
+        for (Failure failure : failures) {
+            (failure.notification().getAttempts() >= maxAttempts ? failedCounter : retriedCounter).increment();
+        }
+    }
+
+    private static RuntimeException await(Future<RuntimeException> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new IllegalStateException("Interrupted while sending", e);
+        } catch (ExecutionException e) {
+            return new IllegalStateException("Sender failed", e.getCause());
+        }
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private record Failure(OutboundNotification notification, RuntimeException error) {
+    }
+}
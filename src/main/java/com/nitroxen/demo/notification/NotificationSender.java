@@ -0,0 +1,14 @@
+package com.nitroxen.demo.notification;
+
+/**
+ * Channel the notification relay delivers messages through. Exactly one is active, selected with
+ * {@code application.notifications.sender}.
+ */
+public interface NotificationSender {
+
+    /**
+     * Deliver one message
+     * @throws RuntimeException if it was not accepted; the relay retries it later
+     */
+    void send(String phoneNumber, String message);
+}
@@ -0,0 +1,45 @@
+package com.nitroxen.demo.notification;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spaces sends evenly so this node never exceeds the provider's messages-per-second cap, however
+ * many sender threads share it. Each caller reserves the next free slot and sleeps until it comes;
+ * unused time is not saved up, so there are no bursts above the cap after an idle period.
+ */
+final class SendRateLimiter {
+
+    private final long intervalNanos;
+    private long nextFreeNanos;
+
+    /**
+     * @param maxPerSecond Messages allowed per second; 0 or less disables the limit
+     */
+    SendRateLimiter(double maxPerSecond) {
+        this.intervalNanos = maxPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / maxPerSecond) : 0;
+        this.nextFreeNanos = System.nanoTime();
+    }
+
+    /**
+     * Wait for the next send slot
+     */
+    void acquire() throws InterruptedException {
+        long waitNanos = reserve(System.nanoTime());
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * Reserve the next slot at or after {@code now}
+     * @return Nanoseconds until the reserved slot
+     */
+    synchronized long reserve(long now) {
+        if (intervalNanos == 0) {
+            return 0;
+        }
+        long slot = Math.max(nextFreeNanos, now);
+        nextFreeNanos = slot + intervalNanos;
+        return slot - now;
+    }
+}
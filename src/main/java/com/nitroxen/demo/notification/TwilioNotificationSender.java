@@ -0,0 +1,22 @@
+package com.nitroxen.demo.notification;
+
+import com.nitroxen.demo.service.TwilioService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sends notifications as WhatsApp messages
+ */
+@Component
+@ConditionalOnProperty(name = "application.notifications.sender", havingValue = "twilio")
+@RequiredArgsConstructor
+public class TwilioNotificationSender implements NotificationSender {
+
+    private final TwilioService twilioService;
+
+    @Override
+    public void send(String phoneNumber, String message) {
+        twilioService.sendWhatsAppMessage(phoneNumber, message);
+    }
+}
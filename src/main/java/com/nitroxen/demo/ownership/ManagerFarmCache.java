@@ -0,0 +1,64 @@
+package com.nitroxen.demo.ownership;
+
+import com.nitroxen.demo.repository.FarmAssignmentRepository;
+import com.nitroxen.demo.telemetry.LongLongHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Farms actively assigned to each manager, so checks on hot paths such as telemetry ingestion do not
+ * query the assignments on every request.
+ * <p>
+ * An entry is reloaded once it is older than {@code ttl-millis}, so a revoked assignment stops
+ * granting access within that time. The cache is cleared when it grows past {@code max-managers}.
+ */
+@Component
+public class ManagerFarmCache {
+
+    private final FarmAssignmentRepository farmAssignmentRepository;
+    private final long ttlMillis;
+    private final int maxManagers;
+    private final ConcurrentHashMap<Long, Entry> farmsByManager = new ConcurrentHashMap<>();
+
+    public ManagerFarmCache(FarmAssignmentRepository farmAssignmentRepository,
+                            @Value("${application.ownership.manager-farms.ttl-millis:30000}") long ttlMillis,
+                            @Value("${application.ownership.manager-farms.max-managers:10000}") int maxManagers) {
+        this.farmAssignmentRepository = farmAssignmentRepository;
+        this.ttlMillis = ttlMillis;
+        this.maxManagers = maxManagers;
+    }
+
+    /**
+     * Farms assigned to the manager, as a set of farm IDs (every value is 1)
+     */
+    public LongLongHashMap farmsOf(long managerId) {
+        long now = System.currentTimeMillis();
+        Entry entry = farmsByManager.get(managerId);
+        if (entry != null && entry.expiresAt() > now) {
+            return entry.farms();
+        }
+        List<Long> farmIds = farmAssignmentRepository.findAssignedFarmIdsByManagerId(managerId);
+        LongLongHashMap farms = new LongLongHashMap(farmIds.size());
+        for (Long farmId : farmIds) {
+            farms.put(farmId, 1L);
+        }
+        if (farmsByManager.size() >= maxManagers) {
+            farmsByManager.clear();
+        }
+        farmsByManager.put(managerId, new Entry(farms, now + ttlMillis));
+        return farms;
+    }
+
+    /**
+     * Drop the cached farms of a manager whose assignments changed
+     */
+    public void evict(long managerId) {
+        farmsByManager.remove(managerId);
+    }
+
+    private record Entry(LongLongHashMap farms, long expiresAt) {
+    }
+}
@@ -0,0 +1,278 @@
+package com.nitroxen.demo.ownership;
+
+import com.nitroxen.demo.entity.ResourceOwnership;
+import com.nitroxen.demo.enums.ResourceType;
+import com.nitroxen.demo.repository.ResourceOwnershipRepository;
+import com.nitroxen.demo.telemetry.LongLongHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Farm and owner of every farm, polyhouse, zone, reservoir, task and report, so an ownership check is
+ * one hash probe instead of a walk up the hierarchy through lazy proxies.
+ * <p>
+ * The {@code resource_ownership} table is the durable copy: services add and remove rows in the
+ * transaction that creates or deletes the resource, and the in-memory maps follow once it commits.
+ * A resource missing from memory is looked up in the table once and cached. A periodic reload
+ * first inserts rows for any resource written without one (including everything that existed
+ * before the table), then rebuilds the maps from the table. Resources forgotten while the table is
+ * being read are dropped from the rebuilt maps too, so a reload cannot bring a deleted resource back.
+ */
+@Component
+@Slf4j
+public class OwnershipIndex {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO resource_ownership (resource_type, resource_id, farm_id, owner_id) VALUES (?, ?, ?, ?)";
+
+    private final ResourceOwnershipRepository resourceOwnershipRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // Guarded by this
+    private LongLongHashMap farmByResource = new LongLongHashMap(0);
+    private LongLongHashMap ownerByResource = new LongLongHashMap(0);
+    // Keys forgotten since the running reload started reading the table, or null when none is running
+    private List<Long> removedDuringReload;
+
+    public OwnershipIndex(ResourceOwnershipRepository resourceOwnershipRepository,
+                          JdbcTemplate jdbcTemplate,
+                          PlatformTransactionManager transactionManager) {
+        this.resourceOwnershipRepository = resourceOwnershipRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Farm of the resource, or {@link LongLongHashMap#MISSING} if it does not exist
+     */
+    public long farmOf(ResourceType type, long id) {
+        long key = key(type, id);
+        synchronized (this) {
+            long farmId = farmByResource.get(key);
+            if (farmId != LongLongHashMap.MISSING) {
+                return farmId;
+            }
+        }
+        return load(type, id) ? farmOf(key) : LongLongHashMap.MISSING;
+    }
+
+    /**
+     * Owner of the resource, or {@link LongLongHashMap#MISSING} if it does not exist
+     */
+    public long ownerOf(ResourceType type, long id) {
+        long key = key(type, id);
+        synchronized (this) {
+            long ownerId = ownerByResource.get(key);
+            if (ownerId != LongLongHashMap.MISSING) {
+                return ownerId;
+            }
+        }
+        return load(type, id) ? ownerOf(key) : LongLongHashMap.MISSING;
+    }
+
+    /**
+     * Whether the resource exists and belongs to the owner
+     */
+    public boolean isOwnedBy(ResourceType type, long id, long ownerId) {
+        return ownerOf(type, id) == ownerId;
+    }
+
+    /**
+     * Record a new farm as part of the current transaction
+     */
+    public void registerFarm(long farmId, long ownerId) {
+        register(ResourceType.FARM, farmId, farmId, ownerId);
+    }
+
+    /**
+     * Record a new resource of a farm as part of the current transaction
+     */
+    public void register(ResourceType type, long id, long farmId, long ownerId) {
+        insert(type, List.of(id), new long[]{farmId}, new long[]{ownerId});
+    }
+
+    /**
+     * Record new resources of any farms, given as resource ID → farm ID, as part of the current transaction
+     */
+    public void registerAll(ResourceType type, Map<Long, Long> farmByResource) {
+        if (farmByResource.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(farmByResource.keySet());
+        long[] farmIds = new long[ids.size()];
+        long[] ownerIds = new long[ids.size()];
+        for (int i = 0; i < ids.size(); i++) {
+            farmIds[i] = farmByResource.get(ids.get(i));
+            ownerIds[i] = ownerOf(ResourceType.FARM, farmIds[i]);
+            if (ownerIds[i] == LongLongHashMap.MISSING) {
+                throw new IllegalStateException("Farm " + farmIds[i] + " has no ownership record");
+            }
+        }
+        insert(type, ids, farmIds, ownerIds);
+    }
+
+    /**
+     * Forget deleted resources as part of the current transaction
+     */
+    public void unregister(ResourceType type, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        resourceOwnershipRepository.deleteResources(type, ids);
+        afterCommit(() -> {
+            synchronized (this) {
+                for (Long id : ids) {
+                    forget(key(type, id));
+                }
+            }
+        });
+    }
+
+    /**
+     * Forget a deleted farm and everything in it as part of the current transaction
+     */
+    public void unregisterFarm(long farmId) {
+        List<Object[]> resources = resourceOwnershipRepository.findResourcesByFarmId(farmId);
+        resourceOwnershipRepository.deleteByFarmId(farmId);
+        afterCommit(() -> {
+            synchronized (this) {
+                for (Object[] row : resources) {
+                    forget(key((ResourceType) row[0], (Long) row[1]));
+                }
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${application.ownership.reload-millis:600000}")
+    public void reload() {
+        int backfilled = transactionTemplate.execute(status -> resourceOwnershipRepository.backfillFarms()
+                + resourceOwnershipRepository.backfillPolyhouses()
+                + resourceOwnershipRepository.backfillZones()
+                + resourceOwnershipRepository.backfillReservoirs()
+                + resourceOwnershipRepository.backfillTasks()
+                + resourceOwnershipRepository.backfillReports()
+                + resourceOwnershipRepository.backfillAgronomistReports());
+        if (backfilled > 0) {
+            log.info("Backfilled {} ownership record(s)", backfilled);
+        }
+
+        synchronized (this) {
+            removedDuringReload = new ArrayList<>();
+        }
+        int loaded;
+        try {
+            List<Object[]> rows = resourceOwnershipRepository.findAllOwnerships();
+            LongLongHashMap farms = new LongLongHashMap(rows.size());
+            LongLongHashMap owners = new LongLongHashMap(rows.size());
+            for (Object[] row : rows) {
+                long key = key((ResourceType) row[0], (Long) row[1]);
+                farms.put(key, (Long) row[2]);
+                owners.put(key, (Long) row[3]);
+            }
+            synchronized (this) {
+                // The rows may predate deletions that committed while they were read
+                for (long key : removedDuringReload) {
+                    farms.remove(key);
+                    owners.remove(key);
+                }
+                farmByResource = farms;
+                ownerByResource = owners;
+            }
+            loaded = rows.size();
+        } finally {
+            synchronized (this) {
+                removedDuringReload = null;
+            }
+        }
+        log.debug("Ownership index reloaded with {} resource(s)", loaded);
+    }
+
+    // Helper method to batch-insert rows now and publish them to memory once the transaction commits
+    private void insert(ResourceType type, List<Long> ids, long[] farmIds, long[] ownerIds) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setString(1, type.name());
+                ps.setLong(2, ids.get(i));
+                ps.setLong(3, farmIds[i]);
+                ps.setLong(4, ownerIds[i]);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return ids.size();
+            }
+        });
+        afterCommit(() -> {
+            synchronized (this) {
+                for (int i = 0; i < ids.size(); i++) {
+                    farmByResource.put(key(type, ids.get(i)), farmIds[i]);
+                    ownerByResource.put(key(type, ids.get(i)), ownerIds[i]);
+                }
+            }
+        });
+    }
+
+    // Helper method to cache a resource missing from memory from its table row
+    private boolean load(ResourceType type, long id) {
+        ResourceOwnership row = resourceOwnershipRepository.findByResourceTypeAndResourceId(type, id).orElse(null);
+        if (row == null) {
+            return false;
+        }
+        synchronized (this) {
+            farmByResource.put(key(type, id), row.getFarmId());
+            ownerByResource.put(key(type, id), row.getOwnerId());
+        }
+        return true;
+    }
+
+    // Helper method to drop a deleted resource from memory, and from the maps a running reload is building; caller holds this
+    private void forget(long key) {
+        farmByResource.remove(key);
+        ownerByResource.remove(key);
+        if (removedDuringReload != null) {
+            removedDuringReload.add(key);
+        }
+    }
+
+    private synchronized long farmOf(long key) {
+        return farmByResource.get(key);
+    }
+
+    private synchronized long ownerOf(long key) {
+        return ownerByResource.get(key);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    // Resource types are tagged in the top byte, as in the telemetry farm cache
+    private static long key(ResourceType type, long id) {
+        return ((long) type.ordinal() << 56) | id;
+    }
+}
@@ -0,0 +1,11 @@
+package com.nitroxen.demo.repository;
+
+import com.nitroxen.demo.entity.BillingLedgerEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BillingLedgerRepository extends JpaRepository<BillingLedgerEntry, Long> {
+
+    boolean existsByReference(String reference);
+}
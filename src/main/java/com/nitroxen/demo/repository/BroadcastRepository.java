@@ -0,0 +1,9 @@
+package com.nitroxen.demo.repository;
+
+import com.nitroxen.demo.entity.Broadcast;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BroadcastRepository extends JpaRepository<Broadcast, Long> {
+}
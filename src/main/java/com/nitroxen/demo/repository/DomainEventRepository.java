@@ -0,0 +1,34 @@
+package com.nitroxen.demo.repository;
+
+import com.nitroxen.demo.entity.DomainEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface DomainEventRepository extends JpaRepository<DomainEvent, Long> {
+
+    /**
+     * Unpublished events that occurred before the cutoff, oldest first
+     */
+    @Query("SELECT e FROM DomainEvent e WHERE e.publishedAt IS NULL AND e.occurredAt < :before ORDER BY e.id")
+    List<DomainEvent> findUnpublished(@Param("before") LocalDateTime before, Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE DomainEvent e SET e.publishedAt = :now WHERE e.id IN :ids AND e.publishedAt IS NULL")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM DomainEvent e WHERE e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
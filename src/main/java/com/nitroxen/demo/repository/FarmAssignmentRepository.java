@@ -1,6 +1,7 @@
 package com.nitroxen.demo.repository;
 
 import com.nitroxen.demo.entity.FarmAssignment;
+import com.nitroxen.demo.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -25,4 +26,16 @@ public interface FarmAssignmentRepository extends JpaRepository<FarmAssignment,
      */
     @Query("SELECT fa.farm.id FROM FarmAssignment fa WHERE fa.manager.id = :managerId AND fa.active = true")
     List<Long> findAssignedFarmIdsByManagerId(Long managerId);
+
+    /**
+     * Get the managers actively assigned to a farm
+     */
+    @Query("SELECT fa.manager FROM FarmAssignment fa WHERE fa.farm.id = :farmId AND fa.active = true")
+    List<User> findActiveManagersByFarmId(Long farmId);
+
+    /**
+     * Count the distinct managers actively assigned to any farm of an owner
+     */
+    @Query("SELECT COUNT(DISTINCT fa.manager.id) FROM FarmAssignment fa WHERE fa.farm.owner.id = :ownerId AND fa.active = true")
+    long countActiveManagersByOwnerId(Long ownerId);
 }
@@ -3,6 +3,8 @@ package com.nitroxen.demo.repository;
 import com.nitroxen.demo.entity.Farm;
 import com.nitroxen.demo.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,5 +13,14 @@ import java.util.List;
 public interface FarmRepository extends JpaRepository<Farm, Long> {
     List<Farm> findByOwner(User owner);
     List<Farm> findByOwnerId(Long ownerId);
-    boolean existsByNameAndOwnerId(String name, Long ownerId);
+    boolean existsByIdAndOwnerId(Long id, Long ownerId);
+
+    @Query("SELECT f.id FROM Farm f WHERE f.owner.id = :ownerId")
+    List<Long> findIdsByOwnerId(@Param("ownerId") Long ownerId);
+
+    /**
+     * Dashboard rows of an owner's farms as (farmId, name, location, totalArea)
+     */
+    @Query("SELECT f.id, f.name, f.location, f.totalArea FROM Farm f WHERE f.owner.id = :ownerId ORDER BY f.id")
+    List<Object[]> findDashboardFarmsByOwnerId(@Param("ownerId") Long ownerId);
 }
@@ -0,0 +1,23 @@
+package com.nitroxen.demo.repository;
+
+import com.nitroxen.demo.entity.IrrigationProgram;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface IrrigationProgramRepository extends JpaRepository<IrrigationProgram, Long> {
+
+    Optional<IrrigationProgram> findByZoneId(Long zoneId);
+
+    /**
+     * Active programs of a farm with the reservoir feeding each zone, as (program, reservoirId) pairs
+     */
+    @Query("SELECT p, z.waterSource.id FROM IrrigationProgram p, Zone z " +
+            "WHERE z.id = p.zoneId AND p.farmId = :farmId AND p.active = true")
+    List<Object[]> findActiveWithReservoirByFarmId(@Param("farmId") Long farmId);
+}
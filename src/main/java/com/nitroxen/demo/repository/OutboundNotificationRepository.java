@@ -0,0 +1,47 @@
+package com.nitroxen.demo.repository;
+
+import com.nitroxen.demo.entity.OutboundNotification;
+import com.nitroxen.demo.enums.NotificationStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboundNotificationRepository extends JpaRepository<OutboundNotification, Long> {
+
+    /**
+     * Lock the oldest pending notifications that are due, skipping rows another relay has locked
+     * (SELECT ... FOR UPDATE SKIP LOCKED; a lock timeout of -2 is Hibernate's SKIP_LOCKED)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT n FROM OutboundNotification n WHERE n.status = :status AND n.nextAttemptAt <= :now ORDER BY n.id")
+    List<OutboundNotification> lockDue(@Param("status") NotificationStatus status, @Param("now") LocalDateTime now,
+                                       Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE OutboundNotification n SET n.status = com.nitroxen.demo.enums.NotificationStatus.SENT, " +
+            "n.sentAt = :now, n.lastError = NULL WHERE n.id IN :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE OutboundNotification n SET n.status = :status, n.nextAttemptAt = :nextAttemptAt, n.lastError = :error " +
+            "WHERE n.id = :id")
+    int markFailed(@Param("id") Long id, @Param("status") NotificationStatus status,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("error") String error);
+
+    long countByStatus(NotificationStatus status);
+
+    List<OutboundNotification> findByReferenceOrderById(String reference);
+}
@@ -3,6 +3,8 @@ package com.nitroxen.demo.repository;
 import com.nitroxen.demo.entity.Farm;
 import com.nitroxen.demo.entity.Polyhouse;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,6 +13,11 @@ import java.util.List;
 public interface PolyhouseRepository extends JpaRepository<Polyhouse, Long> {
     List<Polyhouse> findByFarm(Farm farm);
     List<Polyhouse> findByFarmId(Long farmId);
-    boolean existsByNameAndFarmId(String name, Long farmId);
     int countByFarmId(Long farmId);
+
+    /**
+     * Polyhouse count and used area of each of an owner's farms as (farmId, polyhouseCount, area)
+     */
+    @Query("SELECT p.farm.id, COUNT(p), COALESCE(SUM(p.area), 0) FROM Polyhouse p WHERE p.farm.owner.id = :ownerId GROUP BY p.farm.id")
+    List<Object[]> countAndSumAreaByFarmForOwner(@Param("ownerId") Long ownerId);
 }
@@ -0,0 +1,34 @@
+package com.nitroxen.demo.repository;
+
+import com.nitroxen.demo.entity.RecurringTaskSchedule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RecurringTaskScheduleRepository extends JpaRepository<RecurringTaskSchedule, Long> {
+
+    List<RecurringTaskSchedule> findByManagerIdAndActiveTrue(Long managerId);
+
+    /**
+     * Get (id, nextOccurrenceAt) of active schedules with an occurrence before the given time
+     */
+    @Query("SELECT s.id, s.nextOccurrenceAt FROM RecurringTaskSchedule s " +
+            "WHERE s.active = true AND s.nextOccurrenceAt <= :before")
+    List<Object[]> findDueScheduleTimes(@Param("before") LocalDateTime before);
+
+    /**
+     * Take the materialization lease if it is free, expired or already ours
+     * @return 1 if the lease was acquired, 0 if another node holds it
+     */
+    @Modifying
+    @Query("UPDATE RecurringTaskSchedule s SET s.leaseOwner = :owner, s.leaseExpiresAt = :until " +
+            "WHERE s.id = :id AND (s.leaseExpiresAt IS NULL OR s.leaseExpiresAt < :now OR s.leaseOwner = :owner)")
+    int acquireLease(@Param("id") Long id, @Param("owner") String owner,
+                     @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+}
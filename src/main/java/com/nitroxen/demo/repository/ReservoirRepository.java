@@ -3,13 +3,34 @@ package com.nitroxen.demo.repository;
 import com.nitroxen.demo.entity.Farm;
 import com.nitroxen.demo.entity.Reservoir;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ReservoirRepository extends JpaRepository<Reservoir, Long> {
     List<Reservoir> findByFarmId(Long farmId);
     List<Reservoir> findByFarm(Farm farm);
-    boolean existsByNameAndFarmId(String name, Long farmId);
+
+    /**
+     * Resolve the farm of each reservoir as (reservoirId, farmId) pairs in a single query
+     */
+    @Query("SELECT r.id, r.farm.id FROM Reservoir r WHERE r.id IN :reservoirIds")
+    List<Object[]> findReservoirFarmIds(@Param("reservoirIds") Collection<Long> reservoirIds);
+
+    /**
+     * Farm of every reservoir as (reservoirId, farmId) pairs
+     */
+    @Query("SELECT r.id, r.farm.id FROM Reservoir r")
+    List<Object[]> findAllReservoirFarmIds();
+
+    /**
+     * Every reservoir of an owner with the number of zones it serves as (farmId, reservoirId, name, capacity, servingZoneCount)
+     */
+    @Query("SELECT r.farm.id, r.id, r.name, r.capacity, COUNT(z) FROM Reservoir r LEFT JOIN r.servingZones z " +
+            "WHERE r.farm.owner.id = :ownerId GROUP BY r.farm.id, r.id, r.name, r.capacity ORDER BY r.id")
+    List<Object[]> findServingZoneCountsByOwnerId(@Param("ownerId") Long ownerId);
 }
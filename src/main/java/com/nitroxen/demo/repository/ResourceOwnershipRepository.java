@@ -0,0 +1,94 @@
+package com.nitroxen.demo.repository;
+
+import com.nitroxen.demo.entity.ResourceOwnership;
+import com.nitroxen.demo.enums.ResourceType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ResourceOwnershipRepository extends JpaRepository<ResourceOwnership, Long> {
+
+    Optional<ResourceOwnership> findByResourceTypeAndResourceId(ResourceType resourceType, Long resourceId);
+
+    /**
+     * Every row as (resourceType, resourceId, farmId, ownerId)
+     */
+    @Query("SELECT o.resourceType, o.resourceId, o.farmId, o.ownerId FROM ResourceOwnership o")
+    List<Object[]> findAllOwnerships();
+
+    /**
+     * Resources of a farm as (resourceType, resourceId)
+     */
+    @Query("SELECT o.resourceType, o.resourceId FROM ResourceOwnership o WHERE o.farmId = :farmId")
+    List<Object[]> findResourcesByFarmId(@Param("farmId") Long farmId);
+
+    @Modifying
+    @Query("DELETE FROM ResourceOwnership o WHERE o.resourceType = :resourceType AND o.resourceId IN :resourceIds")
+    int deleteResources(@Param("resourceType") ResourceType resourceType, @Param("resourceIds") Collection<Long> resourceIds);
+
+    @Modifying
+    @Query("DELETE FROM ResourceOwnership o WHERE o.farmId = :farmId")
+    int deleteByFarmId(@Param("farmId") Long farmId);
+
+    // Backfill of resources written before the table existed, or by a path that does not maintain it.
+    // Each statement inserts only the resources that have no row yet.
+
+    @Modifying
+    @Query(value = "INSERT INTO resource_ownership (resource_type, resource_id, farm_id, owner_id) " +
+            "SELECT 'FARM', f.id, f.id, f.owner_id FROM farms f " +
+            "WHERE NOT EXISTS (SELECT 1 FROM resource_ownership o WHERE o.resource_type = 'FARM' AND o.resource_id = f.id)",
+            nativeQuery = true)
+    int backfillFarms();
+
+    @Modifying
+    @Query(value = "INSERT INTO resource_ownership (resource_type, resource_id, farm_id, owner_id) " +
+            "SELECT 'POLYHOUSE', p.id, f.id, f.owner_id FROM polyhouses p JOIN farms f ON f.id = p.farm_id " +
+            "WHERE NOT EXISTS (SELECT 1 FROM resource_ownership o WHERE o.resource_type = 'POLYHOUSE' AND o.resource_id = p.id)",
+            nativeQuery = true)
+    int backfillPolyhouses();
+
+    @Modifying
+    @Query(value = "INSERT INTO resource_ownership (resource_type, resource_id, farm_id, owner_id) " +
+            "SELECT 'ZONE', z.id, f.id, f.owner_id FROM zones z " +
+            "JOIN polyhouses p ON p.id = z.polyhouse_id JOIN farms f ON f.id = p.farm_id " +
+            "WHERE NOT EXISTS (SELECT 1 FROM resource_ownership o WHERE o.resource_type = 'ZONE' AND o.resource_id = z.id)",
+            nativeQuery = true)
+    int backfillZones();
+
+    @Modifying
+    @Query(value = "INSERT INTO resource_ownership (resource_type, resource_id, farm_id, owner_id) " +
+            "SELECT 'RESERVOIR', r.id, f.id, f.owner_id FROM reservoirs r JOIN farms f ON f.id = r.farm_id " +
+            "WHERE NOT EXISTS (SELECT 1 FROM resource_ownership o WHERE o.resource_type = 'RESERVOIR' AND o.resource_id = r.id)",
+            nativeQuery = true)
+    int backfillReservoirs();
+
+    @Modifying
+    @Query(value = "INSERT INTO resource_ownership (resource_type, resource_id, farm_id, owner_id) " +
+            "SELECT 'TASK', t.id, f.id, f.owner_id FROM task t JOIN zones z ON z.id = t.zone_id " +
+            "JOIN polyhouses p ON p.id = z.polyhouse_id JOIN farms f ON f.id = p.farm_id " +
+            "WHERE NOT EXISTS (SELECT 1 FROM resource_ownership o WHERE o.resource_type = 'TASK' AND o.resource_id = t.id)",
+            nativeQuery = true)
+    int backfillTasks();
+
+    @Modifying
+    @Query(value = "INSERT INTO resource_ownership (resource_type, resource_id, farm_id, owner_id) " +
+            "SELECT 'REPORT', r.id, t.farm_id, t.owner_id FROM report r " +
+            "JOIN resource_ownership t ON t.resource_type = 'TASK' AND t.resource_id = r.task_id " +
+            "WHERE NOT EXISTS (SELECT 1 FROM resource_ownership o WHERE o.resource_type = 'REPORT' AND o.resource_id = r.id)",
+            nativeQuery = true)
+    int backfillReports();
+
+    @Modifying
+    @Query(value = "INSERT INTO resource_ownership (resource_type, resource_id, farm_id, owner_id) " +
+            "SELECT 'AGRONOMIST_REPORT', a.id, f.id, f.owner_id FROM agronomist_report a JOIN farms f ON f.id = a.farm_id " +
+            "WHERE NOT EXISTS (SELECT 1 FROM resource_ownership o WHERE o.resource_type = 'AGRONOMIST_REPORT' AND o.resource_id = a.id)",
+            nativeQuery = true)
+    int backfillAgronomistReports();
+}
@@ -0,0 +1,29 @@
+package com.nitroxen.demo.repository;
+
+import com.nitroxen.demo.entity.RevenueDaily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RevenueDailyRepository extends JpaRepository<RevenueDaily, Long> {
+
+    /**
+     * Add one ledger entry to the owner's day
+     * @return Number of rows updated: 0 if the day has no row yet
+     */
+    @Modifying
+    @Query("UPDATE RevenueDaily r SET r.amount = r.amount + :amount, r.entryCount = r.entryCount + 1, r.updatedAt = :now " +
+            "WHERE r.ownerId = :ownerId AND r.revenueDate = :date")
+    int addEntry(@Param("ownerId") Long ownerId, @Param("date") LocalDate date,
+                 @Param("amount") BigDecimal amount, @Param("now") LocalDateTime now);
+
+    List<RevenueDaily> findByOwnerIdAndRevenueDateBetweenOrderByRevenueDateAsc(Long ownerId, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,31 @@
+package com.nitroxen.demo.repository;
+
+import com.nitroxen.demo.entity.RevenueMonthly;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RevenueMonthlyRepository extends JpaRepository<RevenueMonthly, Long> {
+
+    /**
+     * Add one ledger entry to the owner's month
+     * @return Number of rows updated: 0 if the month has no row yet
+     */
+    @Modifying
+    @Query("UPDATE RevenueMonthly r SET r.amount = r.amount + :amount, r.entryCount = r.entryCount + 1, r.updatedAt = :now " +
+            "WHERE r.ownerId = :ownerId AND r.revenueMonth = :month")
+    int addEntry(@Param("ownerId") Long ownerId, @Param("month") LocalDate month,
+                 @Param("amount") BigDecimal amount, @Param("now") LocalDateTime now);
+
+    List<RevenueMonthly> findByRevenueMonthOrderByAmountDesc(LocalDate month);
+
+    List<RevenueMonthly> findByOwnerIdAndRevenueMonthBetweenOrderByRevenueMonthAsc(Long ownerId, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,13 @@
+package com.nitroxen.demo.repository;
+
+import com.nitroxen.demo.entity.StockSolution;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface StockSolutionRepository extends JpaRepository<StockSolution, Long> {
+    List<StockSolution> findByFarmIdOrderByIdAsc(Long farmId);
+    boolean existsByFarmIdAndName(Long farmId, String name);
+}
@@ -2,7 +2,12 @@ package com.nitroxen.demo.repository;
 
 import com.nitroxen.demo.entity.User;
 import com.nitroxen.demo.enums.Role;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -20,4 +25,27 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
 
     List<User> findByRole(Role role);
+
+    List<User> findByCreatedByAndRole(Long createdBy, Role role, Pageable pageable);
+
+    List<User> findByOwnerIdAndRole(Long ownerId, Role role, Pageable pageable);
+
+    List<User> findByOwnerIdIsNullAndRole(Role role, Pageable pageable);
+
+    long countByOwnerIdAndRoleAndEnabledTrue(Long ownerId, Role role);
+
+    /**
+     * Phone numbers of the enabled workers with a task in any zone of the farm
+     */
+    @Query("SELECT DISTINCT u.phoneNumber FROM User u, Task t, Zone z " +
+            "WHERE t.workerId = u.id AND t.zoneId = z.id AND z.polyhouse.farm.id = :farmId " +
+            "AND u.role = com.nitroxen.demo.enums.Role.WORKER AND u.enabled = true AND u.phoneNumber IS NOT NULL")
+    List<String> findWorkerPhoneNumbersByFarmId(@Param("farmId") Long farmId);
+
+    /**
+     * Load a user and lock their row until the transaction ends, serializing writes made on their behalf
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id = :id")
+    Optional<User> findLockedById(@Param("id") Long id);
 }
@@ -0,0 +1,20 @@
+package com.nitroxen.demo.repository;
+
+import com.nitroxen.demo.entity.ZoneAlert;
+import com.nitroxen.demo.enums.AlertStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ZoneAlertRepository extends JpaRepository<ZoneAlert, Long> {
+
+    /**
+     * Find the open alert of a zone and metric, if any
+     */
+    Optional<ZoneAlert> findByOpenKey(String openKey);
+
+    List<ZoneAlert> findByStatus(AlertStatus status);
+}
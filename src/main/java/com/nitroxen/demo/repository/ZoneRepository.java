@@ -3,14 +3,57 @@ package com.nitroxen.demo.repository;
 import com.nitroxen.demo.entity.Polyhouse;
 import com.nitroxen.demo.entity.Zone;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ZoneRepository extends JpaRepository<Zone, Long> {
     List<Zone> findByPolyhouseId(Long polyhouseId);
     List<Zone> findByPolyhouse(Polyhouse polyhouse);
-    boolean existsByNameAndPolyhouseId(String name, Long polyhouseId);
     int countByPolyhouseId(Long polyhouseId);
+
+    /**
+     * Resolve the farm of each zone as (zoneId, farmId) pairs in a single query
+     */
+    @Query("SELECT z.id, z.polyhouse.farm.id FROM Zone z WHERE z.id IN :zoneIds")
+    List<Object[]> findZoneFarmIds(@Param("zoneIds") Collection<Long> zoneIds);
+
+    /**
+     * Farm of every zone as (zoneId, farmId) pairs
+     */
+    @Query("SELECT z.id, z.polyhouse.farm.id FROM Zone z")
+    List<Object[]> findAllZoneFarmIds();
+
+    /**
+     * Crop of every zone as (zoneId, cropType, cropVariety) rows
+     */
+    @Query("SELECT z.id, z.cropType, z.cropVariety FROM Zone z")
+    List<Object[]> findAllZoneCrops();
+
+    /**
+     * Crop of every zone fed by a reservoir of the farm as (reservoirId, zoneId, cropType, cropVariety, cropStage) rows
+     */
+    @Query("SELECT z.waterSource.id, z.id, z.cropType, z.cropVariety, z.cropStage FROM Zone z " +
+            "WHERE z.waterSource.farm.id = :farmId")
+    List<Object[]> findReservoirZoneCropsByFarmId(@Param("farmId") Long farmId);
+
+    /**
+     * Zones of a farm as (zoneId, name, polyhouseId, polyhouseName, cropType, cropVariety, cropStage) rows
+     */
+    @Query("SELECT z.id, z.name, p.id, p.name, z.cropType, z.cropVariety, z.cropStage " +
+            "FROM Zone z JOIN z.polyhouse p WHERE p.farm.id = :farmId")
+    List<Object[]> findLiveZonesByFarmId(@Param("farmId") Long farmId);
+
+    /**
+     * Zone count per farm and crop type of an owner as (farmId, cropType, zoneCount, unservedCount), where
+     * unservedCount is the number of those zones without a reservoir; cropType is null for unplanted zones
+     */
+    @Query("SELECT p.farm.id, z.cropType, COUNT(z), SUM(CASE WHEN z.waterSource IS NULL THEN 1 ELSE 0 END) " +
+            "FROM Zone z JOIN z.polyhouse p WHERE p.farm.owner.id = :ownerId " +
+            "GROUP BY p.farm.id, z.cropType")
+    List<Object[]> countByFarmAndCropTypeForOwner(@Param("ownerId") Long ownerId);
 }
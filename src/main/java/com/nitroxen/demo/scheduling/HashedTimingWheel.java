@@ -0,0 +1,108 @@
+package com.nitroxen.demo.scheduling;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.BiConsumer;
+
+/**
+ * Hashed timing wheel for a large number of timers (one per recurring schedule).
+ * Adding a timer and advancing one tick are O(1); each tick only touches the timers
+ * hashed into its own bucket. Timers may be added from any thread, but
+ * {@link #advance(long, BiConsumer)} must only be called from a single thread.
+ */
+public class HashedTimingWheel {
+
+    private static final class Timer {
+        final long id;
+        final long deadlineMillis;
+        long remainingRounds;
+
+        Timer(long id, long deadlineMillis) {
+            this.id = id;
+            this.deadlineMillis = deadlineMillis;
+        }
+    }
+
+    private final long tickMillis;
+    private final long startMillis;
+    private final int mask;
+    private final List<Timer>[] buckets;
+    private final Queue<Timer> pending = new ConcurrentLinkedQueue<>();
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be positive");
+        }
+        if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize must be a power of two");
+        }
+        this.tickMillis = tickMillis;
+        this.startMillis = startMillis;
+        this.mask = wheelSize - 1;
+        this.buckets = new List[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Schedule a timer; deadlines in the past fire on the next tick
+     * @param id Identifier passed back when the timer expires
+     * @param deadlineMillis Expiry time in epoch milliseconds
+     */
+    public void schedule(long id, long deadlineMillis) {
+        pending.add(new Timer(id, deadlineMillis));
+    }
+
+    /**
+     * Process every tick up to the given time and report expired timers
+     * @param nowMillis Current time in epoch milliseconds
+     * @param expired Receives (id, deadlineMillis) of each expired timer
+     * @return Number of expired timers
+     */
+    public int advance(long nowMillis, BiConsumer<Long, Long> expired) {
+        long targetTick = (nowMillis - startMillis) / tickMillis;
+        int fired = 0;
+        while (currentTick <= targetTick) {
+            transferPending();
+            List<Timer> bucket = buckets[(int) (currentTick & mask)];
+            int kept = 0;
+            for (int i = 0; i < bucket.size(); i++) {
+                Timer timer = bucket.get(i);
+                if (timer.remainingRounds <= 0) {
+                    size--;
+                    fired++;
+                    expired.accept(timer.id, timer.deadlineMillis);
+                } else {
+                    timer.remainingRounds--;
+                    bucket.set(kept++, timer);
+                }
+            }
+            bucket.subList(kept, bucket.size()).clear();
+            currentTick++;
+        }
+        return fired;
+    }
+
+    /**
+     * Number of timers placed on the wheel (timers added since the last tick are not counted)
+     */
+    public int size() {
+        return size;
+    }
+
+    private void transferPending() {
+        Timer timer;
+        while ((timer = pending.poll()) != null) {
+            long deadlineTick = Math.max(currentTick, (timer.deadlineMillis - startMillis) / tickMillis);
+            timer.remainingRounds = (deadlineTick - currentTick) / buckets.length;
+            buckets[(int) (deadlineTick & mask)].add(timer);
+            size++;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.nitroxen.demo.scheduling;
+
+import com.nitroxen.demo.exception.ValidationException;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Subset of the iCalendar RRULE syntax used for recurring farm tasks, e.g.
+ * {@code FREQ=DAILY;BYHOUR=6,18}, {@code FREQ=WEEKLY;INTERVAL=2;BYDAY=MO} or
+ * {@code FREQ=MONTHLY;BYMONTHDAY=1;BYHOUR=9;BYMINUTE=30}.
+ * Parts that are omitted default to the corresponding field of the start time.
+ */
+public final class RecurrenceRule {
+
+    public enum Frequency { DAILY, WEEKLY, MONTHLY }
+
+    private static final int MAX_SEARCH_DAYS = 3 * 366;
+
+    private final Frequency frequency;
+    private final int interval;
+    private final Set<DayOfWeek> byDay;
+    private final int byMonthDay;
+    private final List<LocalTime> times;
+    private final LocalDateTime start;
+
+    private RecurrenceRule(Frequency frequency, int interval, Set<DayOfWeek> byDay, int byMonthDay,
+                           List<LocalTime> times, LocalDateTime start) {
+        this.frequency = frequency;
+        this.interval = interval;
+        this.byDay = byDay;
+        this.byMonthDay = byMonthDay;
+        this.times = times;
+        this.start = start;
+    }
+
+    public static RecurrenceRule parse(String rule, LocalDateTime start) {
+        if (rule == null || rule.isBlank()) {
+            throw new ValidationException("Recurrence rule is required");
+        }
+        Frequency frequency = null;
+        int interval = 1;
+        Set<DayOfWeek> byDay = EnumSet.noneOf(DayOfWeek.class);
+        int byMonthDay = start.getDayOfMonth();
+        Set<Integer> hours = new TreeSet<>();
+        Set<Integer> minutes = new TreeSet<>();
+
+        for (String part : rule.trim().toUpperCase().split(";")) {
+            String[] keyValue = part.split("=", 2);
+            if (keyValue.length != 2) {
+                throw new ValidationException("Invalid recurrence rule part: " + part);
+            }
+            String value = keyValue[1].trim();
+            try {
+                switch (keyValue[0].trim()) {
+                    case "FREQ" -> frequency = Frequency.valueOf(value);
+                    case "INTERVAL" -> interval = Integer.parseInt(value);
+                    case "BYDAY" -> {
+                        for (String day : value.split(",")) {
+                            byDay.add(parseDay(day.trim()));
+                        }
+                    }
+                    case "BYMONTHDAY" -> byMonthDay = Integer.parseInt(value);
+                    case "BYHOUR" -> {
+                        for (String hour : value.split(",")) {
+                            hours.add(Integer.parseInt(hour.trim()));
+                        }
+                    }
+                    case "BYMINUTE" -> {
+                        for (String minute : value.split(",")) {
+                            minutes.add(Integer.parseInt(minute.trim()));
+                        }
+                    }
+                    default -> throw new ValidationException("Unsupported recurrence rule part: " + keyValue[0]);
+                }
+            } catch (IllegalArgumentException e) {
+                throw new ValidationException("Invalid value in recurrence rule part: " + part);
+            }
+        }
+
+        if (frequency == null) {
+            throw new ValidationException("Recurrence rule must specify FREQ");
+        }
+        if (interval < 1) {
+            throw new ValidationException("Recurrence rule INTERVAL must be at least 1");
+        }
+        if (byMonthDay < 1 || byMonthDay > 31) {
+            throw new ValidationException("Recurrence rule BYMONTHDAY must be between 1 and 31");
+        }
+        if (byDay.isEmpty()) {
+            byDay.add(start.getDayOfWeek());
+        }
+        if (hours.isEmpty()) {
+            hours.add(start.getHour());
+        }
+        if (minutes.isEmpty()) {
+            minutes.add(start.getMinute());
+        }
+
+        List<LocalTime> times = new ArrayList<>();
+        for (int hour : hours) {
+            for (int minute : minutes) {
+                if (hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+                    throw new ValidationException("Recurrence rule BYHOUR/BYMINUTE out of range");
+                }
+                times.add(LocalTime.of(hour, minute));
+            }
+        }
+        return new RecurrenceRule(frequency, interval, byDay, byMonthDay, times, start.withSecond(0).withNano(0));
+    }
+
+    /**
+     * Get the first occurrence strictly after the given time (and not before the start)
+     * @param after Lower bound (exclusive)
+     * @return Next occurrence, or null if none exists within the search window
+     */
+    public LocalDateTime nextAfter(LocalDateTime after) {
+        LocalDateTime bound = after.isBefore(start) ? start.minusNanos(1) : after;
+        LocalDate date = bound.toLocalDate();
+        for (int i = 0; i <= MAX_SEARCH_DAYS; i++, date = date.plusDays(1)) {
+            if (!matchesDate(date)) {
+                continue;
+            }
+            for (LocalTime time : times) {
+                LocalDateTime candidate = date.atTime(time);
+                if (candidate.isAfter(bound)) {
+                    return candidate;
+                }
+            }
+        }
+        return null;
+    }
+
+    private boolean matchesDate(LocalDate date) {
+        LocalDate startDate = start.toLocalDate();
+        return switch (frequency) {
+            case DAILY -> ChronoUnit.DAYS.between(startDate, date) % interval == 0;
+            case WEEKLY -> byDay.contains(date.getDayOfWeek())
+                    && ChronoUnit.WEEKS.between(weekOf(startDate), weekOf(date)) % interval == 0;
+            case MONTHLY -> date.getDayOfMonth() == byMonthDay
+                    && ChronoUnit.MONTHS.between(startDate.withDayOfMonth(1), date.withDayOfMonth(1)) % interval == 0;
+        };
+    }
+
+    private static LocalDate weekOf(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    private static DayOfWeek parseDay(String day) {
+        return switch (day) {
+            case "MO" -> DayOfWeek.MONDAY;
+            case "TU" -> DayOfWeek.TUESDAY;
+            case "WE" -> DayOfWeek.WEDNESDAY;
+            case "TH" -> DayOfWeek.THURSDAY;
+            case "FR" -> DayOfWeek.FRIDAY;
+            case "SA" -> DayOfWeek.SATURDAY;
+            case "SU" -> DayOfWeek.SUNDAY;
+            default -> throw new IllegalArgumentException("Unknown day: " + day);
+        };
+    }
+}
@@ -0,0 +1,114 @@
+package com.nitroxen.demo.scheduling;
+
+import com.nitroxen.demo.dto.response.TaskInboxEvent;
+import com.nitroxen.demo.entity.RecurringTaskSchedule;
+import com.nitroxen.demo.entity.Task;
+import com.nitroxen.demo.enums.ResourceType;
+import com.nitroxen.demo.ownership.OwnershipIndex;
+import com.nitroxen.demo.repository.RecurringTaskScheduleRepository;
+import com.nitroxen.demo.repository.TaskRepository;
+import com.nitroxen.demo.search.SearchIndexer;
+import com.nitroxen.demo.service.TaskEventBus;
+import com.nitroxen.demo.telemetry.LongLongHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Turns the upcoming occurrences of a recurring schedule into Task rows.
+ * A node must hold the schedule's lease before materializing it.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RecurringTaskMaterializer {
+
+    // Upper bound on tasks created for one schedule per run, guards against runaway rules
+    static final int MAX_OCCURRENCES_PER_RUN = 1000;
+
+    private final RecurringTaskScheduleRepository scheduleRepository;
+    private final TaskRepository taskRepository;
+    private final TaskEventBus taskEventBus;
+    private final SearchIndexer searchIndexer;
+    private final OwnershipIndex ownershipIndex;
+
+    /**
+     * Try to take the schedule's lease in its own short transaction, so nodes
+     * competing for the same schedule never block each other
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean tryAcquireLease(Long scheduleId, String nodeId, Duration leaseDuration) {
+        LocalDateTime now = LocalDateTime.now();
+        return scheduleRepository.acquireLease(scheduleId, nodeId, now, now.plus(leaseDuration)) == 1;
+    }
+
+    /**
+     * Create tasks for every occurrence up to the horizon and release the lease
+     * @return The next occurrence that still has to be materialized, or null if the schedule is finished
+     */
+    @Transactional
+    public LocalDateTime materialize(Long scheduleId, String nodeId, LocalDateTime horizonEnd) {
+        RecurringTaskSchedule schedule = scheduleRepository.findById(scheduleId).orElse(null);
+        if (schedule == null || !schedule.getActive() || !nodeId.equals(schedule.getLeaseOwner())) {
+            return null;
+        }
+
+        RecurrenceRule rule = RecurrenceRule.parse(schedule.getRecurrenceRule(), schedule.getStartAt());
+        LocalDateTime occurrence = schedule.getNextOccurrenceAt();
+        List<Task> tasks = new ArrayList<>();
+        while (occurrence != null && !occurrence.isAfter(horizonEnd) && tasks.size() < MAX_OCCURRENCES_PER_RUN) {
+            tasks.add(toTask(schedule, occurrence));
+            occurrence = rule.nextAfter(occurrence);
+        }
+        long farmId = schedule.getZoneId() != null
+                ? ownershipIndex.farmOf(ResourceType.ZONE, schedule.getZoneId())
+                : LongLongHashMap.MISSING;
+        Map<Long, Long> farmByTask = new HashMap<>();
+        for (Task task : taskRepository.saveAll(tasks)) {
+            if (farmId != LongLongHashMap.MISSING) {
+                farmByTask.put(task.getId(), farmId);
+            }
+            taskEventBus.publish(TaskInboxEvent.builder()
+                    .type(TaskInboxEvent.Type.TASK_ASSIGNED)
+                    .workerId(task.getWorkerId())
+                    .taskId(task.getId())
+                    .zoneId(task.getZoneId())
+                    .title(task.getTitle())
+                    .deadline(task.getDeadline())
+                    .build());
+            searchIndexer.indexTask(task);
+        }
+        ownershipIndex.registerAll(ResourceType.TASK, farmByTask);
+
+        schedule.setNextOccurrenceAt(occurrence);
+        schedule.setActive(occurrence != null);
+        schedule.setLeaseOwner(null);
+        schedule.setLeaseExpiresAt(null);
+        scheduleRepository.save(schedule);
+
+        if (!tasks.isEmpty()) {
+            log.debug("Materialized {} task(s) for recurring schedule {}", tasks.size(), scheduleId);
+        }
+        return occurrence;
+    }
+
+    private Task toTask(RecurringTaskSchedule schedule, LocalDateTime occurrence) {
+        Task task = new Task();
+        task.setTitle(schedule.getTitle());
+        task.setDescription(schedule.getDescription());
+        task.setWorkerId(schedule.getWorkerId());
+        task.setZoneId(schedule.getZoneId());
+        task.setDeadline(occurrence.toString());
+        task.setCreatedBy("Recurring schedule #" + schedule.getId());
+        return task;
+    }
+}
@@ -0,0 +1,159 @@
+package com.nitroxen.demo.scheduling;
+
+import com.nitroxen.demo.repository.RecurringTaskScheduleRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Keeps one timer per active recurring schedule on a hashed timing wheel. A timer fires
+ * one horizon before the schedule's next occurrence; the node that wins the schedule's
+ * lease then materializes the upcoming tasks on a dedicated thread, so database work never
+ * holds up the shared scheduler thread. A periodic resync picks up schedules created or
+ * advanced by other nodes. Changes made inside a transaction take effect once it commits.
+ */
+@Component
+@Slf4j
+public class RecurringTaskScheduler {
+
+    private final RecurringTaskScheduleRepository scheduleRepository;
+    private final RecurringTaskMaterializer materializer;
+    private final HashedTimingWheel wheel;
+    private final Duration horizon;
+    private final Duration leaseDuration;
+    private final Duration resyncInterval;
+    private final String nodeId = UUID.randomUUID().toString();
+    // Single thread: a schedule re-tracked by the resync while it is being materialized runs after it, never alongside
+    private final ExecutorService materializerExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "recurring-task-materializer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Deadline currently tracked for each schedule; wheel timers with another deadline are stale
+    private final Map<Long, Long> deadlines = new ConcurrentHashMap<>();
+
+    public RecurringTaskScheduler(
+            RecurringTaskScheduleRepository scheduleRepository,
+            RecurringTaskMaterializer materializer,
+            @Value("${application.tasks.recurring.tick-millis:1000}") long tickMillis,
+            @Value("${application.tasks.recurring.wheel-size:512}") int wheelSize,
+            @Value("${application.tasks.recurring.horizon:PT24H}") Duration horizon,
+            @Value("${application.tasks.recurring.lease-duration:PT2M}") Duration leaseDuration,
+            @Value("${application.tasks.recurring.resync-interval-millis:60000}") long resyncIntervalMillis) {
+        this.scheduleRepository = scheduleRepository;
+        this.materializer = materializer;
+        this.wheel = new HashedTimingWheel(tickMillis, wheelSize, System.currentTimeMillis());
+        this.horizon = horizon;
+        this.leaseDuration = leaseDuration;
+        this.resyncInterval = Duration.ofMillis(resyncIntervalMillis);
+    }
+
+    /**
+     * Start tracking a schedule whose next occurrence is known, after the current transaction commits
+     * @param scheduleId ID of the schedule
+     * @param nextOccurrence Next occurrence to materialize
+     */
+    public void track(Long scheduleId, LocalDateTime nextOccurrence) {
+        afterCommit(() -> trackNow(scheduleId, nextOccurrence));
+    }
+
+    /**
+     * Stop tracking a schedule after the current transaction commits
+     */
+    public void untrack(Long scheduleId) {
+        afterCommit(() -> deadlines.remove(scheduleId));
+    }
+
+    private void trackNow(Long scheduleId, LocalDateTime nextOccurrence) {
+        if (nextOccurrence == null) {
+            deadlines.remove(scheduleId);
+            return;
+        }
+        long deadline = toMillis(nextOccurrence.minus(horizon));
+        Long previous = deadlines.put(scheduleId, deadline);
+        if (previous == null || previous != deadline) {
+            wheel.schedule(scheduleId, deadline);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${application.tasks.recurring.tick-millis:1000}")
+    public void tick() {
+        List<Long> expired = new ArrayList<>();
+        wheel.advance(System.currentTimeMillis(), (id, deadline) -> {
+            if (deadlines.remove(id, deadline)) {
+                expired.add(id);
+            }
+        });
+        if (!expired.isEmpty()) {
+            materializerExecutor.execute(() -> materializeAll(expired));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${application.tasks.recurring.resync-interval-millis:60000}")
+    public void resync() {
+        LocalDateTime before = LocalDateTime.now().plus(horizon).plus(resyncInterval);
+        for (Object[] row : scheduleRepository.findDueScheduleTimes(before)) {
+            Long scheduleId = (Long) row[0];
+            if (!deadlines.containsKey(scheduleId)) {
+                trackNow(scheduleId, (LocalDateTime) row[1]);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        materializerExecutor.shutdownNow();
+    }
+
+    private void materializeAll(List<Long> scheduleIds) {
+        for (Long scheduleId : scheduleIds) {
+            try {
+                materializeSchedule(scheduleId);
+            } catch (RuntimeException e) {
+                log.error("Failed to materialize recurring schedule {}: {}", scheduleId, e.getMessage());
+            }
+        }
+    }
+
+    private void materializeSchedule(Long scheduleId) {
+        if (!materializer.tryAcquireLease(scheduleId, nodeId, leaseDuration)) {
+            // Another node is materializing it; the resync will pick up its next occurrence
+            return;
+        }
+        LocalDateTime next = materializer.materialize(scheduleId, nodeId, LocalDateTime.now().plus(horizon));
+        trackNow(scheduleId, next);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return Timestamp.valueOf(time).getTime();
+    }
+}
@@ -0,0 +1,34 @@
+package com.nitroxen.demo.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Searchable text of a task, worker report, agronomist report or agronomist, as held in the
+ * full-text index. farmId scopes the document to a farm; documents whose farm cannot be resolved
+ * (e.g. a zoneless task created before tasks recorded their farm) or that belong to no farm are not
+ * returned by farm-scoped searches.
+ * keywords holds short fields such as names and emails that are matched word by word, by prefix.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchDocument {
+
+    public enum Type { TASK, REPORT, AGRONOMIST_REPORT, AGRONOMIST }
+
+    private Type type;
+
+    private Long id;
+
+    private Long farmId;
+
+    private String title;
+
+    private String text;
+
+    private String keywords;
+}
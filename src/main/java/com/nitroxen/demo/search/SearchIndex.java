@@ -0,0 +1,358 @@
+package com.nitroxen.demo.search;
+
+import com.nitroxen.demo.exception.ValidationException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+import org.apache.lucene.analysis.miscellaneous.PerFieldAnalyzerWrapper;
+import org.apache.lucene.analysis.pattern.PatternTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopScoreDocCollectorManager;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Embedded Lucene index over task descriptions, reports and agronomists, stored on local disk.
+ * <p>
+ * Writes go through a single IndexWriter and become visible to searches on {@link #refresh()};
+ * they survive a restart once {@link #commit()} has run. Every commit records in its user data
+ * whether the index was closed cleanly; opening it marks it unclean until {@link #commitClean()},
+ * so a crash is recognised on the next start. Results are ranked by BM25 with title matches
+ * boosted over body matches.
+ */
+@Component
+@Slf4j
+public class SearchIndex {
+
+    static final String UID = "uid";
+    static final String TYPE = "type";
+    static final String ID = "id";
+    static final String FARM_ID = "farmId";
+    static final String TITLE = "title";
+    static final String TEXT = "text";
+    static final String KEYWORDS = "keywords";
+    static final String CLEAN_SHUTDOWN = "clean-shutdown";
+
+    private static final Map<String, Float> FIELD_BOOSTS = Map.of(TITLE, 2f, TEXT, 1f);
+    private static final int SNIPPET_LENGTH = 200;
+    // Keyword words at least this long also match with one typo
+    private static final int MIN_FUZZY_LENGTH = 4;
+
+    private final Directory directory;
+    private final Analyzer analyzer = new EnglishAnalyzer();
+    private final Analyzer keywordAnalyzer = new KeywordWordAnalyzer();
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final boolean closedCleanly;
+
+    @Autowired
+    public SearchIndex(@Value("${application.search.index-dir:${java.io.tmpdir}/agriwealth/search-index}") String indexDir) throws IOException {
+        this(FSDirectory.open(Files.createDirectories(Path.of(indexDir))));
+        log.info("Search index opened at {} with {} document(s)", indexDir, getDocumentCount());
+    }
+
+    public SearchIndex(Directory directory) throws IOException {
+        this.directory = directory;
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(
+                new PerFieldAnalyzerWrapper(analyzer, Map.of(KEYWORDS, keywordAnalyzer)))
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        this.searcherManager = new SearcherManager(writer, null);
+
+        // Read the marker of the last commit, then clear it on disk until the next clean shutdown
+        boolean clean = false;
+        Iterable<Map.Entry<String, String>> commitData = writer.getLiveCommitData();
+        if (commitData != null) {
+            for (Map.Entry<String, String> entry : commitData) {
+                clean |= CLEAN_SHUTDOWN.equals(entry.getKey()) && Boolean.parseBoolean(entry.getValue());
+            }
+        }
+        this.closedCleanly = clean;
+        writer.setLiveCommitData(Map.of(CLEAN_SHUTDOWN, "false").entrySet());
+        writer.commit();
+    }
+
+    public record Hit(SearchDocument.Type type, Long id, Long farmId, String title, String snippet, float score) {
+    }
+
+    public record Page(long total, List<Hit> hits) {
+    }
+
+    /**
+     * Add a document, replacing any earlier version with the same type and id
+     */
+    public void upsert(SearchDocument document) {
+        Document doc = new Document();
+        doc.add(new StringField(UID, uid(document.getType(), document.getId()), Field.Store.NO));
+        doc.add(new StringField(TYPE, document.getType().name(), Field.Store.YES));
+        doc.add(new StoredField(ID, document.getId()));
+        if (document.getFarmId() != null) {
+            doc.add(new LongPoint(FARM_ID, document.getFarmId()));
+            doc.add(new StoredField(FARM_ID, document.getFarmId()));
+        }
+        if (document.getTitle() != null) {
+            doc.add(new TextField(TITLE, document.getTitle(), Field.Store.YES));
+        }
+        doc.add(new TextField(TEXT, document.getText() != null ? document.getText() : "", Field.Store.YES));
+        if (document.getKeywords() != null) {
+            doc.add(new TextField(KEYWORDS, document.getKeywords(), Field.Store.NO));
+        }
+        try {
+            writer.updateDocument(new Term(UID, uid(document.getType(), document.getId())), doc);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void delete(SearchDocument.Type type, Long id) {
+        try {
+            writer.deleteDocuments(new Term(UID, uid(type, id)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void deleteAll() {
+        try {
+            writer.deleteAll();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Make pending writes visible to searches
+     */
+    public void refresh() {
+        try {
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Persist pending writes to disk
+     */
+    public void commit() {
+        try {
+            if (writer.hasUncommittedChanges()) {
+                writer.commit();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Persist pending writes and mark the index as matching the database, so the next start can trust it
+     */
+    public void commitClean() {
+        try {
+            writer.setLiveCommitData(Map.of(CLEAN_SHUTDOWN, "true").entrySet());
+            writer.commit();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Whether the last commit before this index was opened came from {@link #commitClean()}
+     */
+    public boolean wasClosedCleanly() {
+        return closedCleanly;
+    }
+
+    public int getDocumentCount() {
+        return writer.getDocStats().numDocs;
+    }
+
+    /**
+     * Run a ranked search restricted to the given farms
+     * @param queryText Query in Lucene syntax (plain words, "phrases", AND/OR, prefix*)
+     * @param farmIds Farms the caller may see; an empty collection matches nothing
+     * @param types Document types to include, or empty for all
+     * @param page Zero-based page number
+     * @param size Page size
+     * @return Hits of the requested page and the exact total number of matches
+     */
+    public Page search(String queryText, Collection<Long> farmIds, Set<SearchDocument.Type> types, int page, int size) {
+        if (farmIds.isEmpty()) {
+            return new Page(0, List.of());
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder()
+                .add(parse(queryText), BooleanClause.Occur.MUST)
+                .add(LongPoint.newSetQuery(FARM_ID, farmIds), BooleanClause.Occur.FILTER);
+        if (types != null && !types.isEmpty()) {
+            BooleanQuery.Builder typeFilter = new BooleanQuery.Builder();
+            for (SearchDocument.Type type : types) {
+                typeFilter.add(new TermQuery(new Term(TYPE, type.name())), BooleanClause.Occur.SHOULD);
+            }
+            query.add(typeFilter.build(), BooleanClause.Occur.FILTER);
+        }
+
+        return collect(query.build(), page, size);
+    }
+
+    /**
+     * Match every word of the query against the keywords of one document type. Each word matches
+     * exactly, as the prefix of a keyword word, or (if long enough) with one typo; exact matches rank
+     * highest. Used for short fields such as names, emails and specializations.
+     * @param queryText Words to look for, in any order
+     * @param type Document type to search
+     * @param page Zero-based page number
+     * @param size Page size
+     * @return Hits of the requested page and the exact total number of matches
+     */
+    public Page searchKeywords(String queryText, SearchDocument.Type type, int page, int size) {
+        List<String> words = analyze(queryText);
+        if (words.isEmpty()) {
+            return new Page(0, List.of());
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder()
+                .add(new TermQuery(new Term(TYPE, type.name())), BooleanClause.Occur.FILTER);
+        for (String word : words) {
+            Term term = new Term(KEYWORDS, word);
+            BooleanQuery.Builder wordQuery = new BooleanQuery.Builder()
+                    .add(new BoostQuery(new TermQuery(term), 3f), BooleanClause.Occur.SHOULD)
+                    .add(new BoostQuery(new PrefixQuery(term), 2f), BooleanClause.Occur.SHOULD);
+            if (word.length() >= MIN_FUZZY_LENGTH) {
+                wordQuery.add(new FuzzyQuery(term, 1), BooleanClause.Occur.SHOULD);
+            }
+            query.add(wordQuery.build(), BooleanClause.Occur.MUST);
+        }
+        return collect(query.build(), page, size);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private Page collect(Query query, int page, int size) {
+        int offset = page * size;
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(query, new TopScoreDocCollectorManager(offset + size, Integer.MAX_VALUE));
+                StoredFields storedFields = searcher.storedFields();
+                List<Hit> hits = new ArrayList<>();
+                for (int i = offset; i < topDocs.scoreDocs.length; i++) {
+                    ScoreDoc scoreDoc = topDocs.scoreDocs[i];
+                    hits.add(toHit(storedFields.document(scoreDoc.doc), scoreDoc.score));
+                }
+                return new Page(topDocs.totalHits.value, hits);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<String> analyze(String text) {
+        List<String> words = new ArrayList<>();
+        try (TokenStream stream = keywordAnalyzer.tokenStream(KEYWORDS, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                words.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return words;
+    }
+
+    private Query parse(String queryText) {
+        // The parser is not thread-safe, so one is created per query
+        MultiFieldQueryParser parser = new MultiFieldQueryParser(new String[]{TITLE, TEXT}, analyzer, FIELD_BOOSTS);
+        parser.setDefaultOperator(QueryParser.Operator.AND);
+        try {
+            return parser.parse(queryText);
+        } catch (ParseException e) {
+            // Treat stray syntax characters (unbalanced quotes, a lone "-") as plain text
+            try {
+                return parser.parse(QueryParser.escape(queryText));
+            } catch (ParseException escaped) {
+                throw new ValidationException("Invalid search query: " + queryText);
+            }
+        }
+    }
+
+    private static Hit toHit(Document doc, float score) {
+        String text = doc.get(TEXT);
+        String snippet = text.length() > SNIPPET_LENGTH ? text.substring(0, SNIPPET_LENGTH) + "…" : text;
+        IndexableField farmId = doc.getField(FARM_ID);
+        return new Hit(
+                SearchDocument.Type.valueOf(doc.get(TYPE)),
+                doc.getField(ID).numericValue().longValue(),
+                farmId != null ? farmId.numericValue().longValue() : null,
+                doc.get(TITLE),
+                snippet,
+                score);
+    }
+
+    private static String uid(SearchDocument.Type type, Long id) {
+        return type.name() + ":" + id;
+    }
+
+    // Lower-cased letter/digit runs, so "Jane.Doe@agri.com" yields jane, doe, agri and com
+    private static final class KeywordWordAnalyzer extends Analyzer {
+
+        private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            Tokenizer tokenizer = new PatternTokenizer(SEPARATOR, -1);
+            return new TokenStreamComponents(tokenizer, new LowerCaseFilter(tokenizer));
+        }
+    }
+}
@@ -0,0 +1,401 @@
+package com.nitroxen.demo.search;
+
+import com.nitroxen.demo.entity.Agronomist;
+import com.nitroxen.demo.entity.AgronomistReport;
+import com.nitroxen.demo.entity.Report;
+import com.nitroxen.demo.entity.Task;
+import com.nitroxen.demo.enums.ResourceType;
+import com.nitroxen.demo.ownership.OwnershipIndex;
+import com.nitroxen.demo.repository.AgronomistReportRepository;
+import com.nitroxen.demo.repository.AgronomistRepository;
+import com.nitroxen.demo.repository.ReportRepository;
+import com.nitroxen.demo.repository.TaskRepository;
+import com.nitroxen.demo.repository.ZoneRepository;
+import com.nitroxen.demo.telemetry.LongLongHashMap;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the search index in step with the database.
+ * <p>
+ * Services enqueue changes once their transaction commits; a single background thread
+ * resolves each document's farm in bulk (from its zone, or for a task without a zone from its
+ * ownership record), applies the batch and refreshes searchers, so
+ * request threads never wait on Lucene. Index lag (age of the oldest change not yet
+ * searchable) and the queue depth are exported as metrics. A rebuild re-reads every
+ * task, report and agronomist on the same thread, so it cannot race with incremental updates;
+ * a failed rebuild is retried after a delay that doubles up to five minutes.
+ * The index is only marked clean on a shutdown that applied every queued change; after a crash
+ * (uncommitted or still queued changes lost) it is rebuilt on the next start.
+ */
+@Component
+@Slf4j
+public class SearchIndexer {
+
+    private static final long FIRST_REBUILD_RETRY_MILLIS = 1000;
+    private static final long MAX_REBUILD_RETRY_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    private final SearchIndex searchIndex;
+    private final TaskRepository taskRepository;
+    private final ReportRepository reportRepository;
+    private final AgronomistReportRepository agronomistReportRepository;
+    private final AgronomistRepository agronomistRepository;
+    private final ZoneRepository zoneRepository;
+    private final OwnershipIndex ownershipIndex;
+    private final int batchSize;
+
+    private final BlockingQueue<PendingChange> queue = new LinkedBlockingQueue<>();
+    private final AtomicBoolean rebuildRequested = new AtomicBoolean();
+    private final AtomicBoolean applyFailed = new AtomicBoolean();
+    private final Counter appliedCounter;
+    private volatile long inFlightSinceNanos;
+    private volatile boolean running = true;
+    private Thread worker;
+    // Only touched by the worker thread
+    private int failedRebuilds;
+    private long nextRebuildAtNanos;
+
+    public SearchIndexer(SearchIndex searchIndex,
+                         TaskRepository taskRepository,
+                         ReportRepository reportRepository,
+                         AgronomistReportRepository agronomistReportRepository,
+                         AgronomistRepository agronomistRepository,
+                         ZoneRepository zoneRepository,
+                         OwnershipIndex ownershipIndex,
+                         MeterRegistry meterRegistry,
+                         @Value("${application.search.batch-size:500}") int batchSize) {
+        this.searchIndex = searchIndex;
+        this.taskRepository = taskRepository;
+        this.reportRepository = reportRepository;
+        this.agronomistReportRepository = agronomistReportRepository;
+        this.agronomistRepository = agronomistRepository;
+        this.zoneRepository = zoneRepository;
+        this.ownershipIndex = ownershipIndex;
+        this.batchSize = batchSize;
+
+        Gauge.builder("search.index.lag", this, SearchIndexer::getLagSeconds)
+                .description("Age of the oldest change not yet visible to searches")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("search.index.pending", queue, BlockingQueue::size)
+                .description("Changes waiting to be indexed")
+                .register(meterRegistry);
+        Gauge.builder("search.index.documents", searchIndex, SearchIndex::getDocumentCount)
+                .description("Documents in the search index")
+                .register(meterRegistry);
+        this.appliedCounter = Counter.builder("search.index.applied")
+                .description("Changes applied to the search index")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (searchIndex.getDocumentCount() == 0) {
+            // Fresh or lost index: fill it from the database before serving incremental updates
+            rebuildRequested.set(true);
+        } else if (!searchIndex.wasClosedCleanly()) {
+            log.warn("Search index was not shut down cleanly, rebuilding it");
+            rebuildRequested.set(true);
+        }
+        worker = new Thread(this::run, "search-indexer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    public void indexTask(Task task) {
+        enqueue(taskChange(task));
+    }
+
+    public void indexReport(Report report) {
+        enqueue(reportChange(report));
+    }
+
+    public void indexAgronomistReport(AgronomistReport report) {
+        enqueue(agronomistReportChange(report));
+    }
+
+    public void indexAgronomist(Agronomist agronomist) {
+        enqueue(agronomistChange(agronomist));
+    }
+
+    public void remove(SearchDocument.Type type, Long id) {
+        enqueue(new PendingChange(SearchDocument.builder().type(type).id(id).build(), null, null, true));
+    }
+
+    /**
+     * Drop the index and rebuild it from the database in the background
+     * @return false if a rebuild was already pending
+     */
+    public boolean requestRebuild() {
+        return rebuildRequested.compareAndSet(false, true);
+    }
+
+    public boolean isRebuildPending() {
+        return rebuildRequested.get();
+    }
+
+    public double getLagSeconds() {
+        long oldest = inFlightSinceNanos;
+        PendingChange head = queue.peek();
+        if (oldest == 0 && head != null) {
+            oldest = head.enqueuedAtNanos();
+        }
+        return oldest == 0 ? 0 : (System.nanoTime() - oldest) / 1e9;
+    }
+
+    @Scheduled(fixedDelayString = "${application.search.commit-interval-millis:30000}")
+    public void commit() {
+        searchIndex.commit();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        boolean complete = (worker == null || !worker.isAlive()) && queue.isEmpty()
+                && !rebuildRequested.get() && !applyFailed.get();
+        if (complete) {
+            searchIndex.commitClean();
+        } else {
+            // Leave the index marked unclean so the next start rebuilds it
+            log.warn("Search index has changes that were not applied, it will be rebuilt on the next start");
+            searchIndex.commit();
+        }
+    }
+
+    private void enqueue(PendingChange change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    queue.add(change.requeued());
+                }
+            });
+        } else {
+            queue.add(change);
+        }
+    }
+
+    private void run() {
+        List<PendingChange> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                if (rebuildRequested.get() && System.nanoTime() - nextRebuildAtNanos >= 0) {
+                    tryRebuild();
+                }
+                PendingChange first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                inFlightSinceNanos = first.enqueuedAtNanos();
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                apply(batch);
+                searchIndex.refresh();
+                appliedCounter.increment(batch.size());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // Keep the thread alive; the affected documents are fixed by the next rebuild
+                applyFailed.set(true);
+                log.error("Failed to apply {} search index change(s)", batch.size(), e);
+            } finally {
+                batch.clear();
+                inFlightSinceNanos = 0;
+            }
+        }
+    }
+
+    void apply(List<PendingChange> batch) {
+        Map<Long, Long> zoneByTask = resolveTaskZones(batch);
+        Map<Long, Long> farmByZone = resolveZoneFarms(batch, zoneByTask);
+
+        for (PendingChange change : batch) {
+            SearchDocument document = change.document();
+            if (change.delete()) {
+                searchIndex.delete(document.getType(), document.getId());
+                continue;
+            }
+            Long zoneId = change.taskId() != null ? zoneByTask.get(change.taskId()) : change.zoneId();
+            if (document.getFarmId() == null && zoneId != null) {
+                document.setFarmId(farmByZone.get(zoneId));
+            }
+            if (document.getFarmId() == null) {
+                document.setFarmId(ownedFarmOf(document));
+            }
+            searchIndex.upsert(document);
+        }
+    }
+
+    // Helper method to rebuild, or on failure keep the request pending and push the next attempt back
+    private void tryRebuild() {
+        applyFailed.set(false);
+        try {
+            rebuild();
+            failedRebuilds = 0;
+            rebuildRequested.set(false);
+        } catch (RuntimeException e) {
+            applyFailed.set(true);
+            long delayMillis = Math.min(MAX_REBUILD_RETRY_MILLIS,
+                    FIRST_REBUILD_RETRY_MILLIS << Math.min(failedRebuilds, 20));
+            failedRebuilds++;
+            nextRebuildAtNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis);
+            log.error("Failed to rebuild search index, retrying in {} ms", delayMillis, e);
+        }
+    }
+
+    private void rebuild() {
+        long started = System.nanoTime();
+        log.info("Rebuilding search index");
+        searchIndex.deleteAll();
+        int count = reindexAll(taskRepository, SearchIndexer::taskChange);
+        count += reindexAll(reportRepository, SearchIndexer::reportChange);
+        count += reindexAll(agronomistReportRepository, SearchIndexer::agronomistReportChange);
+        count += reindexAll(agronomistRepository, SearchIndexer::agronomistChange);
+        searchIndex.commit();
+        searchIndex.refresh();
+        log.info("Rebuilt search index with {} document(s) in {} ms", count,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    private <T> int reindexAll(JpaRepository<T, Long> repository, Function<T, PendingChange> toChange) {
+        int count = 0;
+        Page<T> page = repository.findAll(PageRequest.of(0, batchSize, Sort.by("id")));
+        while (true) {
+            apply(page.getContent().stream().map(toChange).collect(Collectors.toList()));
+            count += page.getNumberOfElements();
+            if (!page.hasNext()) {
+                return count;
+            }
+            page = repository.findAll(page.nextPageable());
+        }
+    }
+
+    private static PendingChange taskChange(Task task) {
+        return new PendingChange(SearchDocument.builder()
+                .type(SearchDocument.Type.TASK)
+                .id(task.getId())
+                .title(task.getTitle())
+                .text(task.getDescription())
+                .build(), task.getZoneId(), null, false);
+    }
+
+    private static PendingChange reportChange(Report report) {
+        return new PendingChange(SearchDocument.builder()
+                .type(SearchDocument.Type.REPORT)
+                .id(report.getId())
+                .text(report.getReportText())
+                .build(), null, report.getTaskId(), false);
+    }
+
+    private static PendingChange agronomistReportChange(AgronomistReport report) {
+        return new PendingChange(SearchDocument.builder()
+                .type(SearchDocument.Type.AGRONOMIST_REPORT)
+                .id(report.getId())
+                .farmId(report.getFarm().getId())
+                .title("Agronomist report (" + report.getStatus() + ")")
+                .text(report.getContent())
+                .build(), null, null, false);
+    }
+
+    private static PendingChange agronomistChange(Agronomist agronomist) {
+        return new PendingChange(SearchDocument.builder()
+                .type(SearchDocument.Type.AGRONOMIST)
+                .id(agronomist.getId())
+                .title(agronomist.getName())
+                .text(agronomist.getSpecialization())
+                .keywords(String.join(" ", Objects.toString(agronomist.getName(), ""),
+                        Objects.toString(agronomist.getEmail(), ""),
+                        Objects.toString(agronomist.getSpecialization(), "")))
+                .build(), null, null, false);
+    }
+
+    // Helper method to load the zone of every task referenced by a report in the batch
+    private Map<Long, Long> resolveTaskZones(List<PendingChange> batch) {
+        Set<Long> taskIds = batch.stream()
+                .map(PendingChange::taskId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, Long> zoneByTask = new HashMap<>();
+        if (!taskIds.isEmpty()) {
+            for (Task task : taskRepository.findAllById(taskIds)) {
+                if (task.getZoneId() != null) {
+                    zoneByTask.put(task.getId(), task.getZoneId());
+                }
+            }
+        }
+        return zoneByTask;
+    }
+
+    // Helper method to resolve the farm of a task without a zone, or of a report on one, from its ownership record
+    private Long ownedFarmOf(SearchDocument document) {
+        ResourceType type = switch (document.getType()) {
+            case TASK -> ResourceType.TASK;
+            case REPORT -> ResourceType.REPORT;
+            default -> null;
+        };
+        if (type == null) {
+            return null;
+        }
+        long farmId = ownershipIndex.farmOf(type, document.getId());
+        return farmId != LongLongHashMap.MISSING ? farmId : null;
+    }
+
+    // Helper method to map every zone in the batch to its farm with a single query
+    private Map<Long, Long> resolveZoneFarms(List<PendingChange> batch, Map<Long, Long> zoneByTask) {
+        Set<Long> zoneIds = batch.stream()
+                .map(PendingChange::zoneId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        zoneIds.addAll(zoneByTask.values());
+        Map<Long, Long> farmByZone = new HashMap<>();
+        if (!zoneIds.isEmpty()) {
+            for (Object[] row : zoneRepository.findZoneFarmIds(zoneIds)) {
+                farmByZone.put((Long) row[0], (Long) row[1]);
+            }
+        }
+        return farmByZone;
+    }
+
+    record PendingChange(SearchDocument document, Long zoneId, Long taskId, boolean delete, long enqueuedAtNanos) {
+
+        PendingChange(SearchDocument document, Long zoneId, Long taskId, boolean delete) {
+            this(document, zoneId, taskId, delete, System.nanoTime());
+        }
+
+        // Lag is measured from commit, not from when the change was first registered
+        PendingChange requeued() {
+            return new PendingChange(document, zoneId, taskId, delete);
+        }
+    }
+}
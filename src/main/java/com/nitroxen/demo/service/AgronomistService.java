@@ -2,6 +2,7 @@ package com.nitroxen.demo.service;
 
 import com.nitroxen.demo.dto.entity.AgronomistDTO;
 import com.nitroxen.demo.dto.entity.AgronomistReportDTO;
+import com.nitroxen.demo.dto.entity.AgronomistSearchPageDTO;
 import java.util.List;
 import java.util.Set;
 
@@ -11,7 +12,7 @@ public interface AgronomistService {
     void deleteAgronomist(Long id);
     List<AgronomistDTO> getAllAgronomists();
     AgronomistDTO getAgronomistById(Long id);
-    List<AgronomistDTO> searchAgronomists(String keyword);
+    AgronomistSearchPageDTO searchAgronomists(String keyword, int page, int size);
     AgronomistDTO assignFarm(Long agronomistId, Long farmId);
     Set<Long> getAssignedFarms(Long agronomistId);
     AgronomistReportDTO createReport(Long agronomistId, AgronomistReportDTO dto);
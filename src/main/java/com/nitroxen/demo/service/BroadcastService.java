@@ -0,0 +1,24 @@
+package com.nitroxen.demo.service;
+
+import com.nitroxen.demo.dto.request.BroadcastRequest;
+import com.nitroxen.demo.dto.response.BroadcastResponse;
+
+public interface BroadcastService {
+
+    /**
+     * Queue a WhatsApp message for every worker of a farm; it is sent in the background
+     * @param farmId Farm ID
+     * @param request Message to send
+     * @param managerId ID of the manager the farm is assigned to
+     * @return The broadcast, with every recipient still pending
+     */
+    BroadcastResponse createBroadcast(Long farmId, BroadcastRequest request, Long managerId);
+
+    /**
+     * Delivery progress of a broadcast
+     * @param id Broadcast ID
+     * @param managerId ID of a manager its farm is assigned to
+     * @return The broadcast and the state of each recipient
+     */
+    BroadcastResponse getBroadcast(Long id, Long managerId);
+}
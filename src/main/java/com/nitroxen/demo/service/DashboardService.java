@@ -0,0 +1,13 @@
+package com.nitroxen.demo.service;
+
+import com.nitroxen.demo.dto.response.OwnerDashboardResponse;
+
+public interface DashboardService {
+
+    /**
+     * Get the totals of every farm of an owner: area, polyhouses, zones per crop type and reservoirs
+     * @param ownerId ID of the farm owner
+     * @return The owner's dashboard
+     */
+    OwnerDashboardResponse getOwnerDashboard(Long ownerId);
+}
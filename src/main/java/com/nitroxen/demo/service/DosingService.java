@@ -0,0 +1,50 @@
+package com.nitroxen.demo.service;
+
+import com.nitroxen.demo.dto.request.StockSolutionRequest;
+import com.nitroxen.demo.dto.response.MixingRecipeResponse;
+import com.nitroxen.demo.dto.response.StockSolutionResponse;
+
+import java.util.List;
+
+public interface DosingService {
+
+    /**
+     * Add a stock solution to a farm
+     * @param farmId ID of the farm
+     * @param request Stock solution definition
+     * @param managerId ID of the manager (for access control)
+     * @return The created stock solution
+     */
+    StockSolutionResponse createStockSolution(Long farmId, StockSolutionRequest request, Long managerId);
+
+    /**
+     * Get the stock solutions of a farm
+     * @param farmId ID of the farm
+     * @param managerId ID of the manager (for access control)
+     * @return List of stock solutions
+     */
+    List<StockSolutionResponse> getStockSolutions(Long farmId, Long managerId);
+
+    /**
+     * Remove a stock solution
+     * @param stockSolutionId ID of the stock solution
+     * @param managerId ID of the manager (for access control)
+     */
+    void deleteStockSolution(Long stockSolutionId, Long managerId);
+
+    /**
+     * Get the mixing recipe of a reservoir for the zones it feeds
+     * @param reservoirId ID of the reservoir
+     * @param managerId ID of the manager (for access control)
+     * @return The recipe
+     */
+    MixingRecipeResponse getReservoirRecipe(Long reservoirId, Long managerId);
+
+    /**
+     * Get the mixing recipes of every reservoir of a farm
+     * @param farmId ID of the farm
+     * @param managerId ID of the manager (for access control)
+     * @return List of recipes
+     */
+    List<MixingRecipeResponse> getFarmRecipes(Long farmId, Long managerId);
+}
@@ -0,0 +1,40 @@
+package com.nitroxen.demo.service;
+
+import com.nitroxen.demo.dto.request.IrrigationProgramRequest;
+import com.nitroxen.demo.dto.response.IrrigationProgramResponse;
+import com.nitroxen.demo.dto.response.IrrigationScheduleResponse;
+
+public interface IrrigationService {
+
+    /**
+     * Create or replace a zone's irrigation program
+     * @param zoneId ID of the zone
+     * @param request Program definition
+     * @param managerId ID of the manager (for access control)
+     * @return The saved program
+     */
+    IrrigationProgramResponse saveProgram(Long zoneId, IrrigationProgramRequest request, Long managerId);
+
+    /**
+     * Get a zone's irrigation program
+     * @param zoneId ID of the zone
+     * @param managerId ID of the manager (for access control)
+     * @return The program
+     */
+    IrrigationProgramResponse getProgram(Long zoneId, Long managerId);
+
+    /**
+     * Remove a zone's irrigation program
+     * @param zoneId ID of the zone
+     * @param managerId ID of the manager (for access control)
+     */
+    void deleteProgram(Long zoneId, Long managerId);
+
+    /**
+     * Get the daily irrigation schedule of a farm
+     * @param farmId ID of the farm
+     * @param managerId ID of the manager (for access control)
+     * @return Scheduled and unscheduled cycles of every programmed zone
+     */
+    IrrigationScheduleResponse getFarmSchedule(Long farmId, Long managerId);
+}
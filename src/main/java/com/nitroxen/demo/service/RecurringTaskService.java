@@ -0,0 +1,31 @@
+package com.nitroxen.demo.service;
+
+import com.nitroxen.demo.dto.request.RecurringTaskRequest;
+import com.nitroxen.demo.dto.response.RecurringTaskResponse;
+
+import java.util.List;
+
+public interface RecurringTaskService {
+
+    /**
+     * Create a recurring task schedule
+     * @param request Schedule definition
+     * @param managerId ID of the manager (for access control)
+     * @return The created schedule
+     */
+    RecurringTaskResponse createSchedule(RecurringTaskRequest request, Long managerId);
+
+    /**
+     * Get all active schedules of a manager
+     * @param managerId ID of the manager
+     * @return List of schedules
+     */
+    List<RecurringTaskResponse> getSchedules(Long managerId);
+
+    /**
+     * Stop a schedule from generating further tasks
+     * @param scheduleId ID of the schedule
+     * @param managerId ID of the manager (for access control)
+     */
+    void cancelSchedule(Long scheduleId, Long managerId);
+}
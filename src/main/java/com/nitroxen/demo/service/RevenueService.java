@@ -0,0 +1,52 @@
+package com.nitroxen.demo.service;
+
+import com.nitroxen.demo.dto.request.RevenueAdjustmentRequest;
+import com.nitroxen.demo.dto.response.BillingRunResponse;
+import com.nitroxen.demo.dto.response.LedgerEntryResponse;
+import com.nitroxen.demo.dto.response.RevenuePeriodResponse;
+import com.nitroxen.demo.dto.response.RevenueResponse;
+
+import java.time.YearMonth;
+import java.util.List;
+
+public interface RevenueService {
+
+    /**
+     * Record every owner's subscription charges for a month; charges already recorded for the month are skipped
+     * @param month Month to bill
+     * @return Counts of billed owners and recorded charges
+     */
+    BillingRunResponse runBilling(YearMonth month);
+
+    /**
+     * Record a manual credit or debit on an owner's ledger
+     * @param request Owner, amount and reason
+     * @param adminId ID of the admin recording it
+     * @return The recorded entry
+     */
+    LedgerEntryResponse recordAdjustment(RevenueAdjustmentRequest request, Long adminId);
+
+    /**
+     * Revenue of every owner billed in a month, read from the monthly aggregates
+     * @param month Month to report
+     * @return Total and per-owner revenue, highest first
+     */
+    RevenueResponse getRevenue(YearMonth month);
+
+    /**
+     * Monthly revenue of an owner over a range of months
+     * @param ownerId ID of the owner
+     * @param from First month (inclusive)
+     * @param to Last month (inclusive)
+     * @return Months with revenue, oldest first
+     */
+    List<RevenuePeriodResponse> getOwnerMonthlyRevenue(Long ownerId, YearMonth from, YearMonth to);
+
+    /**
+     * Daily revenue of an owner within a month
+     * @param ownerId ID of the owner
+     * @param month Month to report
+     * @return Days with revenue, oldest first
+     */
+    List<RevenuePeriodResponse> getOwnerDailyRevenue(Long ownerId, YearMonth month);
+}
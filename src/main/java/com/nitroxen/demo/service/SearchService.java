@@ -0,0 +1,22 @@
+package com.nitroxen.demo.service;
+
+import com.nitroxen.demo.dto.response.SearchResultResponse;
+import com.nitroxen.demo.search.SearchDocument;
+
+import java.util.Set;
+
+public interface SearchService {
+
+    /**
+     * Full-text search over tasks, worker reports and agronomist reports of a manager's farms
+     * @param query Search text
+     * @param farmId Restrict to one farm (must be assigned to the manager), or null for all assigned farms
+     * @param types Document types to include, or empty for all
+     * @param page Zero-based page number
+     * @param size Page size
+     * @param managerId ID of the manager (for access control)
+     * @return Ranked page of matches
+     */
+    SearchResultResponse search(String query, Long farmId, Set<SearchDocument.Type> types,
+                                int page, int size, Long managerId);
+}
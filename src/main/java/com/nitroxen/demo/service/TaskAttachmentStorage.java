@@ -0,0 +1,114 @@
+package com.nitroxen.demo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+@Service
+@Slf4j
+public class TaskAttachmentStorage {
+
+    public static final String URL_PREFIX = "/attachments/";
+
+    private final Path attachmentDir;
+
+    public TaskAttachmentStorage(
+            @Value("${application.tasks.attachment-dir:${java.io.tmpdir}/agriwealth/attachments}") String attachmentDir) {
+        this.attachmentDir = Paths.get(attachmentDir);
+    }
+
+    /**
+     * Store an uploaded file under its SHA-256 content hash, so the same file uploaded
+     * twice (or attached to many tasks) is only written to disk once. Inside a transaction the
+     * file is only published once it commits and is discarded on rollback, so a failed insert
+     * never leaves an attachment behind that no task refers to
+     * @param file Uploaded file
+     * @return URL of the stored attachment
+     */
+    public String store(MultipartFile file) {
+        try {
+            Files.createDirectories(attachmentDir);
+            Path tmp = Files.createTempFile(attachmentDir, "upload-", ".part");
+            String hash;
+            try (InputStream in = new DigestInputStream(file.getInputStream(), MessageDigest.getInstance("SHA-256"))) {
+                Files.copy(in, tmp, StandardCopyOption.REPLACE_EXISTING);
+                hash = HexFormat.of().formatHex(((DigestInputStream) in).getMessageDigest().digest());
+            }
+
+            String fileName = hash + extensionOf(file.getOriginalFilename());
+            Path target = attachmentDir.resolve(fileName);
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        if (status == STATUS_COMMITTED) {
+                            publishAfterCommit(tmp, target);
+                        } else {
+                            discard(tmp);
+                        }
+                    }
+                });
+            } else {
+                publish(tmp, target);
+            }
+            return URL_PREFIX + fileName;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store attachment", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public Path getAttachmentDir() {
+        return attachmentDir;
+    }
+
+    // Helper method to move an uploaded file into place, reusing an identical file stored earlier
+    private void publish(Path tmp, Path target) throws IOException {
+        if (Files.exists(target)) {
+            Files.delete(tmp);
+            log.debug("Attachment {} already stored, reusing it", target.getFileName());
+        } else {
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+    // Helper method to publish once the transaction has committed, when the caller can no longer be failed
+    private void publishAfterCommit(Path tmp, Path target) {
+        try {
+            publish(tmp, target);
+        } catch (IOException e) {
+            log.error("Failed to publish attachment {}", target.getFileName(), e);
+        }
+    }
+
+    // Helper method to drop an upload whose transaction rolled back
+    private void discard(Path tmp) {
+        try {
+            Files.deleteIfExists(tmp);
+        } catch (IOException e) {
+            log.warn("Failed to delete discarded upload {}", tmp, e);
+        }
+    }
+
+    private String extensionOf(String originalFilename) {
+        String extension = StringUtils.getFilenameExtension(originalFilename);
+        return extension == null ? "" : "." + extension.toLowerCase();
+    }
+}
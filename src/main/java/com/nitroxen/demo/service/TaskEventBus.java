@@ -0,0 +1,280 @@
+package com.nitroxen.demo.service;
+
+import com.nitroxen.demo.dto.response.TaskInboxEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process bus pushing task events to workers' Server-Sent Event streams.
+ * <p>
+ * Each subscriber has a bounded buffer drained by a shared executor, so idle
+ * connections (async servlet requests) hold no thread. Heartbeats go through the same
+ * buffer, so only delivery threads ever write to a socket. A subscriber that falls behind,
+ * whose write has been blocked for {@code stall-millis}, or that finds every delivery thread
+ * busy and the delivery queue full, is disconnected and replays what it missed on reconnect
+ * from a bounded per-worker history, using the Last-Event-ID header. Event IDs are seeded
+ * from the clock so they keep increasing across restarts, and are assigned under the worker's
+ * lock so history and delivery follow ID order.
+ */
+@Component
+@Slf4j
+public class TaskEventBus {
+
+    // Queued like an event, sent as an SSE comment
+    private static final TaskInboxEvent HEARTBEAT = TaskInboxEvent.builder().build();
+
+    private final int bufferSize;
+    private final int historySize;
+    private final long emitterTimeoutMillis;
+    private final long stallNanos;
+    private final ExecutorService deliveryExecutor;
+    private final ExecutorService disconnectExecutor;
+    private final long firstSequence = System.currentTimeMillis();
+    private final AtomicLong sequence = new AtomicLong(firstSequence);
+    private final Map<Long, WorkerChannel> channels = new ConcurrentHashMap<>();
+
+    public TaskEventBus(
+            @Value("${application.tasks.inbox.buffer-size:64}") int bufferSize,
+            @Value("${application.tasks.inbox.history-size:100}") int historySize,
+            @Value("${application.tasks.inbox.emitter-timeout-millis:1800000}") long emitterTimeoutMillis,
+            @Value("${application.tasks.inbox.delivery-threads:32}") int deliveryThreads,
+            @Value("${application.tasks.inbox.delivery-queue-size:1000}") int deliveryQueueSize,
+            @Value("${application.tasks.inbox.stall-millis:10000}") long stallMillis) {
+        this.bufferSize = bufferSize;
+        this.historySize = historySize;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.stallNanos = TimeUnit.MILLISECONDS.toNanos(stallMillis);
+        // Threads start on demand up to the cap and exit when idle; a subscriber has at most one drain in flight
+        ThreadPoolExecutor delivery = new ThreadPoolExecutor(deliveryThreads, deliveryThreads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(deliveryQueueSize), daemonThreads("task-inbox-delivery"));
+        delivery.allowCoreThreadTimeOut(true);
+        this.deliveryExecutor = delivery;
+        // Completing an emitter waits for its blocked write, so it is done off the scheduler and delivery threads
+        this.disconnectExecutor = Executors.newSingleThreadExecutor(daemonThreads("task-inbox-disconnect"));
+    }
+
+    /**
+     * Publish an event to a worker; inside a transaction it is held back until commit
+     * @param event Event to publish (ID and timestamp are assigned here)
+     */
+    public void publish(TaskInboxEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(event);
+                }
+            });
+        } else {
+            dispatch(event);
+        }
+    }
+
+    /**
+     * Open a stream for a worker, replaying history newer than the last seen event
+     * @param workerId ID of the worker
+     * @param lastEventId Last-Event-ID sent by a reconnecting client, or null
+     * @return Emitter bound to the HTTP response
+     */
+    public SseEmitter subscribe(Long workerId, Long lastEventId) {
+        return subscribe(workerId, lastEventId, new SseEmitter(emitterTimeoutMillis));
+    }
+
+    SseEmitter subscribe(Long workerId, Long lastEventId, SseEmitter emitter) {
+        WorkerChannel channel = channels.computeIfAbsent(workerId, id -> new WorkerChannel());
+        Subscriber subscriber = new Subscriber(channel, emitter, bufferSize);
+        emitter.onCompletion(() -> channel.subscribers.remove(subscriber));
+        emitter.onTimeout(() -> channel.subscribers.remove(subscriber));
+        emitter.onError(error -> channel.subscribers.remove(subscriber));
+
+        synchronized (channel) {
+            if (lastEventId != null) {
+                replay(channel, subscriber, workerId, lastEventId);
+            }
+            channel.subscribers.add(subscriber);
+        }
+        scheduleDrain(subscriber);
+        return emitter;
+    }
+
+    /**
+     * Number of open streams across all workers
+     */
+    public int getSubscriberCount() {
+        return channels.values().stream().mapToInt(channel -> channel.subscribers.size()).sum();
+    }
+
+    /**
+     * Queue a heartbeat for every idle stream and disconnect streams whose write is stuck;
+     * never writes to a socket itself
+     */
+    @Scheduled(fixedRateString = "${application.tasks.inbox.heartbeat-millis:15000}")
+    public void sendHeartbeats() {
+        long now = System.nanoTime();
+        for (WorkerChannel channel : channels.values()) {
+            for (Subscriber subscriber : channel.subscribers) {
+                long since = subscriber.writingSince;
+                if (since != 0 && now - since > stallNanos) {
+                    log.debug("Task inbox write stalled, disconnecting subscriber");
+                    disconnect(subscriber);
+                } else if (subscriber.buffer.isEmpty() && subscriber.buffer.offer(HEARTBEAT)) {
+                    scheduleDrain(subscriber);
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        deliveryExecutor.shutdownNow();
+        disconnectExecutor.shutdownNow();
+        channels.values().forEach(channel -> channel.subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    private void dispatch(TaskInboxEvent event) {
+        if (event.getOccurredAt() == null) {
+            event.setOccurredAt(LocalDateTime.now());
+        }
+        WorkerChannel channel = channels.computeIfAbsent(event.getWorkerId(), id -> new WorkerChannel());
+        synchronized (channel) {
+            // Numbered under the lock, so a reconnect after ID n never skips a lower ID added later
+            event.setId(sequence.incrementAndGet());
+            channel.history.addLast(event);
+            if (channel.history.size() > historySize) {
+                channel.evictedUpTo = channel.history.removeFirst().getId();
+            }
+            for (Subscriber subscriber : channel.subscribers) {
+                if (subscriber.buffer.offer(event)) {
+                    scheduleDrain(subscriber);
+                } else {
+                    // Slow consumer: drop the connection, the client replays via Last-Event-ID
+                    log.debug("Task inbox buffer full for worker {}, disconnecting subscriber", event.getWorkerId());
+                    disconnect(subscriber);
+                }
+            }
+        }
+    }
+
+    private void replay(WorkerChannel channel, Subscriber subscriber, Long workerId, long lastEventId) {
+        long missed = channel.history.stream().filter(event -> event.getId() > lastEventId).count();
+        if (lastEventId < firstSequence || lastEventId < channel.evictedUpTo || missed > bufferSize) {
+            // History (or this process) no longer covers the gap: ask the client to reload its task list
+            subscriber.buffer.offer(TaskInboxEvent.builder()
+                    .id(sequence.get())
+                    .type(TaskInboxEvent.Type.RESYNC)
+                    .workerId(workerId)
+                    .occurredAt(LocalDateTime.now())
+                    .build());
+            return;
+        }
+        for (TaskInboxEvent event : channel.history) {
+            if (event.getId() > lastEventId) {
+                subscriber.buffer.offer(event);
+            }
+        }
+    }
+
+    private void disconnect(Subscriber subscriber) {
+        if (subscriber.channel.subscribers.remove(subscriber)) {
+            subscriber.buffer.clear();
+            try {
+                disconnectExecutor.execute(subscriber.emitter::complete);
+            } catch (RejectedExecutionException e) {
+                // Shutting down; the container closes the remaining async requests
+            }
+        }
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (!subscriber.buffer.isEmpty() && subscriber.draining.compareAndSet(false, true)) {
+            try {
+                deliveryExecutor.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                // Every delivery thread is blocked and the queue is full: drop the stream, the client replays on reconnect
+                subscriber.draining.set(false);
+                log.debug("Task inbox delivery saturated, disconnecting subscriber");
+                disconnect(subscriber);
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            TaskInboxEvent event;
+            while ((event = subscriber.buffer.poll()) != null) {
+                // Zero means idle, so a start that happens to read zero is nudged
+                long now = System.nanoTime();
+                subscriber.writingSince = now != 0 ? now : 1;
+                if (event == HEARTBEAT) {
+                    subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+                } else {
+                    subscriber.emitter.send(SseEmitter.event()
+                            .id(String.valueOf(event.getId()))
+                            .name(event.getType().name())
+                            .data(event));
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            subscriber.buffer.clear();
+            subscriber.emitter.completeWithError(e);
+            return;
+        } finally {
+            subscriber.writingSince = 0;
+            subscriber.draining.set(false);
+        }
+        // An event may have arrived after the last poll but before the flag was cleared
+        scheduleDrain(subscriber);
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class WorkerChannel {
+        final ArrayDeque<TaskInboxEvent> history = new ArrayDeque<>();
+        final Set<Subscriber> subscribers = new CopyOnWriteArraySet<>();
+        long evictedUpTo;
+    }
+
+    private static final class Subscriber {
+        final WorkerChannel channel;
+        final SseEmitter emitter;
+        final BlockingQueue<TaskInboxEvent> buffer;
+        final AtomicBoolean draining = new AtomicBoolean();
+        volatile long writingSince;
+
+        Subscriber(WorkerChannel channel, SseEmitter emitter, int bufferSize) {
+            this.channel = channel;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+}
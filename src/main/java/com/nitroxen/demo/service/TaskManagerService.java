@@ -1,26 +1,89 @@
 package com.nitroxen.demo.service;
 
+import com.nitroxen.demo.dto.request.BulkTaskAssignmentRequest;
+import com.nitroxen.demo.dto.response.BulkTaskAssignmentResponse;
+import com.nitroxen.demo.dto.response.TaskInboxEvent;
 import com.nitroxen.demo.entity.Report;
 import com.nitroxen.demo.entity.Task;
+import com.nitroxen.demo.enums.ResourceType;
+import com.nitroxen.demo.exception.ResourceNotFoundException;
+import com.nitroxen.demo.exception.ValidationException;
+import com.nitroxen.demo.ownership.OwnershipIndex;
+import com.nitroxen.demo.repository.FarmAssignmentRepository;
 import com.nitroxen.demo.repository.ReportRepository;
 import com.nitroxen.demo.repository.TaskRepository;
+import com.nitroxen.demo.repository.ZoneRepository;
+import com.nitroxen.demo.search.SearchIndexer;
+import com.nitroxen.demo.telemetry.LongLongHashMap;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 public class TaskManagerService {
 
+    static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_TASK_SQL =
+            "INSERT INTO task (title, description, deadline, worker_id, zone_id, created_by, file_url, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
     private final TaskRepository taskRepository;
     private final ReportRepository reportRepository;
+    private final ZoneRepository zoneRepository;
+    private final FarmAssignmentRepository farmAssignmentRepository;
+    private final TaskAttachmentStorage attachmentStorage;
+    private final JdbcTemplate jdbcTemplate;
+    private final TaskEventBus taskEventBus;
+    private final SearchIndexer searchIndexer;
+    private final OwnershipIndex ownershipIndex;
 
-    public TaskManagerService(TaskRepository taskRepository, ReportRepository reportRepository) {
+    public TaskManagerService(TaskRepository taskRepository,
+                              ReportRepository reportRepository,
+                              ZoneRepository zoneRepository,
+                              FarmAssignmentRepository farmAssignmentRepository,
+                              TaskAttachmentStorage attachmentStorage,
+                              JdbcTemplate jdbcTemplate,
+                              TaskEventBus taskEventBus,
+                              SearchIndexer searchIndexer,
+                              OwnershipIndex ownershipIndex) {
         this.taskRepository = taskRepository;
         this.reportRepository = reportRepository;
+        this.zoneRepository = zoneRepository;
+        this.farmAssignmentRepository = farmAssignmentRepository;
+        this.attachmentStorage = attachmentStorage;
+        this.jdbcTemplate = jdbcTemplate;
+        this.taskEventBus = taskEventBus;
+        this.searchIndexer = searchIndexer;
+        this.ownershipIndex = ownershipIndex;
     }
 
-    public void assignTask(String title, String description, Long workerId, String deadline, MultipartFile file) {
+    /**
+     * Assign a task without a zone to one worker. The task belongs to the given farm, which must be
+     * assigned to the manager, or when none is given to the manager's only farm.
+     */
+    @Transactional
+    public void assignTask(String title, String description, Long workerId, String deadline, Long farmId,
+                           MultipartFile file, Long managerId) {
+        long taskFarmId = farmForZonelessTasks(managerId, farmId);
         // Logic to save task in the database
         Task task = new Task();
         task.setTitle(title);
@@ -28,29 +91,196 @@ public class TaskManagerService {
         task.setWorkerId(workerId);
         task.setDeadline(deadline);
         if (file != null) {
-            // Logic to save file and set file URL
-            task.setFileUrl("/path/to/saved/file");
+            task.setFileUrl(attachmentStorage.store(file));
+        }
+        Task savedTask = taskRepository.save(task);
+        ownershipIndex.registerAll(ResourceType.TASK, Map.of(savedTask.getId(), taskFarmId));
+        searchIndexer.indexTask(savedTask);
+        taskEventBus.publish(TaskInboxEvent.builder()
+                .type(TaskInboxEvent.Type.TASK_ASSIGNED)
+                .workerId(workerId)
+                .taskId(savedTask.getId())
+                .title(title)
+                .deadline(deadline)
+                .build());
+    }
+
+    /**
+     * Assign one task template to many worker/zone targets in a single transaction.
+     * Duplicate targets are dropped, the attachment is stored once and shared by every
+     * task, and rows are written with JDBC batch inserts (Task uses IDENTITY ids, which
+     * disables Hibernate's own insert batching). Generated IDs are read back so the new
+     * tasks can be pushed to workers and indexed for search. Targets without a zone belong to
+     * the request's farm, or the manager's only farm, as for a single task.
+     */
+    @Transactional
+    public BulkTaskAssignmentResponse assignTasks(BulkTaskAssignmentRequest request, MultipartFile file,
+                                                  Long managerId, String createdBy) {
+        Set<BulkTaskAssignmentRequest.Target> targets = new LinkedHashSet<>(request.getTargets());
+        int duplicates = request.getTargets().size() - targets.size();
+
+        Map<Long, Long> farmByZone = verifyZonesAssignedToManager(targets, managerId);
+        Long zonelessFarmId = targets.stream().anyMatch(target -> target.getZoneId() == null)
+                ? farmForZonelessTasks(managerId, request.getFarmId())
+                : null;
+
+        String fileUrl = file != null && !file.isEmpty() ? attachmentStorage.store(file) : null;
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+
+        List<BulkTaskAssignmentRequest.Target> rows = new ArrayList<>(targets);
+        List<Long> taskIds = insertTasks(request, rows, fileUrl, createdBy, createdAt);
+
+        Map<Long, Long> farmByTask = new HashMap<>();
+        for (int i = 0; i < taskIds.size(); i++) {
+            Long zoneId = rows.get(i).getZoneId();
+            farmByTask.put(taskIds.get(i), zoneId != null ? farmByZone.get(zoneId) : zonelessFarmId);
+        }
+        ownershipIndex.registerAll(ResourceType.TASK, farmByTask);
+
+        for (int i = 0; i < rows.size(); i++) {
+            BulkTaskAssignmentRequest.Target target = rows.get(i);
+            Long taskId = taskIds.get(i);
+            taskEventBus.publish(TaskInboxEvent.builder()
+                    .type(TaskInboxEvent.Type.TASK_ASSIGNED)
+                    .workerId(target.getWorkerId())
+                    .taskId(taskId)
+                    .zoneId(target.getZoneId())
+                    .title(request.getTitle())
+                    .deadline(request.getDeadline())
+                    .build());
+            Task task = new Task();
+            task.setId(taskId);
+            task.setTitle(request.getTitle());
+            task.setDescription(request.getDescription());
+            task.setZoneId(target.getZoneId());
+            searchIndexer.indexTask(task);
+        }
+
+        return BulkTaskAssignmentResponse.builder()
+                .assignedCount(targets.size())
+                .duplicateTargets(duplicates)
+                .fileUrl(fileUrl)
+                .build();
+    }
+
+    // Helper method to insert tasks in JDBC batches of BATCH_SIZE, returning the generated IDs in row order
+    private List<Long> insertTasks(BulkTaskAssignmentRequest request, List<BulkTaskAssignmentRequest.Target> rows,
+                                   String fileUrl, String createdBy, Timestamp createdAt) {
+        List<Long> taskIds = new ArrayList<>(rows.size());
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            List<BulkTaskAssignmentRequest.Target> chunk = rows.subList(from, Math.min(from + BATCH_SIZE, rows.size()));
+            GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_TASK_SQL, new String[]{"id"}),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            BulkTaskAssignmentRequest.Target target = chunk.get(i);
+                            ps.setString(1, request.getTitle());
+                            ps.setString(2, request.getDescription());
+                            ps.setString(3, request.getDeadline());
+                            ps.setLong(4, target.getWorkerId());
+                            if (target.getZoneId() != null) {
+                                ps.setLong(5, target.getZoneId());
+                            } else {
+                                ps.setNull(5, Types.BIGINT);
+                            }
+                            ps.setString(6, createdBy);
+                            ps.setString(7, fileUrl);
+                            ps.setTimestamp(8, createdAt);
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return chunk.size();
+                        }
+                    }, keyHolder);
+            // Without an ID per row the tasks cannot be pushed, indexed or owned, so roll the batch back
+            if (keyHolder.getKeyList().size() != chunk.size()) {
+                throw new IllegalStateException("Expected " + chunk.size() + " generated task IDs but the driver returned "
+                        + keyHolder.getKeyList().size());
+            }
+            // Key column names differ between drivers (GENERATED_KEY on MySQL, ID on H2)
+            for (Map<String, Object> keys : keyHolder.getKeyList()) {
+                taskIds.add(((Number) keys.values().iterator().next()).longValue());
+            }
         }
-        taskRepository.save(task);
+        return taskIds;
     }
 
     public List<Task> getTasksByWorkerId(Long workerId) {
         return taskRepository.findByWorkerId(workerId);
     }
 
+    @Transactional
     public void submitReport(Long taskId, String reportText, MultipartFile file) {
         // Logic to save report in the database
         Report report = new Report();
         report.setTaskId(taskId);
         report.setReportText(reportText);
         if (file != null) {
-            // Logic to save file and set file URL
-            report.setFileUrl("/path/to/saved/file");
+            report.setFileUrl(attachmentStorage.store(file));
+        }
+        Report savedReport = reportRepository.save(report);
+        long farmId = ownershipIndex.farmOf(ResourceType.TASK, taskId);
+        if (farmId != LongLongHashMap.MISSING) {
+            ownershipIndex.register(ResourceType.REPORT, savedReport.getId(), farmId,
+                    ownershipIndex.ownerOf(ResourceType.TASK, taskId));
         }
-        reportRepository.save(report);
+        searchIndexer.indexReport(savedReport);
+
+        taskRepository.findById(taskId).ifPresent(task -> taskEventBus.publish(TaskInboxEvent.builder()
+                .type(TaskInboxEvent.Type.REPORT_SUBMITTED)
+                .workerId(task.getWorkerId())
+                .taskId(taskId)
+                .title(task.getTitle())
+                .build()));
     }
 
     public List<Report> getReportsByTaskId(Long taskId) {
         return reportRepository.findByTaskId(taskId);
     }
+
+    // Helper method to check every targeted zone exists and lies in a farm assigned to the manager, returning zone ID → farm ID
+    private Map<Long, Long> verifyZonesAssignedToManager(Set<BulkTaskAssignmentRequest.Target> targets, Long managerId) {
+        Set<Long> zoneIds = targets.stream()
+                .map(BulkTaskAssignmentRequest.Target::getZoneId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (zoneIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Long> farmByZone = new HashMap<>();
+        for (Object[] row : zoneRepository.findZoneFarmIds(zoneIds)) {
+            farmByZone.put((Long) row[0], (Long) row[1]);
+        }
+        for (Long zoneId : zoneIds) {
+            if (!farmByZone.containsKey(zoneId)) {
+                throw new ResourceNotFoundException("Zone not found with id: " + zoneId);
+            }
+        }
+
+        Set<Long> assignedFarmIds = new HashSet<>(farmAssignmentRepository.findAssignedFarmIdsByManagerId(managerId));
+        for (Map.Entry<Long, Long> entry : farmByZone.entrySet()) {
+            if (!assignedFarmIds.contains(entry.getValue())) {
+                throw new ValidationException("Zone " + entry.getKey() + " is not in a farm assigned to this manager");
+            }
+        }
+        return farmByZone;
+    }
+
+    // Helper method to pick the farm of tasks without a zone: the given farm if it is assigned to the manager, else the manager's only farm
+    private long farmForZonelessTasks(Long managerId, Long farmId) {
+        List<Long> assignedFarmIds = farmAssignmentRepository.findAssignedFarmIdsByManagerId(managerId);
+        if (farmId != null) {
+            if (!assignedFarmIds.contains(farmId)) {
+                throw new ValidationException("Farm not assigned to this manager");
+            }
+            return farmId;
+        }
+        if (assignedFarmIds.size() != 1) {
+            throw new ValidationException("A farm ID is required for tasks without a zone when the manager is not assigned to exactly one farm");
+        }
+        return assignedFarmIds.get(0);
+    }
 }
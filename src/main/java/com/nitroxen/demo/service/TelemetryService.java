@@ -0,0 +1,34 @@
+package com.nitroxen.demo.service;
+
+import com.nitroxen.demo.dto.request.TelemetryIngestRequest;
+import com.nitroxen.demo.dto.response.TelemetryIngestResponse;
+import com.nitroxen.demo.dto.response.TelemetrySeriesResponse;
+import com.nitroxen.demo.entity.User;
+import com.nitroxen.demo.telemetry.Aggregation;
+import com.nitroxen.demo.telemetry.Metric;
+
+public interface TelemetryService {
+
+    /**
+     * Validate a batch of zone and reservoir readings and queue it for storage. The batch is accepted whole or not at all.
+     * @param request Readings as parallel arrays
+     * @param caller User submitting the readings (every zone and reservoir must be in a farm they can access)
+     * @return Number of accepted readings
+     * @throws com.nitroxen.demo.exception.TooManyRequestsException if the ingestion buffer is full
+     */
+    TelemetryIngestResponse ingest(TelemetryIngestRequest request, User caller);
+
+    /**
+     * Aggregate one metric of several zones (or reservoirs, for reservoir metrics) over steps of [from, to)
+     * @param sourceIds Zones or reservoirs to chart
+     * @param metric Metric to aggregate
+     * @param from Start of the range in epoch milliseconds
+     * @param to End of the range (exclusive) in epoch milliseconds
+     * @param step Step width in milliseconds
+     * @param aggregation Aggregate computed per step
+     * @param caller User querying (every source must be in a farm they can access)
+     * @return One series per source, in request order
+     */
+    TelemetrySeriesResponse query(long[] sourceIds, Metric metric, long from, long to, long step,
+                                  Aggregation aggregation, User caller);
+}
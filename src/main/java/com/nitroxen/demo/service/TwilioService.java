@@ -1,8 +1,10 @@
 package com.nitroxen.demo.service;
 
 import com.twilio.Twilio;
+import com.twilio.rest.api.v2010.account.Message;
 import com.twilio.rest.verify.v2.service.Verification;
 import com.twilio.rest.verify.v2.service.VerificationCheck;
+import com.twilio.type.PhoneNumber;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -22,6 +24,9 @@ public class TwilioService {
     @Value("${application.twilio.verify-service-sid}")
     private String verifyServiceSid;
 
+    @Value("${application.twilio.whatsapp-from-number}")
+    private String whatsappFromNumber;
+
     @PostConstruct
     public void initTwilio() {
         Twilio.init(accountSid, authToken);
@@ -120,6 +125,30 @@ public class TwilioService {
         }
     }
 
+    /**
+     * Send a free-form WhatsApp message
+     * @param phoneNumber Phone number in E.164 format
+     * @param body Message text
+     * @return Sent message
+     */
+    public Message sendWhatsAppMessage(String phoneNumber, String body) {
+        try {
+            Message message = Message.creator(
+                    new PhoneNumber("whatsapp:" + phoneNumber),
+                    new PhoneNumber(whatsappFromNumber),
+                    body
+            ).create();
+
+            log.info("WhatsApp message sent to {}. Status: {}, SID: {}",
+                    maskPhoneNumber(phoneNumber), message.getStatus(), message.getSid());
+            return message;
+
+        } catch (Exception e) {
+            log.error("Failed to send WhatsApp message to {}: {}", maskPhoneNumber(phoneNumber), e.getMessage());
+            throw new RuntimeException("Failed to send WhatsApp message: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * Mask phone number for logging security
      * @param phoneNumber Original phone number
@@ -8,6 +8,8 @@ import com.nitroxen.demo.exception.ResourceNotFoundException;
 import com.nitroxen.demo.exception.ValidationException;
 import com.nitroxen.demo.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -21,6 +23,8 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class UserService implements UserDetailsService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
 
@@ -32,6 +36,8 @@ public class UserService implements UserDetailsService {
 
     public UserResponse createUser(CreateUserRequest request, Long createdBy) {
         validateUserCreation(request);
+        User creator = userRepository.findById(createdBy)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + createdBy));
 
         User user = User.builder()
                 .name(request.getName())
@@ -40,6 +46,8 @@ public class UserService implements UserDetailsService {
                 .password(passwordEncoder.encode(request.getPassword()))
                 .role(request.getRole())
                 .enabled(true)
+                .createdBy(creator.getId())
+                .ownerId(teamOwnerOf(creator))
                 .build();
 
         User savedUser = userRepository.save(user);
@@ -53,9 +61,52 @@ public class UserService implements UserDetailsService {
                 .collect(Collectors.toList());
     }
 
-    public List<UserResponse> getUsersCreatedBy(Long createdBy, Role role) {
-        // Since User entity doesn't have createdBy field, we'll return users by role for now
-        return getUsersByRole(role);
+    /**
+     * Users of a role created directly by a user, oldest first
+     * @param createdBy ID of the creating user
+     * @param role Role of the users to return
+     * @param page Zero-based page number
+     * @param size Page size, at most 100
+     * @return One page of users
+     */
+    public List<UserResponse> getUsersCreatedBy(Long createdBy, Role role, int page, int size) {
+        return userRepository.findByCreatedByAndRole(createdBy, role, pageOf(page, size))
+                .stream()
+                .map(this::mapToUserResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Users of a role anywhere under an owner, whether the owner or one of their managers created them, oldest first
+     * @param ownerId Owner ID
+     * @param role Role of the users to return
+     * @param page Zero-based page number
+     * @param size Page size, at most 100
+     * @return One page of users
+     */
+    public List<UserResponse> getTeamUsers(Long ownerId, Role role, int page, int size) {
+        return userRepository.findByOwnerIdAndRole(ownerId, role, pageOf(page, size))
+                .stream()
+                .map(this::mapToUserResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Managers or workers that belong to no owner's team, such as accounts created before teams were
+     * recorded that the migration could not place, oldest first
+     * @param role MANAGER or WORKER
+     * @param page Zero-based page number
+     * @param size Page size, at most 100
+     * @return One page of users
+     */
+    public List<UserResponse> getUnattachedUsers(Role role, int page, int size) {
+        if (role != Role.MANAGER && role != Role.WORKER) {
+            throw new ValidationException("Only managers and workers belong to a team");
+        }
+        return userRepository.findByOwnerIdIsNullAndRole(role, pageOf(page, size))
+                .stream()
+                .map(this::mapToUserResponse)
+                .collect(Collectors.toList());
     }
 
     public User findByPhoneNumber(String phoneNumber) {
@@ -84,6 +135,19 @@ public class UserService implements UserDetailsService {
         return userRepository.save(user);
     }
 
+    // Helper method to find the team a new account joins: the creating owner's, or the creating manager's owner's
+    private static Long teamOwnerOf(User creator) {
+        return creator.getRole() == Role.OWNER ? creator.getId() : creator.getOwnerId();
+    }
+
+    // Ordered by ID, which the (created_by, role) and (owner_id, role) indexes already hold in order
+    private static PageRequest pageOf(int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ValidationException("Page must be non-negative and size between 1 and " + MAX_PAGE_SIZE);
+        }
+        return PageRequest.of(page, size, Sort.by("id"));
+    }
+
     private void validateUserCreation(CreateUserRequest request) {
         if (userRepository.existsByPhoneNumber(request.getPhoneNumber())) {
             throw new ValidationException("Phone number already exists");
@@ -104,6 +168,7 @@ public class UserService implements UserDetailsService {
                 .enabled(user.getEnabled())
                 .createdAt(user.getCreatedDate())
                 .updatedAt(user.getLastModifiedDate())
+                .createdBy(user.getCreatedBy())
                 .build();
     }
 }
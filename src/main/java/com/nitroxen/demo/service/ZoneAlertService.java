@@ -0,0 +1,27 @@
+package com.nitroxen.demo.service;
+
+import com.nitroxen.demo.entity.ZoneAlert;
+import com.nitroxen.demo.telemetry.alert.AlertEvent;
+import com.nitroxen.demo.telemetry.alert.AlertNotification;
+
+import java.util.Optional;
+
+public interface ZoneAlertService {
+
+    /**
+     * Open an alert for the zone and metric and queue its notification in the same transaction
+     * @return the new alert, or empty if one was already open (it is updated instead)
+     */
+    Optional<ZoneAlert> raise(AlertEvent event);
+
+    /**
+     * Resolve the open alert of the zone and metric and queue its notification in the same transaction
+     * @return the resolved alert, or empty if none was open
+     */
+    Optional<ZoneAlert> resolve(AlertEvent event);
+
+    /**
+     * Zone and farm names plus the phone numbers of the farm owner and its active managers
+     */
+    AlertNotification notificationFor(ZoneAlert alert);
+}
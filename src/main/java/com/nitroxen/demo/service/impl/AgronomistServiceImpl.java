@@ -2,12 +2,19 @@ package com.nitroxen.demo.service.impl;
 
 import com.nitroxen.demo.dto.entity.AgronomistDTO;
 import com.nitroxen.demo.dto.entity.AgronomistReportDTO;
+import com.nitroxen.demo.dto.entity.AgronomistSearchPageDTO;
 import com.nitroxen.demo.entity.Agronomist;
 import com.nitroxen.demo.entity.AgronomistReport;
 import com.nitroxen.demo.entity.Farm;
+import com.nitroxen.demo.enums.ResourceType;
+import com.nitroxen.demo.exception.ValidationException;
+import com.nitroxen.demo.ownership.OwnershipIndex;
 import com.nitroxen.demo.repository.AgronomistRepository;
 import com.nitroxen.demo.repository.AgronomistReportRepository;
 import com.nitroxen.demo.repository.FarmRepository;
+import com.nitroxen.demo.search.SearchDocument;
+import com.nitroxen.demo.search.SearchIndex;
+import com.nitroxen.demo.search.SearchIndexer;
 import com.nitroxen.demo.service.AgronomistService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -15,7 +22,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,14 +33,22 @@ import java.util.stream.Collectors;
 @Transactional
 public class AgronomistServiceImpl implements AgronomistService {
 
+    static final int MAX_SEARCH_PAGE_SIZE = 100;
+    static final int MAX_SEARCH_RESULT_WINDOW = 1000;
+
     private final AgronomistRepository agronomistRepository;
     private final FarmRepository farmRepository;
     private final AgronomistReportRepository reportRepository;
+    private final SearchIndexer searchIndexer;
+    private final SearchIndex searchIndex;
+    private final OwnershipIndex ownershipIndex;
 
     @Override
     public AgronomistDTO createAgronomist(AgronomistDTO dto) {
         Agronomist agronomist = convertToEntity(dto);
-        return convertToDto(agronomistRepository.save(agronomist));
+        Agronomist savedAgronomist = agronomistRepository.save(agronomist);
+        searchIndexer.indexAgronomist(savedAgronomist);
+        return convertToDto(savedAgronomist);
     }
 
     @Override
@@ -39,12 +57,15 @@ public class AgronomistServiceImpl implements AgronomistService {
             .orElseThrow(() -> new EntityNotFoundException("Agronomist not found"));
         
         updateEntityFromDto(agronomist, dto);
-        return convertToDto(agronomistRepository.save(agronomist));
+        Agronomist savedAgronomist = agronomistRepository.save(agronomist);
+        searchIndexer.indexAgronomist(savedAgronomist);
+        return convertToDto(savedAgronomist);
     }
 
     @Override
     public void deleteAgronomist(Long id) {
         agronomistRepository.deleteById(id);
+        searchIndexer.remove(SearchDocument.Type.AGRONOMIST, id);
     }
 
     @Override
@@ -62,10 +83,32 @@ public class AgronomistServiceImpl implements AgronomistService {
     }
 
     @Override
-    public List<AgronomistDTO> searchAgronomists(String keyword) {
-        return agronomistRepository.findByNameContainingIgnoreCase(keyword).stream()
-            .map(this::convertToDto)
-            .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public AgronomistSearchPageDTO searchAgronomists(String keyword, int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_SEARCH_PAGE_SIZE) {
+            throw new ValidationException("Page must be non-negative and size between 1 and " + MAX_SEARCH_PAGE_SIZE);
+        }
+        if ((page + 1) * size > MAX_SEARCH_RESULT_WINDOW) {
+            throw new ValidationException("Results beyond the first " + MAX_SEARCH_RESULT_WINDOW + " are not available, refine the keyword");
+        }
+
+        // Ranked word-prefix match over name, email and specialization, served by the search index
+        SearchIndex.Page hits = searchIndex.searchKeywords(keyword, SearchDocument.Type.AGRONOMIST, page, size);
+        List<Long> ids = hits.hits().stream().map(SearchIndex.Hit::id).collect(Collectors.toList());
+        Map<Long, Agronomist> agronomists = agronomistRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(Agronomist::getId, Function.identity()));
+
+        return AgronomistSearchPageDTO.builder()
+            .keyword(keyword)
+            .total(hits.total())
+            .page(page)
+            .size(size)
+            .results(ids.stream()
+                .map(agronomists::get)
+                .filter(Objects::nonNull)
+                .map(this::convertToDto)
+                .collect(Collectors.toList()))
+            .build();
     }
 
     @Override
@@ -102,7 +145,10 @@ public class AgronomistServiceImpl implements AgronomistService {
             .status(dto.getStatus())
             .build();
 
-        return convertToReportDto(reportRepository.save(report));
+        AgronomistReport savedReport = reportRepository.save(report);
+        ownershipIndex.register(ResourceType.AGRONOMIST_REPORT, savedReport.getId(), farm.getId(), farm.getOwner().getId());
+        searchIndexer.indexAgronomistReport(savedReport);
+        return convertToReportDto(savedReport);
     }
 
     @Override
@@ -127,12 +173,16 @@ public class AgronomistServiceImpl implements AgronomistService {
         report.setContent(dto.getContent());
         report.setStatus(dto.getStatus());
         
-        return convertToReportDto(reportRepository.save(report));
+        AgronomistReport savedReport = reportRepository.save(report);
+        searchIndexer.indexAgronomistReport(savedReport);
+        return convertToReportDto(savedReport);
     }
 
     @Override
     public void deleteReport(Long reportId) {
         reportRepository.deleteById(reportId);
+        ownershipIndex.unregister(ResourceType.AGRONOMIST_REPORT, List.of(reportId));
+        searchIndexer.remove(SearchDocument.Type.AGRONOMIST_REPORT, reportId);
     }
 
     private Agronomist convertToEntity(AgronomistDTO dto) {
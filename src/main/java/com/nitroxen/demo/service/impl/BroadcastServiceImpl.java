@@ -0,0 +1,134 @@
+package com.nitroxen.demo.service.impl;
+
+import com.nitroxen.demo.dto.request.BroadcastRequest;
+import com.nitroxen.demo.dto.response.BroadcastRecipientResponse;
+import com.nitroxen.demo.dto.response.BroadcastResponse;
+import com.nitroxen.demo.entity.Broadcast;
+import com.nitroxen.demo.enums.NotificationCategory;
+import com.nitroxen.demo.enums.NotificationStatus;
+import com.nitroxen.demo.exception.ResourceNotFoundException;
+import com.nitroxen.demo.exception.ValidationException;
+import com.nitroxen.demo.notification.NotificationOutbox;
+import com.nitroxen.demo.repository.BroadcastRepository;
+import com.nitroxen.demo.repository.FarmAssignmentRepository;
+import com.nitroxen.demo.repository.OutboundNotificationRepository;
+import com.nitroxen.demo.repository.UserRepository;
+import com.nitroxen.demo.service.BroadcastService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+@Service
+@RequiredArgsConstructor
+public class BroadcastServiceImpl implements BroadcastService {
+
+    private static final Pattern PHONE_SEPARATORS = Pattern.compile("[\\s\\-().]");
+
+    private final BroadcastRepository broadcastRepository;
+    private final FarmAssignmentRepository farmAssignmentRepository;
+    private final UserRepository userRepository;
+    private final OutboundNotificationRepository outboundNotificationRepository;
+    private final NotificationOutbox notificationOutbox;
+
+    @Override
+    @Transactional
+    public BroadcastResponse createBroadcast(Long farmId, BroadcastRequest request, Long managerId) {
+        verifyFarmAssigned(farmId, managerId);
+
+        Set<String> phoneNumbers = new LinkedHashSet<>();
+        for (String phoneNumber : userRepository.findWorkerPhoneNumbersByFarmId(farmId)) {
+            String normalized = normalizePhoneNumber(phoneNumber);
+            if (!normalized.isEmpty()) {
+                phoneNumbers.add(normalized);
+            }
+        }
+        if (phoneNumbers.isEmpty()) {
+            throw new ValidationException("No worker with a phone number has tasks on this farm");
+        }
+
+        Broadcast broadcast = broadcastRepository.save(Broadcast.builder()
+                .farmId(farmId)
+                .managerId(managerId)
+                .message(request.getMessage())
+                .recipientCount(phoneNumbers.size())
+                .build());
+        // Sent by the notification relay once this transaction commits
+        notificationOutbox.enqueue(NotificationCategory.BROADCAST, referenceOf(broadcast), phoneNumbers,
+                request.getMessage());
+
+        return mapToBroadcastResponse(broadcast, phoneNumbers.stream()
+                .map(phoneNumber -> BroadcastRecipientResponse.builder()
+                        .phoneNumber(phoneNumber)
+                        .status(NotificationStatus.PENDING)
+                        .attempts(0)
+                        .build())
+                .toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BroadcastResponse getBroadcast(Long id, Long managerId) {
+        Broadcast broadcast = broadcastRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Broadcast not found with id: " + id));
+        verifyFarmAssigned(broadcast.getFarmId(), managerId);
+
+        List<BroadcastRecipientResponse> recipients = outboundNotificationRepository
+                .findByReferenceOrderById(referenceOf(broadcast)).stream()
+                .map(delivery -> BroadcastRecipientResponse.builder()
+                        .phoneNumber(delivery.getPhoneNumber())
+                        .status(delivery.getStatus())
+                        .attempts(delivery.getAttempts())
+                        .sentAt(delivery.getSentAt())
+                        .lastError(delivery.getLastError())
+                        .build())
+                .toList();
+        return mapToBroadcastResponse(broadcast, recipients);
+    }
+
+    // Helper method to verify the farm is assigned to the manager
+    private void verifyFarmAssigned(Long farmId, Long managerId) {
+        if (!farmAssignmentRepository.existsByFarmIdAndManagerIdAndActiveTrue(farmId, managerId)) {
+            throw new ValidationException("Farm not assigned to this manager");
+        }
+    }
+
+    // Helper method to map a broadcast with its recipients and their totals per delivery state
+    private BroadcastResponse mapToBroadcastResponse(Broadcast broadcast, List<BroadcastRecipientResponse> recipients) {
+        int pending = 0;
+        int sent = 0;
+        int failed = 0;
+        for (BroadcastRecipientResponse recipient : recipients) {
+            switch (recipient.getStatus()) {
+                case PENDING -> pending++;
+                case SENT -> sent++;
+                case FAILED -> failed++;
+            }
+        }
+        return BroadcastResponse.builder()
+                .id(broadcast.getId())
+                .farmId(broadcast.getFarmId())
+                .message(broadcast.getMessage())
+                .recipientCount(broadcast.getRecipientCount())
+                .pending(pending)
+                .sent(sent)
+                .failed(failed)
+                .complete(pending == 0)
+                .recipients(recipients)
+                .createdAt(broadcast.getCreatedAt())
+                .build();
+    }
+
+    private static String referenceOf(Broadcast broadcast) {
+        return "broadcast:" + broadcast.getId();
+    }
+
+    // Numbers that differ only in spacing or punctuation reach the same phone
+    static String normalizePhoneNumber(String phoneNumber) {
+        return PHONE_SEPARATORS.matcher(phoneNumber).replaceAll("");
+    }
+}
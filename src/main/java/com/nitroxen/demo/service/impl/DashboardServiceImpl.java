@@ -0,0 +1,112 @@
+package com.nitroxen.demo.service.impl;
+
+import com.nitroxen.demo.dashboard.OwnerDashboardCache;
+import com.nitroxen.demo.dto.response.CropZoneCountResponse;
+import com.nitroxen.demo.dto.response.FarmSummaryResponse;
+import com.nitroxen.demo.dto.response.OwnerDashboardResponse;
+import com.nitroxen.demo.dto.response.ReservoirSummaryResponse;
+import com.nitroxen.demo.repository.FarmRepository;
+import com.nitroxen.demo.repository.PolyhouseRepository;
+import com.nitroxen.demo.repository.ReservoirRepository;
+import com.nitroxen.demo.repository.ZoneRepository;
+import com.nitroxen.demo.service.DashboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class DashboardServiceImpl implements DashboardService {
+
+    private final FarmRepository farmRepository;
+    private final PolyhouseRepository polyhouseRepository;
+    private final ZoneRepository zoneRepository;
+    private final ReservoirRepository reservoirRepository;
+    private final OwnerDashboardCache dashboardCache;
+
+    @Override
+    @Transactional(readOnly = true)
+    public OwnerDashboardResponse getOwnerDashboard(Long ownerId) {
+        return dashboardCache.get(ownerId, () -> buildDashboard(ownerId));
+    }
+
+    // Helper method to assemble the dashboard from one grouped query per level of the hierarchy
+    private OwnerDashboardResponse buildDashboard(Long ownerId) {
+        Map<Long, FarmSummaryResponse> farms = new LinkedHashMap<>();
+        for (Object[] row : farmRepository.findDashboardFarmsByOwnerId(ownerId)) {
+            double totalArea = row[3] == null ? 0 : ((Number) row[3]).doubleValue();
+            farms.put((Long) row[0], FarmSummaryResponse.builder()
+                    .farmId((Long) row[0])
+                    .name((String) row[1])
+                    .location((String) row[2])
+                    .totalArea(totalArea)
+                    .remainingArea(totalArea)
+                    .zonesByCropType(new ArrayList<>())
+                    .reservoirs(new ArrayList<>())
+                    .build());
+        }
+
+        for (Object[] row : polyhouseRepository.countAndSumAreaByFarmForOwner(ownerId)) {
+            FarmSummaryResponse farm = farms.get((Long) row[0]);
+            if (farm != null) {
+                double usedArea = ((Number) row[2]).doubleValue();
+                farm.setPolyhouseCount(((Number) row[1]).longValue());
+                farm.setUsedArea(usedArea);
+                farm.setRemainingArea(farm.getTotalArea() - usedArea);
+            }
+        }
+
+        for (Object[] row : zoneRepository.countByFarmAndCropTypeForOwner(ownerId)) {
+            FarmSummaryResponse farm = farms.get((Long) row[0]);
+            if (farm != null) {
+                long zoneCount = ((Number) row[2]).longValue();
+                farm.getZonesByCropType().add(CropZoneCountResponse.builder()
+                        .cropType((String) row[1])
+                        .zoneCount(zoneCount)
+                        .build());
+                farm.setZoneCount(farm.getZoneCount() + zoneCount);
+                farm.setUnservedZoneCount(farm.getUnservedZoneCount() + ((Number) row[3]).longValue());
+            }
+        }
+
+        for (Object[] row : reservoirRepository.findServingZoneCountsByOwnerId(ownerId)) {
+            FarmSummaryResponse farm = farms.get((Long) row[0]);
+            if (farm != null) {
+                Double capacity = (Double) row[3];
+                farm.getReservoirs().add(ReservoirSummaryResponse.builder()
+                        .reservoirId((Long) row[1])
+                        .name((String) row[2])
+                        .capacity(capacity)
+                        .servingZoneCount(((Number) row[4]).longValue())
+                        .build());
+                farm.setReservoirCount(farm.getReservoirCount() + 1);
+                farm.setReservoirCapacity(farm.getReservoirCapacity() + (capacity == null ? 0 : capacity));
+            }
+        }
+
+        OwnerDashboardResponse dashboard = OwnerDashboardResponse.builder()
+                .ownerId(ownerId)
+                .farmCount(farms.size())
+                .farms(new ArrayList<>(farms.values()))
+                .generatedAt(LocalDateTime.now())
+                .build();
+        for (FarmSummaryResponse farm : dashboard.getFarms()) {
+            farm.getZonesByCropType().sort(Comparator.comparingLong(CropZoneCountResponse::getZoneCount).reversed()
+                    .thenComparing(CropZoneCountResponse::getCropType, Comparator.nullsLast(Comparator.naturalOrder())));
+            dashboard.setTotalArea(dashboard.getTotalArea() + farm.getTotalArea());
+            dashboard.setUsedArea(dashboard.getUsedArea() + farm.getUsedArea());
+            dashboard.setPolyhouseCount(dashboard.getPolyhouseCount() + farm.getPolyhouseCount());
+            dashboard.setZoneCount(dashboard.getZoneCount() + farm.getZoneCount());
+            dashboard.setReservoirCount(dashboard.getReservoirCount() + farm.getReservoirCount());
+            dashboard.setReservoirCapacity(dashboard.getReservoirCapacity() + farm.getReservoirCapacity());
+        }
+        return dashboard;
+    }
+}
@@ -0,0 +1,180 @@
+package com.nitroxen.demo.service.impl;
+
+import com.nitroxen.demo.dosing.DosingCalculator;
+import com.nitroxen.demo.dosing.MixingRecipe;
+import com.nitroxen.demo.dosing.ZoneCrop;
+import com.nitroxen.demo.dto.request.StockSolutionRequest;
+import com.nitroxen.demo.dto.response.DoseResponse;
+import com.nitroxen.demo.dto.response.MixingRecipeResponse;
+import com.nitroxen.demo.dto.response.StockSolutionResponse;
+import com.nitroxen.demo.entity.Reservoir;
+import com.nitroxen.demo.entity.StockSolution;
+import com.nitroxen.demo.enums.CropStage;
+import com.nitroxen.demo.enums.StockSolutionType;
+import com.nitroxen.demo.exception.ResourceNotFoundException;
+import com.nitroxen.demo.exception.ValidationException;
+import com.nitroxen.demo.repository.FarmAssignmentRepository;
+import com.nitroxen.demo.repository.ReservoirRepository;
+import com.nitroxen.demo.repository.StockSolutionRepository;
+import com.nitroxen.demo.repository.ZoneRepository;
+import com.nitroxen.demo.service.DosingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class DosingServiceImpl implements DosingService {
+
+    private final StockSolutionRepository stockSolutionRepository;
+    private final ReservoirRepository reservoirRepository;
+    private final ZoneRepository zoneRepository;
+    private final FarmAssignmentRepository farmAssignmentRepository;
+    private final DosingCalculator dosingCalculator;
+
+    @Override
+    @Transactional
+    public StockSolutionResponse createStockSolution(Long farmId, StockSolutionRequest request, Long managerId) {
+        verifyFarmAssigned(farmId, managerId);
+        if (request.getType() == StockSolutionType.PH_DOWN && request.getPhPerMl() >= 0) {
+            throw new ValidationException("A pH down stock must lower pH (negative pH per mL)");
+        }
+        if (request.getType() == StockSolutionType.PH_UP && request.getPhPerMl() <= 0) {
+            throw new ValidationException("A pH up stock must raise pH (positive pH per mL)");
+        }
+        if (request.getType() == StockSolutionType.NUTRIENT && request.getEcPerMl() <= 0) {
+            throw new ValidationException("A nutrient stock must raise EC (positive EC per mL)");
+        }
+        if (stockSolutionRepository.existsByFarmIdAndName(farmId, request.getName())) {
+            throw new ValidationException("Stock solution with this name already exists in the farm");
+        }
+
+        StockSolution stockSolution = StockSolution.builder()
+                .farmId(farmId)
+                .name(request.getName())
+                .type(request.getType())
+                .ecPerMl(request.getEcPerMl())
+                .phPerMl(request.getPhPerMl())
+                .ratio(request.getRatio() != null ? request.getRatio() : 1.0)
+                .build();
+
+        StockSolution savedStockSolution = stockSolutionRepository.save(stockSolution);
+        dosingCalculator.evictFarm(farmId);
+        return mapToStockSolutionResponse(savedStockSolution);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<StockSolutionResponse> getStockSolutions(Long farmId, Long managerId) {
+        verifyFarmAssigned(farmId, managerId);
+        return stockSolutionRepository.findByFarmIdOrderByIdAsc(farmId).stream()
+                .map(this::mapToStockSolutionResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public void deleteStockSolution(Long stockSolutionId, Long managerId) {
+        StockSolution stockSolution = stockSolutionRepository.findById(stockSolutionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Stock solution not found with id: " + stockSolutionId));
+        verifyFarmAssigned(stockSolution.getFarmId(), managerId);
+
+        stockSolutionRepository.delete(stockSolution);
+        dosingCalculator.evictFarm(stockSolution.getFarmId());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public MixingRecipeResponse getReservoirRecipe(Long reservoirId, Long managerId) {
+        Reservoir reservoir = reservoirRepository.findById(reservoirId)
+                .orElseThrow(() -> new ResourceNotFoundException("Reservoir not found with id: " + reservoirId));
+        Long farmId = reservoir.getFarm().getId();
+        verifyFarmAssigned(farmId, managerId);
+
+        List<ZoneCrop> zones = reservoir.getServingZones().stream().map(ZoneCrop::of).collect(Collectors.toList());
+        MixingRecipe recipe = dosingCalculator.recipeFor(farmId, zones, volumeOf(reservoir),
+                () -> stockSolutionRepository.findByFarmIdOrderByIdAsc(farmId));
+        return mapToMixingRecipeResponse(reservoir, zones, recipe);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<MixingRecipeResponse> getFarmRecipes(Long farmId, Long managerId) {
+        verifyFarmAssigned(farmId, managerId);
+
+        // Load everything up front so the parallel calculation never touches the database
+        List<Reservoir> reservoirs = reservoirRepository.findByFarmId(farmId);
+        Map<Long, List<ZoneCrop>> zonesByReservoir = new HashMap<>();
+        for (Object[] row : zoneRepository.findReservoirZoneCropsByFarmId(farmId)) {
+            zonesByReservoir.computeIfAbsent((Long) row[0], id -> new ArrayList<>())
+                    .add(new ZoneCrop((Long) row[1], (String) row[2], (String) row[3], (CropStage) row[4]));
+        }
+        List<DosingCalculator.ReservoirBatch> batches = new ArrayList<>(reservoirs.size());
+        for (Reservoir reservoir : reservoirs) {
+            batches.add(new DosingCalculator.ReservoirBatch(reservoir.getId(), volumeOf(reservoir),
+                    zonesByReservoir.getOrDefault(reservoir.getId(), List.of())));
+        }
+
+        Map<Long, MixingRecipe> recipes = dosingCalculator.recipesFor(farmId, batches,
+                () -> stockSolutionRepository.findByFarmIdOrderByIdAsc(farmId));
+        return reservoirs.stream()
+                .map(reservoir -> mapToMixingRecipeResponse(reservoir,
+                        zonesByReservoir.getOrDefault(reservoir.getId(), List.of()), recipes.get(reservoir.getId())))
+                .collect(Collectors.toList());
+    }
+
+    // Helper method to verify a farm is assigned to this manager
+    private void verifyFarmAssigned(Long farmId, Long managerId) {
+        if (!farmAssignmentRepository.existsByFarmIdAndManagerIdAndActiveTrue(farmId, managerId)) {
+            throw new ValidationException("Farm not assigned to this manager");
+        }
+    }
+
+    private static double volumeOf(Reservoir reservoir) {
+        return reservoir.getCapacity() != null ? reservoir.getCapacity() : 0;
+    }
+
+    // Helper method to map StockSolution entity to StockSolutionResponse DTO
+    private StockSolutionResponse mapToStockSolutionResponse(StockSolution stockSolution) {
+        return StockSolutionResponse.builder()
+                .id(stockSolution.getId())
+                .farmId(stockSolution.getFarmId())
+                .name(stockSolution.getName())
+                .type(stockSolution.getType())
+                .ecPerMl(stockSolution.getEcPerMl())
+                .phPerMl(stockSolution.getPhPerMl())
+                .ratio(stockSolution.getRatio())
+                .updatedAt(stockSolution.getUpdatedAt())
+                .build();
+    }
+
+    // Helper method to map a calculated recipe to MixingRecipeResponse DTO
+    private MixingRecipeResponse mapToMixingRecipeResponse(Reservoir reservoir, List<ZoneCrop> zones, MixingRecipe recipe) {
+        return MixingRecipeResponse.builder()
+                .reservoirId(reservoir.getId())
+                .reservoirName(reservoir.getName())
+                .volumeLiters(recipe.volumeLiters())
+                .zoneIds(zones.stream().map(ZoneCrop::zoneId).collect(Collectors.toList()))
+                .targetEc(recipe.targetEc())
+                .targetPh(recipe.targetPh())
+                .predictedEc(recipe.predictedEc())
+                .predictedPh(recipe.predictedPh())
+                .doses(recipe.doses().stream()
+                        .map(dose -> DoseResponse.builder()
+                                .stockSolutionId(dose.stockSolutionId())
+                                .name(dose.name())
+                                .type(dose.type())
+                                .mlPerLiter(dose.mlPerLiter())
+                                .totalMl(dose.totalMl())
+                                .build())
+                        .collect(Collectors.toList()))
+                .warnings(recipe.warnings())
+                .build();
+    }
+}
@@ -4,12 +4,18 @@ import com.nitroxen.demo.dto.request.FarmRequest;
 import com.nitroxen.demo.dto.response.FarmResponse;
 import com.nitroxen.demo.entity.Farm;
 import com.nitroxen.demo.entity.User;
+import com.nitroxen.demo.enums.HierarchyChangeType;
+import com.nitroxen.demo.enums.HierarchyEntityType;
+import com.nitroxen.demo.events.DomainEventBus;
+import com.nitroxen.demo.exception.ConstraintViolations;
 import com.nitroxen.demo.exception.ResourceNotFoundException;
 import com.nitroxen.demo.exception.ValidationException;
+import com.nitroxen.demo.ownership.OwnershipIndex;
 import com.nitroxen.demo.repository.FarmRepository;
 import com.nitroxen.demo.repository.UserRepository;
 import com.nitroxen.demo.service.FarmService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,15 +28,12 @@ public class FarmServiceImpl implements FarmService {
 
     private final FarmRepository farmRepository;
     private final UserRepository userRepository;
+    private final DomainEventBus domainEventBus;
+    private final OwnershipIndex ownershipIndex;
 
     @Override
     @Transactional
     public FarmResponse createFarm(FarmRequest request, Long ownerId) {
-        // Validate farm name uniqueness for this owner
-        if (farmRepository.existsByNameAndOwnerId(request.getName(), ownerId)) {
-            throw new ValidationException("Farm with this name already exists for this owner");
-        }
-
         // Get owner
         User owner = userRepository.findById(ownerId)
                 .orElseThrow(() -> new ResourceNotFoundException("Owner not found with id: " + ownerId));
@@ -44,8 +47,10 @@ public class FarmServiceImpl implements FarmService {
                 .owner(owner)
                 .build();
 
-        // Save and return
-        Farm savedFarm = farmRepository.save(farm);
+        // Save and return; the (owner, name) unique key rejects duplicate names
+        Farm savedFarm = saveFarm(farm);
+        ownershipIndex.registerFarm(savedFarm.getId(), ownerId);
+        domainEventBus.publish(HierarchyEntityType.FARM, savedFarm.getId(), HierarchyChangeType.CREATED, savedFarm.getId(), ownerId);
         return mapToFarmResponse(savedFarm);
     }
 
@@ -69,12 +74,6 @@ public class FarmServiceImpl implements FarmService {
     public FarmResponse updateFarm(Long farmId, FarmRequest request, Long ownerId) {
         Farm farm = getFarmByIdAndOwnerId(farmId, ownerId);
 
-        // Check if name is being changed and if new name is already taken
-        if (!farm.getName().equals(request.getName()) &&
-                farmRepository.existsByNameAndOwnerId(request.getName(), ownerId)) {
-            throw new ValidationException("Farm with this name already exists for this owner");
-        }
-
         // Update fields
         farm.setName(request.getName());
         farm.setLocation(request.getLocation());
@@ -82,7 +81,8 @@ public class FarmServiceImpl implements FarmService {
         farm.setDescription(request.getDescription());
 
         // Save and return
-        Farm updatedFarm = farmRepository.save(farm);
+        Farm updatedFarm = saveFarm(farm);
+        domainEventBus.publish(HierarchyEntityType.FARM, farmId, HierarchyChangeType.UPDATED, farmId, ownerId);
         return mapToFarmResponse(updatedFarm);
     }
 
@@ -91,6 +91,8 @@ public class FarmServiceImpl implements FarmService {
     public void deleteFarm(Long farmId, Long ownerId) {
         Farm farm = getFarmByIdAndOwnerId(farmId, ownerId);
         farmRepository.delete(farm);
+        ownershipIndex.unregisterFarm(farmId);
+        domainEventBus.publish(HierarchyEntityType.FARM, farmId, HierarchyChangeType.DELETED, farmId, ownerId);
     }
 
     @Override
@@ -107,6 +109,18 @@ public class FarmServiceImpl implements FarmService {
                 .orElseThrow(() -> new ResourceNotFoundException("Farm not found with id: " + farmId + " for owner id: " + ownerId));
     }
 
+    // Helper method to save a farm, reporting a duplicate name as a validation error
+    private Farm saveFarm(Farm farm) {
+        try {
+            return farmRepository.saveAndFlush(farm);
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.isViolationOf(e, Farm.UNIQUE_NAME)) {
+                throw new ValidationException("Farm with this name already exists for this owner");
+            }
+            throw e;
+        }
+    }
+
     // Helper method to map Farm entity to FarmResponse DTO
     private FarmResponse mapToFarmResponse(Farm farm) {
         return FarmResponse.builder()
@@ -0,0 +1,149 @@
+package com.nitroxen.demo.service.impl;
+
+import com.nitroxen.demo.dto.request.IrrigationProgramRequest;
+import com.nitroxen.demo.dto.response.IrrigationProgramResponse;
+import com.nitroxen.demo.dto.response.IrrigationRunResponse;
+import com.nitroxen.demo.dto.response.IrrigationScheduleResponse;
+import com.nitroxen.demo.entity.IrrigationProgram;
+import com.nitroxen.demo.entity.Zone;
+import com.nitroxen.demo.exception.ResourceNotFoundException;
+import com.nitroxen.demo.exception.ValidationException;
+import com.nitroxen.demo.irrigation.FarmIrrigationPlan;
+import com.nitroxen.demo.irrigation.IrrigationPlanner;
+import com.nitroxen.demo.irrigation.ProgramSpec;
+import com.nitroxen.demo.repository.FarmAssignmentRepository;
+import com.nitroxen.demo.repository.IrrigationProgramRepository;
+import com.nitroxen.demo.repository.ZoneRepository;
+import com.nitroxen.demo.service.IrrigationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class IrrigationServiceImpl implements IrrigationService {
+
+    private final IrrigationProgramRepository programRepository;
+    private final ZoneRepository zoneRepository;
+    private final FarmAssignmentRepository farmAssignmentRepository;
+    private final IrrigationPlanner irrigationPlanner;
+
+    @Override
+    @Transactional
+    public IrrigationProgramResponse saveProgram(Long zoneId, IrrigationProgramRequest request, Long managerId) {
+        Zone zone = findAccessibleZone(zoneId, managerId);
+        int startMinute = request.getStartTime().getHour() * 60 + request.getStartTime().getMinute();
+        if (startMinute + request.getCycleMinutes() > FarmIrrigationPlan.MINUTES_PER_DAY) {
+            throw new ValidationException("First cycle must end before midnight");
+        }
+
+        Long farmId = zone.getPolyhouse().getFarm().getId();
+        IrrigationProgram program = programRepository.findByZoneId(zoneId)
+                .orElseGet(() -> IrrigationProgram.builder().zoneId(zoneId).build());
+        program.setFarmId(farmId);
+        program.setStartTime(request.getStartTime());
+        program.setCyclesPerDay(request.getCyclesPerDay());
+        program.setCycleMinutes(request.getCycleMinutes());
+        program.setIntervalMinutes(request.getIntervalMinutes());
+        program.setFlowLitersPerMinute(request.getFlowLitersPerMinute());
+        program.setActive(true);
+        program.setUpdatedBy(managerId);
+
+        IrrigationProgram savedProgram = programRepository.save(program);
+        irrigationPlanner.updateZone(farmId, zoneId, ProgramSpec.of(savedProgram,
+                zone.getWaterSource() != null ? zone.getWaterSource().getId() : null));
+        return mapToIrrigationProgramResponse(savedProgram);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public IrrigationProgramResponse getProgram(Long zoneId, Long managerId) {
+        findAccessibleZone(zoneId, managerId);
+        return mapToIrrigationProgramResponse(findProgram(zoneId));
+    }
+
+    @Override
+    @Transactional
+    public void deleteProgram(Long zoneId, Long managerId) {
+        findAccessibleZone(zoneId, managerId);
+        IrrigationProgram program = findProgram(zoneId);
+        programRepository.delete(program);
+        irrigationPlanner.updateZone(program.getFarmId(), zoneId, null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public IrrigationScheduleResponse getFarmSchedule(Long farmId, Long managerId) {
+        if (!farmAssignmentRepository.existsByFarmIdAndManagerIdAndActiveTrue(farmId, managerId)) {
+            throw new ValidationException("Farm not assigned to this manager");
+        }
+
+        FarmIrrigationPlan plan = irrigationPlanner.planFor(farmId);
+        List<IrrigationRunResponse> runs = new ArrayList<>();
+        List<IrrigationRunResponse> unscheduled = new ArrayList<>();
+        for (FarmIrrigationPlan.Run run : plan.runs()) {
+            (run.startMinute() < 0 ? unscheduled : runs).add(mapToIrrigationRunResponse(run));
+        }
+        return IrrigationScheduleResponse.builder()
+                .farmId(farmId)
+                .plannedAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(plan.getPlannedAtMillis()), ZoneId.systemDefault()))
+                .runs(runs)
+                .unscheduled(unscheduled)
+                .litersByReservoir(plan.litersByReservoir())
+                .build();
+    }
+
+    // Helper method to load a zone and verify it lies in a farm assigned to this manager
+    private Zone findAccessibleZone(Long zoneId, Long managerId) {
+        Zone zone = zoneRepository.findById(zoneId)
+                .orElseThrow(() -> new ResourceNotFoundException("Zone not found with id: " + zoneId));
+        if (!farmAssignmentRepository.existsByFarmIdAndManagerIdAndActiveTrue(
+                zone.getPolyhouse().getFarm().getId(), managerId)) {
+            throw new ValidationException("Zone not in a farm assigned to this manager");
+        }
+        return zone;
+    }
+
+    private IrrigationProgram findProgram(Long zoneId) {
+        return programRepository.findByZoneId(zoneId)
+                .orElseThrow(() -> new ResourceNotFoundException("Irrigation program not found for zone: " + zoneId));
+    }
+
+    // Helper method to map IrrigationProgram entity to IrrigationProgramResponse DTO
+    private IrrigationProgramResponse mapToIrrigationProgramResponse(IrrigationProgram program) {
+        return IrrigationProgramResponse.builder()
+                .id(program.getId())
+                .zoneId(program.getZoneId())
+                .farmId(program.getFarmId())
+                .startTime(program.getStartTime())
+                .cyclesPerDay(program.getCyclesPerDay())
+                .cycleMinutes(program.getCycleMinutes())
+                .intervalMinutes(program.getIntervalMinutes())
+                .flowLitersPerMinute(program.getFlowLitersPerMinute())
+                .updatedAt(program.getUpdatedAt())
+                .build();
+    }
+
+    // Helper method to map a planned cycle to IrrigationRunResponse DTO
+    private IrrigationRunResponse mapToIrrigationRunResponse(FarmIrrigationPlan.Run run) {
+        IrrigationRunResponse.IrrigationRunResponseBuilder response = IrrigationRunResponse.builder()
+                .zoneId(run.zoneId())
+                .reservoirId(run.reservoirId() == 0 ? null : run.reservoirId())
+                .cycle(run.cycle())
+                .liters(run.liters())
+                .unscheduledReason(run.unscheduledReason());
+        if (run.startMinute() >= 0) {
+            int end = run.startMinute() + run.minutes();
+            response.start(LocalTime.of(run.startMinute() / 60, run.startMinute() % 60))
+                    .end(LocalTime.of(end / 60 % 24, end % 60));
+        }
+        return response.build();
+    }
+}
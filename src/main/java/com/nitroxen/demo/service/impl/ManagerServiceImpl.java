@@ -8,10 +8,14 @@ import com.nitroxen.demo.entity.Farm;
 import com.nitroxen.demo.entity.Polyhouse;
 import com.nitroxen.demo.entity.Reservoir;
 import com.nitroxen.demo.entity.Zone;
+import com.nitroxen.demo.enums.ResourceType;
 import com.nitroxen.demo.exception.ResourceNotFoundException;
 import com.nitroxen.demo.exception.ValidationException;
+import com.nitroxen.demo.ownership.OwnershipIndex;
 import com.nitroxen.demo.repository.*;
 import com.nitroxen.demo.service.ManagerService;
+import com.nitroxen.demo.telemetry.LongLongHashMap;
+import com.nitroxen.demo.telemetry.reservoir.ReservoirLevelTracker;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,6 +32,8 @@ public class ManagerServiceImpl implements ManagerService {
     private final ZoneRepository zoneRepository;
     private final ReservoirRepository reservoirRepository;
     private final FarmAssignmentRepository farmAssignmentRepository;
+    private final ReservoirLevelTracker reservoirLevelTracker;
+    private final OwnershipIndex ownershipIndex;
 
     @Override
     @Transactional(readOnly = true)
@@ -73,27 +79,20 @@ public class ManagerServiceImpl implements ManagerService {
     @Override
     @Transactional(readOnly = true)
     public PolyhouseResponse getPolyhouseById(Long polyhouseId, Long managerId) {
+        // Verify farm is assigned to manager
+        verifyPolyhouseAssignedToManager(polyhouseId, managerId);
+
         Polyhouse polyhouse = polyhouseRepository.findById(polyhouseId)
                 .orElseThrow(() -> new ResourceNotFoundException("Polyhouse not found with id: " + polyhouseId));
 
-        // Verify farm is assigned to manager
-        if (!isFarmAssignedToManager(polyhouse.getFarm().getId(), managerId)) {
-            throw new ValidationException("Polyhouse not in a farm assigned to this manager");
-        }
-
         return mapToPolyhouseResponse(polyhouse);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ZoneResponse> getZonesByPolyhouse(Long polyhouseId, Long managerId) {
-        Polyhouse polyhouse = polyhouseRepository.findById(polyhouseId)
-                .orElseThrow(() -> new ResourceNotFoundException("Polyhouse not found with id: " + polyhouseId));
-
         // Verify farm is assigned to manager
-        if (!isFarmAssignedToManager(polyhouse.getFarm().getId(), managerId)) {
-            throw new ValidationException("Polyhouse not in a farm assigned to this manager");
-        }
+        verifyPolyhouseAssignedToManager(polyhouseId, managerId);
 
         List<Zone> zones = zoneRepository.findByPolyhouseId(polyhouseId);
 
@@ -105,14 +104,18 @@ public class ManagerServiceImpl implements ManagerService {
     @Override
     @Transactional(readOnly = true)
     public ZoneResponse getZoneById(Long zoneId, Long managerId) {
-        Zone zone = zoneRepository.findById(zoneId)
-                .orElseThrow(() -> new ResourceNotFoundException("Zone not found with id: " + zoneId));
-
         // Verify farm is assigned to manager
-        if (!isFarmAssignedToManager(zone.getPolyhouse().getFarm().getId(), managerId)) {
+        long farmId = ownershipIndex.farmOf(ResourceType.ZONE, zoneId);
+        if (farmId == LongLongHashMap.MISSING) {
+            throw new ResourceNotFoundException("Zone not found with id: " + zoneId);
+        }
+        if (!isFarmAssignedToManager(farmId, managerId)) {
             throw new ValidationException("Zone not in a farm assigned to this manager");
         }
 
+        Zone zone = zoneRepository.findById(zoneId)
+                .orElseThrow(() -> new ResourceNotFoundException("Zone not found with id: " + zoneId));
+
         return mapToZoneResponse(zone);
     }
 
@@ -137,6 +140,17 @@ public class ManagerServiceImpl implements ManagerService {
         return farmAssignmentRepository.existsByFarmIdAndManagerIdAndActiveTrue(farmId, managerId);
     }
 
+    // Helper method to check the polyhouse exists and lies in a farm assigned to the manager
+    private void verifyPolyhouseAssignedToManager(Long polyhouseId, Long managerId) {
+        long farmId = ownershipIndex.farmOf(ResourceType.POLYHOUSE, polyhouseId);
+        if (farmId == LongLongHashMap.MISSING) {
+            throw new ResourceNotFoundException("Polyhouse not found with id: " + polyhouseId);
+        }
+        if (!isFarmAssignedToManager(farmId, managerId)) {
+            throw new ValidationException("Polyhouse not in a farm assigned to this manager");
+        }
+    }
+
     // Mapping methods
     private FarmResponse mapToFarmResponse(Farm farm) {
         return FarmResponse.builder()
@@ -178,6 +192,7 @@ public class ManagerServiceImpl implements ManagerService {
                 .systemType(zone.getSystemType())
                 .cropType(zone.getCropType())
                 .cropVariety(zone.getCropVariety())
+                .cropStage(zone.getCropStage())
                 .plantingConfiguration(zone.getPlantingConfiguration())
                 .irrigationSetup(zone.getIrrigationSetup())
                 .dosingSystem(zone.getDosingSystem())
@@ -197,9 +212,11 @@ public class ManagerServiceImpl implements ManagerService {
                 .capacity(reservoir.getCapacity())
                 .waterSource(reservoir.getWaterSource())
                 .waterTreatment(reservoir.getWaterTreatment())
+                .pumpCount(reservoir.getPumpCount())
                 .farmId(reservoir.getFarm().getId())
                 .farmName(reservoir.getFarm().getName())
                 .servingZonesCount(reservoir.getServingZones().size())
+                .waterLevel(reservoirLevelTracker.forecast(reservoir))
                 .createdAt(reservoir.getCreatedAt())
                 .updatedAt(reservoir.getUpdatedAt())
                 .build();
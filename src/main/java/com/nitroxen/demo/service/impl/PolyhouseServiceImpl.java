@@ -6,13 +6,20 @@ import com.nitroxen.demo.dto.response.ZoneResponse;
 import com.nitroxen.demo.entity.Farm;
 import com.nitroxen.demo.entity.Polyhouse;
 import com.nitroxen.demo.entity.Zone;
+import com.nitroxen.demo.enums.HierarchyChangeType;
+import com.nitroxen.demo.enums.HierarchyEntityType;
+import com.nitroxen.demo.enums.ResourceType;
+import com.nitroxen.demo.events.DomainEventBus;
+import com.nitroxen.demo.exception.ConstraintViolations;
 import com.nitroxen.demo.exception.ResourceNotFoundException;
 import com.nitroxen.demo.exception.ValidationException;
+import com.nitroxen.demo.ownership.OwnershipIndex;
 import com.nitroxen.demo.repository.FarmRepository;
 import com.nitroxen.demo.repository.PolyhouseRepository;
 import com.nitroxen.demo.repository.ZoneRepository;
 import com.nitroxen.demo.service.PolyhouseService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +33,8 @@ public class PolyhouseServiceImpl implements PolyhouseService {
     private final PolyhouseRepository polyhouseRepository;
     private final FarmRepository farmRepository;
     private final ZoneRepository zoneRepository;
+    private final DomainEventBus domainEventBus;
+    private final OwnershipIndex ownershipIndex;
 
     @Override
     @Transactional
@@ -40,11 +49,6 @@ public class PolyhouseServiceImpl implements PolyhouseService {
             throw new ValidationException("Not enough available area in farm. Available: " + farm.getRemainingArea() + " m², Requested: " + request.getArea() + " m²");
         }
 
-        // Check if polyhouse name is unique within this farm
-        if (polyhouseRepository.existsByNameAndFarmId(request.getName(), farmId)) {
-            throw new ValidationException("Polyhouse with this name already exists in this farm");
-        }
-
         // Create polyhouse
         Polyhouse polyhouse = Polyhouse.builder()
                 .name(request.getName())
@@ -56,8 +60,10 @@ public class PolyhouseServiceImpl implements PolyhouseService {
                 .farm(farm)
                 .build();
 
-        // Save and return
-        Polyhouse savedPolyhouse = polyhouseRepository.save(polyhouse);
+        // Save and return; the (farm, name) unique key rejects duplicate names
+        Polyhouse savedPolyhouse = savePolyhouse(polyhouse);
+        ownershipIndex.register(ResourceType.POLYHOUSE, savedPolyhouse.getId(), farmId, ownerId);
+        domainEventBus.publish(HierarchyEntityType.POLYHOUSE, savedPolyhouse.getId(), HierarchyChangeType.CREATED, farmId, ownerId);
         return mapToPolyhouseResponse(savedPolyhouse);
     }
 
@@ -65,9 +71,9 @@ public class PolyhouseServiceImpl implements PolyhouseService {
     @Transactional(readOnly = true)
     public List<PolyhouseResponse> getPolyhousesByFarm(Long farmId, Long ownerId) {
         // Verify farm exists and ownership
-        farmRepository.findById(farmId)
-                .filter(farm -> farm.getOwner().getId().equals(ownerId))
-                .orElseThrow(() -> new ResourceNotFoundException("Farm not found with id: " + farmId + " for owner id: " + ownerId));
+        if (!ownershipIndex.isOwnedBy(ResourceType.FARM, farmId, ownerId)) {
+            throw new ResourceNotFoundException("Farm not found with id: " + farmId + " for owner id: " + ownerId);
+        }
 
         return polyhouseRepository.findByFarmId(farmId).stream()
                 .map(this::mapToPolyhouseResponse)
@@ -87,12 +93,6 @@ public class PolyhouseServiceImpl implements PolyhouseService {
         Polyhouse polyhouse = getPolyhouseByIdAndOwnerId(polyhouseId, ownerId);
         Farm farm = polyhouse.getFarm();
 
-        // Check if name is being changed and if new name is already taken
-        if (!polyhouse.getName().equals(request.getName()) &&
-                polyhouseRepository.existsByNameAndFarmId(request.getName(), farm.getId())) {
-            throw new ValidationException("Polyhouse with this name already exists in this farm");
-        }
-
         // If area is increasing, check if farm has enough space
         double areaDifference = request.getArea() - polyhouse.getArea();
         if (areaDifference > 0 && farm.getRemainingArea() < areaDifference) {
@@ -108,7 +108,8 @@ public class PolyhouseServiceImpl implements PolyhouseService {
         polyhouse.setGrowingType(request.getGrowingType());
 
         // Save and return
-        Polyhouse updatedPolyhouse = polyhouseRepository.save(polyhouse);
+        Polyhouse updatedPolyhouse = savePolyhouse(polyhouse);
+        domainEventBus.publish(HierarchyEntityType.POLYHOUSE, polyhouseId, HierarchyChangeType.UPDATED, polyhouse.getFarm().getId(), ownerId);
         return mapToPolyhouseResponse(updatedPolyhouse);
     }
 
@@ -116,7 +117,11 @@ public class PolyhouseServiceImpl implements PolyhouseService {
     @Transactional
     public void deletePolyhouse(Long polyhouseId, Long ownerId) {
         Polyhouse polyhouse = getPolyhouseByIdAndOwnerId(polyhouseId, ownerId);
+        List<Long> zoneIds = polyhouse.getZones().stream().map(Zone::getId).collect(Collectors.toList());
         polyhouseRepository.delete(polyhouse);
+        ownershipIndex.unregister(ResourceType.POLYHOUSE, List.of(polyhouseId));
+        ownershipIndex.unregister(ResourceType.ZONE, zoneIds);
+        domainEventBus.publish(HierarchyEntityType.POLYHOUSE, polyhouseId, HierarchyChangeType.DELETED, polyhouse.getFarm().getId(), ownerId);
     }
 
     @Override
@@ -131,7 +136,9 @@ public class PolyhouseServiceImpl implements PolyhouseService {
     @Transactional(readOnly = true)
     public List<ZoneResponse> getZonesByPolyhouse(Long polyhouseId, Long ownerId) {
         // Verify polyhouse exists and ownership
-        getPolyhouseByIdAndOwnerId(polyhouseId, ownerId);
+        if (!ownershipIndex.isOwnedBy(ResourceType.POLYHOUSE, polyhouseId, ownerId)) {
+            throw polyhouseNotFound(polyhouseId, ownerId);
+        }
 
         return zoneRepository.findByPolyhouseId(polyhouseId).stream()
                 .map(this::mapToZoneResponse)
@@ -140,9 +147,27 @@ public class PolyhouseServiceImpl implements PolyhouseService {
 
     // Helper method to get polyhouse by ID and verify owner
     private Polyhouse getPolyhouseByIdAndOwnerId(Long polyhouseId, Long ownerId) {
+        if (!ownershipIndex.isOwnedBy(ResourceType.POLYHOUSE, polyhouseId, ownerId)) {
+            throw polyhouseNotFound(polyhouseId, ownerId);
+        }
         return polyhouseRepository.findById(polyhouseId)
-                .filter(polyhouse -> polyhouse.getFarm().getOwner().getId().equals(ownerId))
-                .orElseThrow(() -> new ResourceNotFoundException("Polyhouse not found with id: " + polyhouseId + " for owner id: " + ownerId));
+                .orElseThrow(() -> polyhouseNotFound(polyhouseId, ownerId));
+    }
+
+    private static ResourceNotFoundException polyhouseNotFound(Long polyhouseId, Long ownerId) {
+        return new ResourceNotFoundException("Polyhouse not found with id: " + polyhouseId + " for owner id: " + ownerId);
+    }
+
+    // Helper method to save a polyhouse, reporting a duplicate name as a validation error
+    private Polyhouse savePolyhouse(Polyhouse polyhouse) {
+        try {
+            return polyhouseRepository.saveAndFlush(polyhouse);
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.isViolationOf(e, Polyhouse.UNIQUE_NAME)) {
+                throw new ValidationException("Polyhouse with this name already exists in this farm");
+            }
+            throw e;
+        }
     }
 
     // Helper method to map Polyhouse entity to PolyhouseResponse DTO
@@ -171,6 +196,7 @@ public class PolyhouseServiceImpl implements PolyhouseService {
                 .systemType(zone.getSystemType())
                 .cropType(zone.getCropType())
                 .cropVariety(zone.getCropVariety())
+                .cropStage(zone.getCropStage())
                 .plantingConfiguration(zone.getPlantingConfiguration())
                 .irrigationSetup(zone.getIrrigationSetup())
                 .dosingSystem(zone.getDosingSystem())
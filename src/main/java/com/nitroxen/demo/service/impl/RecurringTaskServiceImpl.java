@@ -0,0 +1,101 @@
+package com.nitroxen.demo.service.impl;
+
+import com.nitroxen.demo.dto.request.RecurringTaskRequest;
+import com.nitroxen.demo.dto.response.RecurringTaskResponse;
+import com.nitroxen.demo.entity.RecurringTaskSchedule;
+import com.nitroxen.demo.entity.Zone;
+import com.nitroxen.demo.exception.ResourceNotFoundException;
+import com.nitroxen.demo.exception.ValidationException;
+import com.nitroxen.demo.repository.FarmAssignmentRepository;
+import com.nitroxen.demo.repository.RecurringTaskScheduleRepository;
+import com.nitroxen.demo.repository.ZoneRepository;
+import com.nitroxen.demo.scheduling.RecurrenceRule;
+import com.nitroxen.demo.scheduling.RecurringTaskScheduler;
+import com.nitroxen.demo.service.RecurringTaskService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class RecurringTaskServiceImpl implements RecurringTaskService {
+
+    private final RecurringTaskScheduleRepository scheduleRepository;
+    private final ZoneRepository zoneRepository;
+    private final FarmAssignmentRepository farmAssignmentRepository;
+    private final RecurringTaskScheduler scheduler;
+
+    @Override
+    @Transactional
+    public RecurringTaskResponse createSchedule(RecurringTaskRequest request, Long managerId) {
+        // Verify the zone lies in a farm assigned to this manager
+        Zone zone = zoneRepository.findById(request.getZoneId())
+                .orElseThrow(() -> new ResourceNotFoundException("Zone not found with id: " + request.getZoneId()));
+        if (!farmAssignmentRepository.existsByFarmIdAndManagerIdAndActiveTrue(
+                zone.getPolyhouse().getFarm().getId(), managerId)) {
+            throw new ValidationException("Zone not in a farm assigned to this manager");
+        }
+
+        // Validate the rule and find its first occurrence
+        RecurrenceRule rule = RecurrenceRule.parse(request.getRecurrenceRule(), request.getStartAt());
+        LocalDateTime firstOccurrence = rule.nextAfter(request.getStartAt().minusSeconds(1));
+        if (firstOccurrence == null) {
+            throw new ValidationException("Recurrence rule never produces an occurrence");
+        }
+
+        RecurringTaskSchedule schedule = RecurringTaskSchedule.builder()
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .workerId(request.getWorkerId())
+                .zoneId(request.getZoneId())
+                .managerId(managerId)
+                .recurrenceRule(request.getRecurrenceRule().trim().toUpperCase())
+                .startAt(request.getStartAt())
+                .nextOccurrenceAt(firstOccurrence)
+                .build();
+
+        RecurringTaskSchedule savedSchedule = scheduleRepository.save(schedule);
+        scheduler.track(savedSchedule.getId(), savedSchedule.getNextOccurrenceAt());
+        return mapToRecurringTaskResponse(savedSchedule);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RecurringTaskResponse> getSchedules(Long managerId) {
+        return scheduleRepository.findByManagerIdAndActiveTrue(managerId).stream()
+                .map(this::mapToRecurringTaskResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public void cancelSchedule(Long scheduleId, Long managerId) {
+        RecurringTaskSchedule schedule = scheduleRepository.findById(scheduleId)
+                .filter(s -> s.getManagerId().equals(managerId))
+                .orElseThrow(() -> new ResourceNotFoundException("Recurring schedule not found with id: " + scheduleId + " for manager id: " + managerId));
+
+        schedule.setActive(false);
+        scheduleRepository.save(schedule);
+        scheduler.untrack(scheduleId);
+    }
+
+    // Helper method to map RecurringTaskSchedule entity to RecurringTaskResponse DTO
+    private RecurringTaskResponse mapToRecurringTaskResponse(RecurringTaskSchedule schedule) {
+        return RecurringTaskResponse.builder()
+                .id(schedule.getId())
+                .title(schedule.getTitle())
+                .description(schedule.getDescription())
+                .workerId(schedule.getWorkerId())
+                .zoneId(schedule.getZoneId())
+                .recurrenceRule(schedule.getRecurrenceRule())
+                .startAt(schedule.getStartAt())
+                .nextOccurrenceAt(schedule.getNextOccurrenceAt())
+                .active(schedule.getActive())
+                .createdAt(schedule.getCreatedAt())
+                .build();
+    }
+}
@@ -4,12 +4,20 @@ import com.nitroxen.demo.dto.request.ReservoirRequest;
 import com.nitroxen.demo.dto.response.ReservoirResponse;
 import com.nitroxen.demo.entity.Farm;
 import com.nitroxen.demo.entity.Reservoir;
+import com.nitroxen.demo.enums.HierarchyChangeType;
+import com.nitroxen.demo.enums.HierarchyEntityType;
+import com.nitroxen.demo.enums.ResourceType;
+import com.nitroxen.demo.events.DomainEventBus;
+import com.nitroxen.demo.exception.ConstraintViolations;
 import com.nitroxen.demo.exception.ResourceNotFoundException;
 import com.nitroxen.demo.exception.ValidationException;
+import com.nitroxen.demo.ownership.OwnershipIndex;
 import com.nitroxen.demo.repository.FarmRepository;
 import com.nitroxen.demo.repository.ReservoirRepository;
 import com.nitroxen.demo.service.ReservoirService;
+import com.nitroxen.demo.telemetry.reservoir.ReservoirLevelTracker;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +30,9 @@ public class ReservoirServiceImpl implements ReservoirService {
 
     private final ReservoirRepository reservoirRepository;
     private final FarmRepository farmRepository;
+    private final ReservoirLevelTracker reservoirLevelTracker;
+    private final DomainEventBus domainEventBus;
+    private final OwnershipIndex ownershipIndex;
 
     @Override
     @Transactional
@@ -31,22 +42,20 @@ public class ReservoirServiceImpl implements ReservoirService {
                 .filter(f -> f.getOwner().getId().equals(ownerId))
                 .orElseThrow(() -> new ResourceNotFoundException("Farm not found with id: " + farmId + " for owner id: " + ownerId));
 
-        // Check if reservoir name is unique within this farm
-        if (reservoirRepository.existsByNameAndFarmId(request.getName(), farmId)) {
-            throw new ValidationException("Reservoir with this name already exists in this farm");
-        }
-
         // Create reservoir
         Reservoir reservoir = Reservoir.builder()
                 .name(request.getName())
                 .capacity(request.getCapacity())
                 .waterSource(request.getWaterSource())
                 .waterTreatment(request.getWaterTreatment())
+                .pumpCount(request.getPumpCount())
                 .farm(farm)
                 .build();
 
-        // Save and return
-        Reservoir savedReservoir = reservoirRepository.save(reservoir);
+        // Save and return; the (farm, name) unique key rejects duplicate names
+        Reservoir savedReservoir = saveReservoir(reservoir);
+        ownershipIndex.register(ResourceType.RESERVOIR, savedReservoir.getId(), farmId, ownerId);
+        domainEventBus.publish(HierarchyEntityType.RESERVOIR, savedReservoir.getId(), HierarchyChangeType.CREATED, farmId, ownerId);
         return mapToReservoirResponse(savedReservoir);
     }
 
@@ -54,9 +63,9 @@ public class ReservoirServiceImpl implements ReservoirService {
     @Transactional(readOnly = true)
     public List<ReservoirResponse> getReservoirsByFarm(Long farmId, Long ownerId) {
         // Verify farm exists and ownership
-        farmRepository.findById(farmId)
-                .filter(farm -> farm.getOwner().getId().equals(ownerId))
-                .orElseThrow(() -> new ResourceNotFoundException("Farm not found with id: " + farmId + " for owner id: " + ownerId));
+        if (!ownershipIndex.isOwnedBy(ResourceType.FARM, farmId, ownerId)) {
+            throw new ResourceNotFoundException("Farm not found with id: " + farmId + " for owner id: " + ownerId);
+        }
 
         return reservoirRepository.findByFarmId(farmId).stream()
                 .map(this::mapToReservoirResponse)
@@ -75,20 +84,16 @@ public class ReservoirServiceImpl implements ReservoirService {
     public ReservoirResponse updateReservoir(Long reservoirId, ReservoirRequest request, Long ownerId) {
         Reservoir reservoir = getReservoirByIdAndOwnerId(reservoirId, ownerId);
 
-        // Check if name is being changed and if new name is already taken
-        if (!reservoir.getName().equals(request.getName()) &&
-                reservoirRepository.existsByNameAndFarmId(request.getName(), reservoir.getFarm().getId())) {
-            throw new ValidationException("Reservoir with this name already exists in this farm");
-        }
-
         // Update fields
         reservoir.setName(request.getName());
         reservoir.setCapacity(request.getCapacity());
         reservoir.setWaterSource(request.getWaterSource());
         reservoir.setWaterTreatment(request.getWaterTreatment());
+        reservoir.setPumpCount(request.getPumpCount());
 
         // Save and return
-        Reservoir updatedReservoir = reservoirRepository.save(reservoir);
+        Reservoir updatedReservoir = saveReservoir(reservoir);
+        domainEventBus.publish(HierarchyEntityType.RESERVOIR, reservoirId, HierarchyChangeType.UPDATED, reservoir.getFarm().getId(), ownerId);
         return mapToReservoirResponse(updatedReservoir);
     }
 
@@ -103,13 +108,33 @@ public class ReservoirServiceImpl implements ReservoirService {
         }
 
         reservoirRepository.delete(reservoir);
+        ownershipIndex.unregister(ResourceType.RESERVOIR, List.of(reservoirId));
+        domainEventBus.publish(HierarchyEntityType.RESERVOIR, reservoirId, HierarchyChangeType.DELETED, reservoir.getFarm().getId(), ownerId);
     }
 
     // Helper method to get reservoir by ID and verify owner
     private Reservoir getReservoirByIdAndOwnerId(Long reservoirId, Long ownerId) {
+        if (!ownershipIndex.isOwnedBy(ResourceType.RESERVOIR, reservoirId, ownerId)) {
+            throw reservoirNotFound(reservoirId, ownerId);
+        }
         return reservoirRepository.findById(reservoirId)
-                .filter(reservoir -> reservoir.getFarm().getOwner().getId().equals(ownerId))
-                .orElseThrow(() -> new ResourceNotFoundException("Reservoir not found with id: " + reservoirId + " for owner id: " + ownerId));
+                .orElseThrow(() -> reservoirNotFound(reservoirId, ownerId));
+    }
+
+    private static ResourceNotFoundException reservoirNotFound(Long reservoirId, Long ownerId) {
+        return new ResourceNotFoundException("Reservoir not found with id: " + reservoirId + " for owner id: " + ownerId);
+    }
+
+    // Helper method to save a reservoir, reporting a duplicate name as a validation error
+    private Reservoir saveReservoir(Reservoir reservoir) {
+        try {
+            return reservoirRepository.saveAndFlush(reservoir);
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.isViolationOf(e, Reservoir.UNIQUE_NAME)) {
+                throw new ValidationException("Reservoir with this name already exists in this farm");
+            }
+            throw e;
+        }
     }
 
     // Helper method to map Reservoir entity to ReservoirResponse DTO
@@ -120,9 +145,11 @@ public class ReservoirServiceImpl implements ReservoirService {
                 .capacity(reservoir.getCapacity())
                 .waterSource(reservoir.getWaterSource())
                 .waterTreatment(reservoir.getWaterTreatment())
+                .pumpCount(reservoir.getPumpCount())
                 .farmId(reservoir.getFarm().getId())
                 .farmName(reservoir.getFarm().getName())
                 .servingZonesCount(reservoir.getServingZones().size())
+                .waterLevel(reservoirLevelTracker.forecast(reservoir))
                 .createdAt(reservoir.getCreatedAt())
                 .updatedAt(reservoir.getUpdatedAt())
                 .build();
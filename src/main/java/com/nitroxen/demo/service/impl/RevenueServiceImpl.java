@@ -0,0 +1,175 @@
+package com.nitroxen.demo.service.impl;
+
+import com.nitroxen.demo.billing.RevenueLedger;
+import com.nitroxen.demo.billing.SubscriptionPricing;
+import com.nitroxen.demo.dto.request.RevenueAdjustmentRequest;
+import com.nitroxen.demo.dto.response.BillingRunResponse;
+import com.nitroxen.demo.dto.response.LedgerEntryResponse;
+import com.nitroxen.demo.dto.response.OwnerRevenueResponse;
+import com.nitroxen.demo.dto.response.RevenuePeriodResponse;
+import com.nitroxen.demo.dto.response.RevenueResponse;
+import com.nitroxen.demo.entity.BillingLedgerEntry;
+import com.nitroxen.demo.entity.RevenueMonthly;
+import com.nitroxen.demo.entity.User;
+import com.nitroxen.demo.enums.BillingChargeType;
+import com.nitroxen.demo.enums.Role;
+import com.nitroxen.demo.exception.ResourceNotFoundException;
+import com.nitroxen.demo.exception.ValidationException;
+import com.nitroxen.demo.repository.FarmAssignmentRepository;
+import com.nitroxen.demo.repository.FarmRepository;
+import com.nitroxen.demo.repository.RevenueDailyRepository;
+import com.nitroxen.demo.repository.RevenueMonthlyRepository;
+import com.nitroxen.demo.repository.UserRepository;
+import com.nitroxen.demo.service.RevenueService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RevenueServiceImpl implements RevenueService {
+
+    static final int MAX_REPORT_MONTHS = 120;
+
+    private final RevenueLedger revenueLedger;
+    private final SubscriptionPricing subscriptionPricing;
+    private final UserRepository userRepository;
+    private final FarmRepository farmRepository;
+    private final FarmAssignmentRepository farmAssignmentRepository;
+    private final RevenueDailyRepository revenueDailyRepository;
+    private final RevenueMonthlyRepository revenueMonthlyRepository;
+
+    @Override
+    public BillingRunResponse runBilling(YearMonth month) {
+        List<User> owners = userRepository.findByRole(Role.OWNER);
+        int recorded = 0;
+        int skipped = 0;
+        int failed = 0;
+        for (User owner : owners) {
+            // Each owner is recorded in its own transaction, so one failure does not undo the others
+            try {
+                long seats = 1 + farmAssignmentRepository.countActiveManagersByOwnerId(owner.getId())
+                        + userRepository.countByOwnerIdAndRoleAndEnabledTrue(owner.getId(), Role.WORKER);
+                List<BillingLedgerEntry> charges = subscriptionPricing.chargesFor(owner.getId(),
+                        farmRepository.findByOwnerId(owner.getId()), seats, month);
+                int count = revenueLedger.record(owner.getId(), charges).size();
+                recorded += count;
+                skipped += charges.size() - count;
+            } catch (RuntimeException e) {
+                failed++;
+                log.error("Failed to bill owner {} for {}", owner.getId(), month, e);
+            }
+        }
+        return BillingRunResponse.builder()
+                .month(month)
+                .owners(owners.size() - failed)
+                .entriesRecorded(recorded)
+                .entriesSkipped(skipped)
+                .ownersFailed(failed)
+                .build();
+    }
+
+    @Override
+    public LedgerEntryResponse recordAdjustment(RevenueAdjustmentRequest request, Long adminId) {
+        User owner = userRepository.findById(request.getOwnerId())
+                .orElseThrow(() -> new ResourceNotFoundException("Owner not found with id: " + request.getOwnerId()));
+        if (owner.getRole() != Role.OWNER) {
+            throw new ValidationException("User " + owner.getId() + " is not a farm owner");
+        }
+        if (request.getAmount().signum() == 0) {
+            throw new ValidationException("An adjustment must have a non-zero amount");
+        }
+
+        BillingLedgerEntry entry = BillingLedgerEntry.builder()
+                .chargeType(BillingChargeType.ADJUSTMENT)
+                .quantity(1.0)
+                .unitPrice(request.getAmount())
+                .amount(request.getAmount())
+                .billingPeriod(LocalDate.now().withDayOfMonth(1))
+                .description(request.getDescription())
+                .recordedBy(adminId)
+                .build();
+        return mapToLedgerEntryResponse(revenueLedger.record(owner.getId(), List.of(entry)).get(0));
+    }
+
+    @Override
+    public RevenueResponse getRevenue(YearMonth month) {
+        List<RevenueMonthly> rows = revenueMonthlyRepository.findByRevenueMonthOrderByAmountDesc(month.atDay(1));
+        Map<Long, String> names = new HashMap<>();
+        for (User owner : userRepository.findAllById(rows.stream().map(RevenueMonthly::getOwnerId).toList())) {
+            names.put(owner.getId(), owner.getName());
+        }
+
+        BigDecimal total = BigDecimal.ZERO;
+        for (RevenueMonthly row : rows) {
+            total = total.add(row.getAmount());
+        }
+        return RevenueResponse.builder()
+                .month(month)
+                .total(total)
+                .owners(rows.stream()
+                        .map(row -> OwnerRevenueResponse.builder()
+                                .ownerId(row.getOwnerId())
+                                .ownerName(names.get(row.getOwnerId()))
+                                .amount(row.getAmount())
+                                .entryCount(row.getEntryCount())
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    @Override
+    public List<RevenuePeriodResponse> getOwnerMonthlyRevenue(Long ownerId, YearMonth from, YearMonth to) {
+        if (to.isBefore(from)) {
+            throw new ValidationException("The range must end after it starts");
+        }
+        if (from.plusMonths(MAX_REPORT_MONTHS).isBefore(to)) {
+            throw new ValidationException("A report covers at most " + MAX_REPORT_MONTHS + " months");
+        }
+        return revenueMonthlyRepository.findByOwnerIdAndRevenueMonthBetweenOrderByRevenueMonthAsc(
+                        ownerId, from.atDay(1), to.atDay(1)).stream()
+                .map(row -> period(row.getRevenueMonth(), row.getAmount(), row.getEntryCount()))
+                .toList();
+    }
+
+    @Override
+    public List<RevenuePeriodResponse> getOwnerDailyRevenue(Long ownerId, YearMonth month) {
+        return revenueDailyRepository.findByOwnerIdAndRevenueDateBetweenOrderByRevenueDateAsc(
+                        ownerId, month.atDay(1), month.atEndOfMonth()).stream()
+                .map(row -> period(row.getRevenueDate(), row.getAmount(), row.getEntryCount()))
+                .toList();
+    }
+
+    private static RevenuePeriodResponse period(LocalDate start, BigDecimal amount, Long entryCount) {
+        return RevenuePeriodResponse.builder()
+                .periodStart(start)
+                .amount(amount)
+                .entryCount(entryCount)
+                .build();
+    }
+
+    // Helper method to map a ledger entry to its response
+    private LedgerEntryResponse mapToLedgerEntryResponse(BillingLedgerEntry entry) {
+        return LedgerEntryResponse.builder()
+                .id(entry.getId())
+                .ownerId(entry.getOwnerId())
+                .farmId(entry.getFarmId())
+                .chargeType(entry.getChargeType())
+                .quantity(entry.getQuantity())
+                .unitPrice(entry.getUnitPrice())
+                .amount(entry.getAmount())
+                .billingPeriod(entry.getBillingPeriod())
+                .recordedOn(entry.getRecordedOn())
+                .description(entry.getDescription())
+                .createdAt(entry.getCreatedAt())
+                .build();
+    }
+}
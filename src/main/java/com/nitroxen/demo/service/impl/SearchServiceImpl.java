@@ -0,0 +1,71 @@
+package com.nitroxen.demo.service.impl;
+
+import com.nitroxen.demo.dto.response.SearchHitResponse;
+import com.nitroxen.demo.dto.response.SearchResultResponse;
+import com.nitroxen.demo.exception.ValidationException;
+import com.nitroxen.demo.repository.FarmAssignmentRepository;
+import com.nitroxen.demo.search.SearchDocument;
+import com.nitroxen.demo.search.SearchIndex;
+import com.nitroxen.demo.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class SearchServiceImpl implements SearchService {
+
+    static final int MAX_PAGE_SIZE = 100;
+    // Deep pages cost as much as collecting every hit before them
+    static final int MAX_RESULT_WINDOW = 1000;
+
+    private final SearchIndex searchIndex;
+    private final FarmAssignmentRepository farmAssignmentRepository;
+
+    @Override
+    public SearchResultResponse search(String query, Long farmId, Set<SearchDocument.Type> types,
+                                       int page, int size, Long managerId) {
+        if (query == null || query.isBlank()) {
+            throw new ValidationException("Search query is required");
+        }
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ValidationException("Page must be non-negative and size between 1 and " + MAX_PAGE_SIZE);
+        }
+        if ((page + 1) * size > MAX_RESULT_WINDOW) {
+            throw new ValidationException("Results beyond the first " + MAX_RESULT_WINDOW + " are not available, refine the query");
+        }
+
+        // Scope the search to the farms this manager is assigned to
+        List<Long> farmIds = farmAssignmentRepository.findAssignedFarmIdsByManagerId(managerId);
+        if (farmId != null) {
+            if (!farmIds.contains(farmId)) {
+                throw new ValidationException("Farm not assigned to this manager");
+            }
+            farmIds = List.of(farmId);
+        }
+
+        SearchIndex.Page result = searchIndex.search(query.trim(), farmIds, types, page, size);
+        return SearchResultResponse.builder()
+                .query(query)
+                .total(result.total())
+                .page(page)
+                .size(size)
+                .hits(result.hits().stream().map(this::mapToHitResponse).collect(Collectors.toList()))
+                .build();
+    }
+
+    // Helper method to map an index hit to SearchHitResponse DTO
+    private SearchHitResponse mapToHitResponse(SearchIndex.Hit hit) {
+        return SearchHitResponse.builder()
+                .type(hit.type())
+                .id(hit.id())
+                .farmId(hit.farmId())
+                .title(hit.title())
+                .snippet(hit.snippet())
+                .score(hit.score())
+                .build();
+    }
+}
@@ -0,0 +1,189 @@
+package com.nitroxen.demo.service.impl;
+
+import com.nitroxen.demo.dto.request.TelemetryIngestRequest;
+import com.nitroxen.demo.dto.response.TelemetryIngestResponse;
+import com.nitroxen.demo.dto.response.TelemetrySeriesResponse;
+import com.nitroxen.demo.dto.response.TelemetrySeriesValuesResponse;
+import com.nitroxen.demo.entity.User;
+import com.nitroxen.demo.enums.ResourceType;
+import com.nitroxen.demo.enums.Role;
+import com.nitroxen.demo.exception.ResourceNotFoundException;
+import com.nitroxen.demo.exception.TooManyRequestsException;
+import com.nitroxen.demo.exception.ValidationException;
+import com.nitroxen.demo.ownership.ManagerFarmCache;
+import com.nitroxen.demo.ownership.OwnershipIndex;
+import com.nitroxen.demo.service.TelemetryService;
+import com.nitroxen.demo.telemetry.Aggregation;
+import com.nitroxen.demo.telemetry.LongLongHashMap;
+import com.nitroxen.demo.telemetry.Metric;
+import com.nitroxen.demo.telemetry.SourceType;
+import com.nitroxen.demo.telemetry.StepSeries;
+import com.nitroxen.demo.telemetry.TelemetryBatch;
+import com.nitroxen.demo.telemetry.TelemetryPipeline;
+import com.nitroxen.demo.telemetry.TelemetryQueryEngine;
+import com.nitroxen.demo.telemetry.ZoneFarmCache;
+import com.nitroxen.demo.telemetry.store.SeriesKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongPredicate;
+
+@Service
+@RequiredArgsConstructor
+public class TelemetryServiceImpl implements TelemetryService {
+
+    // Readings stamped further in the future than this are rejected as clock errors
+    static final long MAX_CLOCK_SKEW_MILLIS = TimeUnit.MINUTES.toMillis(5);
+    static final long RETRY_AFTER_SECONDS = 1;
+    static final int MAX_QUERY_SOURCES = 200;
+    // Bounds the memory of one query: every step of every series holds its count, min, max, sum and last
+    static final long MAX_QUERY_POINTS = 500_000;
+    // Rollup blocks are walked across the whole range, so it is bounded regardless of the step
+    static final long MAX_QUERY_RANGE_MILLIS = TimeUnit.DAYS.toMillis(10 * 366);
+
+    private final TelemetryPipeline telemetryPipeline;
+    private final TelemetryQueryEngine telemetryQueryEngine;
+    private final ZoneFarmCache zoneFarmCache;
+    private final OwnershipIndex ownershipIndex;
+    private final ManagerFarmCache managerFarmCache;
+
+    @Override
+    public TelemetryIngestResponse ingest(TelemetryIngestRequest request, User caller) {
+        int count = request.getSourceIds().length;
+        if (count > TelemetryIngestRequest.MAX_READINGS) {
+            throw new ValidationException("A batch holds at most " + TelemetryIngestRequest.MAX_READINGS + " readings");
+        }
+        if (request.getMetrics().length != count || request.getTimestamps().length != count
+                || request.getValues().length != count) {
+            throw new ValidationException("sourceIds, metrics, timestamps and values must have the same length");
+        }
+
+        // Copy into the columnar batch, validating each reading
+        long latestAllowed = System.currentTimeMillis() + MAX_CLOCK_SKEW_MILLIS;
+        TelemetryBatch batch = new TelemetryBatch(count);
+        for (int i = 0; i < count; i++) {
+            Metric metric = request.getMetrics()[i];
+            long timestamp = request.getTimestamps()[i];
+            double value = request.getValues()[i];
+            if (metric == null) {
+                throw new ValidationException("Metric missing for reading " + i);
+            }
+            if (timestamp <= 0 || timestamp > latestAllowed) {
+                throw new ValidationException("Timestamp out of range for reading " + i);
+            }
+            if (!Double.isFinite(value)) {
+                throw new ValidationException("Value is not a finite number for reading " + i);
+            }
+            batch.add(request.getSourceIds()[i], metric.code(), timestamp, value);
+        }
+
+        verifySourcesAccessible(batch, caller);
+
+        if (!telemetryPipeline.offer(batch)) {
+            throw new TooManyRequestsException("Telemetry ingestion is saturated, retry shortly", RETRY_AFTER_SECONDS);
+        }
+        return TelemetryIngestResponse.builder()
+                .accepted(count)
+                .build();
+    }
+
+    @Override
+    public TelemetrySeriesResponse query(long[] sourceIds, Metric metric, long from, long to, long step,
+                                         Aggregation aggregation, User caller) {
+        if (sourceIds == null || sourceIds.length == 0 || sourceIds.length > MAX_QUERY_SOURCES) {
+            throw new ValidationException("A query covers between 1 and " + MAX_QUERY_SOURCES + " sources");
+        }
+        if (from < 0 || to <= from) {
+            throw new ValidationException("The range must end after it starts");
+        }
+        if (step <= 0) {
+            throw new ValidationException("The step must be positive");
+        }
+        if (to - from > MAX_QUERY_RANGE_MILLIS) {
+            throw new ValidationException("A query covers at most " + TimeUnit.MILLISECONDS.toDays(MAX_QUERY_RANGE_MILLIS) + " days");
+        }
+        // Divide rather than multiply so crafted values cannot overflow past the limit
+        long steps = Math.floorDiv(to - from - 1, step) + 1;
+        if (steps > MAX_QUERY_POINTS / sourceIds.length) {
+            throw new ValidationException("A query returns at most " + MAX_QUERY_POINTS + " values; use a larger step");
+        }
+
+        LongPredicate accessibleFarms = accessibleFarms(caller);
+        long[] seriesKeys = new long[sourceIds.length];
+        for (int i = 0; i < sourceIds.length; i++) {
+            verifySourceAccessible(metric.source(), sourceIds[i], accessibleFarms);
+            seriesKeys[i] = SeriesKey.of(metric.source(), sourceIds[i], metric);
+        }
+
+        StepSeries[] results = telemetryQueryEngine.queryAll(seriesKeys, from, to, step);
+        List<TelemetrySeriesValuesResponse> series = new ArrayList<>(results.length);
+        for (int i = 0; i < results.length; i++) {
+            Double[] values = new Double[results[i].size()];
+            for (int j = 0; j < values.length; j++) {
+                double value = results[i].value(j, aggregation);
+                values[j] = Double.isNaN(value) ? null : value;
+            }
+            series.add(TelemetrySeriesValuesResponse.builder()
+                    .sourceId(sourceIds[i])
+                    .values(values)
+                    .build());
+        }
+        return TelemetrySeriesResponse.builder()
+                .metric(metric)
+                .aggregation(aggregation)
+                .from(from)
+                .to(to)
+                .step(step)
+                .steps((int) steps)
+                .series(series)
+                .build();
+    }
+
+    // Helper method to check every zone and reservoir exists and lies in a farm the caller owns or manages
+    private void verifySourcesAccessible(TelemetryBatch batch, User caller) {
+        LongPredicate accessibleFarms = accessibleFarms(caller);
+        zoneFarmCache.preload(batch);
+
+        long previousSource = LongLongHashMap.MISSING;
+        SourceType previousType = null;
+        for (int i = 0; i < batch.size(); i++) {
+            long sourceId = batch.sourceId(i);
+            SourceType sourceType = Metric.fromCode(batch.metric(i)).source();
+            if (sourceId == previousSource && sourceType == previousType) {
+                continue;
+            }
+            verifySourceAccessible(sourceType, sourceId, accessibleFarms);
+            previousSource = sourceId;
+            previousType = sourceType;
+        }
+    }
+
+    // Helper method to check one zone or reservoir exists and lies in one of the accessible farms
+    private void verifySourceAccessible(SourceType sourceType, long sourceId, LongPredicate accessibleFarms) {
+        String label = sourceType == SourceType.ZONE ? "Zone" : "Reservoir";
+        long farmId = zoneFarmCache.farmOf(sourceType, sourceId);
+        if (farmId == LongLongHashMap.MISSING) {
+            throw new ResourceNotFoundException(label + " not found with id: " + sourceId);
+        }
+        if (!accessibleFarms.test(farmId)) {
+            throw new ValidationException(label + " " + sourceId + " is not in a farm accessible to this user");
+        }
+    }
+
+    // Helper method to decide which farms a caller may report for or query, without a query per request
+    private LongPredicate accessibleFarms(User caller) {
+        long callerId = caller.getId();
+        if (caller.getRole() == Role.ADMIN) {
+            return farmId -> true;
+        } else if (caller.getRole() == Role.OWNER) {
+            return farmId -> ownershipIndex.isOwnedBy(ResourceType.FARM, farmId, callerId);
+        } else if (caller.getRole() == Role.MANAGER) {
+            return managerFarmCache.farmsOf(callerId)::containsKey;
+        } else {
+            throw new ValidationException("Only owners and managers can submit or query telemetry");
+        }
+    }
+}
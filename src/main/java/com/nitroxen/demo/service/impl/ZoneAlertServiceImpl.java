@@ -0,0 +1,141 @@
+package com.nitroxen.demo.service.impl;
+
+import com.nitroxen.demo.entity.Farm;
+import com.nitroxen.demo.entity.User;
+import com.nitroxen.demo.entity.Zone;
+import com.nitroxen.demo.entity.ZoneAlert;
+import com.nitroxen.demo.enums.AlertStatus;
+import com.nitroxen.demo.enums.NotificationCategory;
+import com.nitroxen.demo.notification.NotificationOutbox;
+import com.nitroxen.demo.repository.FarmAssignmentRepository;
+import com.nitroxen.demo.repository.FarmRepository;
+import com.nitroxen.demo.repository.ZoneAlertRepository;
+import com.nitroxen.demo.repository.ZoneRepository;
+import com.nitroxen.demo.service.ZoneAlertService;
+import com.nitroxen.demo.telemetry.LongLongHashMap;
+import com.nitroxen.demo.telemetry.Metric;
+import com.nitroxen.demo.telemetry.ZoneFarmCache;
+import com.nitroxen.demo.telemetry.alert.AlertEvent;
+import com.nitroxen.demo.telemetry.alert.AlertNotification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class ZoneAlertServiceImpl implements ZoneAlertService {
+
+    private final ZoneAlertRepository zoneAlertRepository;
+    private final ZoneRepository zoneRepository;
+    private final FarmRepository farmRepository;
+    private final FarmAssignmentRepository farmAssignmentRepository;
+    private final ZoneFarmCache zoneFarmCache;
+    private final NotificationOutbox notificationOutbox;
+
+    @Override
+    @Transactional
+    public Optional<ZoneAlert> raise(AlertEvent event) {
+        String openKey = openKey(event.zoneId(), event.metric());
+        Optional<ZoneAlert> open = zoneAlertRepository.findByOpenKey(openKey);
+        if (open.isPresent()) {
+            // Already open (e.g. raised again after a restart): keep the original, nobody is told twice
+            open.get().setLastValue(finiteOrNull(event.value()));
+            return Optional.empty();
+        }
+
+        long farmId = zoneFarmCache.farmOf(event.zoneId());
+        ZoneAlert alert = ZoneAlert.builder()
+                .zoneId(event.zoneId())
+                .farmId(farmId == LongLongHashMap.MISSING ? null : farmId)
+                .metric(event.metric())
+                .breach(event.breach())
+                .status(AlertStatus.OPEN)
+                .openKey(openKey)
+                .bandLow(event.bandLow())
+                .bandHigh(event.bandHigh())
+                .triggerValue(event.value())
+                .lastValue(event.value())
+                .startedAt(toDateTime(event.timestamp()))
+                .build();
+        ZoneAlert savedAlert = zoneAlertRepository.save(alert);
+        queueNotification(savedAlert);
+        return Optional.of(savedAlert);
+    }
+
+    @Override
+    @Transactional
+    public Optional<ZoneAlert> resolve(AlertEvent event) {
+        return zoneAlertRepository.findByOpenKey(openKey(event.zoneId(), event.metric()))
+                .map(alert -> {
+                    alert.setStatus(AlertStatus.RESOLVED);
+                    alert.setOpenKey(null);
+                    alert.setResolvedAt(toDateTime(event.timestamp()));
+                    if (Double.isFinite(event.value())) {
+                        alert.setLastValue(event.value());
+                    }
+                    ZoneAlert savedAlert = zoneAlertRepository.save(alert);
+                    queueNotification(savedAlert);
+                    return savedAlert;
+                });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AlertNotification notificationFor(ZoneAlert alert) {
+        Optional<Zone> zone = zoneRepository.findById(alert.getZoneId());
+        String zoneName = zone.map(Zone::getName).orElse("#" + alert.getZoneId());
+
+        Set<String> phoneNumbers = new LinkedHashSet<>();
+        String farmName = "unknown farm";
+        if (alert.getFarmId() != null) {
+            Optional<Farm> farm = farmRepository.findById(alert.getFarmId());
+            if (farm.isPresent()) {
+                farmName = farm.get().getName();
+                addPhoneNumber(phoneNumbers, farm.get().getOwner());
+            }
+            for (User manager : farmAssignmentRepository.findActiveManagersByFarmId(alert.getFarmId())) {
+                addPhoneNumber(phoneNumbers, manager);
+            }
+        }
+        return new AlertNotification(alert, zoneName, farmName, List.copyOf(phoneNumbers));
+    }
+
+    // Helper method to queue the alert's message to its recipients in the current transaction
+    private void queueNotification(ZoneAlert alert) {
+        AlertNotification notification = notificationFor(alert);
+        if (notification.phoneNumbers().isEmpty()) {
+            return;
+        }
+        notificationOutbox.enqueue(NotificationCategory.ALERT, "alert:" + alert.getId() + ":" + alert.getStatus(),
+                notification.phoneNumbers(), notification.message());
+        alert.setNotifiedAt(LocalDateTime.now());
+    }
+
+    // Helper method to build the key that is unique among open alerts
+    private static String openKey(long zoneId, Metric metric) {
+        return zoneId + ":" + metric.name();
+    }
+
+    // Helper method to collect the phone number of an enabled user
+    private static void addPhoneNumber(Set<String> phoneNumbers, User user) {
+        if (user != null && Boolean.TRUE.equals(user.getEnabled()) && user.getPhoneNumber() != null) {
+            phoneNumbers.add(user.getPhoneNumber());
+        }
+    }
+
+    private static LocalDateTime toDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private static Double finiteOrNull(double value) {
+        return Double.isFinite(value) ? value : null;
+    }
+}
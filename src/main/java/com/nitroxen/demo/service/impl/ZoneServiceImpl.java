@@ -5,13 +5,20 @@ import com.nitroxen.demo.dto.response.ZoneResponse;
 import com.nitroxen.demo.entity.Polyhouse;
 import com.nitroxen.demo.entity.Reservoir;
 import com.nitroxen.demo.entity.Zone;
+import com.nitroxen.demo.enums.HierarchyChangeType;
+import com.nitroxen.demo.enums.HierarchyEntityType;
+import com.nitroxen.demo.enums.ResourceType;
+import com.nitroxen.demo.events.DomainEventBus;
+import com.nitroxen.demo.exception.ConstraintViolations;
 import com.nitroxen.demo.exception.ResourceNotFoundException;
 import com.nitroxen.demo.exception.ValidationException;
+import com.nitroxen.demo.ownership.OwnershipIndex;
 import com.nitroxen.demo.repository.PolyhouseRepository;
 import com.nitroxen.demo.repository.ReservoirRepository;
 import com.nitroxen.demo.repository.ZoneRepository;
 import com.nitroxen.demo.service.ZoneService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,25 +32,24 @@ public class ZoneServiceImpl implements ZoneService {
     private final ZoneRepository zoneRepository;
     private final PolyhouseRepository polyhouseRepository;
     private final ReservoirRepository reservoirRepository;
+    private final DomainEventBus domainEventBus;
+    private final OwnershipIndex ownershipIndex;
 
     @Override
     @Transactional
     public ZoneResponse createZone(Long polyhouseId, ZoneRequest request, Long ownerId) {
-        // Get polyhouse and verify ownership
+        // Verify ownership, then get polyhouse
+        if (!ownershipIndex.isOwnedBy(ResourceType.POLYHOUSE, polyhouseId, ownerId)) {
+            throw polyhouseNotFound(polyhouseId, ownerId);
+        }
         Polyhouse polyhouse = polyhouseRepository.findById(polyhouseId)
-                .filter(p -> p.getFarm().getOwner().getId().equals(ownerId))
-                .orElseThrow(() -> new ResourceNotFoundException("Polyhouse not found with id: " + polyhouseId + " for owner id: " + ownerId));
+                .orElseThrow(() -> polyhouseNotFound(polyhouseId, ownerId));
 
         // Check if polyhouse already has the maximum number of zones (4)
         if (polyhouse.hasMaxZones()) {
             throw new ValidationException("Polyhouse already has the maximum number of zones (4)");
         }
 
-        // Check if zone name is unique within this polyhouse
-        if (zoneRepository.existsByNameAndPolyhouseId(request.getName(), polyhouseId)) {
-            throw new ValidationException("Zone with this name already exists in this polyhouse");
-        }
-
         // Find reservoir if specified
         Reservoir reservoir = null;
         if (request.getReservoirId() != null) {
@@ -58,6 +64,7 @@ public class ZoneServiceImpl implements ZoneService {
                 .systemType(request.getSystemType())
                 .cropType(request.getCropType())
                 .cropVariety(request.getCropVariety())
+                .cropStage(request.getCropStage())
                 .plantingConfiguration(request.getPlantingConfiguration())
                 .irrigationSetup(request.getIrrigationSetup())
                 .dosingSystem(request.getDosingSystem())
@@ -65,8 +72,10 @@ public class ZoneServiceImpl implements ZoneService {
                 .waterSource(reservoir)
                 .build();
 
-        // Save and return
-        Zone savedZone = zoneRepository.save(zone);
+        // Save and return; the (polyhouse, name) unique key rejects duplicate names
+        Zone savedZone = saveZone(zone);
+        ownershipIndex.register(ResourceType.ZONE, savedZone.getId(), polyhouse.getFarm().getId(), ownerId);
+        domainEventBus.publish(HierarchyEntityType.ZONE, savedZone.getId(), HierarchyChangeType.CREATED, polyhouse.getFarm().getId(), ownerId);
         return mapToZoneResponse(savedZone);
     }
 
@@ -81,9 +90,9 @@ public class ZoneServiceImpl implements ZoneService {
     @Transactional(readOnly = true)
     public List<ZoneResponse> getZonesByPolyhouse(Long polyhouseId, Long ownerId) {
         // Verify polyhouse exists and ownership
-        polyhouseRepository.findById(polyhouseId)
-                .filter(p -> p.getFarm().getOwner().getId().equals(ownerId))
-                .orElseThrow(() -> new ResourceNotFoundException("Polyhouse not found with id: " + polyhouseId + " for owner id: " + ownerId));
+        if (!ownershipIndex.isOwnedBy(ResourceType.POLYHOUSE, polyhouseId, ownerId)) {
+            throw polyhouseNotFound(polyhouseId, ownerId);
+        }
 
         return zoneRepository.findByPolyhouseId(polyhouseId).stream()
                 .map(this::mapToZoneResponse)
@@ -95,12 +104,6 @@ public class ZoneServiceImpl implements ZoneService {
     public ZoneResponse updateZone(Long zoneId, ZoneRequest request, Long ownerId) {
         Zone zone = getZoneByIdAndOwnerId(zoneId, ownerId);
 
-        // Check if name is being changed and if new name is already taken
-        if (!zone.getName().equals(request.getName()) &&
-                zoneRepository.existsByNameAndPolyhouseId(request.getName(), zone.getPolyhouse().getId())) {
-            throw new ValidationException("Zone with this name already exists in this polyhouse");
-        }
-
         // Find reservoir if specified
         Reservoir reservoir = null;
         if (request.getReservoirId() != null) {
@@ -114,13 +117,15 @@ public class ZoneServiceImpl implements ZoneService {
         zone.setSystemType(request.getSystemType());
         zone.setCropType(request.getCropType());
         zone.setCropVariety(request.getCropVariety());
+        zone.setCropStage(request.getCropStage());
         zone.setPlantingConfiguration(request.getPlantingConfiguration());
         zone.setIrrigationSetup(request.getIrrigationSetup());
         zone.setDosingSystem(request.getDosingSystem());
         zone.setWaterSource(reservoir);
 
         // Save and return
-        Zone updatedZone = zoneRepository.save(zone);
+        Zone updatedZone = saveZone(zone);
+        domainEventBus.publish(HierarchyEntityType.ZONE, zoneId, HierarchyChangeType.UPDATED, zone.getPolyhouse().getFarm().getId(), ownerId);
         return mapToZoneResponse(updatedZone);
     }
 
@@ -129,13 +134,37 @@ public class ZoneServiceImpl implements ZoneService {
     public void deleteZone(Long zoneId, Long ownerId) {
         Zone zone = getZoneByIdAndOwnerId(zoneId, ownerId);
         zoneRepository.delete(zone);
+        ownershipIndex.unregister(ResourceType.ZONE, List.of(zoneId));
+        domainEventBus.publish(HierarchyEntityType.ZONE, zoneId, HierarchyChangeType.DELETED, zone.getPolyhouse().getFarm().getId(), ownerId);
     }
 
     // Helper method to get zone by ID and verify owner
     private Zone getZoneByIdAndOwnerId(Long zoneId, Long ownerId) {
+        if (!ownershipIndex.isOwnedBy(ResourceType.ZONE, zoneId, ownerId)) {
+            throw zoneNotFound(zoneId, ownerId);
+        }
         return zoneRepository.findById(zoneId)
-                .filter(zone -> zone.getPolyhouse().getFarm().getOwner().getId().equals(ownerId))
-                .orElseThrow(() -> new ResourceNotFoundException("Zone not found with id: " + zoneId + " for owner id: " + ownerId));
+                .orElseThrow(() -> zoneNotFound(zoneId, ownerId));
+    }
+
+    private static ResourceNotFoundException zoneNotFound(Long zoneId, Long ownerId) {
+        return new ResourceNotFoundException("Zone not found with id: " + zoneId + " for owner id: " + ownerId);
+    }
+
+    private static ResourceNotFoundException polyhouseNotFound(Long polyhouseId, Long ownerId) {
+        return new ResourceNotFoundException("Polyhouse not found with id: " + polyhouseId + " for owner id: " + ownerId);
+    }
+
+    // Helper method to save a zone, reporting a duplicate name as a validation error
+    private Zone saveZone(Zone zone) {
+        try {
+            return zoneRepository.saveAndFlush(zone);
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.isViolationOf(e, Zone.UNIQUE_NAME)) {
+                throw new ValidationException("Zone with this name already exists in this polyhouse");
+            }
+            throw e;
+        }
     }
 
     // Helper method to map Zone entity to ZoneResponse DTO
@@ -146,6 +175,7 @@ public class ZoneServiceImpl implements ZoneService {
                 .systemType(zone.getSystemType())
                 .cropType(zone.getCropType())
                 .cropVariety(zone.getCropVariety())
+                .cropStage(zone.getCropStage())
                 .plantingConfiguration(zone.getPlantingConfiguration())
                 .irrigationSetup(zone.getIrrigationSetup())
                 .dosingSystem(zone.getDosingSystem())
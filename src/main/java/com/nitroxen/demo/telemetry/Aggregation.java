@@ -0,0 +1,13 @@
+package com.nitroxen.demo.telemetry;
+
+/**
+ * Aggregate computed per step by telemetry queries.
+ */
+public enum Aggregation {
+    MIN,
+    MAX,
+    AVG,
+    SUM,
+    COUNT,
+    LAST
+}
@@ -0,0 +1,159 @@
+package com.nitroxen.demo.telemetry;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from long keys to long values, with no boxing on get or put.
+ * Not thread-safe: callers either confine it to one thread or publish a finished copy.
+ */
+public final class LongLongHashMap {
+
+    public static final long MISSING = Long.MIN_VALUE;
+
+    private static final long EMPTY_KEY = 0L;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private long[] values;
+    private boolean hasZeroKey;
+    private long zeroValue;
+    private int size;
+    private int mask;
+
+    public LongLongHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    public long get(long key) {
+        if (key == EMPTY_KEY) {
+            return hasZeroKey ? zeroValue : MISSING;
+        }
+        for (int i = index(key); ; i = (i + 1) & mask) {
+            long existing = keys[i];
+            if (existing == key) {
+                return values[i];
+            }
+            if (existing == EMPTY_KEY) {
+                return MISSING;
+            }
+        }
+    }
+
+    public boolean containsKey(long key) {
+        return get(key) != MISSING;
+    }
+
+    public void put(long key, long value) {
+        if (key == EMPTY_KEY) {
+            if (!hasZeroKey) {
+                size++;
+            }
+            hasZeroKey = true;
+            zeroValue = value;
+            return;
+        }
+        for (int i = index(key); ; i = (i + 1) & mask) {
+            long existing = keys[i];
+            if (existing == key) {
+                values[i] = value;
+                return;
+            }
+            if (existing == EMPTY_KEY) {
+                keys[i] = key;
+                values[i] = value;
+                if (++size > keys.length * LOAD_FACTOR) {
+                    resize(keys.length << 1);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Remove the key
+     * @return The value it had, or {@link #MISSING}
+     */
+    public long remove(long key) {
+        if (key == EMPTY_KEY) {
+            if (!hasZeroKey) {
+                return MISSING;
+            }
+            hasZeroKey = false;
+            size--;
+            return zeroValue;
+        }
+        for (int i = index(key); ; i = (i + 1) & mask) {
+            long existing = keys[i];
+            if (existing == EMPTY_KEY) {
+                return MISSING;
+            }
+            if (existing == key) {
+                long value = values[i];
+                size--;
+                closeGap(i);
+                return value;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public LongLongHashMap copy() {
+        LongLongHashMap copy = new LongLongHashMap(0);
+        copy.keys = Arrays.copyOf(keys, keys.length);
+        copy.values = Arrays.copyOf(values, values.length);
+        copy.hasZeroKey = hasZeroKey;
+        copy.zeroValue = zeroValue;
+        copy.size = size;
+        copy.mask = mask;
+        return copy;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key != EMPTY_KEY) {
+                int j = index(key);
+                while (keys[j] != EMPTY_KEY) {
+                    j = (j + 1) & mask;
+                }
+                keys[j] = key;
+                values[j] = oldValues[i];
+            }
+        }
+    }
+
+    // Backward-shift deletion: move later entries of the probe run into the freed slot, so lookups
+    // can keep stopping at the first empty slot without tombstones
+    private void closeGap(int gap) {
+        for (int i = (gap + 1) & mask; ; i = (i + 1) & mask) {
+            long key = keys[i];
+            if (key == EMPTY_KEY) {
+                keys[gap] = EMPTY_KEY;
+                return;
+            }
+            int home = index(key);
+            // Move the entry unless its home slot lies cyclically in (gap, i]
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = key;
+                values[gap] = values[i];
+                gap = i;
+            }
+        }
+    }
+
+    private int index(long key) {
+        // Fibonacci hashing spreads sequential IDs across the table
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+    }
+}
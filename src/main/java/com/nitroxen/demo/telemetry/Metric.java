@@ -0,0 +1,35 @@
+package com.nitroxen.demo.telemetry;
+
+/**
+ * Sensor metrics, each reported by one kind of source. The ordinal is used as the compact wire and
+ * storage code, so new metrics must only ever be appended.
+ */
+public enum Metric {
+    TEMPERATURE(SourceType.ZONE),
+    HUMIDITY(SourceType.ZONE),
+    EC(SourceType.ZONE),
+    PH(SourceType.ZONE),
+    SOIL_MOISTURE(SourceType.ZONE),
+    WATER_LEVEL(SourceType.RESERVOIR), // liters currently held
+    WATER_USED(SourceType.ZONE); // liters delivered to the zone since its previous reading
+
+    private static final Metric[] VALUES = values();
+
+    private final SourceType source;
+
+    Metric(SourceType source) {
+        this.source = source;
+    }
+
+    public SourceType source() {
+        return source;
+    }
+
+    public byte code() {
+        return (byte) ordinal();
+    }
+
+    public static Metric fromCode(int code) {
+        return VALUES[code];
+    }
+}
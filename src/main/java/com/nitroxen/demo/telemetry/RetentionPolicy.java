@@ -0,0 +1,88 @@
+package com.nitroxen.demo.telemetry;
+
+import com.nitroxen.demo.telemetry.store.ChunkRetention;
+import com.nitroxen.demo.telemetry.store.SeriesKey;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * How long raw readings are kept before compaction drops them; rollups are kept regardless.
+ * <p>
+ * A farm override wins over a metric override, which wins over the default. Overrides are
+ * configured as comma-separated {@code key=days} pairs, e.g. {@code per-metric: EC=90,PH=90}
+ * and {@code per-farm: 12=365}.
+ */
+@Component
+public class RetentionPolicy {
+
+    private final ZoneFarmCache zoneFarmCache;
+    private final long defaultRetentionMillis;
+    private final long[] retentionByMetric;
+    private final LongLongHashMap retentionByFarm = new LongLongHashMap(16);
+
+    public RetentionPolicy(ZoneFarmCache zoneFarmCache,
+                           @Value("${application.telemetry.retention.raw-days:30}") int rawDays,
+                           @Value("${application.telemetry.retention.per-metric:}") String perMetric,
+                           @Value("${application.telemetry.retention.per-farm:}") String perFarm) {
+        this.zoneFarmCache = zoneFarmCache;
+        this.defaultRetentionMillis = TimeUnit.DAYS.toMillis(rawDays);
+        this.retentionByMetric = new long[Metric.values().length];
+        Arrays.fill(retentionByMetric, -1);
+        for (String[] entry : parse(perMetric)) {
+            retentionByMetric[Metric.valueOf(entry[0].toUpperCase()).ordinal()] = toMillis(entry[1]);
+        }
+        for (String[] entry : parse(perFarm)) {
+            retentionByFarm.put(Long.parseLong(entry[0]), toMillis(entry[1]));
+        }
+    }
+
+    public long retentionMillis(long seriesKey) {
+        if (retentionByFarm.size() > 0) {
+            long farmId = zoneFarmCache.farmOf(SeriesKey.sourceType(seriesKey), SeriesKey.sourceId(seriesKey));
+            long farmRetention = farmId == LongLongHashMap.MISSING ? LongLongHashMap.MISSING : retentionByFarm.get(farmId);
+            if (farmRetention != LongLongHashMap.MISSING) {
+                return farmRetention;
+            }
+        }
+        long metricRetention = retentionByMetric[SeriesKey.metric(seriesKey).ordinal()];
+        return metricRetention >= 0 ? metricRetention : defaultRetentionMillis;
+    }
+
+    /**
+     * Retention check for one compaction pass at the given time, resolving each series once
+     */
+    public ChunkRetention asOf(long now) {
+        LongLongHashMap cutoffBySeries = new LongLongHashMap(1024);
+        return (seriesKey, maxTimestamp) -> {
+            long cutoff = cutoffBySeries.get(seriesKey);
+            if (cutoff == LongLongHashMap.MISSING) {
+                cutoff = now - retentionMillis(seriesKey);
+                cutoffBySeries.put(seriesKey, cutoff);
+            }
+            return maxTimestamp < cutoff;
+        };
+    }
+
+    private static String[][] parse(String overrides) {
+        if (overrides == null || overrides.isBlank()) {
+            return new String[0][];
+        }
+        String[] pairs = overrides.split(",");
+        String[][] entries = new String[pairs.length][];
+        for (int i = 0; i < pairs.length; i++) {
+            String[] entry = pairs[i].trim().split("=");
+            if (entry.length != 2) {
+                throw new IllegalArgumentException("Retention override must be key=days: " + pairs[i]);
+            }
+            entries[i] = new String[]{entry[0].trim(), entry[1].trim()};
+        }
+        return entries;
+    }
+
+    private static long toMillis(String days) {
+        return TimeUnit.DAYS.toMillis(Integer.parseInt(days));
+    }
+}
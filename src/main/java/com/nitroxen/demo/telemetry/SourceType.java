@@ -0,0 +1,9 @@
+package com.nitroxen.demo.telemetry;
+
+/**
+ * Kind of entity a telemetry series belongs to; the source ID is a zone or reservoir ID accordingly.
+ */
+public enum SourceType {
+    ZONE,
+    RESERVOIR
+}
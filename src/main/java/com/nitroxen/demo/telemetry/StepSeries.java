@@ -0,0 +1,99 @@
+package com.nitroxen.demo.telemetry;
+
+import java.util.Arrays;
+
+/**
+ * Aggregates of one series over consecutive steps of [from, to): count, min, max, sum and the
+ * latest value of each step, in parallel primitive arrays.
+ */
+public final class StepSeries {
+
+    private final long from;
+    private final long step;
+    private final long[] counts;
+    private final double[] mins;
+    private final double[] maxes;
+    private final double[] sums;
+    private final double[] lasts;
+    private final long[] lastTimestamps;
+
+    public StepSeries(long from, long to, long step) {
+        if (step <= 0 || to <= from) {
+            throw new IllegalArgumentException("Empty range or non-positive step");
+        }
+        int steps = Math.toIntExact(Math.floorDiv(to - from - 1, step) + 1);
+        this.from = from;
+        this.step = step;
+        this.counts = new long[steps];
+        this.mins = new double[steps];
+        this.maxes = new double[steps];
+        this.sums = new double[steps];
+        this.lasts = new double[steps];
+        this.lastTimestamps = new long[steps];
+        Arrays.fill(lastTimestamps, Long.MIN_VALUE);
+    }
+
+    /**
+     * Fold one raw point into its step
+     */
+    public void add(long timestamp, double value) {
+        merge(timestamp, 1, value, value, value, value, timestamp);
+    }
+
+    /**
+     * Fold a pre-aggregated bucket starting at bucketStart into its step
+     */
+    public void merge(long bucketStart, long count, double min, double max, double sum, double last, long lastTimestamp) {
+        int i = (int) ((bucketStart - from) / step);
+        if (counts[i] == 0) {
+            mins[i] = min;
+            maxes[i] = max;
+        } else {
+            mins[i] = Math.min(mins[i], min);
+            maxes[i] = Math.max(maxes[i], max);
+        }
+        counts[i] += count;
+        sums[i] += sum;
+        if (lastTimestamp >= lastTimestamps[i]) {
+            lasts[i] = last;
+            lastTimestamps[i] = lastTimestamp;
+        }
+    }
+
+    /**
+     * Aggregated value of step i, or NaN if the step holds no points
+     */
+    public double value(int i, Aggregation aggregation) {
+        if (counts[i] == 0) {
+            return aggregation == Aggregation.COUNT ? 0 : Double.NaN;
+        }
+        return switch (aggregation) {
+            case MIN -> mins[i];
+            case MAX -> maxes[i];
+            case AVG -> sums[i] / counts[i];
+            case SUM -> sums[i];
+            case COUNT -> counts[i];
+            case LAST -> lasts[i];
+        };
+    }
+
+    public int size() {
+        return counts.length;
+    }
+
+    public long from() {
+        return from;
+    }
+
+    public long step() {
+        return step;
+    }
+
+    public long stepStart(int i) {
+        return from + i * step;
+    }
+
+    public long count(int i) {
+        return counts[i];
+    }
+}
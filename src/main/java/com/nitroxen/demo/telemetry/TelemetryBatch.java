@@ -0,0 +1,61 @@
+package com.nitroxen.demo.telemetry;
+
+/**
+ * Reusable columnar batch of readings: parallel primitive arrays, so a batch of any size
+ * costs four allocations once and none per reading.
+ */
+public final class TelemetryBatch {
+
+    private final long[] sourceIds;
+    private final byte[] metrics;
+    private final long[] timestamps;
+    private final double[] values;
+    private int size;
+
+    public TelemetryBatch(int capacity) {
+        sourceIds = new long[capacity];
+        metrics = new byte[capacity];
+        timestamps = new long[capacity];
+        values = new double[capacity];
+    }
+
+    public void add(long sourceId, byte metric, long timestamp, double value) {
+        sourceIds[size] = sourceId;
+        metrics[size] = metric;
+        timestamps[size] = timestamp;
+        values[size] = value;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return sourceIds.length;
+    }
+
+    public boolean isFull() {
+        return size == sourceIds.length;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public long sourceId(int i) {
+        return sourceIds[i];
+    }
+
+    public byte metric(int i) {
+        return metrics[i];
+    }
+
+    public long timestamp(int i) {
+        return timestamps[i];
+    }
+
+    public double value(int i) {
+        return values[i];
+    }
+}
@@ -0,0 +1,128 @@
+package com.nitroxen.demo.telemetry;
+
+import com.nitroxen.demo.telemetry.store.CompactionResult;
+import com.nitroxen.demo.telemetry.store.IoThrottle;
+import com.nitroxen.demo.telemetry.store.TimeSeriesStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically compacts the raw telemetry store: drops chunks past their retention and merges old
+ * segments into larger files.
+ * <p>
+ * Runs on its own low-priority thread so it never delays scheduled jobs. Copying is paced to
+ * {@code max-bytes-per-second} and pauses while the ingestion buffer is more than half full, so
+ * compaction yields the disk to ingestion under load.
+ */
+@Component
+@Slf4j
+public class TelemetryCompactor {
+
+    private final TimeSeriesStore timeSeriesStore;
+    private final RetentionPolicy retentionPolicy;
+    private final TelemetryPipeline telemetryPipeline;
+    private final long intervalMillis;
+    private final long maxBytesPerSecond;
+    private final int mergedSegmentSizeBytes;
+    private final long mergeMinAgeMillis;
+
+    private final Counter reclaimedCounter;
+    private final Counter droppedPointsCounter;
+    private final Counter rewrittenCounter;
+    private final Timer compactionTimer;
+
+    private volatile boolean running = true;
+    private Thread worker;
+
+    public TelemetryCompactor(TimeSeriesStore timeSeriesStore,
+                              RetentionPolicy retentionPolicy,
+                              TelemetryPipeline telemetryPipeline,
+                              MeterRegistry meterRegistry,
+                              @Value("${application.telemetry.compaction.interval-millis:3600000}") long intervalMillis,
+                              @Value("${application.telemetry.compaction.max-bytes-per-second:33554432}") long maxBytesPerSecond,
+                              @Value("${application.telemetry.compaction.merged-segment-size-bytes:536870912}") int mergedSegmentSizeBytes,
+                              @Value("${application.telemetry.compaction.merge-min-age-millis:86400000}") long mergeMinAgeMillis) {
+        this.timeSeriesStore = timeSeriesStore;
+        this.retentionPolicy = retentionPolicy;
+        this.telemetryPipeline = telemetryPipeline;
+        this.intervalMillis = intervalMillis;
+        this.maxBytesPerSecond = maxBytesPerSecond;
+        this.mergedSegmentSizeBytes = mergedSegmentSizeBytes;
+        this.mergeMinAgeMillis = mergeMinAgeMillis;
+
+        this.reclaimedCounter = Counter.builder("telemetry.compaction.reclaimed")
+                .description("Disk space freed by telemetry compaction")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.droppedPointsCounter = Counter.builder("telemetry.compaction.dropped")
+                .description("Raw readings dropped after their retention period")
+                .register(meterRegistry);
+        this.rewrittenCounter = Counter.builder("telemetry.compaction.segments")
+                .description("Segments rewritten by compaction")
+                .register(meterRegistry);
+        this.compactionTimer = Timer.builder("telemetry.compaction").register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        worker = new Thread(this::run, "telemetry-compactor");
+        worker.setDaemon(true);
+        worker.setPriority(Thread.MIN_PRIORITY);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    /**
+     * Run one compaction pass now, on the calling thread
+     */
+    public synchronized CompactionResult compact() throws InterruptedException, IOException {
+        long started = System.nanoTime();
+        long now = System.currentTimeMillis();
+        IoThrottle throttle = new IoThrottle(maxBytesPerSecond,
+                () -> telemetryPipeline.getBufferedCount() > telemetryPipeline.getBufferCapacity() / 2);
+        CompactionResult result = timeSeriesStore.compact(retentionPolicy.asOf(now), throttle,
+                mergedSegmentSizeBytes, now - mergeMinAgeMillis);
+
+        compactionTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        reclaimedCounter.increment(result.bytesReclaimed());
+        droppedPointsCounter.increment(result.pointsDropped());
+        rewrittenCounter.increment(result.segmentsRewritten());
+        return result;
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                Thread.sleep(intervalMillis);
+                CompactionResult result = compact();
+                if (result.segmentsRewritten() > 0) {
+                    log.info("Telemetry compaction rewrote {} segment(s), dropped {} reading(s), reclaimed {} bytes",
+                            result.segmentsRewritten(), result.pointsDropped(), result.bytesReclaimed());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException | RuntimeException e) {
+                // Originals stay in place until a merge is published, so the next pass simply retries
+                log.error("Telemetry compaction failed", e);
+            }
+        }
+    }
+}
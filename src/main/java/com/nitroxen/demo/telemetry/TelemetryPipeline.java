@@ -0,0 +1,138 @@
+package com.nitroxen.demo.telemetry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Buffers accepted readings in a bounded ring and hands them to the sinks in large batches.
+ * <p>
+ * Request threads only copy their batch into the ring. One flush thread drains it and calls
+ * every {@link TelemetrySink} once the flush batch is full or the oldest drained reading has
+ * waited {@code max-flush-delay-millis}. Memory is fixed by the ring and flush batch sizes.
+ */
+@Component
+@Slf4j
+public class TelemetryPipeline {
+
+    private final TelemetryRingBuffer ringBuffer;
+    private final List<TelemetrySink> sinks;
+    private final int flushBatchSize;
+    private final long maxFlushDelayNanos;
+
+    private final Counter acceptedCounter;
+    private final Counter rejectedCounter;
+    private final Counter failedCounter;
+    private final Timer flushTimer;
+
+    private volatile boolean running = true;
+    private Thread flusher;
+
+    public TelemetryPipeline(List<TelemetrySink> sinks,
+                             MeterRegistry meterRegistry,
+                             @Value("${application.telemetry.buffer-capacity:262144}") int bufferCapacity,
+                             @Value("${application.telemetry.flush-batch-size:16384}") int flushBatchSize,
+                             @Value("${application.telemetry.max-flush-delay-millis:200}") long maxFlushDelayMillis) {
+        this.ringBuffer = new TelemetryRingBuffer(bufferCapacity);
+        this.sinks = sinks;
+        this.flushBatchSize = flushBatchSize;
+        this.maxFlushDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxFlushDelayMillis);
+
+        Gauge.builder("telemetry.buffer.used", ringBuffer, TelemetryRingBuffer::size)
+                .description("Readings waiting in the ingestion ring buffer")
+                .register(meterRegistry);
+        Gauge.builder("telemetry.buffer.capacity", ringBuffer, TelemetryRingBuffer::capacity)
+                .register(meterRegistry);
+        this.acceptedCounter = Counter.builder("telemetry.readings.accepted").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("telemetry.readings.rejected")
+                .description("Readings refused because the buffer was full")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("telemetry.readings.failed")
+                .description("Readings lost because a sink failed")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("telemetry.flush").register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        flusher = new Thread(this::run, "telemetry-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /**
+     * Append a batch for asynchronous flushing
+     * @return false if the buffer is full; nothing from the batch was accepted
+     */
+    public boolean offer(TelemetryBatch batch) {
+        if (ringBuffer.offer(batch)) {
+            acceptedCounter.increment(batch.size());
+            return true;
+        }
+        rejectedCounter.increment(batch.size());
+        return false;
+    }
+
+    public int getBufferedCount() {
+        return ringBuffer.size();
+    }
+
+    public int getBufferCapacity() {
+        return ringBuffer.capacity();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (flusher != null) {
+            flusher.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    private void run() {
+        TelemetryBatch batch = new TelemetryBatch(flushBatchSize);
+        long firstDrainedAt = 0;
+        while (running || ringBuffer.size() > 0) {
+            int drained = ringBuffer.drainTo(batch);
+            if (drained > 0 && firstDrainedAt == 0) {
+                firstDrainedAt = System.nanoTime();
+            }
+            boolean due = batch.size() > 0
+                    && (batch.isFull() || !running || System.nanoTime() - firstDrainedAt >= maxFlushDelayNanos);
+            if (due) {
+                flush(batch);
+                batch.clear();
+                firstDrainedAt = 0;
+            } else if (drained == 0) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(5));
+            }
+        }
+        if (batch.size() > 0) {
+            flush(batch);
+        }
+    }
+
+    private void flush(TelemetryBatch batch) {
+        long start = System.nanoTime();
+        for (TelemetrySink sink : sinks) {
+            try {
+                sink.write(batch);
+            } catch (RuntimeException e) {
+                // The ring must keep moving: a failing sink loses this batch rather than stalling ingestion
+                failedCounter.increment(batch.size());
+                log.error("Telemetry sink {} failed to write {} reading(s)", sink.getClass().getSimpleName(), batch.size(), e);
+            }
+        }
+        flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+}
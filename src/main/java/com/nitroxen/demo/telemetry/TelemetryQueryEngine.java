@@ -0,0 +1,80 @@
+package com.nitroxen.demo.telemetry;
+
+import com.nitroxen.demo.telemetry.rollup.Resolution;
+import com.nitroxen.demo.telemetry.rollup.RollupStore;
+import com.nitroxen.demo.telemetry.store.TimeSeriesStore;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Answers step-aggregated series queries from the coarsest rollup whose buckets tile the steps,
+ * falling back to scanning raw points when the step or range is finer than a minute.
+ * <p>
+ * Multi-series queries fold each series on its own task in a dedicated fork-join pool, so a
+ * chart of many zones costs about as long as its slowest series.
+ */
+@Component
+public class TelemetryQueryEngine {
+
+    private final TimeSeriesStore timeSeriesStore;
+    private final RollupStore rollupStore;
+    private final ForkJoinPool pool;
+
+    public TelemetryQueryEngine(TimeSeriesStore timeSeriesStore,
+                                RollupStore rollupStore,
+                                @Value("${application.telemetry.query.parallelism:4}") int parallelism) {
+        this.timeSeriesStore = timeSeriesStore;
+        this.rollupStore = rollupStore;
+        // More workers than cores only adds hand-off cost to CPU-bound folds
+        this.pool = new ForkJoinPool(Math.max(1, Math.min(parallelism, Runtime.getRuntime().availableProcessors())), pool -> {
+            var thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("telemetry-query-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+    }
+
+    public StepSeries query(long seriesKey, long from, long to, long step) {
+        StepSeries series = new StepSeries(from, to, step);
+        Resolution resolution = Resolution.coarsestFor(from, to, step);
+        if (resolution != null) {
+            rollupStore.fold(seriesKey, resolution, from, to, series);
+        } else {
+            timeSeriesStore.scan(seriesKey, from, to, series::add);
+        }
+        return series;
+    }
+
+    /**
+     * Query several series over the same steps in parallel
+     * @return One step series per key, in key order
+     */
+    public StepSeries[] queryAll(long[] seriesKeys, long from, long to, long step) {
+        StepSeries[] results = new StepSeries[seriesKeys.length];
+        if (seriesKeys.length == 1 || pool.getParallelism() == 1) {
+            for (int i = 0; i < seriesKeys.length; i++) {
+                results[i] = query(seriesKeys[i], from, to, step);
+            }
+            return results;
+        }
+        @SuppressWarnings("unchecked")
+        ForkJoinTask<StepSeries>[] tasks = new ForkJoinTask[seriesKeys.length];
+        for (int i = 0; i < seriesKeys.length; i++) {
+            long seriesKey = seriesKeys[i];
+            tasks[i] = pool.submit(() -> query(seriesKey, from, to, step));
+        }
+        for (int i = 0; i < tasks.length; i++) {
+            results[i] = tasks[i].join();
+        }
+        return results;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+}
@@ -0,0 +1,99 @@
+package com.nitroxen.demo.telemetry;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded, lock-free multi-producer / single-consumer ring of readings.
+ * <p>
+ * A producer reserves a contiguous run of slots for its whole batch with one CAS on the
+ * tail, fills the primitive arrays and then publishes each slot by writing its sequence
+ * number with release semantics. The consumer only takes slots whose sequence is published,
+ * in order, and frees them by advancing the head. When a batch does not fit, {@link #offer}
+ * fails immediately instead of blocking, which callers turn into backpressure.
+ */
+public final class TelemetryRingBuffer {
+
+    private final int capacity;
+    private final int mask;
+    private final long[] sourceIds;
+    private final byte[] metrics;
+    private final long[] timestamps;
+    private final double[] values;
+    // Holds sequence + 1 once the slot for that sequence is written
+    private final AtomicLongArray published;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    public TelemetryRingBuffer(int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.sourceIds = new long[capacity];
+        this.metrics = new byte[capacity];
+        this.timestamps = new long[capacity];
+        this.values = new double[capacity];
+        this.published = new AtomicLongArray(capacity);
+    }
+
+    /**
+     * Append a whole batch, or nothing if it does not fit
+     * @return false if the buffer lacks room for the batch
+     */
+    public boolean offer(TelemetryBatch batch) {
+        int count = batch.size();
+        if (count == 0) {
+            return true;
+        }
+        long start;
+        do {
+            start = tail.get();
+            if (start + count - head > capacity) {
+                return false;
+            }
+        } while (!tail.compareAndSet(start, start + count));
+
+        for (int i = 0; i < count; i++) {
+            long sequence = start + i;
+            int index = (int) sequence & mask;
+            sourceIds[index] = batch.sourceId(i);
+            metrics[index] = batch.metric(i);
+            timestamps[index] = batch.timestamp(i);
+            values[index] = batch.value(i);
+            published.lazySet(index, sequence + 1);
+        }
+        return true;
+    }
+
+    /**
+     * Move published readings into the batch until it is full; single consumer only
+     * @return Number of readings moved
+     */
+    public int drainTo(TelemetryBatch batch) {
+        long start = head;
+        int moved = 0;
+        while (!batch.isFull()) {
+            long sequence = start + moved;
+            int index = (int) sequence & mask;
+            if (published.get(index) != sequence + 1) {
+                break;
+            }
+            batch.add(sourceIds[index], metrics[index], timestamps[index], values[index]);
+            moved++;
+        }
+        if (moved > 0) {
+            head = start + moved;
+        }
+        return moved;
+    }
+
+    public int size() {
+        return (int) (tail.get() - head);
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
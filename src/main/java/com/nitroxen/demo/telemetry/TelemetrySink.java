@@ -0,0 +1,10 @@
+package com.nitroxen.demo.telemetry;
+
+/**
+ * Consumer of flushed telemetry. Every sink bean receives every batch, in order, on the single
+ * flush thread; the batch is reused afterwards, so sinks must copy anything they keep.
+ */
+public interface TelemetrySink {
+
+    void write(TelemetryBatch batch);
+}
@@ -0,0 +1,166 @@
+package com.nitroxen.demo.telemetry;
+
+import com.nitroxen.demo.enums.HierarchyChangeType;
+import com.nitroxen.demo.enums.HierarchyEntityType;
+import com.nitroxen.demo.events.HierarchyChangedEvent;
+import com.nitroxen.demo.events.HierarchyEventListener;
+import com.nitroxen.demo.repository.ReservoirRepository;
+import com.nitroxen.demo.repository.ZoneRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory zone → farm and reservoir → farm map for validating telemetry without a query per reading.
+ * <p>
+ * Readers use an immutable snapshot without locking. Unknown sources are loaded in one query
+ * per source type and call and published as a new snapshot; a periodic reload drops deleted ones.
+ * Sources that do not exist are remembered for {@code unknown-source-ttl-millis}, or until they are
+ * created, so a device reporting for a wrong ID does not cost a query per reading.
+ */
+@Component
+@Slf4j
+public class ZoneFarmCache implements HierarchyEventListener {
+
+    // Bounds the memory of remembered misses when a client walks through random IDs
+    private static final int MAX_UNKNOWN_SOURCES = 100_000;
+
+    private final ZoneRepository zoneRepository;
+    private final ReservoirRepository reservoirRepository;
+    private final long unknownSourceTtlMillis;
+    private volatile LongLongHashMap farmBySource = new LongLongHashMap(0);
+    // Source key → time until which it is known not to exist
+    private final ConcurrentHashMap<Long, Long> unknownUntil = new ConcurrentHashMap<>();
+
+    public ZoneFarmCache(ZoneRepository zoneRepository, ReservoirRepository reservoirRepository,
+                         @Value("${application.telemetry.unknown-source-ttl-millis:60000}") long unknownSourceTtlMillis) {
+        this.zoneRepository = zoneRepository;
+        this.reservoirRepository = reservoirRepository;
+        this.unknownSourceTtlMillis = unknownSourceTtlMillis;
+    }
+
+    /**
+     * Farm of the zone, or {@link LongLongHashMap#MISSING} if the zone does not exist
+     */
+    public long farmOf(long zoneId) {
+        return farmOf(SourceType.ZONE, zoneId);
+    }
+
+    /**
+     * Farm of the zone or reservoir, or {@link LongLongHashMap#MISSING} if it does not exist
+     */
+    public long farmOf(SourceType sourceType, long sourceId) {
+        long key = sourceKey(sourceType, sourceId);
+        long farmId = farmBySource.get(key);
+        if (farmId == LongLongHashMap.MISSING && !isKnownUnknown(key)) {
+            load(sourceType, List.of(sourceId));
+            farmId = farmBySource.get(key);
+        }
+        return farmId;
+    }
+
+    /**
+     * Make sure every source in the batch is cached, loading the misses with one query per source type
+     */
+    public void preload(TelemetryBatch batch) {
+        LongLongHashMap snapshot = farmBySource;
+        Set<Long> missingZones = new HashSet<>();
+        Set<Long> missingReservoirs = new HashSet<>();
+        long previous = LongLongHashMap.MISSING;
+        for (int i = 0; i < batch.size(); i++) {
+            SourceType sourceType = Metric.fromCode(batch.metric(i)).source();
+            long sourceId = batch.sourceId(i);
+            long key = sourceKey(sourceType, sourceId);
+            if (key != previous && !snapshot.containsKey(key) && !isKnownUnknown(key)) {
+                (sourceType == SourceType.ZONE ? missingZones : missingReservoirs).add(sourceId);
+            }
+            previous = key;
+        }
+        if (!missingZones.isEmpty()) {
+            load(SourceType.ZONE, missingZones);
+        }
+        if (!missingReservoirs.isEmpty()) {
+            load(SourceType.RESERVOIR, missingReservoirs);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${application.telemetry.zone-cache-refresh-millis:600000}")
+    public void reload() {
+        List<Object[]> zones = zoneRepository.findAllZoneFarmIds();
+        List<Object[]> reservoirs = reservoirRepository.findAllReservoirFarmIds();
+        LongLongHashMap fresh = new LongLongHashMap(zones.size() + reservoirs.size());
+        putAll(fresh, SourceType.ZONE, zones);
+        putAll(fresh, SourceType.RESERVOIR, reservoirs);
+        farmBySource = fresh;
+        unknownUntil.clear();
+        log.debug("Farm cache reloaded with {} zone(s) and {} reservoir(s)", zones.size(), reservoirs.size());
+    }
+
+    @Override
+    public void onHierarchyChanged(HierarchyChangedEvent event) {
+        if (event.changeType() == HierarchyChangeType.CREATED) {
+            if (event.entityType() == HierarchyEntityType.ZONE) {
+                unknownUntil.remove(sourceKey(SourceType.ZONE, event.entityId()));
+            } else if (event.entityType() == HierarchyEntityType.RESERVOIR) {
+                unknownUntil.remove(sourceKey(SourceType.RESERVOIR, event.entityId()));
+            }
+        }
+    }
+
+    private void load(SourceType sourceType, Collection<Long> sourceIds) {
+        List<Object[]> rows = sourceType == SourceType.ZONE
+                ? zoneRepository.findZoneFarmIds(sourceIds)
+                : reservoirRepository.findReservoirFarmIds(sourceIds);
+        if (rows.size() < sourceIds.size()) {
+            rememberUnknown(sourceType, sourceIds, rows);
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+        synchronized (this) {
+            LongLongHashMap updated = farmBySource.copy();
+            putAll(updated, sourceType, rows);
+            farmBySource = updated;
+        }
+    }
+
+    // Helper method to remember the requested sources the query did not find
+    private void rememberUnknown(SourceType sourceType, Collection<Long> sourceIds, List<Object[]> rows) {
+        Set<Long> found = new HashSet<>();
+        for (Object[] row : rows) {
+            found.add((Long) row[0]);
+        }
+        if (unknownUntil.size() >= MAX_UNKNOWN_SOURCES) {
+            unknownUntil.clear();
+        }
+        long until = System.currentTimeMillis() + unknownSourceTtlMillis;
+        for (Long sourceId : sourceIds) {
+            if (!found.contains(sourceId)) {
+                unknownUntil.put(sourceKey(sourceType, sourceId), until);
+            }
+        }
+    }
+
+    private boolean isKnownUnknown(long key) {
+        Long until = unknownUntil.get(key);
+        return until != null && until > System.currentTimeMillis();
+    }
+
+    private static void putAll(LongLongHashMap map, SourceType sourceType, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            map.put(sourceKey(sourceType, (Long) row[0]), (Long) row[1]);
+        }
+    }
+
+    // Zones keep their plain ID as key; other source types are tagged in the top byte, as in series keys
+    private static long sourceKey(SourceType sourceType, long sourceId) {
+        return ((long) sourceType.ordinal() << 56) | sourceId;
+    }
+}
@@ -0,0 +1,101 @@
+package com.nitroxen.demo.telemetry.alert;
+
+import com.nitroxen.demo.service.ZoneAlertService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Persists alert transitions on its own thread, off the telemetry flush path; each transition queues
+ * its notification in the same transaction for the notification relay to send.
+ * <p>
+ * The queue is bounded: if the database falls far behind, new transitions are dropped
+ * and counted rather than buffering without limit. A raised alert that is already open is only
+ * updated, so a zone flapping across restarts does not message anyone twice.
+ */
+@Component
+@Slf4j
+public class AlertDispatcher {
+
+    private final ZoneAlertService zoneAlertService;
+    private final BlockingQueue<AlertEvent> queue;
+    private final Counter droppedCounter;
+
+    private volatile boolean running = true;
+    private Thread worker;
+
+    public AlertDispatcher(ZoneAlertService zoneAlertService,
+                           MeterRegistry meterRegistry,
+                           @Value("${application.alerts.queue-capacity:10000}") int queueCapacity) {
+        this.zoneAlertService = zoneAlertService;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        Gauge.builder("alerts.queue.pending", queue, BlockingQueue::size)
+                .description("Alert transitions waiting to be persisted and sent")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("alerts.queue.dropped")
+                .description("Alert transitions dropped because the queue was full")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        worker = new Thread(this::run, "alert-dispatcher");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Queue a transition without blocking
+     * @return false if the queue is full and the transition was dropped
+     */
+    public boolean submit(AlertEvent event) {
+        if (queue.offer(event)) {
+            return true;
+        }
+        droppedCounter.increment();
+        return false;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    void handle(AlertEvent event) {
+        if (event.kind() == AlertEvent.Kind.RAISED) {
+            zoneAlertService.raise(event);
+        } else {
+            zoneAlertService.resolve(event);
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                AlertEvent event = queue.poll(1, TimeUnit.SECONDS);
+                if (event != null) {
+                    handle(event);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Failed to record alert transition", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.nitroxen.demo.telemetry.alert;
+
+import com.nitroxen.demo.enums.ThresholdBreach;
+import com.nitroxen.demo.telemetry.Metric;
+
+/**
+ * A zone metric that has been out of its band for the minimum duration (RAISED), or back
+ * inside it by the hysteresis margin for the minimum duration (CLEARED). Timestamps are
+ * reading times in epoch milliseconds: when the breach began, or when it ended.
+ */
+public record AlertEvent(Kind kind, long zoneId, Metric metric, ThresholdBreach breach,
+                         double bandLow, double bandHigh, double value, long timestamp) {
+
+    public enum Kind { RAISED, CLEARED }
+}
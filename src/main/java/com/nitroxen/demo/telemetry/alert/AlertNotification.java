@@ -0,0 +1,26 @@
+package com.nitroxen.demo.telemetry.alert;
+
+import com.nitroxen.demo.entity.ZoneAlert;
+import com.nitroxen.demo.enums.AlertStatus;
+
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * An alert that was just raised or resolved, with the names and phone numbers needed to tell people about it.
+ */
+public record AlertNotification(ZoneAlert alert, String zoneName, String farmName, List<String> phoneNumbers) {
+
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    public String message() {
+        String where = String.format(Locale.ROOT, "%s in zone %s (%s)", alert.getMetric(), zoneName, farmName);
+        String band = String.format(Locale.ROOT, "%.2f-%.2f", alert.getBandLow(), alert.getBandHigh());
+        if (alert.getStatus() == AlertStatus.RESOLVED) {
+            return "AgriWealth: " + where + " is back within " + band + " since " + alert.getResolvedAt().format(TIME) + ".";
+        }
+        return String.format(Locale.ROOT, "AgriWealth alert: %s is %s at %.2f, outside %s since %s.",
+                where, alert.getBreach(), alert.getTriggerValue(), band, alert.getStartedAt().format(TIME));
+    }
+}
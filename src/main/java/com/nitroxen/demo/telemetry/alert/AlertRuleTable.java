@@ -0,0 +1,217 @@
+package com.nitroxen.demo.telemetry.alert;
+
+import com.nitroxen.demo.enums.ThresholdBreach;
+import com.nitroxen.demo.telemetry.LongLongHashMap;
+
+/**
+ * Compiled alert rules: one slot per (zone, metric) series that has a band, held in parallel
+ * primitive arrays and found through a series key → slot map, together with the state machine
+ * of each slot. Evaluating a reading allocates nothing.
+ * <p>
+ * A reading outside the band starts a PENDING window; if the series stays out for the minimum
+ * duration the slot becomes ALERTING. It only starts CLEARING once the value is back inside the
+ * band by the hysteresis margin, and returns to NORMAL after staying there for the minimum duration.
+ * Readings older than the last one evaluated for a slot are ignored.
+ * <p>
+ * Filled on the thread that compiles it and owned by the flush thread once published.
+ */
+final class AlertRuleTable {
+
+    static final int NO_CHANGE = 0;
+    static final int RAISED = 1;
+    static final int CLEARED = 2;
+
+    static final byte NORMAL = 0;
+    static final byte PENDING = 1;
+    static final byte ALERTING = 2;
+    static final byte CLEARING = 3;
+
+    private static final byte INSIDE = 0;
+    private static final byte LOW = 1;
+    private static final byte HIGH = 2;
+
+    private final long minDurationMillis;
+    private final LongLongHashMap slotByKey;
+    private final long[] seriesKeys;
+    private final double[] lows;
+    private final double[] highs;
+    private final double[] hysteresis;
+    private final byte[] states;
+    private final byte[] breaches;
+    private final long[] since;
+    private final long[] lastTimestamps;
+    private final double[] lastValues;
+    private int size;
+
+    AlertRuleTable(int capacity, long minDurationMillis) {
+        this.minDurationMillis = minDurationMillis;
+        this.slotByKey = new LongLongHashMap(capacity);
+        this.seriesKeys = new long[capacity];
+        this.lows = new double[capacity];
+        this.highs = new double[capacity];
+        this.hysteresis = new double[capacity];
+        this.states = new byte[capacity];
+        this.breaches = new byte[capacity];
+        this.since = new long[capacity];
+        this.lastTimestamps = new long[capacity];
+        this.lastValues = new double[capacity];
+    }
+
+    void add(long seriesKey, CropBand band, double margin) {
+        int slot = size++;
+        slotByKey.put(seriesKey, slot);
+        seriesKeys[slot] = seriesKey;
+        lows[slot] = band.low();
+        highs[slot] = band.high();
+        // A margin of half the band or more would leave no value at which an alert can clear
+        hysteresis[slot] = Math.min(Math.max(margin, 0), (band.high() - band.low()) / 4);
+        lastTimestamps[slot] = Long.MIN_VALUE;
+    }
+
+    /**
+     * Start a slot in the ALERTING state, for an alert that is still open from before a restart
+     */
+    void markAlerting(int slot, ThresholdBreach breach, long breachStartedAt) {
+        states[slot] = ALERTING;
+        breaches[slot] = breach == ThresholdBreach.LOW ? LOW : HIGH;
+        since[slot] = breachStartedAt;
+    }
+
+    /**
+     * Carry the state of every series that is also in the previous table across a recompile
+     */
+    void adoptState(AlertRuleTable previous) {
+        for (int slot = 0; slot < size; slot++) {
+            int old = previous.slotOf(seriesKeys[slot]);
+            if (old >= 0) {
+                states[slot] = previous.states[old];
+                breaches[slot] = previous.breaches[old];
+                since[slot] = previous.since[old];
+                lastTimestamps[slot] = previous.lastTimestamps[old];
+                lastValues[slot] = previous.lastValues[old];
+            }
+        }
+    }
+
+    /**
+     * Slot of the series, or -1 if it has no rule
+     */
+    int slotOf(long seriesKey) {
+        long slot = slotByKey.get(seriesKey);
+        return slot == LongLongHashMap.MISSING ? -1 : (int) slot;
+    }
+
+    /**
+     * Feed one reading to the slot's state machine
+     * @return RAISED or CLEARED when the reading completes a transition, else NO_CHANGE
+     */
+    int evaluate(int slot, long timestamp, double value) {
+        if (timestamp < lastTimestamps[slot]) {
+            return NO_CHANGE;
+        }
+        lastTimestamps[slot] = timestamp;
+        lastValues[slot] = value;
+        switch (states[slot]) {
+            case NORMAL -> {
+                byte side = side(slot, value, 0);
+                if (side == INSIDE) {
+                    return NO_CHANGE;
+                }
+                states[slot] = PENDING;
+                breaches[slot] = side;
+                since[slot] = timestamp;
+                return confirmBreach(slot, timestamp);
+            }
+            case PENDING -> {
+                byte side = side(slot, value, 0);
+                if (side == INSIDE) {
+                    states[slot] = NORMAL;
+                    return NO_CHANGE;
+                }
+                if (side != breaches[slot]) {
+                    breaches[slot] = side;
+                    since[slot] = timestamp;
+                }
+                return confirmBreach(slot, timestamp);
+            }
+            case ALERTING -> {
+                if (side(slot, value, hysteresis[slot]) != INSIDE) {
+                    return NO_CHANGE;
+                }
+                states[slot] = CLEARING;
+                since[slot] = timestamp;
+                return confirmClear(slot, timestamp);
+            }
+            default -> {
+                if (side(slot, value, hysteresis[slot]) != INSIDE) {
+                    states[slot] = ALERTING;
+                    return NO_CHANGE;
+                }
+                return confirmClear(slot, timestamp);
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    long seriesKey(int slot) {
+        return seriesKeys[slot];
+    }
+
+    CropBand band(int slot) {
+        return new CropBand(lows[slot], highs[slot]);
+    }
+
+    byte state(int slot) {
+        return states[slot];
+    }
+
+    boolean isAlerting(int slot) {
+        return states[slot] == ALERTING || states[slot] == CLEARING;
+    }
+
+    ThresholdBreach breach(int slot) {
+        return breaches[slot] == LOW ? ThresholdBreach.LOW : ThresholdBreach.HIGH;
+    }
+
+    /**
+     * When the current breach (PENDING, ALERTING) or recovery (CLEARING) began
+     */
+    long since(int slot) {
+        return since[slot];
+    }
+
+    double lastValue(int slot) {
+        return lastValues[slot];
+    }
+
+    // Helper method to raise a pending breach once it has lasted the minimum duration
+    private int confirmBreach(int slot, long timestamp) {
+        if (timestamp - since[slot] < minDurationMillis) {
+            return NO_CHANGE;
+        }
+        states[slot] = ALERTING;
+        return RAISED;
+    }
+
+    // Helper method to clear an alert once the value has stayed back in band for the minimum duration
+    private int confirmClear(int slot, long timestamp) {
+        if (timestamp - since[slot] < minDurationMillis) {
+            return NO_CHANGE;
+        }
+        states[slot] = NORMAL;
+        return CLEARED;
+    }
+
+    private byte side(int slot, double value, double margin) {
+        if (value < lows[slot] + margin) {
+            return LOW;
+        }
+        if (value > highs[slot] - margin) {
+            return HIGH;
+        }
+        return INSIDE;
+    }
+}
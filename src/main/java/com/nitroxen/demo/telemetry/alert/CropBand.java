@@ -0,0 +1,13 @@
+package com.nitroxen.demo.telemetry.alert;
+
+/**
+ * Acceptable range of one metric for a crop, inclusive at both ends.
+ */
+public record CropBand(double low, double high) {
+
+    public CropBand {
+        if (!(low < high)) {
+            throw new IllegalArgumentException("Band low must be below high: " + low + " .. " + high);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.nitroxen.demo.telemetry.alert;
+
+import com.nitroxen.demo.telemetry.Metric;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Crop-specific bands for zone metrics, read from a CSV of {@code crop,metric,low,high} rows.
+ * <p>
+ * A zone's band for a metric comes from the row for its crop variety, else its crop type, else
+ * the {@code default} crop, matched case-insensitively. Metrics with no row at any level are not alerted on.
+ */
+@Component
+public class CropBandCatalog {
+
+    public static final String DEFAULT_CROP = "default";
+
+    private final Map<String, CropBand[]> bandsByCrop;
+
+    @Autowired
+    public CropBandCatalog(@Value("${application.alerts.crop-bands:classpath:crop-bands.csv}") Resource resource) throws IOException {
+        try (Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+            this.bandsByCrop = parse(reader);
+        }
+    }
+
+    CropBandCatalog(Reader reader) throws IOException {
+        this.bandsByCrop = parse(reader);
+    }
+
+    /**
+     * Band of the metric for a zone's crop, or null if the metric has no band
+     */
+    public CropBand bandFor(String cropType, String cropVariety, Metric metric) {
+        CropBand band = lookup(cropVariety, metric);
+        if (band == null) {
+            band = lookup(cropType, metric);
+        }
+        return band != null ? band : lookup(DEFAULT_CROP, metric);
+    }
+
+    private CropBand lookup(String crop, Metric metric) {
+        if (crop == null || crop.isBlank()) {
+            return null;
+        }
+        CropBand[] bands = bandsByCrop.get(normalize(crop));
+        return bands == null ? null : bands[metric.ordinal()];
+    }
+
+    private static Map<String, CropBand[]> parse(Reader reader) throws IOException {
+        Map<String, CropBand[]> bands = new HashMap<>();
+        BufferedReader lines = new BufferedReader(reader);
+        String line;
+        int lineNumber = 0;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] fields = line.split(",");
+            if (fields.length != 4) {
+                throw new IllegalArgumentException("Crop band line " + lineNumber + " must be crop,metric,low,high: " + line);
+            }
+            Metric metric = Metric.valueOf(fields[1].trim().toUpperCase(Locale.ROOT));
+            CropBand band = new CropBand(Double.parseDouble(fields[2].trim()), Double.parseDouble(fields[3].trim()));
+            bands.computeIfAbsent(normalize(fields[0]), crop -> new CropBand[Metric.values().length])[metric.ordinal()] = band;
+        }
+        return bands;
+    }
+
+    private static String normalize(String crop) {
+        return crop.trim().toLowerCase(Locale.ROOT);
+    }
+}
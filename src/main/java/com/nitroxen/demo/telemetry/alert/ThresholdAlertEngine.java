@@ -0,0 +1,180 @@
+package com.nitroxen.demo.telemetry.alert;
+
+import com.nitroxen.demo.entity.ZoneAlert;
+import com.nitroxen.demo.enums.AlertStatus;
+import com.nitroxen.demo.repository.ZoneAlertRepository;
+import com.nitroxen.demo.repository.ZoneRepository;
+import com.nitroxen.demo.telemetry.Metric;
+import com.nitroxen.demo.telemetry.SourceType;
+import com.nitroxen.demo.telemetry.TelemetryBatch;
+import com.nitroxen.demo.telemetry.TelemetrySink;
+import com.nitroxen.demo.telemetry.store.SeriesKey;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Evaluates every flushed zone reading against its crop band as part of the ingestion stream.
+ * <p>
+ * Rules are compiled from the zones' crop type and variety into an {@link AlertRuleTable} on the
+ * scheduler thread and handed over to the flush thread, which carries each series' state into the
+ * new table before its next batch. Transitions are queued for the {@link AlertDispatcher}, so
+ * persisting and notifying never hold up the flush.
+ */
+@Component
+@Slf4j
+public class ThresholdAlertEngine implements TelemetrySink {
+
+    private static final Metric[] METRICS = Metric.values();
+
+    private final ZoneRepository zoneRepository;
+    private final ZoneAlertRepository zoneAlertRepository;
+    private final CropBandCatalog cropBandCatalog;
+    private final AlertDispatcher dispatcher;
+    private final long minDurationMillis;
+    private final double[] hysteresisByMetric;
+
+    private final AtomicReference<AlertRuleTable> compiled = new AtomicReference<>();
+    private final Counter raisedCounter;
+    private final Counter clearedCounter;
+    private volatile int ruleCount;
+    private boolean seeded;
+
+    // Confined to the flush thread
+    private AlertRuleTable table;
+
+    public ThresholdAlertEngine(ZoneRepository zoneRepository,
+                                ZoneAlertRepository zoneAlertRepository,
+                                CropBandCatalog cropBandCatalog,
+                                AlertDispatcher dispatcher,
+                                MeterRegistry meterRegistry,
+                                @Value("${application.alerts.min-duration-millis:120000}") long minDurationMillis,
+                                @Value("${application.alerts.hysteresis:}") String hysteresis) {
+        this.zoneRepository = zoneRepository;
+        this.zoneAlertRepository = zoneAlertRepository;
+        this.cropBandCatalog = cropBandCatalog;
+        this.dispatcher = dispatcher;
+        this.minDurationMillis = minDurationMillis;
+        this.hysteresisByMetric = parseHysteresis(hysteresis);
+        this.table = new AlertRuleTable(0, minDurationMillis);
+
+        Gauge.builder("alerts.rules", this, ThresholdAlertEngine::getRuleCount)
+                .description("Zone metrics with a crop band being evaluated")
+                .register(meterRegistry);
+        this.raisedCounter = Counter.builder("alerts.raised").register(meterRegistry);
+        this.clearedCounter = Counter.builder("alerts.cleared").register(meterRegistry);
+    }
+
+    /**
+     * Recompile the rules from the current zones; the flush thread picks them up with its next batch
+     */
+    @Scheduled(fixedDelayString = "${application.alerts.rules-refresh-millis:60000}")
+    public synchronized void refreshRules() {
+        List<Object[]> zones = zoneRepository.findAllZoneCrops();
+        AlertRuleTable next = new AlertRuleTable(zones.size() * 3, minDurationMillis);
+        for (Object[] row : zones) {
+            long zoneId = (Long) row[0];
+            for (Metric metric : METRICS) {
+                if (metric.source() != SourceType.ZONE) {
+                    continue;
+                }
+                CropBand band = cropBandCatalog.bandFor((String) row[1], (String) row[2], metric);
+                if (band != null) {
+                    next.add(SeriesKey.of(SourceType.ZONE, zoneId, metric), band, hysteresisByMetric[metric.ordinal()]);
+                }
+            }
+        }
+        if (!seeded) {
+            // After a restart, series with an open alert resume as ALERTING so they can clear it
+            for (ZoneAlert alert : zoneAlertRepository.findByStatus(AlertStatus.OPEN)) {
+                int slot = next.slotOf(SeriesKey.of(SourceType.ZONE, alert.getZoneId(), alert.getMetric()));
+                if (slot >= 0) {
+                    next.markAlerting(slot, alert.getBreach(),
+                            alert.getStartedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+                }
+            }
+            seeded = true;
+        }
+        compiled.set(next);
+        log.debug("Compiled {} alert rule(s) for {} zone(s)", next.size(), zones.size());
+    }
+
+    @Override
+    public void write(TelemetryBatch batch) {
+        AlertRuleTable next = compiled.getAndSet(null);
+        if (next != null) {
+            adopt(next);
+        }
+        AlertRuleTable rules = table;
+        if (rules.size() == 0) {
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            byte metric = batch.metric(i);
+            if (METRICS[metric].source() != SourceType.ZONE) {
+                continue;
+            }
+            int slot = rules.slotOf(SeriesKey.of(SourceType.ZONE, batch.sourceId(i), metric));
+            if (slot < 0) {
+                continue;
+            }
+            int transition = rules.evaluate(slot, batch.timestamp(i), batch.value(i));
+            if (transition != AlertRuleTable.NO_CHANGE) {
+                emit(rules, slot, transition == AlertRuleTable.RAISED ? AlertEvent.Kind.RAISED : AlertEvent.Kind.CLEARED,
+                        rules.lastValue(slot), rules.since(slot));
+            }
+        }
+    }
+
+    public int getRuleCount() {
+        return ruleCount;
+    }
+
+    // Helper method to switch to a freshly compiled table without losing any series' state
+    private void adopt(AlertRuleTable next) {
+        AlertRuleTable previous = table;
+        next.adoptState(previous);
+        for (int slot = 0; slot < previous.size(); slot++) {
+            // A zone that was deleted or lost its band while alerting would otherwise stay open forever
+            if (previous.isAlerting(slot) && next.slotOf(previous.seriesKey(slot)) < 0) {
+                emit(previous, slot, AlertEvent.Kind.CLEARED, Double.NaN, System.currentTimeMillis());
+            }
+        }
+        table = next;
+        ruleCount = next.size();
+    }
+
+    private void emit(AlertRuleTable rules, int slot, AlertEvent.Kind kind, double value, long timestamp) {
+        long seriesKey = rules.seriesKey(slot);
+        CropBand band = rules.band(slot);
+        AlertEvent event = new AlertEvent(kind, SeriesKey.sourceId(seriesKey), SeriesKey.metric(seriesKey),
+                rules.breach(slot), band.low(), band.high(), value, timestamp);
+        (kind == AlertEvent.Kind.RAISED ? raisedCounter : clearedCounter).increment();
+        if (!dispatcher.submit(event)) {
+            log.warn("Alert queue full, dropped {} {} for zone {}", kind, event.metric(), event.zoneId());
+        }
+    }
+
+    private static double[] parseHysteresis(String hysteresis) {
+        double[] margins = new double[METRICS.length];
+        if (hysteresis == null || hysteresis.isBlank()) {
+            return margins;
+        }
+        for (String pair : hysteresis.split(",")) {
+            String[] entry = pair.trim().split("=");
+            if (entry.length != 2) {
+                throw new IllegalArgumentException("Hysteresis must be METRIC=margin: " + pair);
+            }
+            margins[Metric.valueOf(entry[0].trim().toUpperCase()).ordinal()] = Double.parseDouble(entry[1].trim());
+        }
+        return margins;
+    }
+}
@@ -0,0 +1,212 @@
+package com.nitroxen.demo.telemetry.reservoir;
+
+import com.nitroxen.demo.dto.response.ReservoirLevelResponse;
+import com.nitroxen.demo.dto.response.ZoneWaterUseResponse;
+import com.nitroxen.demo.entity.Reservoir;
+import com.nitroxen.demo.entity.Zone;
+import com.nitroxen.demo.telemetry.LongLongHashMap;
+import com.nitroxen.demo.telemetry.Metric;
+import com.nitroxen.demo.telemetry.TelemetryBatch;
+import com.nitroxen.demo.telemetry.TelemetrySink;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps every reservoir's latest level and smoothed consumption, and every zone's recent water
+ * use, up to date as readings are flushed, so forecasts never read stored history.
+ * <p>
+ * Consumption is an exponentially weighted average of the level drop per hour between consecutive
+ * WATER_LEVEL readings. Each sample is weighted by the time it covers against the {@code smoothing-millis}
+ * time constant, so irregular reporting does not bias it. A rise of at least {@code refill-min-liters} is a
+ * refill and only moves the baseline. Zone use is a sum of WATER_USED readings decayed with the same time
+ * constant; a zone's share of its reservoir's consumption is its decayed use over that of all serving zones,
+ * or an even split while no serving zone meters its water.
+ * <p>
+ * State lives in memory only: after a restart the forecast warms up again from new readings.
+ */
+@Component
+public class ReservoirLevelTracker implements TelemetrySink {
+
+    private static final byte WATER_LEVEL = Metric.WATER_LEVEL.code();
+    private static final byte WATER_USED = Metric.WATER_USED.code();
+    private static final double MILLIS_PER_HOUR = TimeUnit.HOURS.toMillis(1);
+
+    private final double smoothingMillis;
+    private final double refillMinLiters;
+
+    private final LongLongHashMap reservoirSlots = new LongLongHashMap(64);
+    private long[] levelTimestamps = new long[16];
+    private double[] levels = new double[16];
+    private double[] consumptionRates = new double[16]; // liters per hour, NaN until two readings arrived
+    private int reservoirCount;
+
+    private final LongLongHashMap zoneSlots = new LongLongHashMap(256);
+    private long[] useTimestamps = new long[64];
+    private double[] decayedUse = new double[64];
+    private int zoneCount;
+
+    public ReservoirLevelTracker(@Value("${application.telemetry.reservoir.smoothing-millis:21600000}") long smoothingMillis,
+                                 @Value("${application.telemetry.reservoir.refill-min-liters:50}") double refillMinLiters) {
+        this.smoothingMillis = smoothingMillis;
+        this.refillMinLiters = refillMinLiters;
+    }
+
+    @Override
+    public synchronized void write(TelemetryBatch batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            byte metric = batch.metric(i);
+            if (metric == WATER_LEVEL) {
+                recordLevel(batch.sourceId(i), batch.timestamp(i), batch.value(i));
+            } else if (metric == WATER_USED) {
+                recordUse(batch.sourceId(i), batch.timestamp(i), batch.value(i));
+            }
+        }
+    }
+
+    /**
+     * Level and forecast of a reservoir, or null before its first level reading
+     */
+    public ReservoirLevelResponse forecast(Reservoir reservoir) {
+        return forecast(reservoir, System.currentTimeMillis());
+    }
+
+    synchronized ReservoirLevelResponse forecast(Reservoir reservoir, long now) {
+        int slot = slotOf(reservoirSlots, reservoir.getId());
+        if (slot < 0) {
+            return null;
+        }
+        double level = levels[slot];
+        long readAt = levelTimestamps[slot];
+        double rate = Double.isNaN(consumptionRates[slot]) ? 0 : Math.max(0, consumptionRates[slot]);
+
+        ReservoirLevelResponse.ReservoirLevelResponseBuilder response = ReservoirLevelResponse.builder()
+                .currentLevel(level)
+                .levelPercent(reservoir.getCapacity() != null && reservoir.getCapacity() > 0
+                        ? 100.0 * level / reservoir.getCapacity()
+                        : null)
+                .levelReadAt(toDateTime(readAt))
+                .consumptionLitersPerHour(rate)
+                .zoneConsumption(attribute(reservoir.getServingZones(), rate, now));
+        if (rate > 0) {
+            long emptyAt = readAt + (long) (level / rate * MILLIS_PER_HOUR);
+            response.hoursToEmpty(Math.max(0, emptyAt - now) / MILLIS_PER_HOUR)
+                    .estimatedEmptyAt(toDateTime(emptyAt));
+        }
+        return response.build();
+    }
+
+    // Helper method to fold one level reading into the reservoir's smoothed consumption
+    private void recordLevel(long reservoirId, long timestamp, double level) {
+        int slot = slotOf(reservoirSlots, reservoirId);
+        if (slot < 0) {
+            slot = addReservoir(reservoirId);
+            levelTimestamps[slot] = timestamp;
+            levels[slot] = level;
+            consumptionRates[slot] = Double.NaN;
+            return;
+        }
+        long elapsed = timestamp - levelTimestamps[slot];
+        if (elapsed <= 0) {
+            // Late or duplicate reading: the level it reports has already been superseded
+            return;
+        }
+        double drop = levels[slot] - level;
+        levelTimestamps[slot] = timestamp;
+        levels[slot] = level;
+        if (-drop >= refillMinLiters) {
+            return;
+        }
+        double sample = drop / (elapsed / MILLIS_PER_HOUR);
+        double previous = consumptionRates[slot];
+        if (Double.isNaN(previous)) {
+            consumptionRates[slot] = sample;
+        } else {
+            double weight = 1 - Math.exp(-elapsed / smoothingMillis);
+            consumptionRates[slot] = previous + weight * (sample - previous);
+        }
+    }
+
+    // Helper method to add one metered delivery to the zone's decayed use
+    private void recordUse(long zoneId, long timestamp, double liters) {
+        if (liters <= 0) {
+            return;
+        }
+        int slot = slotOf(zoneSlots, zoneId);
+        if (slot < 0) {
+            slot = addZone(zoneId);
+            useTimestamps[slot] = timestamp;
+            decayedUse[slot] = liters;
+            return;
+        }
+        long elapsed = timestamp - useTimestamps[slot];
+        if (elapsed >= 0) {
+            decayedUse[slot] = decayedUse[slot] * Math.exp(-elapsed / smoothingMillis) + liters;
+            useTimestamps[slot] = timestamp;
+        } else {
+            // Late reading: count it as already decayed to the zone's current reference time
+            decayedUse[slot] += liters * Math.exp(elapsed / smoothingMillis);
+        }
+    }
+
+    // Helper method to split the reservoir's consumption across its serving zones by recent metered use
+    private List<ZoneWaterUseResponse> attribute(List<Zone> zones, double rate, long now) {
+        double[] use = new double[zones.size()];
+        double total = 0;
+        for (int i = 0; i < use.length; i++) {
+            int slot = slotOf(zoneSlots, zones.get(i).getId());
+            if (slot >= 0) {
+                use[i] = decayedUse[slot] * Math.exp(-Math.max(0, now - useTimestamps[slot]) / smoothingMillis);
+                total += use[i];
+            }
+        }
+        List<ZoneWaterUseResponse> attribution = new ArrayList<>(use.length);
+        for (int i = 0; i < use.length; i++) {
+            double share = total > 0 ? use[i] / total : 1.0 / use.length;
+            attribution.add(ZoneWaterUseResponse.builder()
+                    .zoneId(zones.get(i).getId())
+                    .zoneName(zones.get(i).getName())
+                    .share(share)
+                    .litersPerHour(share * rate)
+                    .build());
+        }
+        return attribution;
+    }
+
+    private int addReservoir(long reservoirId) {
+        if (reservoirCount == levels.length) {
+            int capacity = levels.length * 2;
+            levelTimestamps = Arrays.copyOf(levelTimestamps, capacity);
+            levels = Arrays.copyOf(levels, capacity);
+            consumptionRates = Arrays.copyOf(consumptionRates, capacity);
+        }
+        reservoirSlots.put(reservoirId, reservoirCount);
+        return reservoirCount++;
+    }
+
+    private int addZone(long zoneId) {
+        if (zoneCount == decayedUse.length) {
+            int capacity = decayedUse.length * 2;
+            useTimestamps = Arrays.copyOf(useTimestamps, capacity);
+            decayedUse = Arrays.copyOf(decayedUse, capacity);
+        }
+        zoneSlots.put(zoneId, zoneCount);
+        return zoneCount++;
+    }
+
+    private static int slotOf(LongLongHashMap slots, long id) {
+        long slot = slots.get(id);
+        return slot == LongLongHashMap.MISSING ? -1 : (int) slot;
+    }
+
+    private static LocalDateTime toDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
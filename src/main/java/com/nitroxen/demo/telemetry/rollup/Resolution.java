@@ -0,0 +1,57 @@
+package com.nitroxen.demo.telemetry.rollup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rollup bucket widths. Buckets are aligned to the epoch (UTC) and grouped into fixed-size blocks
+ * of {@code slotsPerBlock} consecutive buckets, so a bucket's location is computed, never searched.
+ */
+public enum Resolution {
+    MINUTE(TimeUnit.MINUTES.toMillis(1), 360),
+    HOUR(TimeUnit.HOURS.toMillis(1), 720),
+    DAY(TimeUnit.DAYS.toMillis(1), 366);
+
+    private static final Resolution[] COARSEST_FIRST = {DAY, HOUR, MINUTE};
+
+    private final long widthMillis;
+    private final int slotsPerBlock;
+
+    Resolution(long widthMillis, int slotsPerBlock) {
+        this.widthMillis = widthMillis;
+        this.slotsPerBlock = slotsPerBlock;
+    }
+
+    public long widthMillis() {
+        return widthMillis;
+    }
+
+    public int slotsPerBlock() {
+        return slotsPerBlock;
+    }
+
+    public long blockSpanMillis() {
+        return widthMillis * slotsPerBlock;
+    }
+
+    public long bucketStart(long timestamp) {
+        return Math.floorDiv(timestamp, widthMillis) * widthMillis;
+    }
+
+    public long blockStart(long timestamp) {
+        return Math.floorDiv(timestamp, blockSpanMillis()) * blockSpanMillis();
+    }
+
+    /**
+     * Coarsest resolution whose buckets tile every step of [from, to) exactly
+     * @return null if even minute buckets do not fit and raw points must be scanned
+     */
+    public static Resolution coarsestFor(long from, long to, long step) {
+        for (Resolution resolution : COARSEST_FIRST) {
+            long width = resolution.widthMillis;
+            if (step % width == 0 && Math.floorMod(from, width) == 0 && Math.floorMod(to, width) == 0) {
+                return resolution;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,109 @@
+package com.nitroxen.demo.telemetry.rollup;
+
+import com.nitroxen.demo.telemetry.StepSeries;
+
+import java.nio.MappedByteBuffer;
+
+/**
+ * Fixed run of consecutive rollup buckets of one series, stored in place in a {@link RollupFile}.
+ * <p>
+ * Each slot holds count, offset of the latest point within the bucket, min, max, sum and latest
+ * value. A point updates only its own slot, so a late reading re-aggregates just the bucket it
+ * falls into. Slot updates and reads are guarded by the block's monitor so readers never see a
+ * half-written slot.
+ */
+final class RollupBlock {
+
+    static final int HEADER_BYTES = 32;
+    static final int SLOT_BYTES = 40;
+
+    private final RollupFile file;
+    private final int offset;
+    private final long seriesKey;
+    private final Resolution resolution;
+    private final long blockStart;
+
+    RollupBlock(RollupFile file, int offset, long seriesKey, Resolution resolution, long blockStart) {
+        this.file = file;
+        this.offset = offset;
+        this.seriesKey = seriesKey;
+        this.resolution = resolution;
+        this.blockStart = blockStart;
+    }
+
+    static int sizeBytes(Resolution resolution) {
+        return HEADER_BYTES + resolution.slotsPerBlock() * SLOT_BYTES;
+    }
+
+    synchronized void add(long timestamp, double value) {
+        MappedByteBuffer buffer = file.buffer();
+        long bucketOffset = timestamp - blockStart;
+        int slot = slotOffset((int) (bucketOffset / resolution.widthMillis()));
+        int offsetInBucket = (int) (bucketOffset % resolution.widthMillis());
+        int count = buffer.getInt(slot);
+        if (count == 0) {
+            buffer.putInt(slot + 4, offsetInBucket);
+            buffer.putDouble(slot + 8, value);
+            buffer.putDouble(slot + 16, value);
+            buffer.putDouble(slot + 24, value);
+            buffer.putDouble(slot + 32, value);
+        } else {
+            buffer.putDouble(slot + 8, Math.min(buffer.getDouble(slot + 8), value));
+            buffer.putDouble(slot + 16, Math.max(buffer.getDouble(slot + 16), value));
+            buffer.putDouble(slot + 24, buffer.getDouble(slot + 24) + value);
+            if (offsetInBucket >= buffer.getInt(slot + 4)) {
+                buffer.putInt(slot + 4, offsetInBucket);
+                buffer.putDouble(slot + 32, value);
+            }
+        }
+        buffer.putInt(slot, count + 1);
+    }
+
+    /**
+     * Merge every non-empty bucket starting in [from, to) into the step series
+     * @return Number of buckets merged
+     */
+    synchronized int foldInto(long from, long to, StepSeries into) {
+        MappedByteBuffer buffer = file.buffer();
+        long width = resolution.widthMillis();
+        int first = (int) Math.max(0, Math.floorDiv(from - blockStart + width - 1, width));
+        int last = (int) Math.min(resolution.slotsPerBlock(), Math.floorDiv(to - blockStart + width - 1, width));
+        int merged = 0;
+        for (int i = first; i < last; i++) {
+            int slot = slotOffset(i);
+            int count = buffer.getInt(slot);
+            if (count == 0) {
+                continue;
+            }
+            long bucketStart = blockStart + i * width;
+            into.merge(bucketStart, count, buffer.getDouble(slot + 8), buffer.getDouble(slot + 16),
+                    buffer.getDouble(slot + 24), buffer.getDouble(slot + 32), bucketStart + buffer.getInt(slot + 4));
+            merged++;
+        }
+        return merged;
+    }
+
+    private int slotOffset(int index) {
+        return offset + HEADER_BYTES + index * SLOT_BYTES;
+    }
+
+    RollupFile file() {
+        return file;
+    }
+
+    long seriesKey() {
+        return seriesKey;
+    }
+
+    Resolution resolution() {
+        return resolution;
+    }
+
+    long blockStart() {
+        return blockStart;
+    }
+
+    long blockEnd() {
+        return blockStart + resolution.blockSpanMillis();
+    }
+}
@@ -0,0 +1,129 @@
+package com.nitroxen.demo.telemetry.rollup;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+/**
+ * Memory-mapped file of rollup blocks, allocated back to back and updated in place.
+ * <p>
+ * Layout: a 16-byte file header, then blocks, each a 32-byte header (magic, resolution, series
+ * key, block start) followed by its slots. New files are zero-filled, so a fresh block's slots
+ * start empty; the block magic is written last so recovery skips a block torn by a crash.
+ */
+final class RollupFile {
+
+    static final String FILE_PREFIX = "rollup-";
+    static final String FILE_SUFFIX = ".tsr";
+    static final int HEADER_BYTES = 16;
+
+    private static final int MAGIC = 0x54524F4C;       // "TROL"
+    private static final int BLOCK_MAGIC = 0x424C4B52; // "BLKR"
+    private static final int VERSION = 1;
+
+    private final long id;
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private int writePosition;
+    private int blockCount;
+
+    private RollupFile(long id, Path path, MappedByteBuffer buffer, int writePosition) {
+        this.id = id;
+        this.path = path;
+        this.buffer = buffer;
+        this.writePosition = writePosition;
+    }
+
+    static long idOf(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length()));
+    }
+
+    static boolean isRollupFile(Path file) {
+        String name = file.getFileName().toString();
+        return name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX);
+    }
+
+    static RollupFile create(Path directory, long id, int sizeBytes) throws IOException {
+        Path path = directory.resolve(String.format("%s%010d%s", FILE_PREFIX, id, FILE_SUFFIX));
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, sizeBytes);
+        }
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        return new RollupFile(id, path, buffer, HEADER_BYTES);
+    }
+
+    /**
+     * Map an existing file and report every complete block to the visitor
+     */
+    static RollupFile open(Path path, Consumer<RollupBlock> visitor) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+        }
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("Not a telemetry rollup file: " + path);
+        }
+        RollupFile file = new RollupFile(idOf(path), path, buffer, HEADER_BYTES);
+        int position = HEADER_BYTES;
+        while (position + RollupBlock.HEADER_BYTES <= buffer.capacity() && buffer.getInt(position) == BLOCK_MAGIC) {
+            Resolution resolution = Resolution.values()[buffer.getInt(position + 4)];
+            visitor.accept(new RollupBlock(file, position, buffer.getLong(position + 8), resolution,
+                    buffer.getLong(position + 16)));
+            file.blockCount++;
+            position += RollupBlock.sizeBytes(resolution);
+        }
+        file.writePosition = position;
+        return file;
+    }
+
+    /**
+     * Allocate an empty block
+     * @return The block, or null if the file has no room for it
+     */
+    RollupBlock allocate(long seriesKey, Resolution resolution, long blockStart) {
+        int offset = writePosition;
+        int size = RollupBlock.sizeBytes(resolution);
+        if (offset + size > buffer.capacity()) {
+            return null;
+        }
+        buffer.putInt(offset + 4, resolution.ordinal());
+        buffer.putLong(offset + 8, seriesKey);
+        buffer.putLong(offset + 16, blockStart);
+        buffer.putInt(offset, BLOCK_MAGIC);
+        writePosition = offset + size;
+        blockCount++;
+        return new RollupBlock(this, offset, seriesKey, resolution, blockStart);
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    MappedByteBuffer buffer() {
+        return buffer;
+    }
+
+    long id() {
+        return id;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    int usedBytes() {
+        return writePosition;
+    }
+
+    int blockCount() {
+        return blockCount;
+    }
+}
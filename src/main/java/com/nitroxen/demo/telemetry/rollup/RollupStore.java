@@ -0,0 +1,197 @@
+package com.nitroxen.demo.telemetry.rollup;
+
+import com.nitroxen.demo.telemetry.LongLongHashMap;
+import com.nitroxen.demo.telemetry.Metric;
+import com.nitroxen.demo.telemetry.StepSeries;
+import com.nitroxen.demo.telemetry.TelemetryBatch;
+import com.nitroxen.demo.telemetry.TelemetrySink;
+import com.nitroxen.demo.telemetry.store.SeriesKey;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+/**
+ * Maintains minute, hour and day rollups (count, min, max, sum, last) of every series as readings
+ * are flushed, so long-range queries read a few buckets instead of every raw point.
+ * <p>
+ * Each reading updates exactly one bucket per resolution, in place, in a memory-mapped
+ * {@link RollupBlock}. A late reading therefore re-aggregates only the buckets it falls into, and
+ * the buckets of the current minute, hour and day are always queryable. Blocks are allocated on
+ * first use and found again through the block headers on startup.
+ */
+@Component
+@Slf4j
+public class RollupStore implements TelemetrySink {
+
+    private static final Resolution[] RESOLUTIONS = Resolution.values();
+
+    private final Path directory;
+    private final int fileSizeBytes;
+
+    private final Map<BlockKey, RollupBlock> blocks = new ConcurrentHashMap<>();
+    private final List<RollupFile> files = new CopyOnWriteArrayList<>();
+    private RollupFile activeFile;
+
+    // Latest timestamp seen per series; only touched by the flushing thread
+    private final LongLongHashMap latestBySeries = new LongLongHashMap(1024);
+    private final Counter lateCounter;
+
+    public RollupStore(@Value("${application.telemetry.rollup.dir:${java.io.tmpdir}/agriwealth/telemetry-rollups}") String directory,
+                       @Value("${application.telemetry.rollup.file-size-bytes:67108864}") int fileSizeBytes,
+                       MeterRegistry meterRegistry) {
+        this.directory = Paths.get(directory);
+        this.fileSizeBytes = fileSizeBytes;
+
+        Gauge.builder("telemetry.rollup.blocks", blocks, Map::size)
+                .description("Rollup blocks allocated")
+                .register(meterRegistry);
+        Gauge.builder("telemetry.rollup.bytes", this, RollupStore::getStoredBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.lateCounter = Counter.builder("telemetry.rollup.late")
+                .description("Readings that re-aggregated an already closed minute bucket")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        Files.createDirectories(directory);
+        List<Path> paths;
+        try (Stream<Path> listing = Files.list(directory)) {
+            paths = listing.filter(RollupFile::isRollupFile)
+                    .sorted(Comparator.comparingLong(RollupFile::idOf))
+                    .toList();
+        }
+        for (Path path : paths) {
+            files.add(RollupFile.open(path, block ->
+                    blocks.put(new BlockKey(block.seriesKey(), block.resolution(), block.blockStart()), block)));
+        }
+        activeFile = files.isEmpty() ? newFile(1) : files.get(files.size() - 1);
+        log.info("Telemetry rollups opened with {} block(s) in {} file(s)", blocks.size(), files.size());
+    }
+
+    @Override
+    public void write(TelemetryBatch batch) {
+        long currentKey = -1;
+        RollupBlock[] current = new RollupBlock[RESOLUTIONS.length];
+        for (int i = 0; i < batch.size(); i++) {
+            byte metric = batch.metric(i);
+            long key = SeriesKey.of(Metric.fromCode(metric).source(), batch.sourceId(i), metric);
+            long timestamp = batch.timestamp(i);
+            if (key != currentKey) {
+                currentKey = key;
+                Arrays.fill(current, null);
+            }
+            trackLateness(key, timestamp);
+            for (Resolution resolution : RESOLUTIONS) {
+                RollupBlock block = current[resolution.ordinal()];
+                if (block == null || timestamp < block.blockStart() || timestamp >= block.blockEnd()) {
+                    block = block(key, resolution, resolution.blockStart(timestamp));
+                    current[resolution.ordinal()] = block;
+                }
+                block.add(timestamp, batch.value(i));
+            }
+        }
+    }
+
+    /**
+     * Merge the buckets of the given resolution that start in [from, to) into the step series
+     * @return Number of non-empty buckets read
+     */
+    public int fold(long seriesKey, Resolution resolution, long from, long to, StepSeries into) {
+        int buckets = 0;
+        for (long blockStart = resolution.blockStart(from); blockStart < to; blockStart += resolution.blockSpanMillis()) {
+            RollupBlock block = blocks.get(new BlockKey(seriesKey, resolution, blockStart));
+            if (block != null) {
+                buckets += block.foldInto(from, to, into);
+            }
+        }
+        return buckets;
+    }
+
+    @Scheduled(fixedDelayString = "${application.telemetry.rollup.flush-interval-millis:60000}")
+    public void flush() {
+        for (RollupFile file : files) {
+            file.force();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        flush();
+    }
+
+    public int getBlockCount() {
+        return blocks.size();
+    }
+
+    public long getStoredBytes() {
+        long bytes = 0;
+        for (RollupFile file : files) {
+            bytes += file.usedBytes();
+        }
+        return bytes;
+    }
+
+    private void trackLateness(long key, long timestamp) {
+        long latest = latestBySeries.get(key);
+        if (latest == LongLongHashMap.MISSING || timestamp > latest) {
+            latestBySeries.put(key, timestamp);
+        } else if (timestamp < Resolution.MINUTE.bucketStart(latest)) {
+            lateCounter.increment();
+        }
+    }
+
+    private RollupBlock block(long seriesKey, Resolution resolution, long blockStart) {
+        BlockKey key = new BlockKey(seriesKey, resolution, blockStart);
+        RollupBlock block = blocks.get(key);
+        if (block != null) {
+            return block;
+        }
+        synchronized (this) {
+            block = blocks.get(key);
+            if (block == null) {
+                block = activeFile.allocate(seriesKey, resolution, blockStart);
+                if (block == null) {
+                    activeFile.force();
+                    activeFile = newFile(activeFile.id() + 1);
+                    block = activeFile.allocate(seriesKey, resolution, blockStart);
+                }
+                blocks.put(key, block);
+            }
+            return block;
+        }
+    }
+
+    private RollupFile newFile(long id) {
+        try {
+            RollupFile file = RollupFile.create(directory, id, fileSizeBytes);
+            files.add(file);
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create telemetry rollup file " + id, e);
+        }
+    }
+
+    record BlockKey(long seriesKey, Resolution resolution, long blockStart) {
+    }
+}
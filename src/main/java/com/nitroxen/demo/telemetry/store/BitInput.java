@@ -0,0 +1,36 @@
+package com.nitroxen.demo.telemetry.store;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Reusable most-significant-bit-first reader over a region of a buffer, using absolute reads only
+ * so several scans can share one mapped segment.
+ */
+final class BitInput {
+
+    private ByteBuffer buffer;
+    private long position;
+
+    void reset(ByteBuffer buffer, int byteOffset) {
+        this.buffer = buffer;
+        this.position = (long) byteOffset << 3;
+    }
+
+    long readBits(int bits) {
+        long result = 0;
+        int remaining = bits;
+        while (remaining > 0) {
+            int current = buffer.get((int) (position >>> 3)) & 0xFF;
+            int available = 8 - (int) (position & 7);
+            int n = Math.min(available, remaining);
+            result = (result << n) | ((current >>> (available - n)) & ((1 << n) - 1));
+            position += n;
+            remaining -= n;
+        }
+        return result;
+    }
+
+    boolean readBit() {
+        return readBits(1) == 1;
+    }
+}
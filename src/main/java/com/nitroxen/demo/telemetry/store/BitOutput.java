@@ -0,0 +1,61 @@
+package com.nitroxen.demo.telemetry.store;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Growable, most-significant-bit-first bit writer backing an open chunk.
+ */
+final class BitOutput {
+
+    private byte[] bytes;
+    private long bitLength;
+
+    BitOutput(int initialBytes) {
+        bytes = new byte[Math.max(16, initialBytes)];
+    }
+
+    /**
+     * Append the low {@code bits} bits of value, most significant first
+     */
+    void writeBits(long value, int bits) {
+        ensureCapacity(bitLength + bits);
+        int remaining = bits;
+        while (remaining > 0) {
+            int byteIndex = (int) (bitLength >>> 3);
+            int free = 8 - (int) (bitLength & 7);
+            int n = Math.min(free, remaining);
+            int chunk = (int) (value >>> (remaining - n)) & ((1 << n) - 1);
+            bytes[byteIndex] |= (byte) (chunk << (free - n));
+            bitLength += n;
+            remaining -= n;
+        }
+    }
+
+    void writeBit(boolean bit) {
+        writeBits(bit ? 1 : 0, 1);
+    }
+
+    long bitLength() {
+        return bitLength;
+    }
+
+    int byteLength() {
+        return (int) ((bitLength + 7) >>> 3);
+    }
+
+    ByteBuffer buffer() {
+        return ByteBuffer.wrap(bytes);
+    }
+
+    void copyTo(ByteBuffer target, int offset) {
+        target.put(offset, bytes, 0, byteLength());
+    }
+
+    private void ensureCapacity(long bits) {
+        int needed = (int) ((bits + 7) >>> 3);
+        if (needed > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(needed, bytes.length * 2));
+        }
+    }
+}
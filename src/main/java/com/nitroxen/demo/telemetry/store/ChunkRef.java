@@ -0,0 +1,20 @@
+package com.nitroxen.demo.telemetry.store;
+
+/**
+ * Index entry for a sealed chunk: where its bits live and the time range and value statistics of its points.
+ */
+record ChunkRef(Segment segment, int offset, long seriesKey, int count, long minTimestamp, long maxTimestamp,
+                double minValue, double maxValue, double sum, int byteLength) {
+
+    int dataOffset() {
+        return offset + Segment.CHUNK_HEADER_BYTES;
+    }
+
+    boolean overlaps(long from, long to) {
+        return minTimestamp < to && maxTimestamp >= from;
+    }
+
+    boolean within(long from, long to) {
+        return minTimestamp >= from && maxTimestamp < to;
+    }
+}
@@ -0,0 +1,10 @@
+package com.nitroxen.demo.telemetry.store;
+
+/**
+ * Decides during compaction whether a sealed chunk has outlived its series' retention.
+ */
+@FunctionalInterface
+public interface ChunkRetention {
+
+    boolean isExpired(long seriesKey, long maxTimestamp);
+}
@@ -0,0 +1,10 @@
+package com.nitroxen.demo.telemetry.store;
+
+/**
+ * Outcome of one compaction pass over the sealed segments.
+ */
+public record CompactionResult(int segmentsRewritten, int segmentsWritten, long chunksDropped, long pointsDropped,
+                               long bytesReclaimed) {
+
+    public static final CompactionResult NONE = new CompactionResult(0, 0, 0, 0, 0);
+}
@@ -0,0 +1,86 @@
+package com.nitroxen.demo.telemetry.store;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Reusable decoder for chunks written by {@link GorillaEncoder}. After {@link #reset} each call to
+ * {@link #next} advances to the next point, exposed through {@link #timestamp} and {@link #value}.
+ */
+public final class GorillaDecoder {
+
+    private final BitInput in = new BitInput();
+    private int remaining;
+    private boolean first;
+    private long timestamp;
+    private long delta;
+    private long valueBits;
+    private int leading;
+    private int trailing;
+
+    public void reset(ByteBuffer buffer, int byteOffset, int count) {
+        in.reset(buffer, byteOffset);
+        remaining = count;
+        first = true;
+        delta = 0;
+        leading = -1;
+        trailing = 0;
+    }
+
+    public boolean next() {
+        if (remaining == 0) {
+            return false;
+        }
+        remaining--;
+        if (first) {
+            first = false;
+            timestamp = in.readBits(64);
+            valueBits = in.readBits(64);
+            return true;
+        }
+        delta += readDeltaOfDelta();
+        timestamp += delta;
+        readValue();
+        return true;
+    }
+
+    public long timestamp() {
+        return timestamp;
+    }
+
+    public double value() {
+        return Double.longBitsToDouble(valueBits);
+    }
+
+    private long readDeltaOfDelta() {
+        if (!in.readBit()) {
+            return 0;
+        }
+        if (!in.readBit()) {
+            return signExtend(in.readBits(7), 7);
+        }
+        if (!in.readBit()) {
+            return signExtend(in.readBits(9), 9);
+        }
+        if (!in.readBit()) {
+            return signExtend(in.readBits(12), 12);
+        }
+        return in.readBits(64);
+    }
+
+    private void readValue() {
+        if (!in.readBit()) {
+            return;
+        }
+        if (in.readBit()) {
+            leading = (int) in.readBits(5);
+            int meaningful = (int) in.readBits(6) + 1;
+            trailing = 64 - leading - meaningful;
+        }
+        int meaningful = 64 - leading - trailing;
+        valueBits ^= in.readBits(meaningful) << trailing;
+    }
+
+    private static long signExtend(long value, int bits) {
+        return (value << (64 - bits)) >> (64 - bits);
+    }
+}
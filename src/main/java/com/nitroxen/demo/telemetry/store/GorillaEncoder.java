@@ -0,0 +1,139 @@
+package com.nitroxen.demo.telemetry.store;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Compresses one chunk of a series as in Facebook's Gorilla paper: timestamps as delta-of-delta
+ * with variable-length buckets, values as the XOR with the previous value, storing only its
+ * meaningful bits. Regular sampling costs about one bit per timestamp and slowly changing
+ * readings a few bits per value.
+ * <p>
+ * Timestamps need not be increasing: deltas are signed, so late readings only cost more bits.
+ * The encoder also tracks the chunk's time range and value statistics for the chunk index.
+ */
+public final class GorillaEncoder {
+
+    private final BitOutput out;
+    private int count;
+    private long previousTimestamp;
+    private long previousDelta;
+    private long previousValueBits;
+    private int previousLeading = -1;
+    private int previousTrailing;
+
+    private long minTimestamp = Long.MAX_VALUE;
+    private long maxTimestamp = Long.MIN_VALUE;
+    private double minValue = Double.POSITIVE_INFINITY;
+    private double maxValue = Double.NEGATIVE_INFINITY;
+    private double sum;
+
+    public GorillaEncoder(int expectedPoints) {
+        // Roughly two bytes per point for typical sensor data
+        this.out = new BitOutput(16 + expectedPoints * 2);
+    }
+
+    public void append(long timestamp, double value) {
+        long valueBits = Double.doubleToRawLongBits(value);
+        if (count == 0) {
+            out.writeBits(timestamp, 64);
+            out.writeBits(valueBits, 64);
+        } else {
+            long delta = timestamp - previousTimestamp;
+            writeDeltaOfDelta(delta - previousDelta);
+            previousDelta = delta;
+            writeValue(valueBits ^ previousValueBits);
+        }
+        previousTimestamp = timestamp;
+        previousValueBits = valueBits;
+        count++;
+
+        minTimestamp = Math.min(minTimestamp, timestamp);
+        maxTimestamp = Math.max(maxTimestamp, timestamp);
+        minValue = Math.min(minValue, value);
+        maxValue = Math.max(maxValue, value);
+        sum += value;
+    }
+
+    private void writeDeltaOfDelta(long deltaOfDelta) {
+        if (deltaOfDelta == 0) {
+            out.writeBit(false);
+        } else if (deltaOfDelta >= -64 && deltaOfDelta <= 63) {
+            out.writeBits(0b10, 2);
+            out.writeBits(deltaOfDelta, 7);
+        } else if (deltaOfDelta >= -256 && deltaOfDelta <= 255) {
+            out.writeBits(0b110, 3);
+            out.writeBits(deltaOfDelta, 9);
+        } else if (deltaOfDelta >= -2048 && deltaOfDelta <= 2047) {
+            out.writeBits(0b1110, 4);
+            out.writeBits(deltaOfDelta, 12);
+        } else {
+            out.writeBits(0b1111, 4);
+            out.writeBits(deltaOfDelta, 64);
+        }
+    }
+
+    private void writeValue(long xor) {
+        if (xor == 0) {
+            out.writeBit(false);
+            return;
+        }
+        int leading = Math.min(Long.numberOfLeadingZeros(xor), 31);
+        int trailing = Long.numberOfTrailingZeros(xor);
+        if (previousLeading >= 0 && leading >= previousLeading && trailing >= previousTrailing) {
+            // Meaningful bits fit inside the previous window: reuse it
+            out.writeBits(0b10, 2);
+            out.writeBits(xor >>> previousTrailing, 64 - previousLeading - previousTrailing);
+        } else {
+            int meaningful = 64 - leading - trailing;
+            out.writeBits(0b11, 2);
+            out.writeBits(leading, 5);
+            out.writeBits(meaningful - 1, 6);
+            out.writeBits(xor >>> trailing, meaningful);
+            previousLeading = leading;
+            previousTrailing = trailing;
+        }
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public long bitLength() {
+        return out.bitLength();
+    }
+
+    public int byteLength() {
+        return out.byteLength();
+    }
+
+    public long minTimestamp() {
+        return minTimestamp;
+    }
+
+    public long maxTimestamp() {
+        return maxTimestamp;
+    }
+
+    public double minValue() {
+        return minValue;
+    }
+
+    public double maxValue() {
+        return maxValue;
+    }
+
+    public double sum() {
+        return sum;
+    }
+
+    /**
+     * View of the encoded bits so far, valid until the next append
+     */
+    ByteBuffer buffer() {
+        return out.buffer();
+    }
+
+    void copyTo(ByteBuffer target, int offset) {
+        out.copyTo(target, offset);
+    }
+}
@@ -0,0 +1,49 @@
+package com.nitroxen.demo.telemetry.store;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Paces background I/O to a byte rate, and holds it back entirely while {@code busy} reports that
+ * foreground work needs the disk. Not thread-safe; one throttle per compaction run.
+ */
+public final class IoThrottle {
+
+    private static final long BUSY_BACKOFF_MILLIS = 50;
+
+    private final long bytesPerSecond;
+    private final BooleanSupplier busy;
+    private final long startedNanos = System.nanoTime();
+    private long bytes;
+    private long pausedNanos;
+
+    /**
+     * @param bytesPerSecond Target rate; zero or less disables rate limiting
+     * @param busy Checked before each chunk of I/O; while true the caller waits
+     */
+    public IoThrottle(long bytesPerSecond, BooleanSupplier busy) {
+        this.bytesPerSecond = bytesPerSecond;
+        this.busy = busy;
+    }
+
+    public static IoThrottle unlimited() {
+        return new IoThrottle(0, () -> false);
+    }
+
+    public void acquire(long amount) throws InterruptedException {
+        while (busy.getAsBoolean()) {
+            long pauseStart = System.nanoTime();
+            Thread.sleep(BUSY_BACKOFF_MILLIS);
+            pausedNanos += System.nanoTime() - pauseStart;
+        }
+        bytes += amount;
+        if (bytesPerSecond <= 0) {
+            return;
+        }
+        long dueNanos = bytes * TimeUnit.SECONDS.toNanos(1) / bytesPerSecond;
+        long elapsedNanos = System.nanoTime() - startedNanos - pausedNanos;
+        if (dueNanos > elapsedNanos) {
+            TimeUnit.NANOSECONDS.sleep(dueNanos - elapsedNanos);
+        }
+    }
+}
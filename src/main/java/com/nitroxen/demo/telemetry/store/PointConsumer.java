@@ -0,0 +1,10 @@
+package com.nitroxen.demo.telemetry.store;
+
+/**
+ * Receives decoded points one at a time, so scans never materialize point objects.
+ */
+@FunctionalInterface
+public interface PointConsumer {
+
+    void accept(long timestamp, double value);
+}
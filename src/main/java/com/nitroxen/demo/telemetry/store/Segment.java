@@ -0,0 +1,254 @@
+package com.nitroxen.demo.telemetry.store;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Append-only, memory-mapped file of sealed chunks from any number of series.
+ * <p>
+ * Layout: a 16-byte file header (magic, version, ID of the last segment whose chunks this file
+ * holds), then chunks back to back, each a 64-byte header (series key, point count, time range,
+ * min/max/sum, body length) followed by the encoded body. A chunk's magic number is written last,
+ * so recovery stops cleanly at a chunk torn by a crash. The file channel is closed once mapped;
+ * the mapping alone keeps the data reachable.
+ * <p>
+ * Compaction writes a merged segment under a temporary name, then renames it over the first
+ * segment it replaces; its header then claims the IDs of the others, which are deleted next or,
+ * after a crash, on the following startup.
+ */
+final class Segment {
+
+    static final String FILE_PREFIX = "segment-";
+    static final String FILE_SUFFIX = ".tsdb";
+    static final String TEMP_SUFFIX = ".compacting";
+    static final int HEADER_BYTES = 16;
+    static final int CHUNK_HEADER_BYTES = 64;
+
+    private static final int MAGIC = 0x54534547;       // "TSEG"
+    private static final int CHUNK_MAGIC = 0x43484E4B; // "CHNK"
+    private static final int VERSION = 1;
+
+    private final long id;
+    private volatile Path path;
+    private final MappedByteBuffer buffer;
+    private int writePosition;
+    private int chunkCount;
+    private long minTimestamp = Long.MAX_VALUE;
+    private long maxTimestamp = Long.MIN_VALUE;
+
+    private Segment(long id, Path path, MappedByteBuffer buffer, int writePosition) {
+        this.id = id;
+        this.path = path;
+        this.buffer = buffer;
+        this.writePosition = writePosition;
+    }
+
+    static Path fileName(Path directory, long id) {
+        return directory.resolve(String.format("%s%010d%s", FILE_PREFIX, id, FILE_SUFFIX));
+    }
+
+    static long idOf(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length()));
+    }
+
+    static Segment create(Path directory, long id, int sizeBytes) throws IOException {
+        Path path = fileName(directory, id);
+        MappedByteBuffer buffer = map(path, sizeBytes, StandardOpenOption.CREATE_NEW);
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putLong(8, id);
+        return new Segment(id, path, buffer, HEADER_BYTES);
+    }
+
+    /**
+     * Create the replacement for segments firstId..lastId under a temporary name; see {@link #publish}
+     */
+    static Segment createMerged(Path directory, long firstId, long lastId, int sizeBytes) throws IOException {
+        Path path = directory.resolve(fileName(directory, firstId).getFileName() + TEMP_SUFFIX);
+        Files.deleteIfExists(path);
+        MappedByteBuffer buffer = map(path, sizeBytes, StandardOpenOption.CREATE_NEW);
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putLong(8, lastId);
+        return new Segment(firstId, path, buffer, HEADER_BYTES);
+    }
+
+    /**
+     * Flush a merged segment and atomically rename it over the first segment it replaces
+     */
+    void publish(Path directory) throws IOException {
+        buffer.force();
+        Path target = fileName(directory, id);
+        Files.move(path, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        path = target;
+    }
+
+    /**
+     * ID of the last segment whose chunks the file holds, read from its header
+     */
+    static long coversThrough(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            channel.read(header, 0);
+            return header.getLong(8);
+        }
+    }
+
+    /**
+     * Map an existing segment and report every complete chunk to the visitor
+     */
+    static Segment open(Path path, Consumer<ChunkRef> visitor) throws IOException {
+        MappedByteBuffer buffer = map(path, Files.size(path));
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("Not a telemetry segment: " + path);
+        }
+        Segment segment = new Segment(idOf(path), path, buffer, HEADER_BYTES);
+        int position = HEADER_BYTES;
+        while (position + CHUNK_HEADER_BYTES <= buffer.capacity() && buffer.getInt(position) == CHUNK_MAGIC) {
+            ChunkRef chunk = segment.readChunk(position);
+            segment.track(chunk);
+            visitor.accept(chunk);
+            position = chunk.dataOffset() + chunk.byteLength();
+        }
+        segment.writePosition = position;
+        return segment;
+    }
+
+    private static MappedByteBuffer map(Path path, long sizeBytes, StandardOpenOption... extra) throws IOException {
+        StandardOpenOption[] options = new StandardOpenOption[extra.length + 2];
+        options[0] = StandardOpenOption.READ;
+        options[1] = StandardOpenOption.WRITE;
+        System.arraycopy(extra, 0, options, 2, extra.length);
+        try (FileChannel channel = FileChannel.open(path, options)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, sizeBytes);
+        }
+    }
+
+    /**
+     * Copy a finished chunk into the segment
+     * @return Index entry of the chunk, or null if the segment has no room for it
+     */
+    ChunkRef append(long seriesKey, GorillaEncoder chunk) {
+        int offset = writePosition;
+        int length = chunk.byteLength();
+        if (offset + CHUNK_HEADER_BYTES + length > buffer.capacity()) {
+            return null;
+        }
+        buffer.putInt(offset + 4, chunk.count());
+        buffer.putLong(offset + 8, seriesKey);
+        buffer.putLong(offset + 16, chunk.minTimestamp());
+        buffer.putLong(offset + 24, chunk.maxTimestamp());
+        buffer.putDouble(offset + 32, chunk.minValue());
+        buffer.putDouble(offset + 40, chunk.maxValue());
+        buffer.putDouble(offset + 48, chunk.sum());
+        buffer.putInt(offset + 56, length);
+        chunk.copyTo(buffer, offset + CHUNK_HEADER_BYTES);
+        buffer.putInt(offset, CHUNK_MAGIC);
+        writePosition = offset + CHUNK_HEADER_BYTES + length;
+
+        ChunkRef ref = readChunk(offset);
+        track(ref);
+        return ref;
+    }
+
+    /**
+     * Copy a chunk, header and body, from another segment
+     * @return Index entry of the copy, or null if the segment has no room for it
+     */
+    ChunkRef appendCopy(ChunkRef source) {
+        int offset = writePosition;
+        int length = CHUNK_HEADER_BYTES + source.byteLength();
+        if (offset + length > buffer.capacity()) {
+            return null;
+        }
+        buffer.put(offset + 4, source.segment().buffer, source.offset() + 4, length - 4);
+        buffer.putInt(offset, CHUNK_MAGIC);
+        writePosition = offset + length;
+
+        ChunkRef ref = readChunk(offset);
+        track(ref);
+        return ref;
+    }
+
+    /**
+     * Every chunk written so far, in file order
+     */
+    List<ChunkRef> chunks() {
+        List<ChunkRef> chunks = new ArrayList<>(chunkCount);
+        int position = HEADER_BYTES;
+        while (position < writePosition) {
+            ChunkRef chunk = readChunk(position);
+            chunks.add(chunk);
+            position = chunk.dataOffset() + chunk.byteLength();
+        }
+        return chunks;
+    }
+
+    static int chunkBytes(ChunkRef chunk) {
+        return CHUNK_HEADER_BYTES + chunk.byteLength();
+    }
+
+    ChunkRef readChunk(int offset) {
+        return new ChunkRef(this, offset,
+                buffer.getLong(offset + 8),
+                buffer.getInt(offset + 4),
+                buffer.getLong(offset + 16),
+                buffer.getLong(offset + 24),
+                buffer.getDouble(offset + 32),
+                buffer.getDouble(offset + 40),
+                buffer.getDouble(offset + 48),
+                buffer.getInt(offset + 56));
+    }
+
+    private void track(ChunkRef chunk) {
+        chunkCount++;
+        minTimestamp = Math.min(minTimestamp, chunk.minTimestamp());
+        maxTimestamp = Math.max(maxTimestamp, chunk.maxTimestamp());
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    MappedByteBuffer buffer() {
+        return buffer;
+    }
+
+    long id() {
+        return id;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    int usedBytes() {
+        return writePosition;
+    }
+
+    int capacity() {
+        return buffer.capacity();
+    }
+
+    int chunkCount() {
+        return chunkCount;
+    }
+
+    long minTimestamp() {
+        return minTimestamp;
+    }
+
+    long maxTimestamp() {
+        return maxTimestamp;
+    }
+}
@@ -0,0 +1,38 @@
+package com.nitroxen.demo.telemetry.store;
+
+import com.nitroxen.demo.telemetry.Metric;
+import com.nitroxen.demo.telemetry.SourceType;
+
+/**
+ * Packs a series identity into one long: source type (8 bits), metric code (8 bits) and source ID (48 bits).
+ */
+public final class SeriesKey {
+
+    private static final long ID_MASK = (1L << 48) - 1;
+
+    private SeriesKey() {
+    }
+
+    public static long of(SourceType sourceType, long sourceId, Metric metric) {
+        return of(sourceType, sourceId, metric.code());
+    }
+
+    public static long of(SourceType sourceType, long sourceId, byte metricCode) {
+        if (sourceId < 0 || sourceId > ID_MASK) {
+            throw new IllegalArgumentException("Source ID out of range: " + sourceId);
+        }
+        return ((long) sourceType.ordinal() << 56) | ((long) (metricCode & 0xFF) << 48) | sourceId;
+    }
+
+    public static SourceType sourceType(long key) {
+        return SourceType.values()[(int) (key >>> 56)];
+    }
+
+    public static Metric metric(long key) {
+        return Metric.fromCode((int) (key >>> 48) & 0xFF);
+    }
+
+    public static long sourceId(long key) {
+        return key & ID_MASK;
+    }
+}
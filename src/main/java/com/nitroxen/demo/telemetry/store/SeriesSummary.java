@@ -0,0 +1,33 @@
+package com.nitroxen.demo.telemetry.store;
+
+import lombok.Getter;
+
+/**
+ * Count, min, max and sum of the points of a series within a time range.
+ */
+@Getter
+public final class SeriesSummary {
+
+    private long count;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+    private double sum;
+
+    void add(double value) {
+        count++;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        sum += value;
+    }
+
+    void addChunk(ChunkRef chunk) {
+        count += chunk.count();
+        min = Math.min(min, chunk.minValue());
+        max = Math.max(max, chunk.maxValue());
+        sum += chunk.sum();
+    }
+
+    public double getAverage() {
+        return count == 0 ? Double.NaN : sum / count;
+    }
+}
@@ -0,0 +1,440 @@
+package com.nitroxen.demo.telemetry.store;
+
+import com.nitroxen.demo.telemetry.Metric;
+import com.nitroxen.demo.telemetry.TelemetryBatch;
+import com.nitroxen.demo.telemetry.TelemetrySink;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+/**
+ * Embedded time-series store for zone and reservoir telemetry.
+ * <p>
+ * Every series (source, metric) appends to an open in-memory chunk compressed by
+ * {@link GorillaEncoder}. Once a chunk reaches {@code chunk-points} points, or at the periodic
+ * seal, it is copied into the active memory-mapped {@link Segment} and indexed by time range and
+ * value statistics. Range scans skip chunks outside the range and decode the rest through a
+ * reusable decoder straight into a {@link PointConsumer}; summaries take whole chunks from the index
+ * without decoding them. The index is rebuilt from the segment headers on startup. Points still in
+ * an open chunk are lost if the process dies before the next seal. {@link #compact} drops expired
+ * chunks and merges old segments so the number of files and mappings stays low.
+ */
+@Component
+@Slf4j
+public class TimeSeriesStore implements TelemetrySink {
+
+    // Sealed segments are rewritten once at least this share of their bytes has expired
+    private static final double MIN_DEAD_FRACTION = 0.25;
+
+    private final Path directory;
+    private final int segmentSizeBytes;
+    private final int chunkPoints;
+
+    private final Map<Long, Series> seriesByKey = new ConcurrentHashMap<>();
+    private final List<Segment> segments = new CopyOnWriteArrayList<>();
+    private final Object segmentLock = new Object();
+    private Segment activeSegment;
+
+    private final Counter pointsCounter;
+
+    public TimeSeriesStore(@Value("${application.telemetry.store.dir:${java.io.tmpdir}/agriwealth/telemetry}") String directory,
+                           @Value("${application.telemetry.store.segment-size-bytes:67108864}") int segmentSizeBytes,
+                           @Value("${application.telemetry.store.chunk-points:1024}") int chunkPoints,
+                           MeterRegistry meterRegistry) {
+        this.directory = Paths.get(directory);
+        this.segmentSizeBytes = segmentSizeBytes;
+        this.chunkPoints = chunkPoints;
+
+        Gauge.builder("telemetry.store.segments", segments, List::size)
+                .description("Segment files held by the telemetry store")
+                .register(meterRegistry);
+        Gauge.builder("telemetry.store.bytes", this, TimeSeriesStore::getStoredBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("telemetry.store.series", seriesByKey, Map::size)
+                .register(meterRegistry);
+        this.pointsCounter = Counter.builder("telemetry.store.points")
+                .description("Points appended to the telemetry store")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        Files.createDirectories(directory);
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing
+                    .filter(path -> {
+                        String name = path.getFileName().toString();
+                        if (name.endsWith(Segment.TEMP_SUFFIX)) {
+                            // Merge interrupted before it was published: the originals are intact
+                            deleteQuietly(path);
+                            return false;
+                        }
+                        return name.startsWith(Segment.FILE_PREFIX) && name.endsWith(Segment.FILE_SUFFIX);
+                    })
+                    .sorted(Comparator.comparingLong(Segment::idOf))
+                    .toList();
+        }
+        long coveredThrough = 0;
+        for (Path file : files) {
+            long id = Segment.idOf(file);
+            if (id <= coveredThrough) {
+                // Already merged into an earlier segment by a compaction that stopped before deleting it
+                deleteQuietly(file);
+                continue;
+            }
+            coveredThrough = Math.max(id, Segment.coversThrough(file));
+            segments.add(Segment.open(file, chunk -> series(chunk.seriesKey()).chunks.add(chunk)));
+        }
+        activeSegment = segments.isEmpty() ? newSegment(1) : segments.get(segments.size() - 1);
+        log.info("Telemetry store opened with {} segment(s) and {} series", segments.size(), seriesByKey.size());
+    }
+
+    @Override
+    public void write(TelemetryBatch batch) {
+        long currentKey = -1;
+        Series current = null;
+        for (int i = 0; i < batch.size(); i++) {
+            byte metric = batch.metric(i);
+            long key = SeriesKey.of(Metric.fromCode(metric).source(), batch.sourceId(i), metric);
+            if (key != currentKey) {
+                currentKey = key;
+                current = series(key);
+            }
+            append(current, batch.timestamp(i), batch.value(i));
+        }
+        pointsCounter.increment(batch.size());
+    }
+
+    public void append(long seriesKey, long timestamp, double value) {
+        append(series(seriesKey), timestamp, value);
+        pointsCounter.increment();
+    }
+
+    /**
+     * Feed every point of the series with from <= timestamp < to to the consumer. Points come in
+     * arrival order, which is time order unless readings arrived late.
+     * @return Number of points delivered
+     */
+    public int scan(long seriesKey, long from, long to, PointConsumer consumer) {
+        Series series = seriesByKey.get(seriesKey);
+        if (series == null) {
+            return 0;
+        }
+        GorillaDecoder decoder = new GorillaDecoder();
+        int delivered = 0;
+        synchronized (series) {
+            for (ChunkRef chunk : series.chunks) {
+                if (chunk.overlaps(from, to)) {
+                    decoder.reset(chunk.segment().buffer(), chunk.dataOffset(), chunk.count());
+                    delivered += decode(decoder, from, to, consumer);
+                }
+            }
+            GorillaEncoder head = series.head;
+            if (head.count() > 0 && head.minTimestamp() < to && head.maxTimestamp() >= from) {
+                decoder.reset(head.buffer(), 0, head.count());
+                delivered += decode(decoder, from, to, consumer);
+            }
+        }
+        return delivered;
+    }
+
+    /**
+     * Count, min, max and sum over from <= timestamp < to. Sealed chunks entirely inside the range
+     * are answered from the chunk index without decoding.
+     */
+    public SeriesSummary summarize(long seriesKey, long from, long to) {
+        SeriesSummary summary = new SeriesSummary();
+        Series series = seriesByKey.get(seriesKey);
+        if (series == null) {
+            return summary;
+        }
+        GorillaDecoder decoder = new GorillaDecoder();
+        PointConsumer accumulate = (timestamp, value) -> summary.add(value);
+        synchronized (series) {
+            for (ChunkRef chunk : series.chunks) {
+                if (chunk.within(from, to)) {
+                    summary.addChunk(chunk);
+                } else if (chunk.overlaps(from, to)) {
+                    decoder.reset(chunk.segment().buffer(), chunk.dataOffset(), chunk.count());
+                    decode(decoder, from, to, accumulate);
+                }
+            }
+            if (series.head.count() > 0) {
+                decoder.reset(series.head.buffer(), 0, series.head.count());
+                decode(decoder, from, to, accumulate);
+            }
+        }
+        return summary;
+    }
+
+    /**
+     * Seal every open chunk and flush dirty segment pages to disk
+     */
+    @Scheduled(fixedDelayString = "${application.telemetry.store.seal-interval-millis:60000}")
+    public void sealAll() {
+        for (Series series : seriesByKey.values()) {
+            synchronized (series) {
+                seal(series);
+            }
+        }
+        synchronized (segmentLock) {
+            activeSegment.force();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        sealAll();
+        log.info("Telemetry store closed with {} segment(s)", segments.size());
+    }
+
+    /**
+     * Rewrite sealed segments to drop expired chunks and merge small segments older than mergeBefore
+     * into files of up to maxMergedBytes. The active segment is never touched, and readers keep
+     * scanning throughout: each series switches to the rewritten chunks under its own lock.
+     */
+    public CompactionResult compact(ChunkRetention retention, IoThrottle throttle, int maxMergedBytes, long mergeBefore)
+            throws InterruptedException, IOException {
+        List<Segment> sealed;
+        synchronized (segmentLock) {
+            sealed = segments.stream().filter(segment -> segment != activeSegment).toList();
+        }
+
+        List<List<Segment>> groups = new ArrayList<>();
+        List<Segment> group = new ArrayList<>();
+        long groupBytes = 0;
+        boolean groupHasDead = false;
+        for (Segment segment : sealed) {
+            long live = 0;
+            for (ChunkRef chunk : segment.chunks()) {
+                if (!retention.isExpired(chunk.seriesKey(), chunk.maxTimestamp())) {
+                    live += Segment.chunkBytes(chunk);
+                }
+            }
+            long dead = segment.usedBytes() - Segment.HEADER_BYTES - live;
+            boolean worthRewriting = dead > 0 && dead >= segment.usedBytes() * MIN_DEAD_FRACTION;
+            boolean mergeable = segment.capacity() < maxMergedBytes / 2 && segment.maxTimestamp() < mergeBefore;
+            if ((!worthRewriting && !mergeable) || groupBytes + live > maxMergedBytes - Segment.HEADER_BYTES) {
+                closeGroup(groups, group, groupHasDead);
+                group = new ArrayList<>();
+                groupBytes = 0;
+                groupHasDead = false;
+            }
+            if (worthRewriting || mergeable) {
+                group.add(segment);
+                groupBytes += live;
+                groupHasDead |= worthRewriting;
+            }
+        }
+        closeGroup(groups, group, groupHasDead);
+
+        CompactionResult total = CompactionResult.NONE;
+        for (List<Segment> merge : groups) {
+            CompactionResult result = rewrite(merge, retention, throttle);
+            total = new CompactionResult(
+                    total.segmentsRewritten() + result.segmentsRewritten(),
+                    total.segmentsWritten() + result.segmentsWritten(),
+                    total.chunksDropped() + result.chunksDropped(),
+                    total.pointsDropped() + result.pointsDropped(),
+                    total.bytesReclaimed() + result.bytesReclaimed());
+        }
+        return total;
+    }
+
+    public int getSegmentCount() {
+        return segments.size();
+    }
+
+    public int getSeriesCount() {
+        return seriesByKey.size();
+    }
+
+    public long getStoredBytes() {
+        long bytes = 0;
+        for (Segment segment : segments) {
+            bytes += segment.usedBytes();
+        }
+        return bytes;
+    }
+
+    private static void closeGroup(List<List<Segment>> groups, List<Segment> group, boolean hasDead) {
+        // A lone segment with nothing to drop would only be copied as is
+        if (group.size() > 1 || (group.size() == 1 && hasDead)) {
+            groups.add(group);
+        }
+    }
+
+    private CompactionResult rewrite(List<Segment> group, ChunkRetention retention, IoThrottle throttle)
+            throws InterruptedException, IOException {
+        List<ChunkRef> live = new ArrayList<>();
+        Set<Long> affectedSeries = new HashSet<>();
+        long chunksDropped = 0;
+        long pointsDropped = 0;
+        long liveBytes = 0;
+        long oldBytes = 0;
+        for (Segment segment : group) {
+            oldBytes += segment.capacity();
+            for (ChunkRef chunk : segment.chunks()) {
+                affectedSeries.add(chunk.seriesKey());
+                if (retention.isExpired(chunk.seriesKey(), chunk.maxTimestamp())) {
+                    chunksDropped++;
+                    pointsDropped += chunk.count();
+                } else {
+                    live.add(chunk);
+                    liveBytes += Segment.chunkBytes(chunk);
+                }
+            }
+        }
+
+        Segment merged = null;
+        Map<ChunkRef, ChunkRef> moved = new HashMap<>();
+        if (!live.isEmpty()) {
+            long firstId = group.get(0).id();
+            long lastId = group.get(group.size() - 1).id();
+            merged = Segment.createMerged(directory, firstId, lastId, Math.toIntExact(Segment.HEADER_BYTES + liveBytes));
+            for (ChunkRef chunk : live) {
+                throttle.acquire(Segment.chunkBytes(chunk));
+                moved.put(chunk, merged.appendCopy(chunk));
+            }
+            merged.publish(directory);
+        }
+
+        // Point every affected series at the copies, keeping chunk order
+        Set<Segment> replaced = Set.copyOf(group);
+        for (Long key : affectedSeries) {
+            Series series = seriesByKey.get(key);
+            synchronized (series) {
+                List<ChunkRef> chunks = new ArrayList<>(series.chunks.size());
+                for (ChunkRef chunk : series.chunks) {
+                    if (!replaced.contains(chunk.segment())) {
+                        chunks.add(chunk);
+                    } else if (moved.containsKey(chunk)) {
+                        chunks.add(moved.get(chunk));
+                    }
+                }
+                series.chunks.clear();
+                series.chunks.addAll(chunks);
+            }
+        }
+        synchronized (segmentLock) {
+            segments.removeAll(group);
+            if (merged != null) {
+                segments.add(merged);
+                segments.sort(Comparator.comparingLong(Segment::id));
+            }
+        }
+        for (Segment segment : group) {
+            if (merged == null || segment.id() != merged.id()) {
+                Files.deleteIfExists(segment.path());
+            }
+        }
+
+        long newBytes = merged == null ? 0 : merged.capacity();
+        log.debug("Compacted {} telemetry segment(s) into {}: dropped {} expired chunk(s), reclaimed {} bytes",
+                group.size(), merged == null ? "none" : merged.path().getFileName(), chunksDropped, oldBytes - newBytes);
+        return new CompactionResult(group.size(), merged == null ? 0 : 1, chunksDropped, pointsDropped, oldBytes - newBytes);
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete telemetry file {}", path, e);
+        }
+    }
+
+    private Series series(long key) {
+        return seriesByKey.computeIfAbsent(key, k -> new Series(k, chunkPoints));
+    }
+
+    private void append(Series series, long timestamp, double value) {
+        synchronized (series) {
+            series.head.append(timestamp, value);
+            if (series.head.count() >= chunkPoints) {
+                seal(series);
+            }
+        }
+    }
+
+    // Caller holds the series lock
+    private void seal(Series series) {
+        if (series.head.count() == 0) {
+            return;
+        }
+        series.chunks.add(writeChunk(series.key, series.head));
+        series.head = new GorillaEncoder(chunkPoints);
+    }
+
+    private ChunkRef writeChunk(long seriesKey, GorillaEncoder chunk) {
+        synchronized (segmentLock) {
+            ChunkRef ref = activeSegment.append(seriesKey, chunk);
+            if (ref == null) {
+                activeSegment.force();
+                activeSegment = newSegment(activeSegment.id() + 1);
+                ref = activeSegment.append(seriesKey, chunk);
+                if (ref == null) {
+                    throw new IllegalStateException("Chunk of " + chunk.byteLength() + " bytes exceeds the segment size");
+                }
+            }
+            return ref;
+        }
+    }
+
+    private Segment newSegment(long id) {
+        try {
+            Segment segment = Segment.create(directory, id, segmentSizeBytes);
+            segments.add(segment);
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create telemetry segment " + id, e);
+        }
+    }
+
+    private static int decode(GorillaDecoder decoder, long from, long to, PointConsumer consumer) {
+        int delivered = 0;
+        while (decoder.next()) {
+            long timestamp = decoder.timestamp();
+            if (timestamp >= from && timestamp < to) {
+                consumer.accept(timestamp, decoder.value());
+                delivered++;
+            }
+        }
+        return delivered;
+    }
+
+    private static final class Series {
+
+        private final long key;
+        private final List<ChunkRef> chunks = new ArrayList<>();
+        private GorillaEncoder head;
+
+        Series(long key, int chunkPoints) {
+            this.key = key;
+            this.head = new GorillaEncoder(chunkPoints);
+        }
+    }
+}
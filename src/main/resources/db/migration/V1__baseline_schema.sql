@@ -0,0 +1,195 @@
+-- Schema as created by ddl-auto=update before migrations were introduced. Existing databases are
+-- baselined at this version (spring.flyway.baseline-on-migrate) and only receive later migrations.
+
+create table agronomist (
+    id bigint not null auto_increment,
+    email varchar(255),
+    name varchar(255) not null,
+    phone varchar(255),
+    specialization varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table agronomist_farm (
+    agronomist_id bigint not null,
+    farm_id bigint not null,
+    primary key (agronomist_id, farm_id)
+) engine=InnoDB;
+
+create table agronomist_report (
+    id bigint not null auto_increment,
+    content TEXT,
+    status varchar(255) not null,
+    agronomist_id bigint not null,
+    farm_id bigint not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table farm_assignments (
+    id bigint not null auto_increment,
+    active bit not null,
+    created_at datetime(6) not null,
+    updated_at datetime(6) not null,
+    assigned_by bigint not null,
+    farm_id bigint not null,
+    manager_id bigint not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table farms (
+    id bigint not null auto_increment,
+    created_at datetime(6) not null,
+    description varchar(255),
+    location varchar(255),
+    name varchar(255) not null,
+    total_area float(53) not null,
+    updated_at datetime(6) not null,
+    owner_id bigint not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table polyhouses (
+    id bigint not null auto_increment,
+    area float(53) not null,
+    created_at datetime(6) not null,
+    equipment varchar(255),
+    growing_type varchar(255) not null,
+    name varchar(255) not null,
+    specifications varchar(255),
+    type varchar(255) not null,
+    updated_at datetime(6) not null,
+    farm_id bigint not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table report (
+    id bigint not null auto_increment,
+    file_url varchar(255),
+    report_text varchar(255),
+    submitted_at datetime(6),
+    task_id bigint,
+    worker_id bigint,
+    primary key (id)
+) engine=InnoDB;
+
+create table reservoirs (
+    id bigint not null auto_increment,
+    capacity float(53) not null,
+    created_at datetime(6) not null,
+    name varchar(255) not null,
+    updated_at datetime(6) not null,
+    water_source varchar(255),
+    water_treatment varchar(255),
+    farm_id bigint not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table task (
+    id bigint not null auto_increment,
+    created_at datetime(6),
+    created_by varchar(255),
+    deadline varchar(255),
+    description varchar(255),
+    file_url varchar(255),
+    title varchar(255),
+    worker_id bigint,
+    primary key (id)
+) engine=InnoDB;
+
+create table users (
+    id bigint not null auto_increment,
+    created_at datetime(6),
+    email varchar(255),
+    enabled bit not null,
+    updated_at datetime(6),
+    name varchar(255) not null,
+    password varchar(255) not null,
+    phone_number varchar(255) not null,
+    role enum ('ADMIN','MANAGER','OWNER','WORKER') not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table zones (
+    id bigint not null auto_increment,
+    created_at datetime(6) not null,
+    crop_type varchar(255) not null,
+    crop_variety varchar(255),
+    dosing_system varchar(255),
+    irrigation_setup varchar(255),
+    name varchar(255) not null,
+    planting_configuration varchar(255),
+    system_type varchar(255) not null,
+    updated_at datetime(6) not null,
+    polyhouse_id bigint not null,
+    reservoir_id bigint,
+    primary key (id)
+) engine=InnoDB;
+
+alter table agronomist
+   add constraint UKn3g6yp4nb76feclg56n5991m6 unique (email);
+
+alter table users
+   add constraint UK6dotkott2kjsp8vw4d0m25fb7 unique (email);
+
+alter table users
+   add constraint UK9q63snka3mdh91as4io72espi unique (phone_number);
+
+alter table agronomist_farm
+   add constraint FK3edni491ro24pnmirmg1794bg
+   foreign key (farm_id)
+   references farms (id);
+
+alter table agronomist_farm
+   add constraint FKr5iwmhkqrhdav9suffjwv1w03
+   foreign key (agronomist_id)
+   references agronomist (id);
+
+alter table agronomist_report
+   add constraint FK762v7jycj6p9ndnr7vojncldj
+   foreign key (agronomist_id)
+   references agronomist (id);
+
+alter table agronomist_report
+   add constraint FKay4fb4i5qqqq10m48fmu38u9n
+   foreign key (farm_id)
+   references farms (id);
+
+alter table farm_assignments
+   add constraint FK6jdw02ln5ccaoh1ynojr9waub
+   foreign key (assigned_by)
+   references users (id);
+
+alter table farm_assignments
+   add constraint FKkss1a4v5eq518fwskcl2s6650
+   foreign key (farm_id)
+   references farms (id);
+
+alter table farm_assignments
+   add constraint FK252nnilj08bv92rss41akq9tw
+   foreign key (manager_id)
+   references users (id);
+
+alter table farms
+   add constraint FKs0bidbivsex2c3d47hs2c8sjl
+   foreign key (owner_id)
+   references users (id);
+
+alter table polyhouses
+   add constraint FK9uvmp7v361jyv3rtg1f95ghmn
+   foreign key (farm_id)
+   references farms (id);
+
+alter table reservoirs
+   add constraint FKa3be4gmc6clk40kfim3e8w0ib
+   foreign key (farm_id)
+   references farms (id);
+
+alter table zones
+   add constraint FK1ip22pgmma5a8bx0iyadomi7i
+   foreign key (polyhouse_id)
+   references polyhouses (id);
+
+alter table zones
+   add constraint FK7b53l3rryxcqumekc7xkt0yha
+   foreign key (reservoir_id)
+   references reservoirs (id);
@@ -0,0 +1,25 @@
+-- Names are unique within their parent; these keys replace the existsByName... pre-check queries.
+alter table farms
+   add constraint uk_farm_owner_name unique (owner_id, name);
+
+alter table polyhouses
+   add constraint uk_polyhouse_farm_name unique (farm_id, name);
+
+alter table zones
+   add constraint uk_zone_polyhouse_name unique (polyhouse_id, name);
+
+alter table reservoirs
+   add constraint uk_reservoir_farm_name unique (farm_id, name);
+
+-- Active farms of a manager, and the manager-on-farm check, read from the index alone.
+create index idx_farm_assignment_manager
+   on farm_assignments (manager_id, active, farm_id);
+
+create index idx_task_worker
+   on task (worker_id);
+
+create index idx_report_task
+   on report (task_id);
+
+create index idx_agronomist_report_farm
+   on agronomist_report (farm_id);
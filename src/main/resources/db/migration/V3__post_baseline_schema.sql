@@ -0,0 +1,231 @@
+-- Columns and tables added after the baseline. Databases baselined at V1 by ddl-auto=update never had these.
+alter table reservoirs
+   add column pump_count integer;
+
+alter table task
+   add column zone_id bigint;
+
+alter table users
+   add column created_by bigint;
+
+alter table users
+   add column owner_id bigint;
+
+alter table zones
+   add column crop_stage enum ('FLOWERING','FRUITING','PROPAGATION','VEGETATIVE');
+
+create table billing_ledger (
+    id bigint not null auto_increment,
+    amount decimal(14,2) not null,
+    billing_period date not null,
+    charge_type enum ('ADJUSTMENT','AREA','FARM','SEAT') not null,
+    created_at datetime(6) not null,
+    description varchar(255),
+    farm_id bigint,
+    owner_id bigint not null,
+    quantity float(53) not null,
+    recorded_by bigint,
+    recorded_on date not null,
+    reference varchar(64),
+    unit_price decimal(12,4) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table broadcasts (
+    id bigint not null auto_increment,
+    created_at datetime(6) not null,
+    farm_id bigint not null,
+    manager_id bigint not null,
+    message varchar(1000) not null,
+    recipient_count integer not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table domain_event_outbox (
+    id bigint not null auto_increment,
+    change_type enum ('CREATED','DELETED','UPDATED') not null,
+    entity_id bigint not null,
+    entity_type enum ('FARM','POLYHOUSE','RESERVOIR','ZONE') not null,
+    farm_id bigint not null,
+    occurred_at datetime(6) not null,
+    owner_id bigint not null,
+    published_at datetime(6),
+    primary key (id)
+) engine=InnoDB;
+
+create table irrigation_programs (
+    id bigint not null auto_increment,
+    active bit not null,
+    created_at datetime(6) not null,
+    cycle_minutes integer not null,
+    cycles_per_day integer not null,
+    farm_id bigint not null,
+    flow_liters_per_minute float(53) not null,
+    interval_minutes integer not null,
+    start_time time(6) not null,
+    updated_at datetime(6) not null,
+    updated_by bigint,
+    zone_id bigint not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table notification_outbox (
+    id bigint not null auto_increment,
+    attempts integer not null,
+    category enum ('ALERT','BROADCAST') not null,
+    created_at datetime(6) not null,
+    last_error varchar(500),
+    message varchar(1600) not null,
+    next_attempt_at datetime(6) not null,
+    phone_number varchar(20) not null,
+    reference varchar(64) not null,
+    sent_at datetime(6),
+    status enum ('FAILED','PENDING','SENT') not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table recurring_task_schedules (
+    id bigint not null auto_increment,
+    active bit not null,
+    created_at datetime(6) not null,
+    description varchar(255),
+    lease_expires_at datetime(6),
+    lease_owner varchar(255),
+    manager_id bigint not null,
+    next_occurrence_at datetime(6),
+    recurrence_rule varchar(255) not null,
+    start_at datetime(6) not null,
+    title varchar(255) not null,
+    updated_at datetime(6) not null,
+    worker_id bigint not null,
+    zone_id bigint,
+    primary key (id)
+) engine=InnoDB;
+
+create table resource_ownership (
+    id bigint not null auto_increment,
+    farm_id bigint not null,
+    owner_id bigint not null,
+    resource_id bigint not null,
+    resource_type enum ('AGRONOMIST_REPORT','FARM','POLYHOUSE','REPORT','RESERVOIR','TASK','ZONE') not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table revenue_daily (
+    id bigint not null auto_increment,
+    amount decimal(16,2) not null,
+    entry_count bigint not null,
+    owner_id bigint not null,
+    revenue_date date not null,
+    updated_at datetime(6) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table revenue_monthly (
+    id bigint not null auto_increment,
+    amount decimal(16,2) not null,
+    entry_count bigint not null,
+    owner_id bigint not null,
+    revenue_month date not null,
+    updated_at datetime(6) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table stock_solutions (
+    id bigint not null auto_increment,
+    created_at datetime(6) not null,
+    ec_per_ml float(53) not null,
+    farm_id bigint not null,
+    name varchar(255) not null,
+    ph_per_ml float(53) not null,
+    ratio float(53) not null,
+    type enum ('NUTRIENT','PH_DOWN','PH_UP') not null,
+    updated_at datetime(6) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table zone_alerts (
+    id bigint not null auto_increment,
+    band_high float(53) not null,
+    band_low float(53) not null,
+    breach enum ('HIGH','LOW') not null,
+    created_at datetime(6) not null,
+    farm_id bigint,
+    last_value float(53),
+    metric enum ('EC','HUMIDITY','PH','SOIL_MOISTURE','TEMPERATURE','WATER_LEVEL','WATER_USED') not null,
+    notified_at datetime(6),
+    open_key varchar(64),
+    resolved_at datetime(6),
+    started_at datetime(6) not null,
+    status enum ('OPEN','RESOLVED') not null,
+    trigger_value float(53) not null,
+    updated_at datetime(6) not null,
+    zone_id bigint not null,
+    primary key (id)
+) engine=InnoDB;
+
+create index idx_billing_ledger_owner
+   on billing_ledger (owner_id, recorded_on);
+
+alter table billing_ledger
+   add constraint uk_billing_ledger_reference unique (reference);
+
+create index idx_broadcast_farm
+   on broadcasts (farm_id);
+
+create index idx_domain_event_outbox_pending
+   on domain_event_outbox (published_at, id);
+
+create index idx_irrigation_program_farm
+   on irrigation_programs (farm_id, active);
+
+alter table irrigation_programs
+   add constraint uk_irrigation_program_zone unique (zone_id);
+
+create index idx_notification_outbox_due
+   on notification_outbox (status, next_attempt_at);
+
+create index idx_notification_outbox_reference
+   on notification_outbox (reference);
+
+create index idx_recurring_task_next
+   on recurring_task_schedules (active, next_occurrence_at);
+
+create index idx_recurring_task_manager
+   on recurring_task_schedules (manager_id);
+
+create index idx_resource_ownership_farm
+   on resource_ownership (farm_id);
+
+alter table resource_ownership
+   add constraint uk_resource_ownership_resource unique (resource_type, resource_id);
+
+create index idx_revenue_daily_period
+   on revenue_daily (revenue_date);
+
+alter table revenue_daily
+   add constraint uk_revenue_daily_owner_period unique (owner_id, revenue_date);
+
+create index idx_revenue_monthly_period
+   on revenue_monthly (revenue_month);
+
+alter table revenue_monthly
+   add constraint uk_revenue_monthly_owner_period unique (owner_id, revenue_month);
+
+alter table stock_solutions
+   add constraint uk_stock_solution_farm_name unique (farm_id, name);
+
+create index idx_users_created_by_role
+   on users (created_by, role);
+
+create index idx_users_owner_role
+   on users (owner_id, role);
+
+create index idx_zone_alert_status
+   on zone_alerts (status, farm_id);
+
+create index idx_zone_alert_zone
+   on zone_alerts (zone_id, started_at);
+
+alter table zone_alerts
+   add constraint uk_zone_alert_open unique (open_key);
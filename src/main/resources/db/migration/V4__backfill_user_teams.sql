@@ -0,0 +1,20 @@
+-- Managers created before users.created_by and users.owner_id existed join the team of the owner whose
+-- farms they are assigned to; owners create managers, so that owner is also their creator. Managers
+-- assigned to farms of several owners, or to none, and workers, have nothing to derive a team from;
+-- they are listed by GET /api/admin/users/unattached instead.
+update users
+   set owner_id = (select min(f.owner_id)
+                     from farm_assignments fa
+                     join farms f on f.id = fa.farm_id
+                    where fa.manager_id = users.id),
+       created_by = (select min(f.owner_id)
+                       from farm_assignments fa
+                       join farms f on f.id = fa.farm_id
+                      where fa.manager_id = users.id)
+ where role = 'MANAGER'
+   and owner_id is null
+   and created_by is null
+   and (select count(distinct f.owner_id)
+          from farm_assignments fa
+          join farms f on f.id = fa.farm_id
+         where fa.manager_id = users.id) = 1;
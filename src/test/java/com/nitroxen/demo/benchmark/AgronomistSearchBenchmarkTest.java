@@ -0,0 +1,99 @@
+package com.nitroxen.demo.benchmark;
+
+import com.nitroxen.demo.search.SearchDocument;
+import com.nitroxen.demo.search.SearchIndex;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the former LIKE '%keyword%' scans (one per field) with the indexed agronomist search over 100k agronomists.
+ * Run with: mvn test -Pbenchmark -Dtest=AgronomistSearchBenchmarkTest
+ */
+@Tag("benchmark")
+public class AgronomistSearchBenchmarkTest {
+
+    private static final int AGRONOMISTS = 100_000;
+    private static final int ROUNDS = 5;
+    private static final String[] FIRST_NAMES = {"Priya", "Rahul", "Anita", "Suresh", "Kavya", "Vikram", "Meera", "Arjun"};
+    private static final String[] LAST_NAMES = {"Patil", "Sharma", "Deshmukh", "Kulkarni", "Iyer", "Reddy", "Joshi"};
+    private static final String[] SPECIALIZATIONS = {"Hydroponics", "Soil Science", "Plant Pathology",
+            "Irrigation", "Entomology", "Horticulture"};
+    private static final String[] QUERIES = {"hydro", "priya patil", "soil sci", "kulkarni", "zz9"};
+
+    private JdbcTemplate jdbcTemplate;
+    private SearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        DriverManagerDataSource dataSource =
+                new DriverManagerDataSource("jdbc:h2:mem:agronomist_search_bench;DB_CLOSE_DELAY=-1;MODE=MySQL", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS agronomist");
+        jdbcTemplate.execute("CREATE TABLE agronomist (id BIGINT PRIMARY KEY, name VARCHAR(255), email VARCHAR(255), " +
+                "specialization VARCHAR(255))");
+
+        searchIndex = new SearchIndex(new ByteBuffersDirectory());
+
+        Random random = new Random(42);
+        List<Object[]> rows = new ArrayList<>();
+        for (long id = 1; id <= AGRONOMISTS; id++) {
+            String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                    + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " " + Long.toString(id, 36);
+            String email = name.replace(' ', '.').toLowerCase() + "@agri" + random.nextInt(50) + ".com";
+            String specialization = SPECIALIZATIONS[random.nextInt(SPECIALIZATIONS.length)];
+            rows.add(new Object[]{id, name, email, specialization});
+            searchIndex.upsert(SearchDocument.builder()
+                    .type(SearchDocument.Type.AGRONOMIST)
+                    .id(id)
+                    .title(name)
+                    .text(specialization)
+                    .keywords(name + " " + email + " " + specialization)
+                    .build());
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO agronomist VALUES (?, ?, ?, ?)", rows);
+        searchIndex.refresh();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        searchIndex.close();
+    }
+
+    @Test
+    void compareLikeScansWithIndexedSearch() {
+        long likeNanos = Long.MAX_VALUE;
+        long indexNanos = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (String query : QUERIES) {
+                String pattern = "%" + query + "%";
+                jdbcTemplate.queryForList("SELECT id FROM agronomist WHERE LOWER(name) LIKE ? " +
+                        "OR LOWER(email) LIKE ? OR LOWER(specialization) LIKE ? ORDER BY name LIMIT 20", Long.class,
+                        pattern, pattern, pattern);
+            }
+            likeNanos = Math.min(likeNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            for (String query : QUERIES) {
+                searchIndex.searchKeywords(query, SearchDocument.Type.AGRONOMIST, 0, 20);
+            }
+            indexNanos = Math.min(indexNanos, System.nanoTime() - start);
+        }
+
+        System.out.printf("Agronomist search over %d rows, %d queries: LIKE scans %.1f ms, indexed search %.1f ms%n",
+                AGRONOMISTS, QUERIES.length, likeNanos / 1e6, indexNanos / 1e6);
+        assertThat(searchIndex.searchKeywords("hydro", SearchDocument.Type.AGRONOMIST, 0, 20).total()).isPositive();
+    }
+}
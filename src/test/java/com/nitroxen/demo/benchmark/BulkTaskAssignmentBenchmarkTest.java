@@ -0,0 +1,84 @@
+package com.nitroxen.demo.benchmark;
+
+import com.nitroxen.demo.dto.request.BulkTaskAssignmentRequest;
+import com.nitroxen.demo.ownership.OwnershipIndex;
+import com.nitroxen.demo.search.SearchIndexer;
+import com.nitroxen.demo.service.TaskAttachmentStorage;
+import com.nitroxen.demo.service.TaskEventBus;
+import com.nitroxen.demo.service.TaskManagerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Compares one-insert-per-request task assignment with the batched bulk path.
+ * Run with: mvn test -Pbenchmark -Dtest=BulkTaskAssignmentBenchmarkTest
+ */
+@Tag("benchmark")
+public class BulkTaskAssignmentBenchmarkTest {
+
+    private static final int TARGETS = 2_000;
+    private static final int ROUNDS = 5;
+
+    private JdbcTemplate jdbcTemplate;
+    private TaskManagerService taskManagerService;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource =
+                new DriverManagerDataSource("jdbc:h2:mem:bulk_task_bench;DB_CLOSE_DELAY=-1;MODE=MySQL", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS task");
+        jdbcTemplate.execute("CREATE TABLE task (id BIGINT AUTO_INCREMENT PRIMARY KEY, title VARCHAR(255), " +
+                "description VARCHAR(255), deadline VARCHAR(255), worker_id BIGINT, zone_id BIGINT, " +
+                "created_by VARCHAR(255), file_url VARCHAR(255), created_at TIMESTAMP)");
+
+        taskManagerService = new TaskManagerService(null, null, null, null,
+                mock(TaskAttachmentStorage.class), jdbcTemplate, mock(TaskEventBus.class), mock(SearchIndexer.class),
+                mock(OwnershipIndex.class));
+    }
+
+    @Test
+    void compareSingleInsertsWithBatchedBulkAssignment() {
+        List<BulkTaskAssignmentRequest.Target> targets = new ArrayList<>();
+        for (long worker = 1; worker <= TARGETS; worker++) {
+            targets.add(new BulkTaskAssignmentRequest.Target(worker, null));
+        }
+        BulkTaskAssignmentRequest request = BulkTaskAssignmentRequest.builder()
+                .title("Harvest")
+                .description("Harvest ripe trusses")
+                .targets(targets)
+                .build();
+
+        long singleNanos = Long.MAX_VALUE;
+        long batchNanos = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (BulkTaskAssignmentRequest.Target target : targets) {
+                jdbcTemplate.update("INSERT INTO task (title, description, worker_id, created_at) VALUES (?, ?, ?, ?)",
+                        request.getTitle(), request.getDescription(), target.getWorkerId(),
+                        Timestamp.valueOf(LocalDateTime.now()));
+            }
+            singleNanos = Math.min(singleNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            taskManagerService.assignTasks(request, null, 1L, "bench");
+            batchNanos = Math.min(batchNanos, System.nanoTime() - start);
+        }
+
+        System.out.printf("Bulk task assignment, %d targets: single inserts %.0f tasks/s, batched %.0f tasks/s%n",
+                TARGETS, TARGETS / (singleNanos / 1e9), TARGETS / (batchNanos / 1e9));
+        Integer rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task", Integer.class);
+        assertThat(rows).isEqualTo(2 * TARGETS * ROUNDS);
+    }
+}
@@ -0,0 +1,64 @@
+package com.nitroxen.demo.benchmark;
+
+import com.nitroxen.demo.irrigation.FarmIrrigationPlan;
+import com.nitroxen.demo.irrigation.ProgramSpec;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Daily plan of a 600-zone farm on 12 reservoirs: full replan versus replacing one zone's program.
+ * Run with: mvn test -Pbenchmark -Dtest=IrrigationPlannerBenchmarkTest
+ */
+@Tag("benchmark")
+public class IrrigationPlannerBenchmarkTest {
+
+    private static final int ZONES = 600;
+    private static final int RESERVOIRS = 12;
+    private static final int ROUNDS = 20;
+
+    @Test
+    void compareFullReplanWithIncrementalUpdate() {
+        Random random = new Random(11);
+        List<ProgramSpec> programs = new ArrayList<>();
+        for (int zone = 1; zone <= ZONES; zone++) {
+            programs.add(new ProgramSpec(zone, 1 + zone % RESERVOIRS, 300 + random.nextInt(4) * 60,
+                    2 + random.nextInt(4), 5 + random.nextInt(16), 180, 100 + random.nextInt(200)));
+        }
+        programs.sort(Comparator.comparingInt(ProgramSpec::startMinute).thenComparingLong(ProgramSpec::zoneId));
+
+        long fullNanos = Long.MAX_VALUE;
+        FarmIrrigationPlan plan = null;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            plan = new FarmIrrigationPlan(24, 0);
+            for (int reservoir = 1; reservoir <= RESERVOIRS; reservoir++) {
+                plan.addReservoir(reservoir, 3, 60_000);
+            }
+            programs.forEach(plan::place);
+            fullNanos = Math.min(fullNanos, System.nanoTime() - start);
+        }
+
+        long updateNanos = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            ProgramSpec program = programs.get(random.nextInt(ZONES));
+            ProgramSpec changed = new ProgramSpec(program.zoneId(), program.reservoirId(), 240 + random.nextInt(600),
+                    program.cycles(), program.cycleMinutes(), program.intervalMinutes(), program.litersPerCycle());
+            long start = System.nanoTime();
+            plan.replace(program.zoneId(), changed);
+            updateNanos = Math.min(updateNanos, System.nanoTime() - start);
+        }
+
+        long scheduled = plan.runs().stream().filter(run -> run.startMinute() >= 0).count();
+        System.out.printf("%d zones, %d cycles scheduled: full replan %.2f ms, one-zone update %.1f us%n",
+                ZONES, scheduled, fullNanos / 1e6, updateNanos / 1e3);
+        assertThat(plan.getZoneCount()).isEqualTo(ZONES);
+        assertThat(scheduled).isPositive();
+    }
+}
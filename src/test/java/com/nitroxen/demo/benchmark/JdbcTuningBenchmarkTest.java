@@ -0,0 +1,165 @@
+package com.nitroxen.demo.benchmark;
+
+import com.nitroxen.demo.config.ConnectionPoolSizer;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the production profile's pool and JDBC settings (application-prod.yml) with the defaults:
+ * concurrent point reads through a Hikari pool of 10 versus one sized from the core count, and updates
+ * sent one by one (no hibernate.jdbc.batch_size) versus in batches of 50.
+ * Runs against in-memory H2; point it at MySQL to also measure the driver's statement caching:
+ * mvn test -Pbenchmark -Dtest=JdbcTuningBenchmarkTest -Dbenchmark.jdbc-url=jdbc:mysql://localhost:3306/bench
+ * -Dbenchmark.username=root -Dbenchmark.password=password
+ */
+@Tag("benchmark")
+public class JdbcTuningBenchmarkTest {
+
+    private static final int ROWS = 5_000;
+    private static final int READS_PER_CLIENT = 2_000;
+    private static final int BATCH_SIZE = 50;
+    private static final int ROUNDS = 3;
+
+    private final String url = System.getProperty("benchmark.jdbc-url", "jdbc:h2:mem:jdbc_tuning_bench;DB_CLOSE_DELAY=-1;MODE=MySQL");
+    private final int clients = Runtime.getRuntime().availableProcessors() * 4;
+
+    private HikariDataSource defaults;
+    private HikariDataSource tuned;
+
+    @BeforeEach
+    void setUp() {
+        defaults = pool("defaults");
+
+        tuned = pool("tuned");
+        int size = ConnectionPoolSizer.poolSize(Runtime.getRuntime().availableProcessors(), 2, 1, 50);
+        tuned.setMaximumPoolSize(size);
+        tuned.setMinimumIdle(size);
+        if (url.startsWith("jdbc:mysql:")) {
+            tuned.addDataSourceProperty("rewriteBatchedStatements", "true");
+            tuned.addDataSourceProperty("cachePrepStmts", "true");
+            tuned.addDataSourceProperty("useServerPrepStmts", "true");
+            tuned.addDataSourceProperty("prepStmtCacheSize", "250");
+            tuned.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
+            tuned.addDataSourceProperty("useLocalSessionState", "true");
+            tuned.addDataSourceProperty("cacheResultSetMetadata", "true");
+            tuned.addDataSourceProperty("cacheServerConfiguration", "true");
+            tuned.addDataSourceProperty("elideSetAutoCommits", "true");
+            tuned.addDataSourceProperty("maintainTimeStats", "false");
+        }
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(defaults);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS bench_zone");
+        jdbcTemplate.execute("CREATE TABLE bench_zone (id BIGINT PRIMARY KEY, name VARCHAR(100), crop_stage VARCHAR(50))");
+        List<Object[]> rows = new ArrayList<>(ROWS);
+        for (long id = 1; id <= ROWS; id++) {
+            rows.add(new Object[]{id, "Zone " + id, "SEEDLING"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO bench_zone (id, name, crop_stage) VALUES (?, ?, ?)", rows);
+    }
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(defaults).execute("DROP TABLE bench_zone");
+        defaults.close();
+        tuned.close();
+    }
+
+    @Test
+    void compareDefaultAndTunedSettings() throws Exception {
+        long defaultReadNanos = Long.MAX_VALUE;
+        long tunedReadNanos = Long.MAX_VALUE;
+        long defaultUpdateNanos = Long.MAX_VALUE;
+        long tunedUpdateNanos = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            defaultReadNanos = Math.min(defaultReadNanos, concurrentReads(defaults));
+            tunedReadNanos = Math.min(tunedReadNanos, concurrentReads(tuned));
+            defaultUpdateNanos = Math.min(defaultUpdateNanos, updates(defaults, 1, "VEGETATIVE"));
+            tunedUpdateNanos = Math.min(tunedUpdateNanos, updates(tuned, BATCH_SIZE, "FLOWERING"));
+        }
+
+        long reads = (long) clients * READS_PER_CLIENT;
+        System.out.printf("Point reads, %d clients: pool of %d %.0f reads/s, pool of %d %.0f reads/s%n",
+                clients, defaults.getMaximumPoolSize(), reads / (defaultReadNanos / 1e9),
+                tuned.getMaximumPoolSize(), reads / (tunedReadNanos / 1e9));
+        System.out.printf("Updates of %d rows: one by one %.0f rows/s, batches of %d %.0f rows/s%n",
+                ROWS, ROWS / (defaultUpdateNanos / 1e9), BATCH_SIZE, ROWS / (tunedUpdateNanos / 1e9));
+        Integer flowering = new JdbcTemplate(defaults).queryForObject(
+                "SELECT COUNT(*) FROM bench_zone WHERE crop_stage = 'FLOWERING'", Integer.class);
+        assertThat(flowering).isEqualTo(ROWS);
+    }
+
+    // Helper method to time every client reading random zones by ID through the pool
+    private long concurrentReads(HikariDataSource dataSource) throws Exception {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        try {
+            long start = System.nanoTime();
+            List<Future<?>> results = new ArrayList<>(clients);
+            for (int client = 0; client < clients; client++) {
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < READS_PER_CLIENT; i++) {
+                        long id = ThreadLocalRandom.current().nextLong(1, ROWS + 1);
+                        jdbcTemplate.queryForObject("SELECT name FROM bench_zone WHERE id = ?", String.class, id);
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+            return System.nanoTime() - start;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // Helper method to time updating every row in one transaction, batchSize statements per round trip
+    private long updates(HikariDataSource dataSource, int batchSize, String cropStage) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Object[]> batch = new ArrayList<>(batchSize);
+            for (long id = 1; id <= ROWS; id++) {
+                batch.add(new Object[]{cropStage, id});
+                if (batch.size() == batchSize) {
+                    flush(jdbcTemplate, batch);
+                }
+            }
+            flush(jdbcTemplate, batch);
+        });
+        return System.nanoTime() - start;
+    }
+
+    private static void flush(JdbcTemplate jdbcTemplate, List<Object[]> batch) {
+        if (batch.size() == 1) {
+            jdbcTemplate.update("UPDATE bench_zone SET crop_stage = ? WHERE id = ?", batch.get(0));
+        } else if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE bench_zone SET crop_stage = ? WHERE id = ?", batch);
+        }
+        batch.clear();
+    }
+
+    private HikariDataSource pool(String name) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(System.getProperty("benchmark.username", "sa"));
+        dataSource.setPassword(System.getProperty("benchmark.password", ""));
+        return dataSource;
+    }
+}
@@ -0,0 +1,114 @@
+package com.nitroxen.demo.benchmark;
+
+import com.nitroxen.demo.telemetry.Metric;
+import com.nitroxen.demo.telemetry.SourceType;
+import com.nitroxen.demo.telemetry.TelemetryBatch;
+import com.nitroxen.demo.telemetry.TelemetryPipeline;
+import com.nitroxen.demo.telemetry.store.CompactionResult;
+import com.nitroxen.demo.telemetry.store.IoThrottle;
+import com.nitroxen.demo.telemetry.store.SeriesKey;
+import com.nitroxen.demo.telemetry.store.TimeSeriesStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Ingestion throughput with and without a concurrent, throttled compaction of 30 days of expired readings.
+ * Run with: mvn test -Pbenchmark -Dtest=TelemetryCompactionBenchmarkTest
+ */
+@Tag("benchmark")
+public class TelemetryCompactionBenchmarkTest {
+
+    private static final long DAY = 86_400_000L;
+    private static final int ZONES = 200;
+    private static final int BATCHES = 2_000;
+    private static final int READINGS_PER_BATCH = 500;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void ingestionDuringCompaction() throws Exception {
+        TimeSeriesStore store = new TimeSeriesStore(directory.toString(), 8 << 20, 1024, new SimpleMeterRegistry());
+        store.open();
+        long now = System.currentTimeMillis();
+        long oldStart = now - 60 * DAY;
+        // One reading per zone and metric every 10 s for 30 days, all past retention
+        TelemetryBatch history = new TelemetryBatch(ZONES * Metric.values().length);
+        for (long t = oldStart; t < oldStart + 30 * DAY; t += 10_000) {
+            history.clear();
+            for (int zone = 1; zone <= ZONES; zone++) {
+                for (Metric metric : Metric.values()) {
+                    history.add(zone, metric.code(), t, 20 + zone % 7);
+                }
+            }
+            store.write(history);
+        }
+        store.sealAll();
+        int segmentsBefore = store.getSegmentCount();
+
+        double baseline = ingest(store, null);
+        AtomicReference<CompactionResult> result = new AtomicReference<>();
+        double duringCompaction = ingest(store, pipeline -> {
+            IoThrottle throttle = new IoThrottle(64L << 20,
+                    () -> pipeline.getBufferedCount() > pipeline.getBufferCapacity() / 2);
+            result.set(store.compact((key, maxTimestamp) -> maxTimestamp < now - 30 * DAY, throttle,
+                    512 << 20, now - DAY));
+        });
+
+        System.out.printf("Ingestion alone %.0f readings/s, during compaction %.0f readings/s; compaction rewrote %d of %d " +
+                        "segment(s), reclaimed %.1f MB%n", baseline, duringCompaction, result.get().segmentsRewritten(),
+                segmentsBefore, result.get().bytesReclaimed() / 1e6);
+        // Only the tail still in the active segment, which compaction never rewrites, may remain
+        assertThat(store.scan(SeriesKey.of(SourceType.ZONE, 1, Metric.EC), oldStart, oldStart + 30 * DAY, (t, v) -> { }))
+                .isLessThan(30 * 8_640 / 10);
+        store.close();
+    }
+
+    private double ingest(TimeSeriesStore store, CompactionTask compaction) throws Exception {
+        TelemetryPipeline pipeline = new TelemetryPipeline(List.of(store), new SimpleMeterRegistry(), 262_144, 16_384, 200);
+        pipeline.start();
+        Thread compactor = null;
+        if (compaction != null) {
+            compactor = new Thread(() -> {
+                try {
+                    compaction.run(pipeline);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            compactor.setPriority(Thread.MIN_PRIORITY);
+            compactor.start();
+        }
+        long start = System.nanoTime();
+        TelemetryBatch batch = new TelemetryBatch(READINGS_PER_BATCH);
+        long timestamp = System.currentTimeMillis();
+        for (int b = 0; b < BATCHES; b++) {
+            batch.clear();
+            for (int i = 0; i < READINGS_PER_BATCH; i++) {
+                batch.add(i % ZONES + 1, (byte) (i % Metric.values().length), timestamp + b * 1_000L, 20 + (b % 60) * 0.05);
+            }
+            while (!pipeline.offer(batch)) {
+                Thread.onSpinWait();
+            }
+        }
+        pipeline.shutdown();
+        double throughput = (double) BATCHES * READINGS_PER_BATCH / ((System.nanoTime() - start) / 1e9);
+        if (compactor != null) {
+            compactor.join();
+        }
+        return throughput;
+    }
+
+    @FunctionalInterface
+    private interface CompactionTask {
+        void run(TelemetryPipeline pipeline) throws Exception;
+    }
+}
@@ -0,0 +1,100 @@
+package com.nitroxen.demo.benchmark;
+
+import com.nitroxen.demo.telemetry.Metric;
+import com.nitroxen.demo.telemetry.SourceType;
+import com.nitroxen.demo.telemetry.TelemetryBatch;
+import com.nitroxen.demo.telemetry.TelemetryPipeline;
+import com.nitroxen.demo.telemetry.TelemetrySink;
+import com.nitroxen.demo.telemetry.store.SeriesKey;
+import com.nitroxen.demo.telemetry.store.TimeSeriesStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures sustained ingestion from concurrent producers through the ring buffer into the time-series store.
+ * Run with: mvn test -Pbenchmark -Dtest=TelemetryIngestBenchmarkTest
+ */
+@Tag("benchmark")
+public class TelemetryIngestBenchmarkTest {
+
+    private static final int PRODUCERS = 4;
+    private static final int BATCHES_PER_PRODUCER = 500;
+    private static final int READINGS_PER_BATCH = 500;
+    private static final int ZONES = 2_000;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void sustainedIngestionThroughput() throws Exception {
+        // Ring buffer and flusher alone, with a sink that only counts
+        AtomicLong counted = new AtomicLong();
+        run("counting sink", batch -> counted.addAndGet(batch.size()));
+        assertThat(counted.get()).isEqualTo((long) PRODUCERS * BATCHES_PER_PRODUCER * READINGS_PER_BATCH);
+
+        TimeSeriesStore store = new TimeSeriesStore(directory.toString(), 64 << 20, 1024, new SimpleMeterRegistry());
+        store.open();
+        run("time-series store", store);
+        store.close();
+        long stored = 0;
+        for (long zoneId = 1; zoneId <= ZONES; zoneId++) {
+            for (Metric metric : Metric.values()) {
+                stored += store.scan(SeriesKey.of(SourceType.ZONE, zoneId, metric), 0, Long.MAX_VALUE, (t, v) -> { });
+            }
+        }
+        System.out.printf("Stored %d readings in %.1f MB (%.2f bytes per reading)%n",
+                stored, store.getStoredBytes() / 1e6, (double) store.getStoredBytes() / stored);
+        assertThat(stored).isEqualTo((long) PRODUCERS * BATCHES_PER_PRODUCER * READINGS_PER_BATCH);
+    }
+
+    private void run(String label, TelemetrySink sink) throws InterruptedException {
+        TelemetryPipeline pipeline = new TelemetryPipeline(List.of(sink),
+                new SimpleMeterRegistry(), 262_144, 16_384, 200);
+        pipeline.start();
+        AtomicLong rejected = new AtomicLong();
+
+        long start = System.nanoTime();
+        List<Thread> producers = new ArrayList<>();
+        for (int p = 0; p < PRODUCERS; p++) {
+            int producer = p;
+            Thread thread = new Thread(() -> {
+                TelemetryBatch batch = new TelemetryBatch(READINGS_PER_BATCH);
+                long timestamp = System.currentTimeMillis();
+                for (int b = 0; b < BATCHES_PER_PRODUCER; b++) {
+                    batch.clear();
+                    for (int i = 0; i < READINGS_PER_BATCH; i++) {
+                        batch.add((producer * 31L + i) % ZONES + 1, (byte) (i % Metric.values().length),
+                                timestamp + b * 1_000L, 20 + i % 10 + (b % 60) * 0.05);
+                    }
+                    // A real client backs off on 429; here we spin until the flusher frees space
+                    while (!pipeline.offer(batch)) {
+                        rejected.incrementAndGet();
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+            thread.start();
+            producers.add(thread);
+        }
+        for (Thread thread : producers) {
+            thread.join();
+        }
+        long offeredNanos = System.nanoTime() - start;
+        pipeline.shutdown();
+        long totalNanos = System.nanoTime() - start;
+
+        long expected = (long) PRODUCERS * BATCHES_PER_PRODUCER * READINGS_PER_BATCH;
+        System.out.printf("Telemetry ingestion of %d readings into %s: accepted at %.0f readings/s, " +
+                        "stored at %.0f readings/s (%d full-buffer retries)%n",
+                expected, label, expected / (offeredNanos / 1e9), expected / (totalNanos / 1e9), rejected.get());
+    }
+}
@@ -0,0 +1,87 @@
+package com.nitroxen.demo.benchmark;
+
+import com.nitroxen.demo.telemetry.Aggregation;
+import com.nitroxen.demo.telemetry.Metric;
+import com.nitroxen.demo.telemetry.SourceType;
+import com.nitroxen.demo.telemetry.StepSeries;
+import com.nitroxen.demo.telemetry.TelemetryBatch;
+import com.nitroxen.demo.telemetry.TelemetryQueryEngine;
+import com.nitroxen.demo.telemetry.rollup.RollupStore;
+import com.nitroxen.demo.telemetry.store.SeriesKey;
+import com.nitroxen.demo.telemetry.store.TimeSeriesStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Month-long hourly chart of one zone metric recorded every second: raw scan versus hour rollups.
+ * Run with: mvn test -Pbenchmark -Dtest=TelemetryRollupBenchmarkTest
+ */
+@Tag("benchmark")
+public class TelemetryRollupBenchmarkTest {
+
+    private static final long DAY = 86_400_000L;
+    private static final long HOUR = 3_600_000L;
+    private static final long START = 20_000 * DAY;
+    private static final int DAYS = 30;
+    private static final int ROUNDS = 5;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void compareRawScanWithRollups() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        TimeSeriesStore store = new TimeSeriesStore(directory.resolve("raw").toString(), 64 << 20, 1024, registry);
+        RollupStore rollups = new RollupStore(directory.resolve("rollups").toString(), 64 << 20, registry);
+        store.open();
+        rollups.open();
+
+        Random random = new Random(3);
+        TelemetryBatch batch = new TelemetryBatch(86_400);
+        double value = 24;
+        for (int day = 0; day < DAYS; day++) {
+            batch.clear();
+            for (int second = 0; second < 86_400; second++) {
+                value += random.nextGaussian() * 0.01;
+                batch.add(1, Metric.TEMPERATURE.code(), START + day * DAY + second * 1_000L, Math.round(value * 100) / 100.0);
+            }
+            store.write(batch);
+            rollups.write(batch);
+        }
+
+        long key = SeriesKey.of(SourceType.ZONE, 1, Metric.TEMPERATURE);
+        long from = START;
+        long to = START + DAYS * DAY;
+        TelemetryQueryEngine engine = new TelemetryQueryEngine(store, rollups, 1);
+        long rawNanos = Long.MAX_VALUE;
+        long rollupNanos = Long.MAX_VALUE;
+        StepSeries raw = null;
+        StepSeries rolledUp = null;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            raw = new StepSeries(from, to, HOUR);
+            store.scan(key, from, to, raw::add);
+            rawNanos = Math.min(rawNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            rolledUp = engine.query(key, from, to, HOUR);
+            rollupNanos = Math.min(rollupNanos, System.nanoTime() - start);
+        }
+
+        System.out.printf("Hourly chart over %d days of 1 Hz readings: raw scan %.2f ms, hour rollups %.3f ms%n",
+                DAYS, rawNanos / 1e6, rollupNanos / 1e6);
+        for (int i = 0; i < raw.size(); i++) {
+            assertThat(rolledUp.value(i, Aggregation.COUNT)).isEqualTo(raw.value(i, Aggregation.COUNT));
+            assertThat(rolledUp.value(i, Aggregation.MAX)).isEqualTo(raw.value(i, Aggregation.MAX));
+        }
+        store.close();
+        rollups.close();
+    }
+}
@@ -0,0 +1,128 @@
+package com.nitroxen.demo.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nitroxen.demo.config.TelemetrySeriesMessageConverter;
+import com.nitroxen.demo.dto.response.TelemetrySeriesResponse;
+import com.nitroxen.demo.dto.response.TelemetrySeriesValuesResponse;
+import com.nitroxen.demo.telemetry.Aggregation;
+import com.nitroxen.demo.telemetry.Metric;
+import com.nitroxen.demo.telemetry.SourceType;
+import com.nitroxen.demo.telemetry.StepSeries;
+import com.nitroxen.demo.telemetry.TelemetryBatch;
+import com.nitroxen.demo.telemetry.TelemetryQueryEngine;
+import com.nitroxen.demo.telemetry.rollup.RollupStore;
+import com.nitroxen.demo.telemetry.store.SeriesKey;
+import com.nitroxen.demo.telemetry.store.TimeSeriesStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Year-long hourly chart of many zones: sequential versus fork-join querying, and JSON versus
+ * packed binary payload size.
+ * Run with: mvn test -Pbenchmark -Dtest=TelemetrySeriesQueryBenchmarkTest
+ */
+@Tag("benchmark")
+public class TelemetrySeriesQueryBenchmarkTest {
+
+    private static final long DAY = 86_400_000L;
+    private static final long HOUR = 3_600_000L;
+    private static final long START = 20_000 * DAY;
+    private static final int ZONES = 32;
+    private static final int DAYS = 365;
+    private static final long INTERVAL = 300_000L;
+    private static final int ROUNDS = 5;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void compareSequentialWithParallelAndJsonWithBinary() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        TimeSeriesStore store = new TimeSeriesStore(directory.resolve("raw").toString(), 64 << 20, 1024, registry);
+        RollupStore rollups = new RollupStore(directory.resolve("rollups").toString(), 256 << 20, registry);
+        store.open();
+        rollups.open();
+
+        Random random = new Random(5);
+        int perDay = (int) (DAY / INTERVAL);
+        TelemetryBatch batch = new TelemetryBatch(ZONES * perDay);
+        double[] values = new double[ZONES];
+        Arrays.fill(values, 24);
+        for (int day = 0; day < DAYS; day++) {
+            batch.clear();
+            for (int reading = 0; reading < perDay; reading++) {
+                for (int zone = 0; zone < ZONES; zone++) {
+                    values[zone] += random.nextGaussian() * 0.05;
+                    batch.add(zone + 1, Metric.TEMPERATURE.code(), START + day * DAY + reading * INTERVAL,
+                            Math.round(values[zone] * 100) / 100.0);
+                }
+            }
+            rollups.write(batch);
+        }
+
+        long[] keys = new long[ZONES];
+        for (int zone = 0; zone < ZONES; zone++) {
+            keys[zone] = SeriesKey.of(SourceType.ZONE, zone + 1, Metric.TEMPERATURE);
+        }
+        long from = START;
+        long to = START + DAYS * DAY;
+        TelemetryQueryEngine sequential = new TelemetryQueryEngine(store, rollups, 1);
+        TelemetryQueryEngine parallel = new TelemetryQueryEngine(store, rollups, 4);
+        long sequentialNanos = Long.MAX_VALUE;
+        long parallelNanos = Long.MAX_VALUE;
+        StepSeries[] result = null;
+        for (int round = 0; round < ROUNDS * 2; round++) {
+            // Each query allocates megabytes of step arrays: collect first so neither engine pays for the other's garbage
+            TelemetryQueryEngine engine = round % 2 == 0 ? sequential : parallel;
+            result = null;
+            System.gc();
+            long start = System.nanoTime();
+            result = engine.queryAll(keys, from, to, HOUR);
+            long elapsed = System.nanoTime() - start;
+            if (engine == sequential) {
+                sequentialNanos = Math.min(sequentialNanos, elapsed);
+            } else {
+                parallelNanos = Math.min(parallelNanos, elapsed);
+            }
+        }
+
+        List<TelemetrySeriesValuesResponse> series = new ArrayList<>();
+        for (int zone = 0; zone < ZONES; zone++) {
+            Double[] averages = new Double[result[zone].size()];
+            for (int i = 0; i < averages.length; i++) {
+                averages[i] = result[zone].value(i, Aggregation.AVG);
+            }
+            series.add(TelemetrySeriesValuesResponse.builder().sourceId(zone + 1).values(averages).build());
+        }
+        TelemetrySeriesResponse response = TelemetrySeriesResponse.builder()
+                .metric(Metric.TEMPERATURE).aggregation(Aggregation.AVG)
+                .from(from).to(to).step(HOUR).steps(result[0].size())
+                .series(series)
+                .build();
+        int jsonBytes = new ObjectMapper().writeValueAsBytes(response).length;
+        int binaryBytes = TelemetrySeriesMessageConverter.encode(response).length;
+        // What a naive API would send: one {"timestamp":..,"value":..} object per point
+        int pointJsonBytes = ZONES * result[0].size() * "{\"timestamp\":1728000000000,\"value\":24.123456789012},".length();
+
+        System.out.printf("Hourly AVG of %d zones over %d days on %d core(s): sequential %.2f ms, fork-join %.2f ms%n",
+                ZONES, DAYS, Runtime.getRuntime().availableProcessors(), sequentialNanos / 1e6, parallelNanos / 1e6);
+        System.out.printf("Payload: point JSON ~%d KiB, columnar JSON %d KiB, binary %d KiB%n",
+                pointJsonBytes >> 10, jsonBytes >> 10, binaryBytes >> 10);
+        assertThat(result[0].value(0, Aggregation.COUNT)).isEqualTo(HOUR / INTERVAL);
+        assertThat(binaryBytes * 4).isLessThan(jsonBytes);
+        sequential.shutdown();
+        parallel.shutdown();
+        store.close();
+        rollups.close();
+    }
+}
@@ -0,0 +1,115 @@
+package com.nitroxen.demo.billing;
+
+import com.nitroxen.demo.entity.BillingLedgerEntry;
+import com.nitroxen.demo.entity.RevenueDaily;
+import com.nitroxen.demo.entity.RevenueMonthly;
+import com.nitroxen.demo.entity.User;
+import com.nitroxen.demo.enums.BillingChargeType;
+import com.nitroxen.demo.exception.ResourceNotFoundException;
+import com.nitroxen.demo.repository.BillingLedgerRepository;
+import com.nitroxen.demo.repository.RevenueDailyRepository;
+import com.nitroxen.demo.repository.RevenueMonthlyRepository;
+import com.nitroxen.demo.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RevenueLedgerTest {
+
+    @Mock
+    private BillingLedgerRepository billingLedgerRepository;
+
+    @Mock
+    private RevenueDailyRepository revenueDailyRepository;
+
+    @Mock
+    private RevenueMonthlyRepository revenueMonthlyRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private RevenueLedger revenueLedger;
+
+    @Test
+    void record_FirstEntryOfDayAndMonth_InsertsAggregateRows() {
+        // Arrange
+        when(userRepository.findLockedById(3L)).thenReturn(Optional.of(User.builder().id(3L).build()));
+        when(billingLedgerRepository.save(any(BillingLedgerEntry.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(revenueDailyRepository.addEntry(eq(3L), any(), any(), any())).thenReturn(0);
+        when(revenueMonthlyRepository.addEntry(eq(3L), any(), any(), any())).thenReturn(0);
+
+        // Act
+        List<BillingLedgerEntry> recorded = revenueLedger.record(3L, List.of(entry("2026-10:FARM:7", "20.00")));
+
+        // Assert
+        assertThat(recorded).hasSize(1);
+        LocalDate today = LocalDate.now();
+        assertThat(recorded.get(0).getRecordedOn()).isEqualTo(today);
+        ArgumentCaptor<RevenueDaily> daily = ArgumentCaptor.forClass(RevenueDaily.class);
+        verify(revenueDailyRepository).save(daily.capture());
+        assertThat(daily.getValue().getRevenueDate()).isEqualTo(today);
+        assertThat(daily.getValue().getAmount()).isEqualByComparingTo("20.00");
+        assertThat(daily.getValue().getEntryCount()).isEqualTo(1L);
+        ArgumentCaptor<RevenueMonthly> monthly = ArgumentCaptor.forClass(RevenueMonthly.class);
+        verify(revenueMonthlyRepository).save(monthly.capture());
+        assertThat(monthly.getValue().getRevenueMonth()).isEqualTo(today.withDayOfMonth(1));
+    }
+
+    @Test
+    void record_ExistingAggregatesAndDuplicateReference_IncrementsAndSkips() {
+        // Arrange
+        when(userRepository.findLockedById(3L)).thenReturn(Optional.of(User.builder().id(3L).build()));
+        when(billingLedgerRepository.existsByReference("2026-10:FARM:7")).thenReturn(true);
+        when(billingLedgerRepository.existsByReference("2026-10:AREA:7")).thenReturn(false);
+        when(billingLedgerRepository.save(any(BillingLedgerEntry.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(revenueDailyRepository.addEntry(eq(3L), any(), any(), any())).thenReturn(1);
+        when(revenueMonthlyRepository.addEntry(eq(3L), any(), any(), any())).thenReturn(1);
+
+        // Act
+        List<BillingLedgerEntry> recorded = revenueLedger.record(3L,
+                List.of(entry("2026-10:FARM:7", "20.00"), entry("2026-10:AREA:7", "125.00")));
+
+        // Assert
+        assertThat(recorded).extracting(BillingLedgerEntry::getReference).containsExactly("2026-10:AREA:7");
+        verify(revenueDailyRepository).addEntry(eq(3L), eq(LocalDate.now()), eq(new BigDecimal("125.00")), any());
+        verify(revenueDailyRepository, never()).save(any());
+        verify(revenueMonthlyRepository, never()).save(any());
+    }
+
+    @Test
+    void record_UnknownOwner_ThrowsResourceNotFound() {
+        // Arrange
+        when(userRepository.findLockedById(9L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> revenueLedger.record(9L, List.of(entry(null, "5.00"))));
+        verifyNoInteractions(billingLedgerRepository);
+    }
+
+    private BillingLedgerEntry entry(String reference, String amount) {
+        return BillingLedgerEntry.builder()
+                .chargeType(BillingChargeType.FARM)
+                .quantity(1.0)
+                .unitPrice(new BigDecimal(amount))
+                .amount(new BigDecimal(amount))
+                .billingPeriod(LocalDate.of(2026, 10, 1))
+                .reference(reference)
+                .build();
+    }
+}
@@ -0,0 +1,35 @@
+package com.nitroxen.demo.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConnectionPoolSizerTest {
+
+    @Test
+    void poolSize_ScalesWithCoresWithinBounds() {
+        // Act & Assert
+        assertThat(ConnectionPoolSizer.poolSize(4, 2, 1, 50)).isEqualTo(9);
+        assertThat(ConnectionPoolSizer.poolSize(64, 2, 1, 50)).isEqualTo(50);
+        assertThat(ConnectionPoolSizer.poolSize(1, 0, 0, 50)).isEqualTo(2);
+    }
+
+    @Test
+    void postProcess_MakesHikariPoolsFixedSize() {
+        // Arrange
+        ConnectionPoolSizer sizer = new ConnectionPoolSizer(2, 1, 50);
+        int expected = ConnectionPoolSizer.poolSize(Runtime.getRuntime().availableProcessors(), 2, 1, 50);
+        HikariDataSource dataSource = new HikariDataSource();
+
+        // Act
+        Object processed = sizer.postProcessAfterInitialization(dataSource, "dataSource");
+        Object other = sizer.postProcessAfterInitialization("not a pool", "other");
+
+        // Assert
+        assertThat(processed).isSameAs(dataSource);
+        assertThat(dataSource.getMaximumPoolSize()).isEqualTo(expected);
+        assertThat(dataSource.getMinimumIdle()).isEqualTo(expected);
+        assertThat(other).isEqualTo("not a pool");
+    }
+}
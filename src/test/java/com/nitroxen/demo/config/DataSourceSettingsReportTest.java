@@ -0,0 +1,33 @@
+package com.nitroxen.demo.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DataSourceSettingsReportTest {
+
+    @Test
+    void describe_ReportsPoolAndMasksPasswords() {
+        // Arrange
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("primary");
+        dataSource.setJdbcUrl("jdbc:mysql://db:3306/agriwealth_db?user=app&password=secret&rewriteBatchedStatements=true");
+        dataSource.addDataSourceProperty("cachePrepStmts", "true");
+        dataSource.addDataSourceProperty("trustCertificateKeyStorePassword", "secret");
+
+        // Act
+        String pool = DataSourceSettingsReport.describe(dataSource);
+        String hibernate = DataSourceSettingsReport.describe(Map.of("hibernate.jdbc.batch_size", "50",
+                "hibernate.order_inserts", "true"));
+
+        // Assert
+        assertThat(pool).startsWith("Pool primary:")
+                .contains("password=****&rewriteBatchedStatements=true")
+                .contains("cachePrepStmts=true")
+                .doesNotContain("secret");
+        assertThat(hibernate).contains("jdbc.batch_size=50", "order_inserts=true", "order_updates=default");
+    }
+}
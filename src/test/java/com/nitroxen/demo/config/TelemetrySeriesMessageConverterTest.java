@@ -0,0 +1,69 @@
+package com.nitroxen.demo.config;
+
+import com.nitroxen.demo.dto.response.TelemetrySeriesResponse;
+import com.nitroxen.demo.dto.response.TelemetrySeriesValuesResponse;
+import com.nitroxen.demo.telemetry.Aggregation;
+import com.nitroxen.demo.telemetry.Metric;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TelemetrySeriesMessageConverterTest {
+
+    private final TelemetrySeriesMessageConverter converter = new TelemetrySeriesMessageConverter();
+
+    @Test
+    void write_Series_PacksLittleEndianColumns() throws Exception {
+        // Arrange
+        TelemetrySeriesResponse response = TelemetrySeriesResponse.builder()
+                .metric(Metric.PH)
+                .aggregation(Aggregation.MAX)
+                .from(1_000L)
+                .to(4_000L)
+                .step(1_000L)
+                .steps(3)
+                .series(List.of(
+                        TelemetrySeriesValuesResponse.builder().sourceId(7L).values(new Double[]{6.5, null, 6.25}).build(),
+                        TelemetrySeriesValuesResponse.builder().sourceId(9L).values(new Double[]{null, 5.5, null}).build()))
+                .build();
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        // Act
+        converter.write(response, TelemetrySeriesMessageConverter.MEDIA_TYPE, output);
+
+        // Assert
+        byte[] body = output.getBodyAsBytes();
+        assertThat(body).hasSize(TelemetrySeriesMessageConverter.HEADER_BYTES + 2 * (8 + 3 * 4));
+        assertThat(output.getHeaders().getContentLength()).isEqualTo(body.length);
+        assertThat(new String(body, 0, 4)).isEqualTo("AWTS");
+        ByteBuffer buffer = ByteBuffer.wrap(body).order(ByteOrder.LITTLE_ENDIAN);
+        assertThat(buffer.get(4)).isEqualTo(TelemetrySeriesMessageConverter.VERSION);
+        assertThat(buffer.get(5)).isEqualTo(Metric.PH.code());
+        assertThat(buffer.get(6)).isEqualTo((byte) Aggregation.MAX.ordinal());
+        assertThat(buffer.getLong(8)).isEqualTo(1_000L);
+        assertThat(buffer.getLong(16)).isEqualTo(4_000L);
+        assertThat(buffer.getLong(24)).isEqualTo(1_000L);
+        assertThat(buffer.getInt(32)).isEqualTo(3);
+        assertThat(buffer.getInt(36)).isEqualTo(2);
+        assertThat(buffer.getLong(40)).isEqualTo(7L);
+        assertThat(buffer.getLong(48)).isEqualTo(9L);
+        assertThat(buffer.getFloat(56)).isEqualTo(6.5f);
+        assertThat(buffer.getFloat(60)).isNaN();
+        assertThat(buffer.getFloat(64)).isEqualTo(6.25f);
+        assertThat(buffer.getFloat(72)).isEqualTo(5.5f);
+    }
+
+    @Test
+    void canWrite_OnlySeriesInBinaryMediaType() {
+        assertThat(converter.canWrite(TelemetrySeriesResponse.class, TelemetrySeriesMessageConverter.MEDIA_TYPE)).isTrue();
+        assertThat(converter.canWrite(TelemetrySeriesResponse.class, MediaType.APPLICATION_JSON)).isFalse();
+        assertThat(converter.canWrite(String.class, TelemetrySeriesMessageConverter.MEDIA_TYPE)).isFalse();
+        assertThat(converter.canRead(TelemetrySeriesResponse.class, TelemetrySeriesMessageConverter.MEDIA_TYPE)).isFalse();
+    }
+}
@@ -1,9 +1,11 @@
 package com.nitroxen.demo.controller;
 
 import com.nitroxen.demo.dto.request.CreateUserRequest;
+import com.nitroxen.demo.dto.response.RevenueResponse;
 import com.nitroxen.demo.dto.response.UserResponse;
 import com.nitroxen.demo.entity.User;
 import com.nitroxen.demo.enums.Role;
+import com.nitroxen.demo.service.RevenueService;
 import com.nitroxen.demo.service.UserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,7 +17,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -29,6 +33,9 @@ public class AdminControllerTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private RevenueService revenueService;
+
     @Mock
     private Authentication authentication;
 
@@ -107,6 +114,37 @@ public class AdminControllerTest {
         assertThat(response.getBody().get(0)).isEqualTo(userResponse);
     }
 
-    // Note: Not testing getOwnerById and getRevenueTracking as they are placeholders
-    // and don't contain actual implementation yet
+    @Test
+    void getRevenueTracking_Month_ReturnsRevenue() {
+        // Arrange
+        YearMonth month = YearMonth.of(2026, 10);
+        RevenueResponse revenue = RevenueResponse.builder()
+                .month(month)
+                .total(new BigDecimal("285.00"))
+                .owners(List.of())
+                .build();
+        when(revenueService.getRevenue(month)).thenReturn(revenue);
+
+        // Act
+        ResponseEntity<RevenueResponse> response = adminController.getRevenueTracking(month);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(revenue);
+    }
+
+    @Test
+    void getRevenueTracking_NoMonth_DefaultsToCurrentMonth() {
+        // Arrange
+        when(revenueService.getRevenue(YearMonth.now())).thenReturn(new RevenueResponse());
+
+        // Act
+        ResponseEntity<RevenueResponse> response = adminController.getRevenueTracking(null);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    // Note: Not testing getOwnerById as it is a placeholder
+    // and doesn't contain actual implementation yet
 }
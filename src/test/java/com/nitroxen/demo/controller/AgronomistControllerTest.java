@@ -2,6 +2,7 @@ package com.nitroxen.demo.controller;
 
 import com.nitroxen.demo.dto.entity.AgronomistDTO;
 import com.nitroxen.demo.dto.entity.AgronomistReportDTO;
+import com.nitroxen.demo.dto.entity.AgronomistSearchPageDTO;
 import com.nitroxen.demo.service.AgronomistService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -144,16 +145,23 @@ public class AgronomistControllerTest {
     void searchAgronomists_Success() {
         // Arrange
         String keyword = "Test";
-        List<AgronomistDTO> agronomists = List.of(agronomistDTO);
-        when(agronomistService.searchAgronomists(keyword)).thenReturn(agronomists);
+        AgronomistSearchPageDTO searchPage = AgronomistSearchPageDTO.builder()
+                .keyword(keyword)
+                .total(1)
+                .page(0)
+                .size(20)
+                .results(List.of(agronomistDTO))
+                .build();
+        when(agronomistService.searchAgronomists(keyword, 0, 20)).thenReturn(searchPage);
 
         // Act
-        ResponseEntity<List<AgronomistDTO>> response = agronomistController.searchAgronomists(keyword);
+        ResponseEntity<AgronomistSearchPageDTO> response = agronomistController.searchAgronomists(keyword, 0, 20);
 
         // Assert
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(response.getBody()).hasSize(1);
-        verify(agronomistService, times(1)).searchAgronomists(keyword);
+        assertThat(response.getBody().getResults()).hasSize(1);
+        assertThat(response.getBody().getTotal()).isEqualTo(1);
+        verify(agronomistService, times(1)).searchAgronomists(keyword, 0, 20);
     }
 
     @Test
@@ -1,6 +1,8 @@
 package com.nitroxen.demo.controller;
 
+import com.nitroxen.demo.dto.request.BroadcastRequest;
 import com.nitroxen.demo.dto.request.CreateUserRequest;
+import com.nitroxen.demo.dto.response.BroadcastResponse;
 import com.nitroxen.demo.dto.response.FarmResponse;
 import com.nitroxen.demo.dto.response.PolyhouseResponse;
 import com.nitroxen.demo.dto.response.ReservoirResponse;
@@ -8,6 +10,7 @@ import com.nitroxen.demo.dto.response.UserResponse;
 import com.nitroxen.demo.dto.response.ZoneResponse;
 import com.nitroxen.demo.entity.User;
 import com.nitroxen.demo.enums.Role;
+import com.nitroxen.demo.service.BroadcastService;
 import com.nitroxen.demo.service.ManagerService;
 import com.nitroxen.demo.service.UserService;
 import org.junit.jupiter.api.BeforeEach;
@@ -43,6 +46,9 @@ public class ManagerControllerTest {
     @Mock
     private ManagerService managerService;
 
+    @Mock
+    private BroadcastService broadcastService;
+
     @Mock
     private Authentication authentication;
 
@@ -174,16 +180,16 @@ public class ManagerControllerTest {
     void getAssignedWorkers_Success() {
         // Arrange
         List<UserResponse> workers = List.of(workerResponse);
-        when(userService.getUsersCreatedBy(managerId, Role.WORKER)).thenReturn(workers);
+        when(userService.getUsersCreatedBy(managerId, Role.WORKER, 0, 20)).thenReturn(workers);
 
         // Act
-        ResponseEntity<List<UserResponse>> response = managerController.getAssignedWorkers();
+        ResponseEntity<List<UserResponse>> response = managerController.getAssignedWorkers(0, 20);
 
         // Assert
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).hasSize(1);
         assertThat(response.getBody().get(0)).isEqualTo(workerResponse);
-        verify(userService, times(1)).getUsersCreatedBy(managerId, Role.WORKER);
+        verify(userService, times(1)).getUsersCreatedBy(managerId, Role.WORKER, 0, 20);
     }
 
     @Test
@@ -291,4 +297,28 @@ public class ManagerControllerTest {
         assertThat(response.getBody().get(0)).isEqualTo(reservoirResponse);
         verify(managerService, times(1)).getReservoirsByFarm(farmId, managerId);
     }
+
+    @Test
+    void createBroadcast_ReturnsAcceptedWithBroadcastId() {
+        // Arrange
+        BroadcastRequest request = BroadcastRequest.builder().message("Spraying in polyhouse 2 from 14:00").build();
+        BroadcastResponse broadcast = BroadcastResponse.builder()
+                .id(7L)
+                .farmId(farmId)
+                .recipientCount(3)
+                .pending(3)
+                .sent(0)
+                .failed(0)
+                .complete(false)
+                .build();
+        when(broadcastService.createBroadcast(farmId, request, managerId)).thenReturn(broadcast);
+
+        // Act
+        ResponseEntity<BroadcastResponse> response = managerController.createBroadcast(farmId, request);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(response.getBody().getId()).isEqualTo(7L);
+        verify(broadcastService, times(1)).createBroadcast(farmId, request, managerId);
+    }
 }
@@ -1,9 +1,11 @@
 package com.nitroxen.demo.controller;
 
 import com.nitroxen.demo.dto.request.CreateUserRequest;
+import com.nitroxen.demo.dto.response.OwnerDashboardResponse;
 import com.nitroxen.demo.dto.response.UserResponse;
 import com.nitroxen.demo.entity.User;
 import com.nitroxen.demo.enums.Role;
+import com.nitroxen.demo.service.DashboardService;
 import com.nitroxen.demo.service.UserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -31,6 +33,9 @@ public class OwnerControllerTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private DashboardService dashboardService;
+
     @Mock
     private Authentication authentication;
 
@@ -146,32 +151,32 @@ public class OwnerControllerTest {
     void getAllManagers_Success() {
         // Arrange
         List<UserResponse> managerResponses = List.of(managerResponse);
-        when(userService.getUsersCreatedBy(ownerId, Role.MANAGER)).thenReturn(managerResponses);
+        when(userService.getUsersCreatedBy(ownerId, Role.MANAGER, 0, 20)).thenReturn(managerResponses);
 
         // Act
-        ResponseEntity<List<UserResponse>> response = ownerController.getAllManagers();
+        ResponseEntity<List<UserResponse>> response = ownerController.getAllManagers(0, 20);
 
         // Assert
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).hasSize(1);
         assertThat(response.getBody().get(0).getRole()).isEqualTo(Role.MANAGER);
-        verify(userService, times(1)).getUsersCreatedBy(ownerId, Role.MANAGER);
+        verify(userService, times(1)).getUsersCreatedBy(ownerId, Role.MANAGER, 0, 20);
     }
 
     @Test
     void getAllWorkers_Success() {
         // Arrange
         List<UserResponse> workerResponses = List.of(workerResponse);
-        when(userService.getUsersCreatedBy(ownerId, Role.WORKER)).thenReturn(workerResponses);
+        when(userService.getTeamUsers(ownerId, Role.WORKER, 0, 20)).thenReturn(workerResponses);
 
         // Act
-        ResponseEntity<List<UserResponse>> response = ownerController.getAllWorkers();
+        ResponseEntity<List<UserResponse>> response = ownerController.getAllWorkers(0, 20);
 
         // Assert
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).hasSize(1);
         assertThat(response.getBody().get(0).getRole()).isEqualTo(Role.WORKER);
-        verify(userService, times(1)).getUsersCreatedBy(ownerId, Role.WORKER);
+        verify(userService, times(1)).getTeamUsers(ownerId, Role.WORKER, 0, 20);
     }
 
     @Test
@@ -201,4 +206,23 @@ public class OwnerControllerTest {
         assertThat(createWorkerRequest.getRole()).isEqualTo(Role.WORKER); // Should be overridden
         assertThat(response.getBody().getRole()).isEqualTo(Role.WORKER);
     }
+
+    @Test
+    void getDashboard_Success() {
+        // Arrange
+        OwnerDashboardResponse dashboard = OwnerDashboardResponse.builder()
+                .ownerId(ownerId)
+                .farmCount(2)
+                .totalArea(12000.0)
+                .build();
+        when(dashboardService.getOwnerDashboard(ownerId)).thenReturn(dashboard);
+
+        // Act
+        ResponseEntity<OwnerDashboardResponse> response = ownerController.getDashboard();
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isSameAs(dashboard);
+        verify(dashboardService, times(1)).getOwnerDashboard(ownerId);
+    }
 }
@@ -0,0 +1,84 @@
+package com.nitroxen.demo.dashboard;
+
+import com.nitroxen.demo.dto.response.OwnerDashboardResponse;
+import com.nitroxen.demo.enums.HierarchyChangeType;
+import com.nitroxen.demo.enums.HierarchyEntityType;
+import com.nitroxen.demo.events.HierarchyChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OwnerDashboardCacheTest {
+
+    @Test
+    void get_SecondCall_IsServedFromCache() {
+        // Arrange
+        OwnerDashboardCache cache = new OwnerDashboardCache(60_000, 100);
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        OwnerDashboardResponse first = cache.get(1, () -> dashboard(1, loads.incrementAndGet()));
+        OwnerDashboardResponse second = cache.get(1, () -> dashboard(1, loads.incrementAndGet()));
+
+        // Assert
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void onHierarchyChanged_DropsOnlyThatOwner() {
+        // Arrange
+        OwnerDashboardCache cache = new OwnerDashboardCache(60_000, 100);
+        cache.get(1, () -> dashboard(1, 1));
+        OwnerDashboardResponse other = cache.get(2, () -> dashboard(2, 1));
+
+        // Act
+        cache.onHierarchyChanged(new HierarchyChangedEvent(10, HierarchyEntityType.ZONE, 5, HierarchyChangeType.UPDATED,
+                7, 1, LocalDateTime.now()));
+
+        // Assert
+        assertThat(cache.get(1, () -> dashboard(1, 2)).getFarmCount()).isEqualTo(2);
+        assertThat(cache.get(2, () -> dashboard(2, 2))).isSameAs(other);
+    }
+
+    @Test
+    void get_EvictedWhileLoading_DoesNotStoreStaleDashboard() {
+        // Arrange
+        OwnerDashboardCache cache = new OwnerDashboardCache(60_000, 100);
+
+        // Act
+        OwnerDashboardResponse stale = cache.get(1, () -> {
+            // A hierarchy change is delivered while the dashboard is being built
+            cache.evictOwner(1);
+            return dashboard(1, 1);
+        });
+
+        // Assert
+        assertThat(stale.getFarmCount()).isEqualTo(1);
+        assertThat(cache.getCachedCount()).isZero();
+        assertThat(cache.get(1, () -> dashboard(1, 2)).getFarmCount()).isEqualTo(2);
+    }
+
+    @Test
+    void get_ExpiredEntry_IsReloaded() {
+        // Arrange
+        OwnerDashboardCache cache = new OwnerDashboardCache(-1, 100);
+        cache.get(1, () -> dashboard(1, 1));
+
+        // Act
+        OwnerDashboardResponse reloaded = cache.get(1, () -> dashboard(1, 2));
+
+        // Assert
+        assertThat(reloaded.getFarmCount()).isEqualTo(2);
+    }
+
+    private static OwnerDashboardResponse dashboard(long ownerId, int farmCount) {
+        return OwnerDashboardResponse.builder()
+                .ownerId(ownerId)
+                .farmCount(farmCount)
+                .build();
+    }
+}
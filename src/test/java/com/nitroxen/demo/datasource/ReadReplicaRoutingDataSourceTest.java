@@ -0,0 +1,152 @@
+package com.nitroxen.demo.datasource;
+
+import com.nitroxen.demo.entity.User;
+import com.nitroxen.demo.enums.Role;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ReadReplicaRoutingDataSourceTest {
+
+    private static final long STICKY_MILLIS = 5000;
+
+    private DriverManagerDataSource primary;
+    private FlakyDataSource replica;
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+    private ReadReplicaRoutingDataSource routing;
+    private JdbcTemplate jdbcTemplate;
+    private DataSourceTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("primary");
+        replica = new FlakyDataSource(h2("replica"));
+        routing = new ReadReplicaRoutingDataSource(primary, replica, new SimpleMeterRegistry(), STICKY_MILLIS, 1,
+                clock::get);
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        new JdbcTemplate(primary).execute("SHUTDOWN");
+        new JdbcTemplate(replica.getTargetDataSource()).execute("SHUTDOWN");
+    }
+
+    @Test
+    void readOnlyTransactions_UseReplica_OthersUsePrimary() {
+        // Act & Assert
+        assertThat(nodeInTransaction(true)).isEqualTo("replica");
+        assertThat(nodeInTransaction(false)).isEqualTo("primary");
+    }
+
+    @Test
+    void recentWriter_ReadsFromPrimaryUntilStickyWindowPasses() {
+        // Arrange
+        authenticate(7L);
+        write();
+
+        // Act & Assert
+        assertThat(nodeInTransaction(true)).isEqualTo("primary");
+        authenticate(8L);
+        assertThat(nodeInTransaction(true)).isEqualTo("replica");
+
+        authenticate(7L);
+        clock.addAndGet(STICKY_MILLIS);
+        assertThat(nodeInTransaction(true)).isEqualTo("replica");
+    }
+
+    @Test
+    void rolledBackWrite_DoesNotStick() {
+        // Arrange
+        authenticate(7L);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE node SET writes = writes + 1");
+            status.setRollbackOnly();
+        });
+
+        // Act & Assert
+        assertThat(nodeInTransaction(true)).isEqualTo("replica");
+    }
+
+    @Test
+    void replicaConnectionFailure_FallsBackToPrimaryUntilHealthCheckPasses() {
+        // Arrange
+        replica.down = true;
+
+        // Act & Assert
+        assertThat(nodeInTransaction(true)).isEqualTo("primary");
+        assertThat(routing.isReplicaHealthy()).isFalse();
+
+        routing.checkReplica();
+        assertThat(routing.isReplicaHealthy()).isFalse();
+
+        replica.down = false;
+        routing.checkReplica();
+        assertThat(routing.isReplicaHealthy()).isTrue();
+        assertThat(nodeInTransaction(true)).isEqualTo("replica");
+    }
+
+    private String nodeInTransaction(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private void write() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(
+                status -> jdbcTemplate.update("UPDATE node SET writes = writes + 1"));
+    }
+
+    private static void authenticate(Long userId) {
+        User user = User.builder().id(userId).name("User " + userId).role(Role.OWNER).enabled(true).build();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    private static DriverManagerDataSource h2(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(20), writes INT)");
+        jdbcTemplate.update("INSERT INTO node (name, writes) VALUES (?, 0)", name);
+        return dataSource;
+    }
+
+    // Stand-in for a replica that can be taken down and brought back
+    private static class FlakyDataSource extends DelegatingDataSource {
+
+        private volatile boolean down;
+
+        FlakyDataSource(DriverManagerDataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (down) {
+                throw new SQLException("Replica unreachable");
+            }
+            return super.getConnection();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.nitroxen.demo.dosing;
+
+import com.nitroxen.demo.entity.StockSolution;
+import com.nitroxen.demo.enums.CropStage;
+import com.nitroxen.demo.enums.StockSolutionType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class DosingCalculatorTest {
+
+    private static final String TARGETS = """
+            default,*,1.8,6.0
+            tomato,*,3.0,6.0
+            tomato,VEGETATIVE,2.5,6.0
+            cherry tomato,FRUITING,3.2,6.0
+            """;
+
+    private static final List<StockSolution> STOCKS = List.of(
+            StockSolution.builder().id(1L).name("A").type(StockSolutionType.NUTRIENT).ecPerMl(0.1).phPerMl(0.0).ratio(1.0).build());
+
+    private DosingTargetCatalog catalog;
+    private DosingCalculator calculator;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        catalog = new DosingTargetCatalog(new StringReader(TARGETS));
+        calculator = new DosingCalculator(catalog, 0.2, 6.0, 100, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        calculator.shutdown();
+    }
+
+    @Test
+    void targetFor_PrefersVarietyThenStageThenDefault() {
+        assertThat(catalog.targetFor(new ZoneCrop(1, "Tomato", "Cherry Tomato", CropStage.FRUITING)).ec()).isEqualTo(3.2);
+        assertThat(catalog.targetFor(new ZoneCrop(1, "Tomato", "Cherry Tomato", CropStage.VEGETATIVE)).ec()).isEqualTo(2.5);
+        assertThat(catalog.targetFor(new ZoneCrop(1, "Tomato", null, null)).ec()).isEqualTo(3.0);
+        assertThat(catalog.targetFor(new ZoneCrop(1, "Okra", null, CropStage.FLOWERING)).ec()).isEqualTo(1.8);
+    }
+
+    @Test
+    void recipeFor_SameCropStageAndVolume_IsCached() {
+        // Act
+        MixingRecipe first = calculator.recipeFor(1, List.of(new ZoneCrop(1, "tomato", null, CropStage.VEGETATIVE)), 1000, () -> STOCKS);
+        MixingRecipe second = calculator.recipeFor(1, List.of(new ZoneCrop(2, "Tomato", "Roma", CropStage.VEGETATIVE),
+                new ZoneCrop(3, "tomato", null, CropStage.VEGETATIVE)), 1000, () -> STOCKS);
+        MixingRecipe otherVolume = calculator.recipeFor(1, List.of(new ZoneCrop(1, "tomato", null, CropStage.VEGETATIVE)), 2000, () -> STOCKS);
+
+        // Assert
+        assertThat(second).isSameAs(first);
+        assertThat(otherVolume).isNotSameAs(first);
+        assertThat(otherVolume.doses().get(0).totalMl()).isEqualTo(2 * first.doses().get(0).totalMl());
+    }
+
+    @Test
+    void evictFarm_RecomputesOnlyThatFarm() {
+        // Arrange
+        List<ZoneCrop> zones = List.of(new ZoneCrop(1, "tomato", null, null));
+        MixingRecipe farmOne = calculator.recipeFor(1, zones, 1000, () -> STOCKS);
+        MixingRecipe farmTwo = calculator.recipeFor(2, zones, 1000, () -> STOCKS);
+
+        // Act
+        calculator.evictFarm(1);
+
+        // Assert
+        assertThat(calculator.recipeFor(1, zones, 1000, () -> STOCKS)).isNotSameAs(farmOne);
+        assertThat(calculator.recipeFor(2, zones, 1000, () -> STOCKS)).isSameAs(farmTwo);
+    }
+
+    @Test
+    void recipeFor_EvictedWhileMixing_IsNotCached() {
+        // Arrange
+        List<ZoneCrop> zones = List.of(new ZoneCrop(1, "tomato", null, null));
+
+        // Act: the stock change commits after the old stocks were loaded
+        MixingRecipe stale = calculator.recipeFor(1, zones, 1000, () -> {
+            calculator.evictFarm(1);
+            return STOCKS;
+        });
+        MixingRecipe next = calculator.recipeFor(1, zones, 1000, () -> STOCKS);
+
+        // Assert
+        assertThat(next).isNotSameAs(stale);
+        assertThat(calculator.recipeFor(1, zones, 1000, () -> STOCKS)).isSameAs(next);
+    }
+
+    @Test
+    void recipeFor_CachedRecipe_DoesNotLoadStocks() {
+        // Arrange
+        List<ZoneCrop> zones = List.of(new ZoneCrop(1, "tomato", null, null));
+        calculator.recipeFor(1, zones, 1000, () -> STOCKS);
+
+        // Act & Assert
+        calculator.recipeFor(1, zones, 1000, () -> {
+            throw new AssertionError("stocks loaded for a cached recipe");
+        });
+    }
+
+    @Test
+    void recipesFor_ComputesEveryReservoir() {
+        // Act
+        Map<Long, MixingRecipe> recipes = calculator.recipesFor(1, List.of(
+                new DosingCalculator.ReservoirBatch(12, 500, List.of()),
+                new DosingCalculator.ReservoirBatch(10, 1000, List.of(new ZoneCrop(1, "tomato", null, CropStage.VEGETATIVE))),
+                new DosingCalculator.ReservoirBatch(11, 500, List.of(new ZoneCrop(2, "okra", null, null)))), () -> STOCKS);
+
+        // Assert
+        assertThat(recipes.keySet()).containsExactly(12L, 10L, 11L);
+        assertThat(recipes.get(10L).predictedEc()).isCloseTo(2.5, within(1e-9));
+        assertThat(recipes.get(11L).targetEc()).isCloseTo(1.8, within(1e-9));
+        assertThat(recipes.get(12L).warnings()).containsExactly(NutrientMixer.NO_TARGET);
+    }
+}
@@ -0,0 +1,75 @@
+package com.nitroxen.demo.dosing;
+
+import com.nitroxen.demo.entity.StockSolution;
+import com.nitroxen.demo.enums.CropStage;
+import com.nitroxen.demo.enums.StockSolutionType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class NutrientMixerTest {
+
+    private static final StockSolution PART_A = stock(1L, "Grow A", StockSolutionType.NUTRIENT, 0.10, -0.02, 1.0);
+    private static final StockSolution PART_B = stock(2L, "Grow B", StockSolutionType.NUTRIENT, 0.10, -0.01, 1.0);
+    private static final StockSolution PH_DOWN = stock(3L, "Phosphoric", StockSolutionType.PH_DOWN, 0.01, -0.20, 1.0);
+    private static final DosingTarget TOMATO = new DosingTarget("tomato", CropStage.VEGETATIVE, 2.5, 6.0);
+
+    @Test
+    void mix_ReachesTargetEcAndPh() {
+        // Act
+        MixingRecipe recipe = NutrientMixer.mix(List.of(TOMATO), List.of(PART_A, PART_B, PH_DOWN), 1000, 0.2, 7.0);
+
+        // Assert
+        assertThat(recipe.predictedEc()).isCloseTo(2.5, within(1e-9));
+        assertThat(recipe.predictedPh()).isCloseTo(6.0, within(1e-9));
+        assertThat(recipe.warnings()).isEmpty();
+        assertThat(recipe.doses()).extracting(MixingRecipe.Dose::name).containsExactly("Grow A", "Grow B", "Phosphoric");
+        assertThat(recipe.doses().get(0).mlPerLiter()).isEqualTo(recipe.doses().get(1).mlPerLiter());
+        assertThat(recipe.doses().get(0).totalMl()).isCloseTo(recipe.doses().get(0).mlPerLiter() * 1000, within(1e-9));
+    }
+
+    @Test
+    void mix_SeveralTargets_AveragesThem() {
+        // Arrange
+        DosingTarget lettuce = new DosingTarget("lettuce", null, 1.5, 5.8);
+
+        // Act
+        MixingRecipe recipe = NutrientMixer.mix(List.of(TOMATO, lettuce), List.of(PART_A, PART_B, PH_DOWN), 500, 0.2, 7.0);
+
+        // Assert
+        assertThat(recipe.targetEc()).isCloseTo(2.0, within(1e-9));
+        assertThat(recipe.targetPh()).isCloseTo(5.9, within(1e-9));
+        assertThat(recipe.predictedEc()).isCloseTo(2.0, within(1e-9));
+    }
+
+    @Test
+    void mix_MissingStocks_ReportsWarnings() {
+        // Act
+        MixingRecipe noAdjuster = NutrientMixer.mix(List.of(TOMATO), List.of(PART_A, PART_B), 1000, 0.2, 7.0);
+        MixingRecipe nothing = NutrientMixer.mix(List.of(TOMATO), List.of(), 1000, 0.2, 7.0);
+
+        // Assert
+        assertThat(noAdjuster.warnings()).containsExactly(NutrientMixer.NO_PH_DOWN_STOCK);
+        assertThat(noAdjuster.predictedEc()).isCloseTo(2.5, within(1e-9));
+        assertThat(nothing.warnings()).containsExactly(NutrientMixer.NO_NUTRIENT_STOCK, NutrientMixer.NO_PH_DOWN_STOCK);
+        assertThat(nothing.doses()).isEmpty();
+    }
+
+    @Test
+    void mix_SourceWaterAboveTarget_OnlyCorrectsPh() {
+        // Act
+        MixingRecipe recipe = NutrientMixer.mix(List.of(TOMATO), List.of(PART_A, PART_B, PH_DOWN), 1000, 2.8, 7.0);
+
+        // Assert
+        assertThat(recipe.warnings()).containsExactly(NutrientMixer.SOURCE_EC_ABOVE_TARGET);
+        assertThat(recipe.doses()).extracting(MixingRecipe.Dose::mlPerLiter).containsExactly(0.0, 0.0, 5.0);
+        assertThat(recipe.predictedPh()).isCloseTo(6.0, within(1e-9));
+    }
+
+    private static StockSolution stock(Long id, String name, StockSolutionType type, double ecPerMl, double phPerMl, double ratio) {
+        return StockSolution.builder().id(id).name(name).type(type).ecPerMl(ecPerMl).phPerMl(phPerMl).ratio(ratio).build();
+    }
+}
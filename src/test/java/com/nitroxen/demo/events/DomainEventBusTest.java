@@ -0,0 +1,144 @@
+package com.nitroxen.demo.events;
+
+import com.nitroxen.demo.entity.DomainEvent;
+import com.nitroxen.demo.enums.HierarchyChangeType;
+import com.nitroxen.demo.enums.HierarchyEntityType;
+import com.nitroxen.demo.repository.DomainEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class DomainEventBusTest {
+
+    @Mock
+    private DomainEventRepository domainEventRepository;
+
+    private final List<HierarchyChangedEvent> received = new CopyOnWriteArrayList<>();
+    private DomainEventBus bus;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        bus.shutdown();
+    }
+
+    @Test
+    void publish_InsideTransaction_DeliversOnlyAfterCommit() throws InterruptedException {
+        // Arrange
+        bus = newBus(List.of(received::add));
+        stubSave();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        bus.publish(HierarchyEntityType.ZONE, 5L, HierarchyChangeType.UPDATED, 7L, 3L);
+        verify(domainEventRepository).save(any(DomainEvent.class));
+        Thread.sleep(50);
+        assertThat(received).isEmpty();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        bus.shutdown();
+
+        // Assert
+        assertThat(received).singleElement().satisfies(event -> {
+            assertThat(event.entityType()).isEqualTo(HierarchyEntityType.ZONE);
+            assertThat(event.entityId()).isEqualTo(5L);
+            assertThat(event.farmId()).isEqualTo(7L);
+            assertThat(event.ownerId()).isEqualTo(3L);
+        });
+        verify(domainEventRepository).markPublished(eq(List.of(1L)), any(LocalDateTime.class));
+    }
+
+    @Test
+    void publish_ManyEventsOfOneFarm_AreDeliveredInOrder() throws InterruptedException {
+        // Arrange
+        bus = newBus(List.of(received::add));
+        stubSave();
+
+        // Act
+        for (long zoneId = 1; zoneId <= 200; zoneId++) {
+            bus.publish(HierarchyEntityType.ZONE, zoneId, HierarchyChangeType.CREATED, zoneId % 2 == 0 ? 7L : 8L, 3L);
+        }
+        bus.shutdown();
+
+        // Assert
+        assertThat(received).hasSize(200);
+        assertThat(received.stream().filter(event -> event.farmId() == 7L).map(HierarchyChangedEvent::entityId))
+                .isSorted();
+        assertThat(received.stream().filter(event -> event.farmId() == 8L).map(HierarchyChangedEvent::entityId))
+                .isSorted();
+    }
+
+    @Test
+    void publish_FailingListener_DoesNotStopOtherListeners() throws InterruptedException {
+        // Arrange
+        HierarchyEventListener failing = event -> {
+            throw new IllegalStateException("boom");
+        };
+        bus = newBus(List.of(failing, received::add));
+        stubSave();
+
+        // Act
+        bus.publish(HierarchyEntityType.FARM, 7L, HierarchyChangeType.DELETED, 7L, 3L);
+        bus.shutdown();
+
+        // Assert
+        assertThat(received).hasSize(1);
+        verify(domainEventRepository).markPublished(eq(List.of(1L)), any(LocalDateTime.class));
+    }
+
+    @Test
+    void redeliverPending_DeliversUnpublishedOutboxRows() throws InterruptedException {
+        // Arrange
+        bus = newBus(List.of(received::add));
+        DomainEvent stranded = DomainEvent.builder()
+                .id(41L)
+                .entityType(HierarchyEntityType.RESERVOIR)
+                .entityId(9L)
+                .changeType(HierarchyChangeType.CREATED)
+                .farmId(7L)
+                .ownerId(3L)
+                .occurredAt(LocalDateTime.now().minusMinutes(5))
+                .build();
+        when(domainEventRepository.findUnpublished(any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(stranded));
+
+        // Act
+        bus.redeliverPending();
+        bus.shutdown();
+
+        // Assert
+        assertThat(received).extracting(HierarchyChangedEvent::eventId).containsExactly(41L);
+        verify(domainEventRepository).markPublished(eq(List.of(41L)), any(LocalDateTime.class));
+        verify(domainEventRepository).deletePublishedBefore(any(LocalDateTime.class));
+    }
+
+    private DomainEventBus newBus(List<HierarchyEventListener> listeners) {
+        return new DomainEventBus(domainEventRepository, listeners, new SimpleMeterRegistry(), 4, 1000, 30_000, 100, 168);
+    }
+
+    // Helper method to assign outbox IDs the way the database would
+    private void stubSave() {
+        AtomicLong ids = new AtomicLong();
+        when(domainEventRepository.save(any(DomainEvent.class))).thenAnswer(invocation -> {
+            DomainEvent row = invocation.getArgument(0);
+            row.setId(ids.incrementAndGet());
+            return row;
+        });
+    }
+}
@@ -0,0 +1,102 @@
+package com.nitroxen.demo.irrigation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+public class FarmIrrigationPlanTest {
+
+    private static final long RESERVOIR = 5L;
+
+    @Test
+    void place_SharedReservoir_StaggersZonesWithinPumpCount() {
+        // Arrange
+        FarmIrrigationPlan plan = new FarmIrrigationPlan(10, 0);
+        plan.addReservoir(RESERVOIR, 2, 100_000);
+
+        // Act: four zones all asking for 06:00, 30 minutes
+        for (long zoneId = 1; zoneId <= 4; zoneId++) {
+            plan.place(new ProgramSpec(zoneId, RESERVOIR, 360, 1, 30, 0, 300));
+        }
+
+        // Assert
+        assertThat(plan.runs()).extracting(FarmIrrigationPlan.Run::startMinute).containsExactly(360, 360, 390, 390);
+        assertThat(plan.peakLoad(RESERVOIR)).isEqualTo(2);
+    }
+
+    @Test
+    void place_FarmLimit_AppliesAcrossReservoirs() {
+        // Arrange
+        FarmIrrigationPlan plan = new FarmIrrigationPlan(2, 0);
+        plan.addReservoir(1L, 4, 100_000);
+        plan.addReservoir(2L, 4, 100_000);
+
+        // Act
+        plan.place(new ProgramSpec(1, 1L, 360, 1, 20, 0, 100));
+        plan.place(new ProgramSpec(2, 2L, 360, 1, 20, 0, 100));
+        plan.place(new ProgramSpec(3, 0L, 370, 1, 20, 0, 100));
+
+        // Assert
+        assertThat(plan.runs()).extracting(FarmIrrigationPlan.Run::startMinute).containsExactly(360, 360, 380);
+        assertThat(plan.peakLoad(0)).isEqualTo(2);
+    }
+
+    @Test
+    void place_CyclesKeepIntervalAndNeverOverlap() {
+        // Arrange
+        FarmIrrigationPlan plan = new FarmIrrigationPlan(10, 0);
+        plan.addReservoir(RESERVOIR, 1, 100_000);
+        plan.place(new ProgramSpec(1, RESERVOIR, 480, 1, 45, 0, 100));
+
+        // Act: 08:00 every 2 hours, but the first slot is taken until 08:45
+        plan.place(new ProgramSpec(2, RESERVOIR, 480, 3, 30, 120, 100));
+
+        // Assert
+        assertThat(plan.runs()).filteredOn(run -> run.zoneId() == 2)
+                .extracting(FarmIrrigationPlan.Run::startMinute).containsExactly(525, 645, 765);
+    }
+
+    @Test
+    void place_ReservoirCapacityAndEndOfDay_LeaveCyclesUnscheduled() {
+        // Arrange
+        FarmIrrigationPlan plan = new FarmIrrigationPlan(10, 0);
+        plan.addReservoir(RESERVOIR, 1, 250);
+
+        // Act
+        plan.place(new ProgramSpec(1, RESERVOIR, 0, 3, 10, 60, 100));
+        plan.place(new ProgramSpec(2, 0L, 1400, 2, 30, 0, 100));
+
+        // Assert
+        List<FarmIrrigationPlan.Run> runs = plan.runs();
+        assertThat(runs).filteredOn(run -> run.unscheduledReason() != null)
+                .extracting(FarmIrrigationPlan.Run::zoneId, FarmIrrigationPlan.Run::unscheduledReason)
+                .containsExactlyInAnyOrder(
+                        tuple(1L, FarmIrrigationPlan.RESERVOIR_CAPACITY),
+                        tuple(2L, FarmIrrigationPlan.NO_SLOT));
+        assertThat(plan.litersByReservoir()).containsEntry(RESERVOIR, 200.0);
+    }
+
+    @Test
+    void replace_ReleasesOldCyclesAndPlacesNewOnes() {
+        // Arrange
+        FarmIrrigationPlan plan = new FarmIrrigationPlan(10, 0);
+        plan.addReservoir(RESERVOIR, 1, 1_000);
+        plan.place(new ProgramSpec(1, RESERVOIR, 360, 1, 60, 0, 600));
+        plan.place(new ProgramSpec(2, RESERVOIR, 360, 1, 30, 0, 300));
+
+        // Act
+        plan.replace(1, new ProgramSpec(1, RESERVOIR, 600, 1, 60, 0, 600));
+
+        // Assert: zone 2 keeps its slot at 07:00, the freed capacity is reused
+        assertThat(plan.runs()).extracting(FarmIrrigationPlan.Run::zoneId, FarmIrrigationPlan.Run::startMinute)
+                .containsExactly(tuple(2L, 420), tuple(1L, 600));
+        assertThat(plan.litersByReservoir()).containsEntry(RESERVOIR, 900.0);
+
+        plan.replace(2, null);
+        assertThat(plan.getZoneCount()).isEqualTo(1);
+        assertThat(plan.litersByReservoir()).containsEntry(RESERVOIR, 600.0);
+    }
+}
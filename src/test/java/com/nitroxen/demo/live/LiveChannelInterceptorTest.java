@@ -0,0 +1,118 @@
+package com.nitroxen.demo.live;
+
+import com.nitroxen.demo.config.JwtService;
+import com.nitroxen.demo.entity.User;
+import com.nitroxen.demo.enums.Role;
+import com.nitroxen.demo.repository.FarmAssignmentRepository;
+import com.nitroxen.demo.repository.FarmRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class LiveChannelInterceptorTest {
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    @Mock
+    private FarmAssignmentRepository farmAssignmentRepository;
+
+    @Mock
+    private FarmRepository farmRepository;
+
+    private LiveChannelInterceptor interceptor;
+    private User manager;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new LiveChannelInterceptor(jwtService, userDetailsService, farmAssignmentRepository, farmRepository);
+        manager = User.builder().id(5L).phoneNumber("+15550000005").role(Role.MANAGER).build();
+    }
+
+    @Test
+    void preSend_ConnectWithValidToken_SetsUser() {
+        // Arrange
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.addNativeHeader("Authorization", "Bearer token");
+        accessor.setLeaveMutable(true);
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        when(jwtService.extractUsername("token")).thenReturn("+15550000005");
+        when(userDetailsService.loadUserByUsername("+15550000005")).thenReturn(manager);
+        when(jwtService.isTokenValid("token", manager)).thenReturn(true);
+
+        // Act
+        interceptor.preSend(message, null);
+
+        // Assert
+        assertThat(accessor.getUser()).isInstanceOf(UsernamePasswordAuthenticationToken.class);
+        assertThat(((UsernamePasswordAuthenticationToken) accessor.getUser()).getPrincipal()).isEqualTo(manager);
+    }
+
+    @Test
+    void preSend_ConnectWithoutToken_ThrowsBadCredentials() {
+        // Arrange
+        Message<byte[]> message = frame(StompCommand.CONNECT, null);
+
+        // Act & Assert
+        assertThatThrownBy(() -> interceptor.preSend(message, null))
+                .isInstanceOf(BadCredentialsException.class);
+    }
+
+    @Test
+    void preSend_SubscribeToUnassignedFarm_ThrowsAccessDenied() {
+        // Arrange
+        Message<byte[]> message = frame(StompCommand.SUBSCRIBE, "/topic/farms/7/zones");
+        when(farmAssignmentRepository.existsByFarmIdAndManagerIdAndActiveTrue(7L, 5L)).thenReturn(false);
+
+        // Act & Assert
+        assertThatThrownBy(() -> interceptor.preSend(message, null))
+                .isInstanceOf(AccessDeniedException.class)
+                .hasMessageContaining("7");
+    }
+
+    @Test
+    void preSend_SubscribeToAssignedFarm_PassesMessage() {
+        // Arrange
+        Message<byte[]> message = frame(StompCommand.SUBSCRIBE, "/topic/farms/7/zones");
+        when(farmAssignmentRepository.existsByFarmIdAndManagerIdAndActiveTrue(7L, 5L)).thenReturn(true);
+
+        // Act & Assert
+        assertThat(interceptor.preSend(message, null)).isSameAs(message);
+    }
+
+    @Test
+    void preSend_Send_ThrowsAccessDenied() {
+        // Arrange
+        Message<byte[]> message = frame(StompCommand.SEND, "/topic/farms/7/zones");
+
+        // Act & Assert
+        assertThatThrownBy(() -> interceptor.preSend(message, null))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    private Message<byte[]> frame(StompCommand command, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setDestination(destination);
+        accessor.setUser(new UsernamePasswordAuthenticationToken(manager, null, manager.getAuthorities()));
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
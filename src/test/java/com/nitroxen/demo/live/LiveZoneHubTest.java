@@ -0,0 +1,155 @@
+package com.nitroxen.demo.live;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nitroxen.demo.enums.CropStage;
+import com.nitroxen.demo.repository.ZoneRepository;
+import com.nitroxen.demo.telemetry.Metric;
+import com.nitroxen.demo.telemetry.TelemetryBatch;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class LiveZoneHubTest {
+
+    private static final String DESTINATION = "/topic/farms/1/zones";
+
+    @Mock
+    private ZoneRepository zoneRepository;
+
+    @Mock
+    private LiveSessionTracker sessionTracker;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Message<?>> sent = new ArrayList<>();
+    private LiveZoneHub hub;
+
+    @BeforeEach
+    void setUp() {
+        MessageChannel channel = (message, timeout) -> sent.add(message);
+        hub = new LiveZoneHub(zoneRepository, channel, sessionTracker, objectMapper, new SimpleMeterRegistry(), 1000, 60_000);
+    }
+
+    // Helper method to give farm 1 two zones
+    private void stubZones() {
+        List<Object[]> zones = new ArrayList<>();
+        zones.add(new Object[]{10L, "Bay 1", 3L, "House A", "Tomato", "Roma", CropStage.FRUITING});
+        zones.add(new Object[]{11L, "Bay 2", 3L, "House A", "Lettuce", null, null});
+        when(zoneRepository.findLiveZonesByFarmId(1L)).thenReturn(zones);
+    }
+
+    @Test
+    void publish_NewSubscriber_GetsSnapshotWithLatestReadings() throws Exception {
+        // Arrange
+        stubZones();
+        TelemetryBatch batch = new TelemetryBatch(4);
+        batch.add(10L, Metric.TEMPERATURE.code(), 1_000, 24.0);
+        batch.add(10L, Metric.TEMPERATURE.code(), 2_000, 25.5);
+        batch.add(99L, Metric.TEMPERATURE.code(), 2_000, 30.0);
+        hub.write(batch);
+        hub.subscribe("s1", "sub-0", DESTINATION);
+
+        // Act
+        hub.publish();
+
+        // Assert
+        assertThat(sent).hasSize(1);
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.wrap(sent.get(0));
+        assertThat(headers.getSessionId()).isEqualTo("s1");
+        assertThat(headers.getSubscriptionId()).isEqualTo("sub-0");
+        assertThat(headers.getDestination()).isEqualTo(DESTINATION);
+        JsonNode frame = frame(0);
+        assertThat(frame.get("type").asText()).isEqualTo("SNAPSHOT");
+        assertThat(frame.get("zones")).hasSize(2);
+        assertThat(frame.at("/zones/0/name").asText()).isEqualTo("Bay 1");
+        assertThat(frame.at("/zones/0/metrics/TEMPERATURE/value").asDouble()).isEqualTo(25.5);
+        assertThat(frame.at("/zones/1/metrics").isMissingNode()).isTrue();
+    }
+
+    @Test
+    void publish_AfterSnapshot_SendsOnlyChangedZonesAndMetrics() throws Exception {
+        // Arrange
+        stubZones();
+        hub.subscribe("s1", "sub-0", DESTINATION);
+        hub.publish();
+        TelemetryBatch batch = new TelemetryBatch(4);
+        batch.add(11L, Metric.HUMIDITY.code(), 3_000, 70.0);
+        batch.add(11L, Metric.HUMIDITY.code(), 4_000, 72.0);
+        hub.write(batch);
+
+        // Act
+        hub.publish();
+        hub.publish();
+
+        // Assert: readings coalesce into one delta, and a quiet tick sends nothing
+        assertThat(sent).hasSize(2);
+        JsonNode delta = frame(1);
+        assertThat(delta.get("type").asText()).isEqualTo("DELTA");
+        assertThat(delta.get("sequence").asLong()).isEqualTo(frame(0).get("sequence").asLong() + 1);
+        assertThat(delta.get("zones")).hasSize(1);
+        assertThat(delta.at("/zones/0/zoneId").asLong()).isEqualTo(11L);
+        assertThat(delta.at("/zones/0/name").isMissingNode()).isTrue();
+        assertThat(delta.at("/zones/0/metrics/HUMIDITY/value").asDouble()).isEqualTo(72.0);
+    }
+
+    @Test
+    void publish_StalledSession_DropsFramesThenResyncsWithSnapshot() throws Exception {
+        // Arrange
+        stubZones();
+        hub.subscribe("slow", "sub-0", DESTINATION);
+        hub.publish();
+        TelemetryBatch batch = new TelemetryBatch(1);
+        batch.add(10L, Metric.PH.code(), 5_000, 6.1);
+        hub.write(batch);
+        when(sessionTracker.isStalled("slow")).thenReturn(true);
+
+        // Act
+        hub.publish();
+        when(sessionTracker.isStalled("slow")).thenReturn(false);
+        hub.publish();
+
+        // Assert
+        assertThat(sent).hasSize(2);
+        assertThat(frame(1).get("type").asText()).isEqualTo("SNAPSHOT");
+        assertThat(frame(1).at("/zones/0/metrics/PH/value").asDouble()).isEqualTo(6.1);
+    }
+
+    @Test
+    void unsubscribe_Disconnect_StopsFrames() {
+        // Arrange
+        hub.subscribe("s1", "sub-0", DESTINATION);
+        hub.subscribe("s1", "sub-1", "/topic/other");
+
+        // Act
+        hub.unsubscribe("s1", null);
+        hub.publish();
+
+        // Assert
+        assertThat(hub.getSubscriptionCount()).isZero();
+        assertThat(sent).isEmpty();
+    }
+
+    @Test
+    void farmIdOf_ParsesOnlyZoneChannels() {
+        assertThat(LiveZoneHub.farmIdOf("/topic/farms/42/zones")).isEqualTo(42L);
+        assertThat(LiveZoneHub.farmIdOf("/topic/farms/x/zones")).isEqualTo(-1L);
+        assertThat(LiveZoneHub.farmIdOf("/topic/farms/42")).isEqualTo(-1L);
+    }
+
+    private JsonNode frame(int index) throws Exception {
+        return objectMapper.readTree((byte[]) sent.get(index).getPayload());
+    }
+}
@@ -0,0 +1,142 @@
+package com.nitroxen.demo.notification;
+
+import com.nitroxen.demo.entity.OutboundNotification;
+import com.nitroxen.demo.enums.NotificationCategory;
+import com.nitroxen.demo.enums.NotificationStatus;
+import com.nitroxen.demo.repository.OutboundNotificationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class NotificationRelayTest {
+
+    @Mock
+    private OutboundNotificationRepository outboundNotificationRepository;
+
+    @Mock
+    private NotificationSender notificationSender;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private NotificationRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new NotificationRelay(outboundNotificationRepository, notificationSender, transactionManager,
+                new SimpleMeterRegistry(), 2, 4, 60_000, 3, 30_000, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        relay.shutdown();
+    }
+
+    @Test
+    void relayBatch_SendsClaimedRowsAndMarksThemSentTogether() {
+        // Arrange
+        OutboundNotification first = pending(1L, "+911111111111", 0);
+        OutboundNotification second = pending(2L, "+912222222222", 0);
+        when(outboundNotificationRepository.lockDue(eq(NotificationStatus.PENDING), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(first, second));
+
+        // Act
+        int claimed = relay.relayBatch();
+
+        // Assert
+        assertThat(claimed).isEqualTo(2);
+        verify(notificationSender).send("+911111111111", "Spraying at 6");
+        verify(notificationSender).send("+912222222222", "Spraying at 6");
+        assertThat(first.getAttempts()).isEqualTo(1);
+        assertThat(first.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(50)); // leased
+        verify(outboundNotificationRepository).markSent(eq(List.of(1L, 2L)), any(LocalDateTime.class));
+        verify(outboundNotificationRepository, never()).markFailed(any(), any(), any(), any());
+    }
+
+    @Test
+    void relayBatch_FailedSend_IsRetriedWithBackoff() {
+        // Arrange
+        OutboundNotification notification = pending(1L, "+911111111111", 1);
+        when(outboundNotificationRepository.lockDue(eq(NotificationStatus.PENDING), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(notification));
+        doThrow(new RuntimeException("provider down")).when(notificationSender).send(any(), any());
+
+        // Act
+        relay.relayBatch();
+
+        // Assert: second attempt failed, so the next one waits 2 x 30 s
+        ArgumentCaptor<LocalDateTime> nextAttempt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(outboundNotificationRepository).markFailed(eq(1L), eq(NotificationStatus.PENDING), nextAttempt.capture(),
+                eq("provider down"));
+        assertThat(nextAttempt.getValue()).isCloseTo(LocalDateTime.now().plusSeconds(60), within(5, ChronoUnit.SECONDS));
+        verify(outboundNotificationRepository, never()).markSent(any(), any());
+    }
+
+    @Test
+    void relayBatch_LastAttemptFails_MarksFailed() {
+        // Arrange
+        OutboundNotification notification = pending(1L, "+911111111111", 2);
+        when(outboundNotificationRepository.lockDue(eq(NotificationStatus.PENDING), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(notification));
+        doThrow(new RuntimeException("invalid number")).when(notificationSender).send(any(), any());
+
+        // Act
+        relay.relayBatch();
+
+        // Assert
+        verify(outboundNotificationRepository).markFailed(eq(1L), eq(NotificationStatus.FAILED), any(LocalDateTime.class),
+                eq("invalid number"));
+    }
+
+    @Test
+    void relay_KeepsClaimingWhileBatchesAreFull() {
+        // Arrange
+        when(outboundNotificationRepository.lockDue(eq(NotificationStatus.PENDING), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(pending(1L, "+911111111111", 0), pending(2L, "+912222222222", 0)))
+                .thenReturn(List.of(pending(3L, "+913333333333", 0)));
+        List<Collection<Long>> marked = new ArrayList<>();
+        when(outboundNotificationRepository.markSent(any(), any(LocalDateTime.class))).thenAnswer(invocation -> {
+            marked.add(List.copyOf(invocation.<Collection<Long>>getArgument(0)));
+            return 1;
+        });
+
+        // Act
+        relay.relay();
+
+        // Assert
+        assertThat(marked).containsExactly(List.of(1L, 2L), List.of(3L));
+        verify(outboundNotificationRepository, times(2)).lockDue(any(), any(), any());
+    }
+
+    private static OutboundNotification pending(Long id, String phoneNumber, int attempts) {
+        return OutboundNotification.builder()
+                .id(id)
+                .category(NotificationCategory.ALERT)
+                .reference("alert:" + id + ":OPEN")
+                .phoneNumber(phoneNumber)
+                .message("Spraying at 6")
+                .status(NotificationStatus.PENDING)
+                .attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.nitroxen.demo.notification;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SendRateLimiterTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    @Test
+    void reserve_SpacesConcurrentCallersByTheInterval() {
+        // Arrange
+        SendRateLimiter limiter = new SendRateLimiter(10);
+        long now = System.nanoTime() + 1_000 * MILLIS;
+
+        // Act
+        long first = limiter.reserve(now);
+        long second = limiter.reserve(now);
+        long third = limiter.reserve(now);
+
+        // Assert
+        assertThat(first).isZero();
+        assertThat(second).isEqualTo(100 * MILLIS);
+        assertThat(third).isEqualTo(200 * MILLIS);
+    }
+
+    @Test
+    void reserve_DoesNotSaveUpIdleTimeForBursts() {
+        // Arrange
+        SendRateLimiter limiter = new SendRateLimiter(10);
+        long now = System.nanoTime() + 1_000 * MILLIS;
+        limiter.reserve(now);
+
+        // Act
+        long afterIdle = now + 5_000 * MILLIS;
+        long first = limiter.reserve(afterIdle);
+        long second = limiter.reserve(afterIdle);
+
+        // Assert
+        assertThat(first).isZero();
+        assertThat(second).isEqualTo(100 * MILLIS);
+    }
+
+    @Test
+    void reserve_WithoutLimit_NeverWaits() {
+        // Arrange
+        SendRateLimiter limiter = new SendRateLimiter(0);
+        long now = System.nanoTime();
+
+        // Act & Assert
+        for (int i = 0; i < 100; i++) {
+            assertThat(limiter.reserve(now)).isZero();
+        }
+    }
+}
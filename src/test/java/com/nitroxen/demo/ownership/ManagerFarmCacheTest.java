@@ -0,0 +1,40 @@
+package com.nitroxen.demo.ownership;
+
+import com.nitroxen.demo.repository.FarmAssignmentRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ManagerFarmCacheTest {
+
+    @Mock
+    private FarmAssignmentRepository farmAssignmentRepository;
+
+    @Test
+    void farmsOf_RepeatedCalls_QueryOnceUntilEvicted() {
+        // Arrange
+        ManagerFarmCache cache = new ManagerFarmCache(farmAssignmentRepository, 60_000, 100);
+        when(farmAssignmentRepository.findAssignedFarmIdsByManagerId(2L))
+                .thenReturn(List.of(10L))
+                .thenReturn(List.of(11L));
+
+        // Act
+        boolean first = cache.farmsOf(2L).containsKey(10L);
+        boolean cached = cache.farmsOf(2L).containsKey(10L);
+        cache.evict(2L);
+        boolean reloaded = cache.farmsOf(2L).containsKey(11L);
+
+        // Assert
+        assertThat(first).isTrue();
+        assertThat(cached).isTrue();
+        assertThat(reloaded).isTrue();
+        verify(farmAssignmentRepository, times(2)).findAssignedFarmIdsByManagerId(2L);
+    }
+}
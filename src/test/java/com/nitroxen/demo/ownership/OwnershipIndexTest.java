@@ -0,0 +1,132 @@
+package com.nitroxen.demo.ownership;
+
+import com.nitroxen.demo.entity.ResourceOwnership;
+import com.nitroxen.demo.enums.ResourceType;
+import com.nitroxen.demo.repository.ResourceOwnershipRepository;
+import com.nitroxen.demo.telemetry.LongLongHashMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class OwnershipIndexTest {
+
+    @Mock
+    private ResourceOwnershipRepository resourceOwnershipRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OwnershipIndex ownershipIndex;
+
+    @BeforeEach
+    void setUp() {
+        ownershipIndex = new OwnershipIndex(resourceOwnershipRepository, jdbcTemplate, transactionManager);
+    }
+
+    @Test
+    void ownerOf_LoadsMissFromTableOnce() {
+        // Arrange
+        when(resourceOwnershipRepository.findByResourceTypeAndResourceId(ResourceType.ZONE, 7L))
+                .thenReturn(Optional.of(ResourceOwnership.builder()
+                        .resourceType(ResourceType.ZONE).resourceId(7L).farmId(3L).ownerId(1L).build()));
+
+        // Act
+        boolean owned = ownershipIndex.isOwnedBy(ResourceType.ZONE, 7L, 1L);
+        boolean ownedByOther = ownershipIndex.isOwnedBy(ResourceType.ZONE, 7L, 2L);
+        long farmId = ownershipIndex.farmOf(ResourceType.ZONE, 7L);
+
+        // Assert
+        assertThat(owned).isTrue();
+        assertThat(ownedByOther).isFalse();
+        assertThat(farmId).isEqualTo(3L);
+        verify(resourceOwnershipRepository, times(1)).findByResourceTypeAndResourceId(ResourceType.ZONE, 7L);
+    }
+
+    @Test
+    void registerAndUnregister_UpdateMemoryAndTable() {
+        // Arrange
+        when(resourceOwnershipRepository.findByResourceTypeAndResourceId(ResourceType.POLYHOUSE, 5L))
+                .thenReturn(Optional.empty());
+
+        // Act
+        ownershipIndex.registerFarm(3L, 1L);
+        ownershipIndex.registerAll(ResourceType.POLYHOUSE, Map.of(5L, 3L));
+        boolean ownedBeforeDelete = ownershipIndex.isOwnedBy(ResourceType.POLYHOUSE, 5L, 1L);
+        ownershipIndex.unregister(ResourceType.POLYHOUSE, List.of(5L));
+
+        // Assert
+        assertThat(ownedBeforeDelete).isTrue();
+        assertThat(ownershipIndex.ownerOf(ResourceType.POLYHOUSE, 5L)).isEqualTo(LongLongHashMap.MISSING);
+        assertThat(ownershipIndex.ownerOf(ResourceType.FARM, 3L)).isEqualTo(1L);
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), any(BatchPreparedStatementSetter.class));
+        verify(resourceOwnershipRepository).deleteResources(ResourceType.POLYHOUSE, List.of(5L));
+    }
+
+    @Test
+    void registerAll_UnknownFarm_ThrowsIllegalState() {
+        // Arrange
+        when(resourceOwnershipRepository.findByResourceTypeAndResourceId(ResourceType.FARM, 9L))
+                .thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class,
+                () -> ownershipIndex.registerAll(ResourceType.TASK, Map.of(40L, 9L)));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void reload_RebuildsFromTable() {
+        // Arrange
+        when(resourceOwnershipRepository.findAllOwnerships()).thenReturn(List.of(
+                new Object[]{ResourceType.FARM, 3L, 3L, 1L},
+                new Object[]{ResourceType.TASK, 40L, 3L, 1L}));
+
+        // Act
+        ownershipIndex.reload();
+
+        // Assert
+        assertThat(ownershipIndex.farmOf(ResourceType.TASK, 40L)).isEqualTo(3L);
+        assertThat(ownershipIndex.isOwnedBy(ResourceType.FARM, 3L, 1L)).isTrue();
+        verify(resourceOwnershipRepository).backfillZones();
+        verify(resourceOwnershipRepository, never()).findByResourceTypeAndResourceId(any(), anyLong());
+    }
+
+    @Test
+    void reload_DoesNotResurrectResourceDeletedWhileReading() {
+        // Arrange: the delete commits after the table snapshot was read
+        when(resourceOwnershipRepository.findAllOwnerships()).thenAnswer(invocation -> {
+            ownershipIndex.unregister(ResourceType.TASK, List.of(40L));
+            return List.of(
+                    new Object[]{ResourceType.FARM, 3L, 3L, 1L},
+                    new Object[]{ResourceType.TASK, 40L, 3L, 1L});
+        });
+        when(resourceOwnershipRepository.findByResourceTypeAndResourceId(ResourceType.TASK, 40L))
+                .thenReturn(Optional.empty());
+
+        // Act
+        ownershipIndex.reload();
+
+        // Assert
+        assertThat(ownershipIndex.ownerOf(ResourceType.TASK, 40L)).isEqualTo(LongLongHashMap.MISSING);
+        assertThat(ownershipIndex.isOwnedBy(ResourceType.FARM, 3L, 1L)).isTrue();
+    }
+}
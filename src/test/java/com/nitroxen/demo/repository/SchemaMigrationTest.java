@@ -0,0 +1,175 @@
+package com.nitroxen.demo.repository;
+
+import com.nitroxen.demo.entity.Farm;
+import com.nitroxen.demo.entity.Polyhouse;
+import com.nitroxen.demo.exception.ConstraintViolations;
+import jakarta.persistence.Entity;
+import org.flywaydb.core.Flyway;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SchemaMigrationTest {
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:migration-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    @Test
+    void migrations_MatchEntityMappings() {
+        // Arrange
+        Flyway.configure().dataSource(dataSource).load().migrate();
+
+        // Act & Assert: validation fails to build the session factory on a missing table or column
+        try (SessionFactory sessionFactory = sessionFactory()) {
+            assertThat(sessionFactory.isOpen()).isTrue();
+        }
+    }
+
+    @Test
+    void migrations_DatabaseBaselinedAtV1_ReceivesLaterSchema() {
+        // Arrange: a database created by ddl-auto=update before migrations existed
+        ResourceDatabasePopulator baseline = new ResourceDatabasePopulator(
+                new ClassPathResource("db/migration/V1__baseline_schema.sql"));
+        baseline.execute(dataSource);
+
+        // Act
+        Flyway.configure().dataSource(dataSource).baselineOnMigrate(true).baselineVersion("1").load().migrate();
+
+        // Assert
+        try (SessionFactory sessionFactory = sessionFactory()) {
+            assertThat(sessionFactory.isOpen()).isTrue();
+        }
+    }
+
+    @Test
+    void migrations_DatabaseBaselinedAtV1_PlacesManagersInTheirFarmOwnersTeam() {
+        // Arrange
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V1__baseline_schema.sql")).execute(dataSource);
+        String insertUser = "INSERT INTO users (id, name, password, phone_number, role, enabled) VALUES (?, ?, 'secret', ?, ?, TRUE)";
+        jdbcTemplate.update(insertUser, 1, "Owner", "+10000000001", "OWNER");
+        jdbcTemplate.update(insertUser, 2, "Owner 2", "+10000000002", "OWNER");
+        jdbcTemplate.update(insertUser, 3, "Manager", "+10000000003", "MANAGER");
+        jdbcTemplate.update(insertUser, 4, "Shared manager", "+10000000004", "MANAGER");
+        jdbcTemplate.update(insertUser, 5, "Worker", "+10000000005", "WORKER");
+        String insertFarm = "INSERT INTO farms (id, name, total_area, owner_id, created_at, updated_at) " +
+                "VALUES (?, 'Farm', 100, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)";
+        jdbcTemplate.update(insertFarm, 10, 1);
+        jdbcTemplate.update(insertFarm, 20, 2);
+        String assign = "INSERT INTO farm_assignments (active, created_at, updated_at, assigned_by, farm_id, manager_id) " +
+                "VALUES (TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, ?, ?, ?)";
+        jdbcTemplate.update(assign, 1, 10, 3);
+        jdbcTemplate.update(assign, 1, 10, 4);
+        jdbcTemplate.update(assign, 2, 20, 4);
+
+        // Act
+        Flyway.configure().dataSource(dataSource).baselineOnMigrate(true).baselineVersion("1").load().migrate();
+
+        // Assert
+        String team = "SELECT owner_id FROM users WHERE id = ?";
+        String creator = "SELECT created_by FROM users WHERE id = ?";
+        assertThat(jdbcTemplate.queryForObject(team, Long.class, 3)).isEqualTo(1L);
+        assertThat(jdbcTemplate.queryForObject(creator, Long.class, 3)).isEqualTo(1L);
+        assertThat(jdbcTemplate.queryForObject(team, Long.class, 4)).isNull();
+        assertThat(jdbcTemplate.queryForObject(team, Long.class, 5)).isNull();
+    }
+
+    @Test
+    void migrations_CreateHotPathIndexes() {
+        // Arrange
+        Flyway.configure().dataSource(dataSource).load().migrate();
+
+        // Act
+        List<String> constraints = jdbcTemplate.queryForList(
+                "SELECT LOWER(CONSTRAINT_NAME) FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS WHERE CONSTRAINT_TYPE = 'UNIQUE'",
+                String.class);
+        List<String> indexes = jdbcTemplate.queryForList(
+                "SELECT LOWER(INDEX_NAME) FROM INFORMATION_SCHEMA.INDEXES", String.class);
+
+        // Assert
+        assertThat(constraints).contains("uk_farm_owner_name", "uk_polyhouse_farm_name",
+                "uk_zone_polyhouse_name", "uk_reservoir_farm_name");
+        assertThat(indexes).contains("idx_farm_assignment_manager", "idx_task_worker",
+                "idx_report_task", "idx_agronomist_report_farm");
+    }
+
+    @Test
+    void duplicateFarmName_IsReportedAsItsUniqueKey() {
+        // Arrange
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        jdbcTemplate.update("INSERT INTO users (id, name, password, phone_number, role, enabled) " +
+                "VALUES (1, 'Owner', 'secret', '+10000000001', 'OWNER', TRUE)");
+        String insertFarm = "INSERT INTO farms (name, total_area, owner_id, created_at, updated_at) " +
+                "VALUES ('North', 100, 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)";
+
+        // Act
+        DataAccessException translated;
+        try (SessionFactory sessionFactory = sessionFactory(); Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            session.createNativeMutationQuery(insertFarm).executeUpdate();
+            ConstraintViolationException violation = assertThrows(ConstraintViolationException.class,
+                    () -> session.createNativeMutationQuery(insertFarm).executeUpdate());
+            translated = new HibernateJpaDialect().translateExceptionIfPossible(violation);
+            session.getTransaction().rollback();
+        }
+
+        // Assert
+        assertThat(translated).isInstanceOf(DataIntegrityViolationException.class);
+        DataIntegrityViolationException duplicate = (DataIntegrityViolationException) translated;
+        assertThat(ConstraintViolations.isViolationOf(duplicate, Farm.UNIQUE_NAME)).isTrue();
+        assertThat(ConstraintViolations.isViolationOf(duplicate, Polyhouse.UNIQUE_NAME)).isFalse();
+    }
+
+    // Helper method to map every entity onto the migrated schema with ddl-auto=validate, as the application does
+    private SessionFactory sessionFactory() {
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting("hibernate.connection.datasource", dataSource)
+                .applySetting("hibernate.dialect", "org.hibernate.dialect.H2Dialect")
+                .applySetting("hibernate.hbm2ddl.auto", "validate")
+                .applySetting("hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName())
+                .applySetting("hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName())
+                .build();
+        MetadataSources sources = new MetadataSources(registry);
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(Entity.class));
+        for (BeanDefinition entity : scanner.findCandidateComponents("com.nitroxen.demo.entity")) {
+            sources.addAnnotatedClassName(entity.getBeanClassName());
+        }
+        return sources.buildMetadata().buildSessionFactory();
+    }
+}
@@ -0,0 +1,46 @@
+package com.nitroxen.demo.scheduling;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HashedTimingWheelTest {
+
+    @Test
+    void advance_FiresTimersInDeadlineOrderAcrossRounds() {
+        HashedTimingWheel wheel = new HashedTimingWheel(100, 8, 0);
+        wheel.schedule(1, 250);
+        wheel.schedule(2, 2_650); // three rotations away, same bucket as the first timer
+        wheel.schedule(3, -500);  // already overdue
+
+        List<Long> fired = new ArrayList<>();
+        wheel.advance(0, (id, deadline) -> fired.add(id));
+        assertThat(fired).containsExactly(3L);
+
+        wheel.advance(300, (id, deadline) -> fired.add(id));
+        assertThat(fired).containsExactly(3L, 1L);
+        assertThat(wheel.size()).isEqualTo(1);
+
+        wheel.advance(2_500, (id, deadline) -> fired.add(id));
+        assertThat(fired).containsExactly(3L, 1L);
+
+        wheel.advance(2_700, (id, deadline) -> fired.add(id));
+        assertThat(fired).containsExactly(3L, 1L, 2L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void advance_HandlesManyTimers() {
+        HashedTimingWheel wheel = new HashedTimingWheel(10, 512, 0);
+        for (long id = 0; id < 50_000; id++) {
+            wheel.schedule(id, id % 10_000);
+        }
+
+        int fired = wheel.advance(4_999, (id, deadline) -> assertThat(deadline).isLessThan(5_000));
+        assertThat(fired).isEqualTo(25_000);
+        assertThat(wheel.advance(10_000, (id, deadline) -> { })).isEqualTo(25_000);
+    }
+}
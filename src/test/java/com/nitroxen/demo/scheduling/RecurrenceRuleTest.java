@@ -0,0 +1,56 @@
+package com.nitroxen.demo.scheduling;
+
+import com.nitroxen.demo.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RecurrenceRuleTest {
+
+    // Wednesday
+    private final LocalDateTime start = LocalDateTime.of(2025, 10, 1, 7, 0);
+
+    @Test
+    void daily_DefaultsToStartTime() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY", start);
+
+        assertThat(rule.nextAfter(start.minusDays(3))).isEqualTo(start);
+        assertThat(rule.nextAfter(start)).isEqualTo(start.plusDays(1));
+    }
+
+    @Test
+    void daily_MultipleHoursAndInterval() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY;INTERVAL=2;BYHOUR=6,18;BYMINUTE=30", start);
+
+        assertThat(rule.nextAfter(start)).isEqualTo(LocalDateTime.of(2025, 10, 1, 18, 30));
+        assertThat(rule.nextAfter(LocalDateTime.of(2025, 10, 1, 18, 30))).isEqualTo(LocalDateTime.of(2025, 10, 3, 6, 30));
+    }
+
+    @Test
+    void weekly_ByDayWithInterval() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,TH", start);
+
+        assertThat(rule.nextAfter(start)).isEqualTo(LocalDateTime.of(2025, 10, 2, 7, 0));
+        // The following week is skipped
+        assertThat(rule.nextAfter(LocalDateTime.of(2025, 10, 2, 7, 0))).isEqualTo(LocalDateTime.of(2025, 10, 13, 7, 0));
+    }
+
+    @Test
+    void monthly_SkipsMonthsWithoutTheDay() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=MONTHLY;BYMONTHDAY=31;BYHOUR=9", start);
+
+        assertThat(rule.nextAfter(start)).isEqualTo(LocalDateTime.of(2025, 10, 31, 9, 0));
+        assertThat(rule.nextAfter(LocalDateTime.of(2025, 10, 31, 9, 0))).isEqualTo(LocalDateTime.of(2025, 12, 31, 9, 0));
+    }
+
+    @Test
+    void parse_InvalidRule_ThrowsValidation() {
+        assertThrows(ValidationException.class, () -> RecurrenceRule.parse("INTERVAL=2", start));
+        assertThrows(ValidationException.class, () -> RecurrenceRule.parse("FREQ=HOURLY", start));
+        assertThrows(ValidationException.class, () -> RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=XX", start));
+        assertThrows(ValidationException.class, () -> RecurrenceRule.parse("FREQ=DAILY;BYHOUR=25", start));
+    }
+}
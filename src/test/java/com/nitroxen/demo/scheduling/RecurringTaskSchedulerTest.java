@@ -0,0 +1,92 @@
+package com.nitroxen.demo.scheduling;
+
+import com.nitroxen.demo.repository.RecurringTaskScheduleRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RecurringTaskSchedulerTest {
+
+    @Mock
+    private RecurringTaskScheduleRepository scheduleRepository;
+
+    @Mock
+    private RecurringTaskMaterializer materializer;
+
+    private RecurringTaskScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new RecurringTaskScheduler(scheduleRepository, materializer, 10, 64,
+                Duration.ofHours(24), Duration.ofMinutes(2), 60_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    void tick_MaterializesOnItsOwnThread() throws Exception {
+        // Arrange
+        CompletableFuture<String> materializingThread = new CompletableFuture<>();
+        when(materializer.tryAcquireLease(eq(1L), anyString(), any())).thenReturn(true);
+        when(materializer.materialize(eq(1L), anyString(), any())).thenAnswer(invocation -> {
+            materializingThread.complete(Thread.currentThread().getName());
+            return null;
+        });
+        scheduler.track(1L, LocalDateTime.now());
+
+        // Act
+        scheduler.tick();
+
+        // Assert
+        assertThat(materializingThread.get(5, TimeUnit.SECONDS)).isEqualTo("recurring-task-materializer");
+    }
+
+    @Test
+    void track_InsideTransaction_WaitsForCommit() throws Exception {
+        // Arrange
+        CompletableFuture<Long> materialized = new CompletableFuture<>();
+        when(materializer.tryAcquireLease(eq(1L), anyString(), any())).thenReturn(true);
+        when(materializer.materialize(eq(1L), anyString(), any())).thenAnswer(invocation -> {
+            materialized.complete(invocation.getArgument(0));
+            return null;
+        });
+        List<TransactionSynchronization> synchronizations;
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            scheduler.track(1L, LocalDateTime.now());
+            synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Act & Assert: nothing is tracked while the transaction may still roll back
+        scheduler.tick();
+        Thread.sleep(100);
+        verifyNoInteractions(materializer);
+
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        scheduler.tick();
+        assertThat(materialized.get(5, TimeUnit.SECONDS)).isEqualTo(1L);
+    }
+}
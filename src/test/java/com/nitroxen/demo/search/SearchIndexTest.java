@@ -0,0 +1,153 @@
+package com.nitroxen.demo.search;
+
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.FSDirectory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SearchIndexTest {
+
+    private SearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        searchIndex = new SearchIndex(new ByteBuffersDirectory());
+        searchIndex.upsert(document(SearchDocument.Type.TASK, 1L, 1L, "Aphid inspection", "Check rows 1-4 for aphids"));
+        searchIndex.upsert(document(SearchDocument.Type.REPORT, 2L, 1L, null, "Found a few aphids near the door, drip line is fine"));
+        searchIndex.upsert(document(SearchDocument.Type.REPORT, 3L, 2L, null, "Aphid colony on the tomatoes"));
+        searchIndex.upsert(document(SearchDocument.Type.AGRONOMIST_REPORT, 4L, 1L, "Agronomist report (Pending)", "Reservoir leak near pump"));
+        searchIndex.refresh();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        searchIndex.close();
+    }
+
+    @Test
+    void search_StemsTermsAndRanksTitleMatchesFirst() {
+        // Act
+        SearchIndex.Page page = searchIndex.search("aphid", List.of(1L, 2L), Set.of(), 0, 10);
+
+        // Assert
+        assertThat(page.total()).isEqualTo(3);
+        assertThat(page.hits().get(0).type()).isEqualTo(SearchDocument.Type.TASK);
+        assertThat(page.hits().get(0).id()).isEqualTo(1L);
+    }
+
+    @Test
+    void search_FiltersByFarmAndType() {
+        // Act
+        SearchIndex.Page farmOne = searchIndex.search("aphid", List.of(1L), Set.of(), 0, 10);
+        SearchIndex.Page reportsOnly = searchIndex.search("aphid", List.of(1L, 2L), Set.of(SearchDocument.Type.REPORT), 0, 10);
+        SearchIndex.Page noFarms = searchIndex.search("aphid", List.of(), Set.of(), 0, 10);
+
+        // Assert
+        assertThat(farmOne.hits()).extracting(SearchIndex.Hit::id).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(reportsOnly.hits()).extracting(SearchIndex.Hit::id).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(noFarms.total()).isZero();
+    }
+
+    @Test
+    void search_PaginatesWithExactTotal() {
+        // Act
+        SearchIndex.Page second = searchIndex.search("aphid", List.of(1L, 2L), Set.of(), 1, 2);
+
+        // Assert
+        assertThat(second.total()).isEqualTo(3);
+        assertThat(second.hits()).hasSize(1);
+    }
+
+    @Test
+    void upsertAndDelete_ReplaceExistingDocument() {
+        // Act
+        searchIndex.upsert(document(SearchDocument.Type.AGRONOMIST_REPORT, 4L, 1L, "Agronomist report (Completed)", "Pump seal replaced"));
+        searchIndex.delete(SearchDocument.Type.TASK, 1L);
+        searchIndex.refresh();
+
+        // Assert
+        assertThat(searchIndex.search("leak", List.of(1L), Set.of(), 0, 10).total()).isZero();
+        assertThat(searchIndex.search("pump", List.of(1L), Set.of(), 0, 10).total()).isEqualTo(1);
+        assertThat(searchIndex.search("inspection", List.of(1L), Set.of(), 0, 10).total()).isZero();
+        assertThat(searchIndex.getDocumentCount()).isEqualTo(3);
+    }
+
+    @Test
+    void reopen_TellsCleanShutdownFromCrash(@TempDir Path dir) throws IOException {
+        // Arrange: a crash leaves only periodic commits, a clean shutdown ends with commitClean
+        SearchIndex crashed = new SearchIndex(FSDirectory.open(dir));
+        crashed.upsert(document(SearchDocument.Type.TASK, 1L, 1L, "Aphid inspection", "Check rows"));
+        crashed.commit();
+        crashed.close();
+
+        // Act & Assert
+        SearchIndex afterCrash = new SearchIndex(FSDirectory.open(dir));
+        assertThat(afterCrash.wasClosedCleanly()).isFalse();
+        assertThat(afterCrash.getDocumentCount()).isEqualTo(1);
+        afterCrash.commitClean();
+        afterCrash.close();
+
+        SearchIndex afterCleanShutdown = new SearchIndex(FSDirectory.open(dir));
+        assertThat(afterCleanShutdown.wasClosedCleanly()).isTrue();
+        afterCleanShutdown.close();
+
+        // Opening cleared the marker, so a crash now is detected again
+        SearchIndex afterSecondCrash = new SearchIndex(FSDirectory.open(dir));
+        assertThat(afterSecondCrash.wasClosedCleanly()).isFalse();
+        afterSecondCrash.close();
+    }
+
+    @Test
+    void search_InvalidSyntax_FallsBackToPlainText() {
+        // Act
+        SearchIndex.Page page = searchIndex.search("\"leak", List.of(1L), Set.of(), 0, 10);
+
+        // Assert
+        assertThat(page.total()).isEqualTo(1);
+    }
+
+    @Test
+    void searchKeywords_MatchesWordPrefixesAndTyposAcrossFields() {
+        // Arrange
+        searchIndex.upsert(agronomist(10L, "Priya Patil", "priya.patil@agri.com", "Hydroponics"));
+        searchIndex.upsert(agronomist(11L, "Rahul Patel", "rahul@agri.com", "Soil Science"));
+        searchIndex.upsert(agronomist(12L, "Hydro Consulting", "info@hydro.in", "Irrigation"));
+        searchIndex.refresh();
+
+        // Act
+        SearchIndex.Page hydro = searchIndex.searchKeywords("hydro", SearchDocument.Type.AGRONOMIST, 0, 10);
+        SearchIndex.Page patilPrefix = searchIndex.searchKeywords("pat", SearchDocument.Type.AGRONOMIST, 0, 10);
+        SearchIndex.Page typo = searchIndex.searchKeywords("Priya Patli", SearchDocument.Type.AGRONOMIST, 0, 10);
+        SearchIndex.Page email = searchIndex.searchKeywords("rahul@agri", SearchDocument.Type.AGRONOMIST, 0, 10);
+
+        // Assert
+        assertThat(hydro.hits()).extracting(SearchIndex.Hit::id).containsExactly(12L, 10L);
+        assertThat(patilPrefix.total()).isEqualTo(2);
+        assertThat(typo.hits()).extracting(SearchIndex.Hit::id).containsExactly(10L);
+        assertThat(email.hits()).extracting(SearchIndex.Hit::id).containsExactly(11L);
+        assertThat(searchIndex.searchKeywords(" @ ", SearchDocument.Type.AGRONOMIST, 0, 10).total()).isZero();
+    }
+
+    private static SearchDocument agronomist(Long id, String name, String email, String specialization) {
+        return SearchDocument.builder()
+                .type(SearchDocument.Type.AGRONOMIST)
+                .id(id)
+                .title(name)
+                .text(specialization)
+                .keywords(name + " " + email + " " + specialization)
+                .build();
+    }
+
+    private static SearchDocument document(SearchDocument.Type type, Long id, Long farmId, String title, String text) {
+        return SearchDocument.builder().type(type).id(id).farmId(farmId).title(title).text(text).build();
+    }
+}
@@ -0,0 +1,96 @@
+package com.nitroxen.demo.search;
+
+import com.nitroxen.demo.enums.ResourceType;
+import com.nitroxen.demo.ownership.OwnershipIndex;
+import com.nitroxen.demo.repository.AgronomistReportRepository;
+import com.nitroxen.demo.repository.AgronomistRepository;
+import com.nitroxen.demo.repository.ReportRepository;
+import com.nitroxen.demo.repository.TaskRepository;
+import com.nitroxen.demo.repository.ZoneRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Pageable;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SearchIndexerTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ReportRepository reportRepository;
+
+    @Mock
+    private AgronomistReportRepository agronomistReportRepository;
+
+    @Mock
+    private AgronomistRepository agronomistRepository;
+
+    @Mock
+    private ZoneRepository zoneRepository;
+
+    @Mock
+    private OwnershipIndex ownershipIndex;
+
+    private SearchIndex searchIndex;
+    private SearchIndexer searchIndexer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        searchIndex = new SearchIndex(new ByteBuffersDirectory());
+        searchIndexer = new SearchIndexer(searchIndex, taskRepository, reportRepository, agronomistReportRepository,
+                agronomistRepository, zoneRepository, ownershipIndex, new SimpleMeterRegistry(), 100);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        searchIndexer.shutdown();
+        searchIndex.close();
+    }
+
+    @Test
+    void start_FailedRebuild_IsRetriedAfterADelay() throws InterruptedException {
+        // Arrange
+        when(taskRepository.findAll(any(Pageable.class)))
+                .thenThrow(new DataAccessResourceFailureException("database down"));
+
+        // Act
+        searchIndexer.start();
+        Thread.sleep(500);
+
+        // Assert
+        verify(taskRepository, times(1)).findAll(any(Pageable.class));
+        assertThat(searchIndexer.isRebuildPending()).isTrue();
+    }
+
+    @Test
+    void apply_TaskWithoutZone_IsScopedToItsOwnedFarm() {
+        // Arrange
+        SearchDocument task = SearchDocument.builder()
+                .type(SearchDocument.Type.TASK).id(40L).title("Aphid inspection").text("Check every row").build();
+        when(ownershipIndex.farmOf(ResourceType.TASK, 40L)).thenReturn(7L);
+
+        // Act
+        searchIndexer.apply(List.of(new SearchIndexer.PendingChange(task, null, null, false)));
+        searchIndex.refresh();
+
+        // Assert
+        assertThat(searchIndex.search("aphid", List.of(7L), Set.of(), 0, 10).total()).isEqualTo(1);
+        verifyNoInteractions(zoneRepository);
+    }
+}
@@ -0,0 +1,85 @@
+package com.nitroxen.demo.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TaskAttachmentStorageTest {
+
+    @TempDir
+    Path attachmentDir;
+
+    private TaskAttachmentStorage attachmentStorage;
+
+    private final MockMultipartFile file =
+            new MockMultipartFile("file", "plan.PDF", "application/pdf", new byte[]{1, 2, 3});
+
+    @BeforeEach
+    void setUp() {
+        attachmentStorage = new TaskAttachmentStorage(attachmentDir.toString());
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void store_TransactionCommits_PublishesFileAtItsUrl() throws IOException {
+        // Arrange
+        String url = attachmentStorage.store(file);
+        assertThat(attachmentDir.resolve(fileName(url))).doesNotExist();
+
+        // Act
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        // Assert
+        assertThat(url).startsWith(TaskAttachmentStorage.URL_PREFIX).endsWith(".pdf");
+        assertThat(Files.readAllBytes(attachmentDir.resolve(fileName(url)))).containsExactly(1, 2, 3);
+        assertThat(listFiles()).hasSize(1);
+    }
+
+    @Test
+    void store_TransactionRollsBack_LeavesNoFileBehind() throws IOException {
+        // Arrange
+        attachmentStorage.store(file);
+
+        // Act
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // Assert
+        assertThat(listFiles()).isEmpty();
+    }
+
+    // Helper method to end the surrounding transaction with the given outcome
+    private void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private String fileName(String url) {
+        return url.substring(TaskAttachmentStorage.URL_PREFIX.length());
+    }
+
+    private List<Path> listFiles() throws IOException {
+        try (Stream<Path> files = Files.list(attachmentDir)) {
+            return files.toList();
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package com.nitroxen.demo.service;
+
+import com.nitroxen.demo.dto.response.TaskInboxEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TaskEventBusTest {
+
+    private TaskEventBus taskEventBus;
+
+    private final Long workerId = 12L;
+
+    @BeforeEach
+    void setUp() {
+        taskEventBus = new TaskEventBus(4, 10, 60_000, 2, 10, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskEventBus.shutdown();
+    }
+
+    @Test
+    void publish_DeliversToSubscribersOfTheWorkerOnly() throws Exception {
+        // Arrange
+        CapturingEmitter worker = new CapturingEmitter();
+        CapturingEmitter otherWorker = new CapturingEmitter();
+        taskEventBus.subscribe(workerId, null, worker);
+        taskEventBus.subscribe(99L, null, otherWorker);
+
+        // Act
+        taskEventBus.publish(assigned("Harvest"));
+
+        // Assert
+        worker.awaitEvents(1);
+        assertThat(worker.events).extracting(TaskInboxEvent::getTitle).containsExactly("Harvest");
+        assertThat(otherWorker.events).isEmpty();
+    }
+
+    @Test
+    void subscribe_WithLastEventId_ReplaysMissedEvents() throws Exception {
+        // Arrange
+        CapturingEmitter first = new CapturingEmitter();
+        taskEventBus.subscribe(workerId, null, first);
+        taskEventBus.publish(assigned("Spray"));
+        first.awaitEvents(1);
+        Long lastSeen = first.events.get(0).getId();
+        first.complete();
+
+        taskEventBus.publish(assigned("Scout"));
+        taskEventBus.publish(assigned("Prune"));
+
+        // Act
+        CapturingEmitter reconnected = new CapturingEmitter();
+        taskEventBus.subscribe(workerId, lastSeen, reconnected);
+
+        // Assert
+        reconnected.awaitEvents(2);
+        assertThat(reconnected.events).extracting(TaskInboxEvent::getTitle).containsExactly("Scout", "Prune");
+    }
+
+    @Test
+    void subscribe_GapLargerThanHistory_SendsResync() throws Exception {
+        // Arrange
+        CapturingEmitter first = new CapturingEmitter();
+        taskEventBus.subscribe(workerId, null, first);
+        taskEventBus.publish(assigned("Spray"));
+        first.awaitEvents(1);
+        Long lastSeen = first.events.get(0).getId();
+        first.complete();
+
+        for (int i = 0; i < 12; i++) {
+            taskEventBus.publish(assigned("Task " + i));
+        }
+
+        // Act
+        CapturingEmitter reconnected = new CapturingEmitter();
+        taskEventBus.subscribe(workerId, lastSeen, reconnected);
+
+        // Assert
+        reconnected.awaitEvents(1);
+        assertThat(reconnected.events).extracting(TaskInboxEvent::getType).containsExactly(TaskInboxEvent.Type.RESYNC);
+    }
+
+    @Test
+    void sendHeartbeats_QueuesHeartbeatForDeliveryThread() throws Exception {
+        // Arrange
+        CapturingEmitter worker = new CapturingEmitter();
+        taskEventBus.subscribe(workerId, null, worker);
+
+        // Act
+        taskEventBus.sendHeartbeats();
+
+        // Assert
+        worker.awaitHeartbeats(1);
+        assertThat(worker.heartbeatThreads).allMatch(name -> name.startsWith("task-inbox-delivery"));
+    }
+
+    @Test
+    void sendHeartbeats_DisconnectsStalledSubscriber_WithoutBlocking() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        StalledEmitter stalled = new StalledEmitter(release);
+        CapturingEmitter otherWorker = new CapturingEmitter();
+        taskEventBus.subscribe(workerId, null, stalled);
+        taskEventBus.subscribe(99L, null, otherWorker);
+        taskEventBus.publish(assigned("Harvest"));
+        assertThat(stalled.writing.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(150);
+
+        try {
+            // Act
+            long start = System.nanoTime();
+            taskEventBus.sendHeartbeats();
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            // Assert
+            assertThat(elapsedMillis).isLessThan(1_000);
+            assertThat(taskEventBus.getSubscriberCount()).isEqualTo(1);
+            taskEventBus.publish(TaskInboxEvent.builder()
+                    .type(TaskInboxEvent.Type.TASK_ASSIGNED).workerId(99L).title("Scout").build());
+            otherWorker.awaitEvents(1);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void publish_ConcurrentPublishers_DeliverInIdOrder() throws Exception {
+        // Arrange
+        TaskEventBus roomyBus = new TaskEventBus(1_000, 1_000, 60_000, 2, 10, 100);
+        CapturingEmitter worker = new CapturingEmitter();
+        roomyBus.subscribe(workerId, null, worker);
+        ExecutorService publishers = Executors.newFixedThreadPool(8);
+
+        try {
+            // Act
+            List<Future<?>> results = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                results.add(publishers.submit(() -> {
+                    for (int i = 0; i < 50; i++) {
+                        roomyBus.publish(assigned("Task " + i));
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+
+            // Assert
+            worker.awaitEvents(400);
+            assertThat(worker.events).extracting(TaskInboxEvent::getId).isSorted().doesNotHaveDuplicates();
+        } finally {
+            publishers.shutdownNow();
+            roomyBus.shutdown();
+        }
+    }
+
+    @Test
+    void publish_DeliverySaturated_DisconnectsSubscriber() throws Exception {
+        // Arrange: one delivery thread, blocked by a stalled stream, and room for one waiting delivery
+        TaskEventBus smallBus = new TaskEventBus(4, 10, 60_000, 1, 1, 60_000);
+        CountDownLatch release = new CountDownLatch(1);
+        StalledEmitter stalled = new StalledEmitter(release);
+        CapturingEmitter queued = new CapturingEmitter();
+        CapturingEmitter rejected = new CapturingEmitter();
+        smallBus.subscribe(workerId, null, stalled);
+        smallBus.subscribe(98L, null, queued);
+        smallBus.subscribe(99L, null, rejected);
+        smallBus.publish(assigned("Harvest"));
+        assertThat(stalled.writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+        try {
+            // Act
+            smallBus.publish(TaskInboxEvent.builder().type(TaskInboxEvent.Type.TASK_ASSIGNED).workerId(98L).title("Scout").build());
+            smallBus.publish(TaskInboxEvent.builder().type(TaskInboxEvent.Type.TASK_ASSIGNED).workerId(99L).title("Prune").build());
+
+            // Assert
+            assertThat(rejected.completed.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(smallBus.getSubscriberCount()).isEqualTo(2);
+            release.countDown();
+            queued.awaitEvents(1);
+        } finally {
+            release.countDown();
+            smallBus.shutdown();
+        }
+    }
+
+    private TaskInboxEvent assigned(String title) {
+        return TaskInboxEvent.builder()
+                .type(TaskInboxEvent.Type.TASK_ASSIGNED)
+                .workerId(workerId)
+                .title(title)
+                .build();
+    }
+
+    private static class CapturingEmitter extends SseEmitter {
+
+        final List<TaskInboxEvent> events = new CopyOnWriteArrayList<>();
+        final List<String> heartbeatThreads = new CopyOnWriteArrayList<>();
+        final CountDownLatch completed = new CountDownLatch(1);
+
+        @Override
+        public void complete() {
+            completed.countDown();
+            super.complete();
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            Set<DataWithMediaType> parts = builder.build();
+            if (parts.stream().anyMatch(part -> String.valueOf(part.getData()).contains(":heartbeat"))) {
+                heartbeatThreads.add(Thread.currentThread().getName());
+            }
+            parts.stream()
+                    .map(DataWithMediaType::getData)
+                    .filter(TaskInboxEvent.class::isInstance)
+                    .map(TaskInboxEvent.class::cast)
+                    .forEach(events::add);
+        }
+
+        void awaitEvents(int count) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (events.size() < count && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(events).hasSizeGreaterThanOrEqualTo(count);
+        }
+
+        void awaitHeartbeats(int count) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (heartbeatThreads.size() < count && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(heartbeatThreads).hasSizeGreaterThanOrEqualTo(count);
+        }
+    }
+
+    // Blocks every write until released, like a socket the client stopped reading
+    private static class StalledEmitter extends SseEmitter {
+
+        final CountDownLatch writing = new CountDownLatch(1);
+        private final CountDownLatch release;
+
+        StalledEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            writing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.nitroxen.demo.service;
+
+import com.nitroxen.demo.dto.request.BulkTaskAssignmentRequest;
+import com.nitroxen.demo.dto.response.BulkTaskAssignmentResponse;
+import com.nitroxen.demo.entity.Task;
+import com.nitroxen.demo.enums.ResourceType;
+import com.nitroxen.demo.exception.ResourceNotFoundException;
+import com.nitroxen.demo.exception.ValidationException;
+import com.nitroxen.demo.ownership.OwnershipIndex;
+import com.nitroxen.demo.repository.FarmAssignmentRepository;
+import com.nitroxen.demo.repository.ReportRepository;
+import com.nitroxen.demo.repository.TaskRepository;
+import com.nitroxen.demo.repository.ZoneRepository;
+import com.nitroxen.demo.search.SearchIndexer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskManagerServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ReportRepository reportRepository;
+
+    @Mock
+    private ZoneRepository zoneRepository;
+
+    @Mock
+    private FarmAssignmentRepository farmAssignmentRepository;
+
+    @Mock
+    private TaskAttachmentStorage attachmentStorage;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TaskEventBus taskEventBus;
+
+    @Mock
+    private SearchIndexer searchIndexer;
+
+    @Mock
+    private OwnershipIndex ownershipIndex;
+
+    @InjectMocks
+    private TaskManagerService taskManagerService;
+
+    private BulkTaskAssignmentRequest request;
+
+    private final Long managerId = 5L;
+    private final Long farmId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        request = BulkTaskAssignmentRequest.builder()
+                .title("Neem oil spraying")
+                .description("Spray all rows")
+                .deadline("2025-10-12")
+                .targets(List.of(
+                        new BulkTaskAssignmentRequest.Target(10L, 1L),
+                        new BulkTaskAssignmentRequest.Target(11L, 2L),
+                        new BulkTaskAssignmentRequest.Target(10L, 1L)))
+                .build();
+    }
+
+    @Test
+    void assignTasks_DeduplicatesTargetsAndInsertsInOneBatch() {
+        // Arrange
+        MockMultipartFile file = new MockMultipartFile("file", "plan.pdf", "application/pdf", new byte[]{1, 2, 3});
+        when(zoneRepository.findZoneFarmIds(anyCollection()))
+                .thenReturn(List.of(new Object[]{1L, farmId}, new Object[]{2L, farmId}));
+        when(farmAssignmentRepository.findAssignedFarmIdsByManagerId(managerId)).thenReturn(List.of(farmId));
+        when(attachmentStorage.store(file)).thenReturn("/attachments/abc.pdf");
+        returnGeneratedKeys(100L, 101L);
+
+        // Act
+        BulkTaskAssignmentResponse response = taskManagerService.assignTasks(request, file, managerId, "Manager");
+
+        // Assert
+        assertThat(response.getAssignedCount()).isEqualTo(2);
+        assertThat(response.getDuplicateTargets()).isEqualTo(1);
+        assertThat(response.getFileUrl()).isEqualTo("/attachments/abc.pdf");
+        verify(attachmentStorage, times(1)).store(file);
+
+        ArgumentCaptor<BatchPreparedStatementSetter> captor = ArgumentCaptor.forClass(BatchPreparedStatementSetter.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(any(PreparedStatementCreator.class), captor.capture(),
+                any(KeyHolder.class));
+        assertThat(captor.getValue().getBatchSize()).isEqualTo(2);
+        verify(taskRepository, never()).save(any());
+        verify(taskEventBus, times(2)).publish(any());
+        verify(searchIndexer, times(2)).indexTask(any());
+    }
+
+    @Test
+    void assignTasks_DriverReturnsTooFewKeys_ThrowsBeforePublishing() {
+        // Arrange
+        when(zoneRepository.findZoneFarmIds(anyCollection()))
+                .thenReturn(List.of(new Object[]{1L, farmId}, new Object[]{2L, farmId}));
+        when(farmAssignmentRepository.findAssignedFarmIdsByManagerId(managerId)).thenReturn(List.of(farmId));
+        returnGeneratedKeys(100L);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class,
+                () -> taskManagerService.assignTasks(request, null, managerId, "Manager"));
+        verifyNoInteractions(taskEventBus, searchIndexer, ownershipIndex);
+    }
+
+    @Test
+    void assignTasks_ZoneNotFound_ThrowsResourceNotFound() {
+        // Arrange
+        when(zoneRepository.findZoneFarmIds(anyCollection()))
+                .thenReturn(List.<Object[]>of(new Object[]{1L, farmId}));
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class,
+                () -> taskManagerService.assignTasks(request, null, managerId, "Manager"));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void assignTasks_ZoneInUnassignedFarm_ThrowsValidation() {
+        // Arrange
+        when(zoneRepository.findZoneFarmIds(anyCollection()))
+                .thenReturn(List.of(new Object[]{1L, farmId}, new Object[]{2L, 2L}));
+        when(farmAssignmentRepository.findAssignedFarmIdsByManagerId(managerId)).thenReturn(List.of(farmId));
+
+        // Act & Assert
+        assertThrows(ValidationException.class,
+                () -> taskManagerService.assignTasks(request, null, managerId, "Manager"));
+        verify(jdbcTemplate, never()).batchUpdate(any(PreparedStatementCreator.class),
+                any(BatchPreparedStatementSetter.class), any(KeyHolder.class));
+    }
+
+    @Test
+    void assignTask_WithoutFarmId_BelongsToManagersOnlyFarm() {
+        // Arrange
+        when(farmAssignmentRepository.findAssignedFarmIdsByManagerId(managerId)).thenReturn(List.of(farmId));
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> {
+            Task task = invocation.getArgument(0);
+            task.setId(40L);
+            return task;
+        });
+
+        // Act
+        taskManagerService.assignTask("Scout for aphids", "Check every row", 10L, null, null, null, managerId);
+
+        // Assert
+        verify(ownershipIndex).registerAll(ResourceType.TASK, Map.of(40L, farmId));
+        verify(searchIndexer).indexTask(any(Task.class));
+    }
+
+    @Test
+    void assignTask_SeveralFarmsWithoutFarmId_ThrowsValidation() {
+        // Arrange
+        when(farmAssignmentRepository.findAssignedFarmIdsByManagerId(managerId)).thenReturn(List.of(farmId, 2L));
+
+        // Act & Assert
+        assertThrows(ValidationException.class,
+                () -> taskManagerService.assignTask("Scout for aphids", "Check every row", 10L, null, null, null, managerId));
+        verify(taskRepository, never()).save(any());
+    }
+
+    @Test
+    void assignTask_FarmNotAssigned_ThrowsValidation() {
+        // Arrange
+        when(farmAssignmentRepository.findAssignedFarmIdsByManagerId(managerId)).thenReturn(List.of(farmId));
+
+        // Act & Assert
+        assertThrows(ValidationException.class,
+                () -> taskManagerService.assignTask("Scout for aphids", "Check every row", 10L, null, 2L, null, managerId));
+        verify(taskRepository, never()).save(any());
+    }
+
+    // Helper method to make the batch insert report one generated ID per row
+    private void returnGeneratedKeys(Long... ids) {
+        doAnswer(invocation -> {
+            KeyHolder keyHolder = invocation.getArgument(2);
+            for (Long id : ids) {
+                keyHolder.getKeyList().add(Map.of("ID", id));
+            }
+            return new int[ids.length];
+        }).when(jdbcTemplate).batchUpdate(any(PreparedStatementCreator.class), any(BatchPreparedStatementSetter.class),
+                any(KeyHolder.class));
+    }
+}
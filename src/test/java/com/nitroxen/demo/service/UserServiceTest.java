@@ -0,0 +1,144 @@
+package com.nitroxen.demo.service;
+
+import com.nitroxen.demo.dto.request.CreateUserRequest;
+import com.nitroxen.demo.dto.response.UserResponse;
+import com.nitroxen.demo.entity.User;
+import com.nitroxen.demo.enums.Role;
+import com.nitroxen.demo.exception.ValidationException;
+import com.nitroxen.demo.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UserServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @InjectMocks
+    private UserService userService;
+
+    private final Long ownerId = 3L;
+    private final Long managerId = 5L;
+
+    @Test
+    void createUser_ByOwner_JoinsOwnersTeam() {
+        // Arrange
+        when(userRepository.findById(ownerId)).thenReturn(Optional.of(user(ownerId, Role.OWNER, null)));
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        UserResponse response = userService.createUser(request(Role.MANAGER), ownerId);
+
+        // Assert
+        ArgumentCaptor<User> saved = ArgumentCaptor.forClass(User.class);
+        verify(userRepository).save(saved.capture());
+        assertThat(saved.getValue().getCreatedBy()).isEqualTo(ownerId);
+        assertThat(saved.getValue().getOwnerId()).isEqualTo(ownerId);
+        assertThat(response.getCreatedBy()).isEqualTo(ownerId);
+    }
+
+    @Test
+    void createUser_ByManager_JoinsManagersOwnerTeam() {
+        // Arrange
+        when(userRepository.findById(managerId)).thenReturn(Optional.of(user(managerId, Role.MANAGER, ownerId)));
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        userService.createUser(request(Role.WORKER), managerId);
+
+        // Assert
+        ArgumentCaptor<User> saved = ArgumentCaptor.forClass(User.class);
+        verify(userRepository).save(saved.capture());
+        assertThat(saved.getValue().getCreatedBy()).isEqualTo(managerId);
+        assertThat(saved.getValue().getOwnerId()).isEqualTo(ownerId);
+    }
+
+    @Test
+    void getUsersCreatedBy_QueriesOnlyTheCreatorsUsers() {
+        // Arrange
+        PageRequest page = PageRequest.of(1, 20, Sort.by("id"));
+        when(userRepository.findByCreatedByAndRole(managerId, Role.WORKER, page))
+                .thenReturn(List.of(user(21L, Role.WORKER, ownerId)));
+
+        // Act
+        List<UserResponse> workers = userService.getUsersCreatedBy(managerId, Role.WORKER, 1, 20);
+
+        // Assert
+        assertThat(workers).extracting(UserResponse::getId).containsExactly(21L);
+        verify(userRepository, never()).findByRole(any());
+    }
+
+    @Test
+    void getTeamUsers_QueriesByTeamOwner() {
+        // Arrange
+        PageRequest page = PageRequest.of(0, 50, Sort.by("id"));
+        when(userRepository.findByOwnerIdAndRole(ownerId, Role.WORKER, page))
+                .thenReturn(List.of(user(21L, Role.WORKER, ownerId), user(22L, Role.WORKER, ownerId)));
+
+        // Act
+        List<UserResponse> workers = userService.getTeamUsers(ownerId, Role.WORKER, 0, 50);
+
+        // Assert
+        assertThat(workers).extracting(UserResponse::getId).containsExactly(21L, 22L);
+    }
+
+    @Test
+    void getUnattachedUsers_QueriesUsersWithoutTeamOwner() {
+        // Arrange
+        PageRequest page = PageRequest.of(0, 20, Sort.by("id"));
+        when(userRepository.findByOwnerIdIsNullAndRole(Role.WORKER, page))
+                .thenReturn(List.of(user(30L, Role.WORKER, null)));
+
+        // Act
+        List<UserResponse> workers = userService.getUnattachedUsers(Role.WORKER, 0, 20);
+
+        // Assert
+        assertThat(workers).extracting(UserResponse::getId).containsExactly(30L);
+    }
+
+    @Test
+    void getTeamUsers_OversizedPage_ThrowsValidationException() {
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> userService.getTeamUsers(ownerId, Role.WORKER, 0, 1000));
+        verifyNoInteractions(userRepository);
+    }
+
+    private static User user(Long id, Role role, Long teamOwnerId) {
+        return User.builder()
+                .id(id)
+                .name("User " + id)
+                .phoneNumber("+1555000" + id)
+                .password("encoded")
+                .role(role)
+                .ownerId(teamOwnerId)
+                .build();
+    }
+
+    private static CreateUserRequest request(Role role) {
+        CreateUserRequest request = new CreateUserRequest();
+        request.setName("New User");
+        request.setPhoneNumber("+15559990000");
+        request.setPassword("password");
+        request.setRole(role);
+        return request;
+    }
+}
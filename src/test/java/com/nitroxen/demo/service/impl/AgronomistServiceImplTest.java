@@ -6,10 +6,17 @@ import com.nitroxen.demo.entity.Agronomist;
 import com.nitroxen.demo.entity.AgronomistReport;
 import com.nitroxen.demo.entity.Farm;
 import com.nitroxen.demo.entity.User;
+import com.nitroxen.demo.dto.entity.AgronomistSearchPageDTO;
+import com.nitroxen.demo.enums.ResourceType;
 import com.nitroxen.demo.enums.Role;
+import com.nitroxen.demo.exception.ValidationException;
+import com.nitroxen.demo.ownership.OwnershipIndex;
 import com.nitroxen.demo.repository.AgronomistReportRepository;
 import com.nitroxen.demo.repository.AgronomistRepository;
 import com.nitroxen.demo.repository.FarmRepository;
+import com.nitroxen.demo.search.SearchDocument;
+import com.nitroxen.demo.search.SearchIndex;
+import com.nitroxen.demo.search.SearchIndexer;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -38,6 +45,15 @@ public class AgronomistServiceImplTest {
     @Mock
     private AgronomistReportRepository reportRepository;
 
+    @Mock
+    private SearchIndexer searchIndexer;
+
+    @Mock
+    private SearchIndex searchIndex;
+
+    @Mock
+    private OwnershipIndex ownershipIndex;
+
     @InjectMocks
     private AgronomistServiceImpl agronomistService;
 
@@ -153,6 +169,7 @@ public class AgronomistServiceImplTest {
         assertThat(result.getEmail()).isEqualTo("updated@test.com");
         verify(agronomistRepository, times(1)).findById(agronomistId);
         verify(agronomistRepository, times(1)).save(any(Agronomist.class));
+        verify(searchIndexer, times(1)).indexAgronomist(updatedAgronomist);
     }
 
     @Test
@@ -220,16 +237,25 @@ public class AgronomistServiceImplTest {
     void searchAgronomists_Success() {
         // Arrange
         String keyword = "Test";
-        List<Agronomist> agronomists = List.of(agronomist);
-        when(agronomistRepository.findByNameContainingIgnoreCase(keyword)).thenReturn(agronomists);
+        when(searchIndex.searchKeywords(keyword, SearchDocument.Type.AGRONOMIST, 0, 20)).thenReturn(new SearchIndex.Page(1,
+                List.of(new SearchIndex.Hit(SearchDocument.Type.AGRONOMIST, agronomistId, null, "Test Agronomist", "Hydroponics", 2.5f))));
+        when(agronomistRepository.findAllById(List.of(agronomistId))).thenReturn(List.of(agronomist));
 
         // Act
-        List<AgronomistDTO> results = agronomistService.searchAgronomists(keyword);
+        AgronomistSearchPageDTO results = agronomistService.searchAgronomists(keyword, 0, 20);
 
         // Assert
-        assertThat(results).hasSize(1);
-        assertThat(results.get(0).getName()).isEqualTo("Test Agronomist");
-        verify(agronomistRepository, times(1)).findByNameContainingIgnoreCase(keyword);
+        assertThat(results.getTotal()).isEqualTo(1);
+        assertThat(results.getResults()).hasSize(1);
+        assertThat(results.getResults().get(0).getName()).isEqualTo("Test Agronomist");
+    }
+
+    @Test
+    void searchAgronomists_PageTooLarge_ThrowsValidationException() {
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> agronomistService.searchAgronomists("Test", 0, 500));
+        assertThrows(ValidationException.class, () -> agronomistService.searchAgronomists("Test", 20, 100));
+        verifyNoInteractions(searchIndex);
     }
 
     @Test
@@ -380,5 +406,7 @@ public class AgronomistServiceImplTest {
 
         // Assert
         verify(reportRepository, times(1)).deleteById(reportId);
+        verify(ownershipIndex, times(1)).unregister(ResourceType.AGRONOMIST_REPORT, List.of(reportId));
+        verify(searchIndexer, times(1)).remove(SearchDocument.Type.AGRONOMIST_REPORT, reportId);
     }
 }
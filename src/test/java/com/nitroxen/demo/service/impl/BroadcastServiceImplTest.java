@@ -0,0 +1,142 @@
+package com.nitroxen.demo.service.impl;
+
+import com.nitroxen.demo.dto.request.BroadcastRequest;
+import com.nitroxen.demo.dto.response.BroadcastResponse;
+import com.nitroxen.demo.entity.Broadcast;
+import com.nitroxen.demo.entity.OutboundNotification;
+import com.nitroxen.demo.enums.NotificationCategory;
+import com.nitroxen.demo.enums.NotificationStatus;
+import com.nitroxen.demo.exception.ValidationException;
+import com.nitroxen.demo.notification.NotificationOutbox;
+import com.nitroxen.demo.repository.BroadcastRepository;
+import com.nitroxen.demo.repository.FarmAssignmentRepository;
+import com.nitroxen.demo.repository.OutboundNotificationRepository;
+import com.nitroxen.demo.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BroadcastServiceImplTest {
+
+    @Mock
+    private BroadcastRepository broadcastRepository;
+
+    @Mock
+    private FarmAssignmentRepository farmAssignmentRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private OutboundNotificationRepository outboundNotificationRepository;
+
+    @Mock
+    private NotificationOutbox notificationOutbox;
+
+    @InjectMocks
+    private BroadcastServiceImpl broadcastService;
+
+    private final Long managerId = 2L;
+    private final Long farmId = 1L;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void createBroadcast_QueuesOneMessagePerDistinctPhoneNumber() {
+        // Arrange
+        BroadcastRequest request = BroadcastRequest.builder().message("Frost tonight, close the vents").build();
+        when(farmAssignmentRepository.existsByFarmIdAndManagerIdAndActiveTrue(farmId, managerId)).thenReturn(true);
+        when(userRepository.findWorkerPhoneNumbersByFarmId(farmId))
+                .thenReturn(List.of("+91 98765 43210", "+91-98765-43210", "+15550001111"));
+        when(broadcastRepository.save(any(Broadcast.class))).thenAnswer(invocation -> {
+            Broadcast broadcast = invocation.getArgument(0);
+            broadcast.setId(7L);
+            return broadcast;
+        });
+
+        // Act
+        BroadcastResponse response = broadcastService.createBroadcast(farmId, request, managerId);
+
+        // Assert
+        ArgumentCaptor<Collection<String>> phoneNumbers = ArgumentCaptor.forClass(Collection.class);
+        verify(notificationOutbox).enqueue(eq(NotificationCategory.BROADCAST), eq("broadcast:7"), phoneNumbers.capture(),
+                eq("Frost tonight, close the vents"));
+        assertThat(phoneNumbers.getValue()).containsExactly("+919876543210", "+15550001111");
+        assertThat(response.getId()).isEqualTo(7L);
+        assertThat(response.getRecipientCount()).isEqualTo(2);
+        assertThat(response.getPending()).isEqualTo(2);
+        assertThat(response.getComplete()).isFalse();
+    }
+
+    @Test
+    void createBroadcast_NoWorkers_ThrowsValidationException() {
+        // Arrange
+        BroadcastRequest request = BroadcastRequest.builder().message("Hello").build();
+        when(farmAssignmentRepository.existsByFarmIdAndManagerIdAndActiveTrue(farmId, managerId)).thenReturn(true);
+        when(userRepository.findWorkerPhoneNumbersByFarmId(farmId)).thenReturn(List.of());
+
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> broadcastService.createBroadcast(farmId, request, managerId));
+        verify(broadcastRepository, never()).save(any());
+        verify(notificationOutbox, never()).enqueue(any(), anyString(), any(), anyString());
+    }
+
+    @Test
+    void createBroadcast_FarmNotAssigned_ThrowsValidationException() {
+        // Arrange
+        BroadcastRequest request = BroadcastRequest.builder().message("Hello").build();
+        when(farmAssignmentRepository.existsByFarmIdAndManagerIdAndActiveTrue(farmId, managerId)).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> broadcastService.createBroadcast(farmId, request, managerId));
+        verifyNoInteractions(userRepository, notificationOutbox);
+    }
+
+    @Test
+    void getBroadcast_CountsRecipientsPerDeliveryState() {
+        // Arrange
+        Broadcast broadcast = Broadcast.builder().id(7L).farmId(farmId).managerId(managerId)
+                .message("Frost tonight").recipientCount(3).build();
+        when(broadcastRepository.findById(7L)).thenReturn(Optional.of(broadcast));
+        when(farmAssignmentRepository.existsByFarmIdAndManagerIdAndActiveTrue(farmId, managerId)).thenReturn(true);
+        when(outboundNotificationRepository.findByReferenceOrderById("broadcast:7")).thenReturn(List.of(
+                delivery("+15550001111", NotificationStatus.SENT),
+                delivery("+15550002222", NotificationStatus.PENDING),
+                delivery("+15550003333", NotificationStatus.FAILED)));
+
+        // Act
+        BroadcastResponse response = broadcastService.getBroadcast(7L, managerId);
+
+        // Assert
+        assertThat(response.getSent()).isEqualTo(1);
+        assertThat(response.getPending()).isEqualTo(1);
+        assertThat(response.getFailed()).isEqualTo(1);
+        assertThat(response.getComplete()).isFalse();
+        assertThat(response.getRecipients()).extracting("phoneNumber")
+                .containsExactly("+15550001111", "+15550002222", "+15550003333");
+    }
+
+    private static OutboundNotification delivery(String phoneNumber, NotificationStatus status) {
+        return OutboundNotification.builder()
+                .category(NotificationCategory.BROADCAST)
+                .reference("broadcast:7")
+                .phoneNumber(phoneNumber)
+                .status(status)
+                .attempts(1)
+                .build();
+    }
+}
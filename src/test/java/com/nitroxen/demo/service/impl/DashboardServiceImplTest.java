@@ -0,0 +1,117 @@
+package com.nitroxen.demo.service.impl;
+
+import com.nitroxen.demo.dashboard.OwnerDashboardCache;
+import com.nitroxen.demo.dto.response.FarmSummaryResponse;
+import com.nitroxen.demo.dto.response.OwnerDashboardResponse;
+import com.nitroxen.demo.repository.FarmRepository;
+import com.nitroxen.demo.repository.PolyhouseRepository;
+import com.nitroxen.demo.repository.ReservoirRepository;
+import com.nitroxen.demo.repository.ZoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class DashboardServiceImplTest {
+
+    private final Long ownerId = 3L;
+
+    @Mock
+    private FarmRepository farmRepository;
+
+    @Mock
+    private PolyhouseRepository polyhouseRepository;
+
+    @Mock
+    private ZoneRepository zoneRepository;
+
+    @Mock
+    private ReservoirRepository reservoirRepository;
+
+    private OwnerDashboardCache dashboardCache;
+    private DashboardServiceImpl dashboardService;
+
+    @BeforeEach
+    void setUp() {
+        dashboardCache = new OwnerDashboardCache(60_000, 100);
+        dashboardService = new DashboardServiceImpl(farmRepository, polyhouseRepository, zoneRepository,
+                reservoirRepository, dashboardCache);
+    }
+
+    @Test
+    void getOwnerDashboard_AssemblesFarmTotalsFromGroupedQueries() {
+        // Arrange
+        stubHierarchy();
+
+        // Act
+        OwnerDashboardResponse dashboard = dashboardService.getOwnerDashboard(ownerId);
+
+        // Assert
+        assertThat(dashboard.getFarmCount()).isEqualTo(2);
+        assertThat(dashboard.getTotalArea()).isEqualTo(12000.0);
+        assertThat(dashboard.getUsedArea()).isEqualTo(5200.0);
+        assertThat(dashboard.getPolyhouseCount()).isEqualTo(4);
+        assertThat(dashboard.getZoneCount()).isEqualTo(22);
+        assertThat(dashboard.getReservoirCount()).isEqualTo(2);
+        assertThat(dashboard.getReservoirCapacity()).isEqualTo(15000.0);
+
+        FarmSummaryResponse north = dashboard.getFarms().get(0);
+        assertThat(north.getFarmId()).isEqualTo(7L);
+        assertThat(north.getRemainingArea()).isEqualTo(2800.0);
+        assertThat(north.getUnservedZoneCount()).isEqualTo(3);
+        assertThat(north.getZonesByCropType())
+                .extracting("cropType", "zoneCount")
+                .containsExactly(tuple("Tomato", 12L), tuple("Cucumber", 8L), tuple(null, 2L));
+        assertThat(north.getReservoirs())
+                .extracting("reservoirId", "servingZoneCount")
+                .containsExactly(tuple(4L, 12L), tuple(5L, 7L));
+
+        // A farm without polyhouses, zones or reservoirs still gets its totals
+        FarmSummaryResponse empty = dashboard.getFarms().get(1);
+        assertThat(empty.getPolyhouseCount()).isZero();
+        assertThat(empty.getRemainingArea()).isEqualTo(4000.0);
+        assertThat(empty.getZonesByCropType()).isEmpty();
+    }
+
+    @Test
+    void getOwnerDashboard_SecondCall_DoesNotQueryAgainUntilEvicted() {
+        // Arrange
+        stubHierarchy();
+        OwnerDashboardResponse first = dashboardService.getOwnerDashboard(ownerId);
+
+        // Act
+        OwnerDashboardResponse cached = dashboardService.getOwnerDashboard(ownerId);
+        dashboardCache.evictOwner(ownerId);
+        OwnerDashboardResponse rebuilt = dashboardService.getOwnerDashboard(ownerId);
+
+        // Assert
+        assertThat(cached).isSameAs(first);
+        assertThat(rebuilt).isNotSameAs(first);
+        verify(farmRepository, times(2)).findDashboardFarmsByOwnerId(ownerId);
+        verify(zoneRepository, times(2)).countByFarmAndCropTypeForOwner(ownerId);
+    }
+
+    // Helper method to stub two farms: one with polyhouses, zones and reservoirs, one empty
+    private void stubHierarchy() {
+        when(farmRepository.findDashboardFarmsByOwnerId(ownerId)).thenReturn(List.of(
+                new Object[]{7L, "North Farm", "Nashik", 8000.0},
+                new Object[]{8L, "South Farm", "Pune", 4000.0}));
+        when(polyhouseRepository.countAndSumAreaByFarmForOwner(ownerId)).thenReturn(List.<Object[]>of(
+                new Object[]{7L, 4L, 5200.0}));
+        when(zoneRepository.countByFarmAndCropTypeForOwner(ownerId)).thenReturn(List.of(
+                new Object[]{7L, "Cucumber", 8L, 1L},
+                new Object[]{7L, null, 2L, 2L},
+                new Object[]{7L, "Tomato", 12L, 0L}));
+        when(reservoirRepository.findServingZoneCountsByOwnerId(ownerId)).thenReturn(List.of(
+                new Object[]{7L, 4L, "Main Tank", 10000.0, 12L},
+                new Object[]{7L, 5L, "Side Tank", 5000.0, 7L}));
+    }
+}
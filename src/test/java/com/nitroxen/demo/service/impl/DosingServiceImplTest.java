@@ -0,0 +1,113 @@
+package com.nitroxen.demo.service.impl;
+
+import com.nitroxen.demo.dosing.DosingCalculator;
+import com.nitroxen.demo.dosing.MixingRecipe;
+import com.nitroxen.demo.dosing.ZoneCrop;
+import com.nitroxen.demo.dto.request.StockSolutionRequest;
+import com.nitroxen.demo.dto.response.MixingRecipeResponse;
+import com.nitroxen.demo.dto.response.StockSolutionResponse;
+import com.nitroxen.demo.entity.Reservoir;
+import com.nitroxen.demo.entity.StockSolution;
+import com.nitroxen.demo.enums.CropStage;
+import com.nitroxen.demo.enums.StockSolutionType;
+import com.nitroxen.demo.exception.ValidationException;
+import com.nitroxen.demo.repository.FarmAssignmentRepository;
+import com.nitroxen.demo.repository.ReservoirRepository;
+import com.nitroxen.demo.repository.StockSolutionRepository;
+import com.nitroxen.demo.repository.ZoneRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class DosingServiceImplTest {
+
+    @Mock
+    private StockSolutionRepository stockSolutionRepository;
+
+    @Mock
+    private ReservoirRepository reservoirRepository;
+
+    @Mock
+    private ZoneRepository zoneRepository;
+
+    @Mock
+    private FarmAssignmentRepository farmAssignmentRepository;
+
+    @Mock
+    private DosingCalculator dosingCalculator;
+
+    @InjectMocks
+    private DosingServiceImpl dosingService;
+
+    private final Long managerId = 2L;
+    private final Long farmId = 1L;
+
+    @Test
+    void createStockSolution_Success_EvictsFarmRecipes() {
+        // Arrange
+        StockSolutionRequest request = StockSolutionRequest.builder()
+                .name("Grow A").type(StockSolutionType.NUTRIENT).ecPerMl(0.1).phPerMl(-0.02).build();
+        when(farmAssignmentRepository.existsByFarmIdAndManagerIdAndActiveTrue(farmId, managerId)).thenReturn(true);
+        when(stockSolutionRepository.save(any(StockSolution.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        StockSolutionResponse response = dosingService.createStockSolution(farmId, request, managerId);
+
+        // Assert
+        assertThat(response.getRatio()).isEqualTo(1.0);
+        verify(dosingCalculator).evictFarm(farmId);
+    }
+
+    @Test
+    void createStockSolution_PhDownRaisingPh_ThrowsValidationException() {
+        // Arrange
+        StockSolutionRequest request = StockSolutionRequest.builder()
+                .name("Acid").type(StockSolutionType.PH_DOWN).ecPerMl(0.0).phPerMl(0.1).build();
+        when(farmAssignmentRepository.existsByFarmIdAndManagerIdAndActiveTrue(farmId, managerId)).thenReturn(true);
+
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> dosingService.createStockSolution(farmId, request, managerId));
+        verify(stockSolutionRepository, never()).save(any());
+    }
+
+    @Test
+    void getFarmRecipes_GroupsZonesByReservoir() {
+        // Arrange
+        Reservoir tank = Reservoir.builder().id(5L).name("Tank").capacity(2000.0).build();
+        MixingRecipe recipe = new MixingRecipe(2000, 2.5, 6.0, 2.5, 6.0, List.of(), List.of());
+        when(farmAssignmentRepository.existsByFarmIdAndManagerIdAndActiveTrue(farmId, managerId)).thenReturn(true);
+        when(reservoirRepository.findByFarmId(farmId)).thenReturn(List.of(tank));
+        when(zoneRepository.findReservoirZoneCropsByFarmId(farmId)).thenReturn(List.of(
+                new Object[]{5L, 7L, "Tomato", null, CropStage.VEGETATIVE},
+                new Object[]{5L, 8L, "Tomato", "Roma", CropStage.FRUITING}));
+        when(stockSolutionRepository.findByFarmIdOrderByIdAsc(farmId)).thenReturn(List.of());
+        when(dosingCalculator.recipesFor(eq(farmId), any(), any())).thenReturn(Map.of(5L, recipe));
+
+        // Act
+        List<MixingRecipeResponse> responses = dosingService.getFarmRecipes(farmId, managerId);
+
+        // Assert
+        assertThat(responses).hasSize(1);
+        assertThat(responses.get(0).getZoneIds()).containsExactly(7L, 8L);
+        assertThat(responses.get(0).getTargetEc()).isEqualTo(2.5);
+        ArgumentCaptor<Supplier<List<StockSolution>>> stocks = ArgumentCaptor.captor();
+        verify(dosingCalculator).recipesFor(eq(farmId), eq(List.of(new DosingCalculator.ReservoirBatch(5L, 2000.0, List.of(
+                new ZoneCrop(7L, "Tomato", null, CropStage.VEGETATIVE),
+                new ZoneCrop(8L, "Tomato", "Roma", CropStage.FRUITING))))), stocks.capture());
+        assertThat(stocks.getValue().get()).isEmpty();
+    }
+}
@@ -0,0 +1,123 @@
+package com.nitroxen.demo.service.impl;
+
+import com.nitroxen.demo.dto.request.IrrigationProgramRequest;
+import com.nitroxen.demo.dto.response.IrrigationProgramResponse;
+import com.nitroxen.demo.dto.response.IrrigationScheduleResponse;
+import com.nitroxen.demo.entity.Farm;
+import com.nitroxen.demo.entity.IrrigationProgram;
+import com.nitroxen.demo.entity.Polyhouse;
+import com.nitroxen.demo.entity.Reservoir;
+import com.nitroxen.demo.entity.Zone;
+import com.nitroxen.demo.exception.ValidationException;
+import com.nitroxen.demo.irrigation.FarmIrrigationPlan;
+import com.nitroxen.demo.irrigation.IrrigationPlanner;
+import com.nitroxen.demo.irrigation.ProgramSpec;
+import com.nitroxen.demo.repository.FarmAssignmentRepository;
+import com.nitroxen.demo.repository.IrrigationProgramRepository;
+import com.nitroxen.demo.repository.ZoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class IrrigationServiceImplTest {
+
+    @Mock
+    private IrrigationProgramRepository programRepository;
+
+    @Mock
+    private ZoneRepository zoneRepository;
+
+    @Mock
+    private FarmAssignmentRepository farmAssignmentRepository;
+
+    @Mock
+    private IrrigationPlanner irrigationPlanner;
+
+    @InjectMocks
+    private IrrigationServiceImpl irrigationService;
+
+    private Zone zone;
+    private IrrigationProgramRequest request;
+
+    private final Long managerId = 2L;
+    private final Long farmId = 1L;
+    private final Long zoneId = 3L;
+
+    @BeforeEach
+    void setUp() {
+        Farm farm = Farm.builder().id(farmId).name("Test Farm").build();
+        Polyhouse polyhouse = Polyhouse.builder().id(1L).name("Test Polyhouse").farm(farm).build();
+        Reservoir reservoir = Reservoir.builder().id(9L).capacity(5000.0).build();
+        zone = Zone.builder().id(zoneId).name("Test Zone").polyhouse(polyhouse).waterSource(reservoir).build();
+
+        request = IrrigationProgramRequest.builder()
+                .startTime(LocalTime.of(6, 0))
+                .cyclesPerDay(3)
+                .cycleMinutes(10)
+                .intervalMinutes(240)
+                .flowLitersPerMinute(12.5)
+                .build();
+    }
+
+    @Test
+    void saveProgram_Success_UpdatesZoneInPlan() {
+        // Arrange
+        when(zoneRepository.findById(zoneId)).thenReturn(Optional.of(zone));
+        when(farmAssignmentRepository.existsByFarmIdAndManagerIdAndActiveTrue(farmId, managerId)).thenReturn(true);
+        when(programRepository.findByZoneId(zoneId)).thenReturn(Optional.empty());
+        when(programRepository.save(any(IrrigationProgram.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        IrrigationProgramResponse response = irrigationService.saveProgram(zoneId, request, managerId);
+
+        // Assert
+        assertThat(response.getFarmId()).isEqualTo(farmId);
+        assertThat(response.getCyclesPerDay()).isEqualTo(3);
+        verify(irrigationPlanner).updateZone(farmId, zoneId, new ProgramSpec(zoneId, 9L, 360, 3, 10, 240, 125.0));
+    }
+
+    @Test
+    void saveProgram_ZoneNotAssigned_ThrowsValidationException() {
+        // Arrange
+        when(zoneRepository.findById(zoneId)).thenReturn(Optional.of(zone));
+        when(farmAssignmentRepository.existsByFarmIdAndManagerIdAndActiveTrue(farmId, managerId)).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> irrigationService.saveProgram(zoneId, request, managerId));
+        verify(programRepository, never()).save(any());
+        verifyNoInteractions(irrigationPlanner);
+    }
+
+    @Test
+    void getFarmSchedule_SplitsScheduledAndUnscheduledCycles() {
+        // Arrange
+        FarmIrrigationPlan plan = new FarmIrrigationPlan(8, 0);
+        plan.addReservoir(9L, 1, 200);
+        plan.place(new ProgramSpec(zoneId, 9L, 360, 3, 10, 240, 125.0));
+        when(farmAssignmentRepository.existsByFarmIdAndManagerIdAndActiveTrue(farmId, managerId)).thenReturn(true);
+        when(irrigationPlanner.planFor(farmId)).thenReturn(plan);
+
+        // Act
+        IrrigationScheduleResponse response = irrigationService.getFarmSchedule(farmId, managerId);
+
+        // Assert
+        assertThat(response.getRuns()).hasSize(1);
+        assertThat(response.getRuns().get(0).getStart()).isEqualTo(LocalTime.of(6, 0));
+        assertThat(response.getRuns().get(0).getEnd()).isEqualTo(LocalTime.of(6, 10));
+        assertThat(response.getUnscheduled()).hasSize(2)
+                .allMatch(run -> FarmIrrigationPlan.RESERVOIR_CAPACITY.equals(run.getUnscheduledReason()));
+        assertThat(response.getLitersByReservoir()).containsEntry(9L, 125.0);
+    }
+}
@@ -7,19 +7,25 @@ import com.nitroxen.demo.entity.Farm;
 import com.nitroxen.demo.entity.Polyhouse;
 import com.nitroxen.demo.entity.User;
 import com.nitroxen.demo.entity.Zone;
+import com.nitroxen.demo.enums.ResourceType;
 import com.nitroxen.demo.enums.Role;
+import com.nitroxen.demo.events.DomainEventBus;
 import com.nitroxen.demo.exception.ResourceNotFoundException;
 import com.nitroxen.demo.exception.ValidationException;
+import com.nitroxen.demo.ownership.OwnershipIndex;
 import com.nitroxen.demo.repository.FarmRepository;
 import com.nitroxen.demo.repository.PolyhouseRepository;
 import com.nitroxen.demo.repository.ZoneRepository;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -43,6 +49,12 @@ public class PolyhouseServiceImplTest {
     @Mock
     private ZoneRepository zoneRepository;
 
+    @Mock
+    private DomainEventBus domainEventBus;
+
+    @Mock
+    private OwnershipIndex ownershipIndex;
+
     @InjectMocks
     private PolyhouseServiceImpl polyhouseService;
 
@@ -127,8 +139,7 @@ public class PolyhouseServiceImplTest {
     void createPolyhouse_Success() {
         // Arrange
         when(farmRepository.findById(farmId)).thenReturn(Optional.of(farm));
-        when(polyhouseRepository.existsByNameAndFarmId("Test Polyhouse", farmId)).thenReturn(false);
-        when(polyhouseRepository.save(any(Polyhouse.class))).thenReturn(polyhouse);
+        when(polyhouseRepository.saveAndFlush(any(Polyhouse.class))).thenReturn(polyhouse);
 
         // Act
         PolyhouseResponse response = polyhouseService.createPolyhouse(farmId, polyhouseRequest, ownerId);
@@ -139,7 +150,7 @@ public class PolyhouseServiceImplTest {
         assertThat(response.getName()).isEqualTo("Test Polyhouse");
         assertThat(response.getArea()).isEqualTo(1000.0);
         assertThat(response.getFarmId()).isEqualTo(farmId);
-        verify(polyhouseRepository, times(1)).save(any(Polyhouse.class));
+        verify(polyhouseRepository, times(1)).saveAndFlush(any(Polyhouse.class));
     }
 
     @Test
@@ -149,7 +160,7 @@ public class PolyhouseServiceImplTest {
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> polyhouseService.createPolyhouse(farmId, polyhouseRequest, ownerId));
-        verify(polyhouseRepository, never()).save(any(Polyhouse.class));
+        verify(polyhouseRepository, never()).saveAndFlush(any(Polyhouse.class));
     }
 
     @Test
@@ -167,25 +178,25 @@ public class PolyhouseServiceImplTest {
 
         // Act & Assert
         assertThrows(ValidationException.class, () -> polyhouseService.createPolyhouse(farmId, polyhouseRequest, ownerId));
-        verify(polyhouseRepository, never()).save(any(Polyhouse.class));
+        verify(polyhouseRepository, never()).saveAndFlush(any(Polyhouse.class));
     }
 
     @Test
     void createPolyhouse_DuplicateName_ThrowsValidationException() {
         // Arrange
         when(farmRepository.findById(farmId)).thenReturn(Optional.of(farm));
-        when(polyhouseRepository.existsByNameAndFarmId("Test Polyhouse", farmId)).thenReturn(true);
+        when(polyhouseRepository.saveAndFlush(any(Polyhouse.class))).thenThrow(duplicateName());
 
         // Act & Assert
         assertThrows(ValidationException.class, () -> polyhouseService.createPolyhouse(farmId, polyhouseRequest, ownerId));
-        verify(polyhouseRepository, never()).save(any(Polyhouse.class));
+        verify(domainEventBus, never()).publish(any(), any(), any(), any(), any());
     }
 
     @Test
     void getPolyhousesByFarm_ReturnsListOfPolyhouses() {
         // Arrange
         List<Polyhouse> polyhouses = List.of(polyhouse);
-        when(farmRepository.findById(farmId)).thenReturn(Optional.of(farm));
+        when(ownershipIndex.isOwnedBy(ResourceType.FARM, farmId, ownerId)).thenReturn(true);
         when(polyhouseRepository.findByFarmId(farmId)).thenReturn(polyhouses);
 
         // Act
@@ -201,6 +212,7 @@ public class PolyhouseServiceImplTest {
     @Test
     void getPolyhouseById_Success() {
         // Arrange
+        when(ownershipIndex.isOwnedBy(ResourceType.POLYHOUSE, polyhouseId, ownerId)).thenReturn(true);
         when(polyhouseRepository.findById(polyhouseId)).thenReturn(Optional.of(polyhouse));
 
         // Act
@@ -216,7 +228,7 @@ public class PolyhouseServiceImplTest {
     @Test
     void getPolyhouseById_NotFound_ThrowsResourceNotFoundException() {
         // Arrange
-        when(polyhouseRepository.findById(polyhouseId)).thenReturn(Optional.empty());
+        when(ownershipIndex.isOwnedBy(ResourceType.POLYHOUSE, polyhouseId, ownerId)).thenReturn(false);
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> polyhouseService.getPolyhouseById(polyhouseId, ownerId));
@@ -233,8 +245,8 @@ public class PolyhouseServiceImplTest {
         updateRequest.setEquipment("Updated Equipment");
         updateRequest.setGrowingType("Updated Growing Type");
 
+        when(ownershipIndex.isOwnedBy(ResourceType.POLYHOUSE, polyhouseId, ownerId)).thenReturn(true);
         when(polyhouseRepository.findById(polyhouseId)).thenReturn(Optional.of(polyhouse));
-        when(polyhouseRepository.existsByNameAndFarmId("Updated Polyhouse", farmId)).thenReturn(false);
 
         Polyhouse updatedPolyhouse = Polyhouse.builder()
                 .id(polyhouseId)
@@ -250,7 +262,7 @@ public class PolyhouseServiceImplTest {
                 .updatedAt(now)
                 .build();
 
-        when(polyhouseRepository.save(any(Polyhouse.class))).thenReturn(updatedPolyhouse);
+        when(polyhouseRepository.saveAndFlush(any(Polyhouse.class))).thenReturn(updatedPolyhouse);
 
         // Act
         PolyhouseResponse response = polyhouseService.updatePolyhouse(polyhouseId, updateRequest, ownerId);
@@ -259,12 +271,13 @@ public class PolyhouseServiceImplTest {
         assertThat(response).isNotNull();
         assertThat(response.getName()).isEqualTo("Updated Polyhouse");
         assertThat(response.getArea()).isEqualTo(1200.0);
-        verify(polyhouseRepository, times(1)).save(any(Polyhouse.class));
+        verify(polyhouseRepository, times(1)).saveAndFlush(any(Polyhouse.class));
     }
 
     @Test
     void deletePolyhouse_Success() {
         // Arrange
+        when(ownershipIndex.isOwnedBy(ResourceType.POLYHOUSE, polyhouseId, ownerId)).thenReturn(true);
         when(polyhouseRepository.findById(polyhouseId)).thenReturn(Optional.of(polyhouse));
         doNothing().when(polyhouseRepository).delete(polyhouse);
 
@@ -273,11 +286,13 @@ public class PolyhouseServiceImplTest {
 
         // Assert
         verify(polyhouseRepository, times(1)).delete(polyhouse);
+        verify(ownershipIndex).unregister(ResourceType.POLYHOUSE, List.of(polyhouseId));
     }
 
     @Test
     void getPolyhouseWithZones_Success() {
         // Arrange
+        when(ownershipIndex.isOwnedBy(ResourceType.POLYHOUSE, polyhouseId, ownerId)).thenReturn(true);
         when(polyhouseRepository.findById(polyhouseId)).thenReturn(Optional.of(polyhouse));
 
         // Act
@@ -294,7 +309,7 @@ public class PolyhouseServiceImplTest {
     void getZonesByPolyhouse_Success() {
         // Arrange
         List<Zone> zones = List.of(zone);
-        when(polyhouseRepository.findById(polyhouseId)).thenReturn(Optional.of(polyhouse));
+        when(ownershipIndex.isOwnedBy(ResourceType.POLYHOUSE, polyhouseId, ownerId)).thenReturn(true);
         when(zoneRepository.findByPolyhouseId(polyhouseId)).thenReturn(zones);
 
         // Act
@@ -306,4 +321,10 @@ public class PolyhouseServiceImplTest {
         assertThat(responses.get(0).getName()).isEqualTo("Test Zone");
         verify(zoneRepository, times(1)).findByPolyhouseId(polyhouseId);
     }
+
+    // Helper method to build the exception the database raises for a duplicate name
+    private static DataIntegrityViolationException duplicateName() {
+        return new DataIntegrityViolationException("could not execute statement", new ConstraintViolationException(
+                "Duplicate entry", new SQLException("Duplicate entry"), "polyhouses." + Polyhouse.UNIQUE_NAME));
+    }
 }
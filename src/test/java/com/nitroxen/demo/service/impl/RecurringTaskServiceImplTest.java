@@ -0,0 +1,130 @@
+package com.nitroxen.demo.service.impl;
+
+import com.nitroxen.demo.dto.request.RecurringTaskRequest;
+import com.nitroxen.demo.dto.response.RecurringTaskResponse;
+import com.nitroxen.demo.entity.Farm;
+import com.nitroxen.demo.entity.Polyhouse;
+import com.nitroxen.demo.entity.RecurringTaskSchedule;
+import com.nitroxen.demo.entity.Zone;
+import com.nitroxen.demo.exception.ResourceNotFoundException;
+import com.nitroxen.demo.exception.ValidationException;
+import com.nitroxen.demo.repository.FarmAssignmentRepository;
+import com.nitroxen.demo.repository.RecurringTaskScheduleRepository;
+import com.nitroxen.demo.repository.ZoneRepository;
+import com.nitroxen.demo.scheduling.RecurringTaskScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RecurringTaskServiceImplTest {
+
+    @Mock
+    private RecurringTaskScheduleRepository scheduleRepository;
+
+    @Mock
+    private ZoneRepository zoneRepository;
+
+    @Mock
+    private FarmAssignmentRepository farmAssignmentRepository;
+
+    @Mock
+    private RecurringTaskScheduler scheduler;
+
+    @InjectMocks
+    private RecurringTaskServiceImpl recurringTaskService;
+
+    private Zone zone;
+    private RecurringTaskRequest request;
+
+    private final Long managerId = 2L;
+    private final Long farmId = 1L;
+    private final Long zoneId = 3L;
+    private final LocalDateTime start = LocalDateTime.of(2025, 10, 1, 7, 0);
+
+    @BeforeEach
+    void setUp() {
+        Farm farm = Farm.builder().id(farmId).name("Test Farm").build();
+        Polyhouse polyhouse = Polyhouse.builder().id(1L).name("Test Polyhouse").farm(farm).build();
+        zone = Zone.builder().id(zoneId).name("Test Zone").polyhouse(polyhouse).build();
+
+        request = RecurringTaskRequest.builder()
+                .title("Irrigation check")
+                .workerId(12L)
+                .zoneId(zoneId)
+                .recurrenceRule("freq=weekly;byday=mo")
+                .startAt(start)
+                .build();
+    }
+
+    @Test
+    void createSchedule_Success_TracksFirstOccurrence() {
+        // Arrange
+        when(zoneRepository.findById(zoneId)).thenReturn(Optional.of(zone));
+        when(farmAssignmentRepository.existsByFarmIdAndManagerIdAndActiveTrue(farmId, managerId)).thenReturn(true);
+        when(scheduleRepository.save(any(RecurringTaskSchedule.class))).thenAnswer(invocation -> {
+            RecurringTaskSchedule schedule = invocation.getArgument(0);
+            schedule.setId(7L);
+            return schedule;
+        });
+
+        // Act
+        RecurringTaskResponse response = recurringTaskService.createSchedule(request, managerId);
+
+        // Assert
+        LocalDateTime firstMonday = LocalDateTime.of(2025, 10, 6, 7, 0);
+        assertThat(response.getId()).isEqualTo(7L);
+        assertThat(response.getRecurrenceRule()).isEqualTo("FREQ=WEEKLY;BYDAY=MO");
+        assertThat(response.getNextOccurrenceAt()).isEqualTo(firstMonday);
+        verify(scheduler).track(7L, firstMonday);
+    }
+
+    @Test
+    void createSchedule_ZoneNotAssigned_ThrowsValidationException() {
+        // Arrange
+        when(zoneRepository.findById(zoneId)).thenReturn(Optional.of(zone));
+        when(farmAssignmentRepository.existsByFarmIdAndManagerIdAndActiveTrue(farmId, managerId)).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> recurringTaskService.createSchedule(request, managerId));
+        verify(scheduleRepository, never()).save(any());
+    }
+
+    @Test
+    void cancelSchedule_DeactivatesAndUntracks() {
+        // Arrange
+        RecurringTaskSchedule schedule = RecurringTaskSchedule.builder().id(7L).managerId(managerId).build();
+        when(scheduleRepository.findById(7L)).thenReturn(Optional.of(schedule));
+
+        // Act
+        recurringTaskService.cancelSchedule(7L, managerId);
+
+        // Assert
+        ArgumentCaptor<RecurringTaskSchedule> captor = ArgumentCaptor.forClass(RecurringTaskSchedule.class);
+        verify(scheduleRepository).save(captor.capture());
+        assertThat(captor.getValue().getActive()).isFalse();
+        verify(scheduler).untrack(7L);
+    }
+
+    @Test
+    void cancelSchedule_OtherManager_ThrowsResourceNotFound() {
+        // Arrange
+        RecurringTaskSchedule schedule = RecurringTaskSchedule.builder().id(7L).managerId(99L).build();
+        when(scheduleRepository.findById(7L)).thenReturn(Optional.of(schedule));
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> recurringTaskService.cancelSchedule(7L, managerId));
+    }
+}
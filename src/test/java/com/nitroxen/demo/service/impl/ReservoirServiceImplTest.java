@@ -1,23 +1,31 @@
 package com.nitroxen.demo.service.impl;
 
 import com.nitroxen.demo.dto.request.ReservoirRequest;
+import com.nitroxen.demo.dto.response.ReservoirLevelResponse;
 import com.nitroxen.demo.dto.response.ReservoirResponse;
 import com.nitroxen.demo.entity.Farm;
 import com.nitroxen.demo.entity.Reservoir;
 import com.nitroxen.demo.entity.User;
 import com.nitroxen.demo.entity.Zone;
+import com.nitroxen.demo.enums.ResourceType;
 import com.nitroxen.demo.enums.Role;
+import com.nitroxen.demo.events.DomainEventBus;
 import com.nitroxen.demo.exception.ResourceNotFoundException;
 import com.nitroxen.demo.exception.ValidationException;
+import com.nitroxen.demo.ownership.OwnershipIndex;
 import com.nitroxen.demo.repository.FarmRepository;
 import com.nitroxen.demo.repository.ReservoirRepository;
+import com.nitroxen.demo.telemetry.reservoir.ReservoirLevelTracker;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -37,6 +45,15 @@ public class ReservoirServiceImplTest {
     @Mock
     private FarmRepository farmRepository;
 
+    @Mock
+    private ReservoirLevelTracker reservoirLevelTracker;
+
+    @Mock
+    private DomainEventBus domainEventBus;
+
+    @Mock
+    private OwnershipIndex ownershipIndex;
+
     @InjectMocks
     private ReservoirServiceImpl reservoirService;
 
@@ -108,8 +125,7 @@ public class ReservoirServiceImplTest {
     void createReservoir_Success() {
         // Arrange
         when(farmRepository.findById(farmId)).thenReturn(Optional.of(farm));
-        when(reservoirRepository.existsByNameAndFarmId("Test Reservoir", farmId)).thenReturn(false);
-        when(reservoirRepository.save(any(Reservoir.class))).thenReturn(reservoir);
+        when(reservoirRepository.saveAndFlush(any(Reservoir.class))).thenReturn(reservoir);
 
         // Act
         ReservoirResponse response = reservoirService.createReservoir(farmId, reservoirRequest, ownerId);
@@ -120,7 +136,7 @@ public class ReservoirServiceImplTest {
         assertThat(response.getName()).isEqualTo("Test Reservoir");
         assertThat(response.getCapacity()).isEqualTo(5000.0);
         assertThat(response.getFarmId()).isEqualTo(farmId);
-        verify(reservoirRepository, times(1)).save(any(Reservoir.class));
+        verify(reservoirRepository, times(1)).saveAndFlush(any(Reservoir.class));
     }
 
     @Test
@@ -130,25 +146,25 @@ public class ReservoirServiceImplTest {
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> reservoirService.createReservoir(farmId, reservoirRequest, ownerId));
-        verify(reservoirRepository, never()).save(any(Reservoir.class));
+        verify(reservoirRepository, never()).saveAndFlush(any(Reservoir.class));
     }
 
     @Test
     void createReservoir_DuplicateName_ThrowsValidationException() {
         // Arrange
         when(farmRepository.findById(farmId)).thenReturn(Optional.of(farm));
-        when(reservoirRepository.existsByNameAndFarmId("Test Reservoir", farmId)).thenReturn(true);
+        when(reservoirRepository.saveAndFlush(any(Reservoir.class))).thenThrow(duplicateName());
 
         // Act & Assert
         assertThrows(ValidationException.class, () -> reservoirService.createReservoir(farmId, reservoirRequest, ownerId));
-        verify(reservoirRepository, never()).save(any(Reservoir.class));
+        verify(domainEventBus, never()).publish(any(), any(), any(), any(), any());
     }
 
     @Test
     void getReservoirsByFarm_ReturnsListOfReservoirs() {
         // Arrange
         List<Reservoir> reservoirs = List.of(reservoir);
-        when(farmRepository.findById(farmId)).thenReturn(Optional.of(farm));
+        when(ownershipIndex.isOwnedBy(ResourceType.FARM, farmId, ownerId)).thenReturn(true);
         when(reservoirRepository.findByFarmId(farmId)).thenReturn(reservoirs);
 
         // Act
@@ -164,6 +180,7 @@ public class ReservoirServiceImplTest {
     @Test
     void getReservoirById_Success() {
         // Arrange
+        when(ownershipIndex.isOwnedBy(ResourceType.RESERVOIR, reservoirId, ownerId)).thenReturn(true);
         when(reservoirRepository.findById(reservoirId)).thenReturn(Optional.of(reservoir));
 
         // Act
@@ -176,10 +193,25 @@ public class ReservoirServiceImplTest {
         verify(reservoirRepository, times(1)).findById(reservoirId);
     }
 
+    @Test
+    void getReservoirById_IncludesWaterLevelForecast() {
+        // Arrange
+        ReservoirLevelResponse level = ReservoirLevelResponse.builder().currentLevel(6400.0).hoursToEmpty(30.0).build();
+        when(ownershipIndex.isOwnedBy(ResourceType.RESERVOIR, reservoirId, ownerId)).thenReturn(true);
+        when(reservoirRepository.findById(reservoirId)).thenReturn(Optional.of(reservoir));
+        when(reservoirLevelTracker.forecast(reservoir)).thenReturn(level);
+
+        // Act
+        ReservoirResponse response = reservoirService.getReservoirById(reservoirId, ownerId);
+
+        // Assert
+        assertThat(response.getWaterLevel()).isSameAs(level);
+    }
+
     @Test
     void getReservoirById_NotFound_ThrowsResourceNotFoundException() {
         // Arrange
-        when(reservoirRepository.findById(reservoirId)).thenReturn(Optional.empty());
+        when(ownershipIndex.isOwnedBy(ResourceType.RESERVOIR, reservoirId, ownerId)).thenReturn(false);
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> reservoirService.getReservoirById(reservoirId, ownerId));
@@ -194,8 +226,8 @@ public class ReservoirServiceImplTest {
         updateRequest.setWaterSource("Well Water");
         updateRequest.setWaterTreatment("RO System");
 
+        when(ownershipIndex.isOwnedBy(ResourceType.RESERVOIR, reservoirId, ownerId)).thenReturn(true);
         when(reservoirRepository.findById(reservoirId)).thenReturn(Optional.of(reservoir));
-        when(reservoirRepository.existsByNameAndFarmId("Updated Reservoir", farmId)).thenReturn(false);
 
         Reservoir updatedReservoir = Reservoir.builder()
                 .id(reservoirId)
@@ -209,7 +241,7 @@ public class ReservoirServiceImplTest {
                 .updatedAt(now)
                 .build();
 
-        when(reservoirRepository.save(any(Reservoir.class))).thenReturn(updatedReservoir);
+        when(reservoirRepository.saveAndFlush(any(Reservoir.class))).thenReturn(updatedReservoir);
 
         // Act
         ReservoirResponse response = reservoirService.updateReservoir(reservoirId, updateRequest, ownerId);
@@ -219,7 +251,7 @@ public class ReservoirServiceImplTest {
         assertThat(response.getName()).isEqualTo("Updated Reservoir");
         assertThat(response.getCapacity()).isEqualTo(7000.0);
         assertThat(response.getWaterSource()).isEqualTo("Well Water");
-        verify(reservoirRepository, times(1)).save(any(Reservoir.class));
+        verify(reservoirRepository, times(1)).saveAndFlush(any(Reservoir.class));
     }
 
     @Test
@@ -231,17 +263,19 @@ public class ReservoirServiceImplTest {
         updateRequest.setWaterSource("Municipal");
         updateRequest.setWaterTreatment("Filtration");
 
+        when(ownershipIndex.isOwnedBy(ResourceType.RESERVOIR, reservoirId, ownerId)).thenReturn(true);
         when(reservoirRepository.findById(reservoirId)).thenReturn(Optional.of(reservoir));
-        when(reservoirRepository.existsByNameAndFarmId("Other Reservoir", farmId)).thenReturn(true);
+        when(reservoirRepository.saveAndFlush(any(Reservoir.class))).thenThrow(duplicateName());
 
         // Act & Assert
         assertThrows(ValidationException.class, () -> reservoirService.updateReservoir(reservoirId, updateRequest, ownerId));
-        verify(reservoirRepository, never()).save(any(Reservoir.class));
+        verify(domainEventBus, never()).publish(any(), any(), any(), any(), any());
     }
 
     @Test
     void deleteReservoir_Success() {
         // Arrange
+        when(ownershipIndex.isOwnedBy(ResourceType.RESERVOIR, reservoirId, ownerId)).thenReturn(true);
         when(reservoirRepository.findById(reservoirId)).thenReturn(Optional.of(reservoir));
         doNothing().when(reservoirRepository).delete(reservoir);
 
@@ -250,6 +284,7 @@ public class ReservoirServiceImplTest {
 
         // Assert
         verify(reservoirRepository, times(1)).delete(reservoir);
+        verify(ownershipIndex).unregister(ResourceType.RESERVOIR, List.of(reservoirId));
     }
 
     @Test
@@ -260,10 +295,17 @@ public class ReservoirServiceImplTest {
         servingZones.add(zone);
         reservoirInUse.setServingZones(servingZones);
 
+        when(ownershipIndex.isOwnedBy(ResourceType.RESERVOIR, reservoirId, ownerId)).thenReturn(true);
         when(reservoirRepository.findById(reservoirId)).thenReturn(Optional.of(reservoirInUse));
 
         // Act & Assert
         assertThrows(ValidationException.class, () -> reservoirService.deleteReservoir(reservoirId, ownerId));
         verify(reservoirRepository, never()).delete(any(Reservoir.class));
     }
+
+    // Helper method to build the exception the database raises for a duplicate name
+    private static DataIntegrityViolationException duplicateName() {
+        return new DataIntegrityViolationException("could not execute statement", new ConstraintViolationException(
+                "Duplicate entry", new SQLException("Duplicate entry"), "reservoirs." + Reservoir.UNIQUE_NAME));
+    }
 }
@@ -0,0 +1,192 @@
+package com.nitroxen.demo.service.impl;
+
+import com.nitroxen.demo.billing.RevenueLedger;
+import com.nitroxen.demo.billing.SubscriptionPricing;
+import com.nitroxen.demo.dto.request.RevenueAdjustmentRequest;
+import com.nitroxen.demo.dto.response.BillingRunResponse;
+import com.nitroxen.demo.dto.response.LedgerEntryResponse;
+import com.nitroxen.demo.dto.response.RevenueResponse;
+import com.nitroxen.demo.entity.BillingLedgerEntry;
+import com.nitroxen.demo.entity.Farm;
+import com.nitroxen.demo.entity.RevenueMonthly;
+import com.nitroxen.demo.entity.User;
+import com.nitroxen.demo.enums.BillingChargeType;
+import com.nitroxen.demo.enums.Role;
+import com.nitroxen.demo.exception.ValidationException;
+import com.nitroxen.demo.repository.FarmAssignmentRepository;
+import com.nitroxen.demo.repository.FarmRepository;
+import com.nitroxen.demo.repository.RevenueDailyRepository;
+import com.nitroxen.demo.repository.RevenueMonthlyRepository;
+import com.nitroxen.demo.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RevenueServiceImplTest {
+
+    private static final YearMonth OCTOBER = YearMonth.of(2026, 10);
+
+    @Mock
+    private RevenueLedger revenueLedger;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private FarmRepository farmRepository;
+
+    @Mock
+    private FarmAssignmentRepository farmAssignmentRepository;
+
+    @Mock
+    private RevenueDailyRepository revenueDailyRepository;
+
+    @Mock
+    private RevenueMonthlyRepository revenueMonthlyRepository;
+
+    private RevenueServiceImpl revenueService;
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        SubscriptionPricing pricing = new SubscriptionPricing(new BigDecimal("20.00"), new BigDecimal("0.05"), new BigDecimal("5.00"));
+        revenueService = new RevenueServiceImpl(revenueLedger, pricing, userRepository, farmRepository,
+                farmAssignmentRepository, revenueDailyRepository, revenueMonthlyRepository);
+        owner = User.builder().id(3L).name("John Doe").role(Role.OWNER).build();
+    }
+
+    @Test
+    void runBilling_OwnerWithFarmManagersAndWorkers_RecordsFarmAreaAndSeatCharges() {
+        // Arrange
+        Farm farm = Farm.builder().id(7L).name("North Farm").totalArea(2500.0).build();
+        when(userRepository.findByRole(Role.OWNER)).thenReturn(List.of(owner));
+        when(farmRepository.findByOwnerId(3L)).thenReturn(List.of(farm));
+        when(farmAssignmentRepository.countActiveManagersByOwnerId(3L)).thenReturn(2L);
+        when(userRepository.countByOwnerIdAndRoleAndEnabledTrue(3L, Role.WORKER)).thenReturn(4L);
+        when(revenueLedger.record(eq(3L), anyList())).thenAnswer(invocation -> {
+            List<BillingLedgerEntry> entries = invocation.getArgument(1);
+            return entries.subList(1, entries.size());
+        });
+
+        // Act
+        BillingRunResponse response = revenueService.runBilling(OCTOBER);
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<BillingLedgerEntry>> captor = ArgumentCaptor.forClass(List.class);
+        verify(revenueLedger).record(eq(3L), captor.capture());
+        List<BillingLedgerEntry> charges = captor.getValue();
+        assertThat(charges).extracting(BillingLedgerEntry::getChargeType)
+                .containsExactly(BillingChargeType.FARM, BillingChargeType.AREA, BillingChargeType.SEAT);
+        assertThat(charges).extracting(BillingLedgerEntry::getReference)
+                .containsExactly("2026-10:FARM:7", "2026-10:AREA:7", "2026-10:SEAT:3");
+        assertThat(charges.get(1).getAmount()).isEqualByComparingTo("125.00");
+        assertThat(charges.get(2).getQuantity()).isEqualTo(7.0);
+        assertThat(charges.get(2).getAmount()).isEqualByComparingTo("35.00");
+        assertThat(charges).allMatch(charge -> charge.getBillingPeriod().equals(LocalDate.of(2026, 10, 1)));
+        assertThat(response.getOwners()).isEqualTo(1);
+        assertThat(response.getEntriesRecorded()).isEqualTo(2);
+        assertThat(response.getEntriesSkipped()).isEqualTo(1);
+    }
+
+    @Test
+    void runBilling_OneOwnerFails_BillsTheOthers() {
+        // Arrange
+        User other = User.builder().id(4L).role(Role.OWNER).build();
+        when(userRepository.findByRole(Role.OWNER)).thenReturn(List.of(owner, other));
+        when(farmRepository.findByOwnerId(any())).thenReturn(List.of());
+        when(revenueLedger.record(eq(3L), anyList())).thenThrow(new IllegalStateException("lock timeout"));
+        when(revenueLedger.record(eq(4L), anyList())).thenAnswer(invocation -> invocation.getArgument(1));
+
+        // Act
+        BillingRunResponse response = revenueService.runBilling(OCTOBER);
+
+        // Assert
+        assertThat(response.getOwners()).isEqualTo(1);
+        assertThat(response.getOwnersFailed()).isEqualTo(1);
+        assertThat(response.getEntriesRecorded()).isEqualTo(1);
+    }
+
+    @Test
+    void recordAdjustment_Credit_RecordsNegativeAdjustment() {
+        // Arrange
+        when(userRepository.findById(3L)).thenReturn(Optional.of(owner));
+        when(revenueLedger.record(eq(3L), anyList())).thenAnswer(invocation -> invocation.getArgument(1));
+        RevenueAdjustmentRequest request = new RevenueAdjustmentRequest(3L, new BigDecimal("-15.00"), "Sensor outage");
+
+        // Act
+        LedgerEntryResponse response = revenueService.recordAdjustment(request, 1L);
+
+        // Assert
+        assertThat(response.getChargeType()).isEqualTo(BillingChargeType.ADJUSTMENT);
+        assertThat(response.getAmount()).isEqualByComparingTo("-15.00");
+        assertThat(response.getDescription()).isEqualTo("Sensor outage");
+    }
+
+    @Test
+    void recordAdjustment_NotAnOwnerOrZeroAmount_ThrowsValidation() {
+        // Arrange
+        User manager = User.builder().id(5L).role(Role.MANAGER).build();
+        when(userRepository.findById(5L)).thenReturn(Optional.of(manager));
+        when(userRepository.findById(3L)).thenReturn(Optional.of(owner));
+
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> revenueService.recordAdjustment(
+                new RevenueAdjustmentRequest(5L, BigDecimal.TEN, "Fee"), 1L));
+        assertThrows(ValidationException.class, () -> revenueService.recordAdjustment(
+                new RevenueAdjustmentRequest(3L, new BigDecimal("0.00"), "Nothing"), 1L));
+        verifyNoInteractions(revenueLedger);
+    }
+
+    @Test
+    void getRevenue_Month_ReadsMonthlyAggregatesWithOwnerNames() {
+        // Arrange
+        when(revenueMonthlyRepository.findByRevenueMonthOrderByAmountDesc(LocalDate.of(2026, 10, 1))).thenReturn(List.of(
+                monthly(3L, "245.00", 5), monthly(4L, "40.00", 2)));
+        when(userRepository.findAllById(List.of(3L, 4L))).thenReturn(List.of(owner));
+
+        // Act
+        RevenueResponse response = revenueService.getRevenue(OCTOBER);
+
+        // Assert
+        assertThat(response.getTotal()).isEqualByComparingTo("285.00");
+        assertThat(response.getOwners()).hasSize(2);
+        assertThat(response.getOwners().get(0).getOwnerName()).isEqualTo("John Doe");
+        assertThat(response.getOwners().get(0).getEntryCount()).isEqualTo(5L);
+        assertThat(response.getOwners().get(1).getOwnerName()).isNull();
+    }
+
+    @Test
+    void getOwnerMonthlyRevenue_InvalidRange_ThrowsValidation() {
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> revenueService.getOwnerMonthlyRevenue(3L, OCTOBER, OCTOBER.minusMonths(1)));
+        assertThrows(ValidationException.class, () -> revenueService.getOwnerMonthlyRevenue(3L, OCTOBER, OCTOBER.plusYears(11)));
+        verifyNoInteractions(revenueMonthlyRepository);
+    }
+
+    private RevenueMonthly monthly(Long ownerId, String amount, long entries) {
+        return RevenueMonthly.builder()
+                .ownerId(ownerId)
+                .revenueMonth(LocalDate.of(2026, 10, 1))
+                .amount(new BigDecimal(amount))
+                .entryCount(entries)
+                .build();
+    }
+}
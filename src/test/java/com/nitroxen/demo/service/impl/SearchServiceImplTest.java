@@ -0,0 +1,76 @@
+package com.nitroxen.demo.service.impl;
+
+import com.nitroxen.demo.dto.response.SearchResultResponse;
+import com.nitroxen.demo.exception.ValidationException;
+import com.nitroxen.demo.repository.FarmAssignmentRepository;
+import com.nitroxen.demo.search.SearchDocument;
+import com.nitroxen.demo.search.SearchIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SearchServiceImplTest {
+
+    @Mock
+    private SearchIndex searchIndex;
+
+    @Mock
+    private FarmAssignmentRepository farmAssignmentRepository;
+
+    @InjectMocks
+    private SearchServiceImpl searchService;
+
+    private final Long managerId = 5L;
+
+    @Test
+    void search_ScopesToAssignedFarms() {
+        // Arrange
+        when(farmAssignmentRepository.findAssignedFarmIdsByManagerId(managerId)).thenReturn(List.of(1L, 2L));
+        when(searchIndex.search("aphid", List.of(1L, 2L), Set.of(), 0, 20)).thenReturn(new SearchIndex.Page(1,
+                List.of(new SearchIndex.Hit(SearchDocument.Type.REPORT, 7L, 2L, null, "Aphids in row 3", 1.5f))));
+
+        // Act
+        SearchResultResponse response = searchService.search("aphid", null, Set.of(), 0, 20, managerId);
+
+        // Assert
+        assertThat(response.getTotal()).isEqualTo(1);
+        assertThat(response.getHits()).hasSize(1);
+        assertThat(response.getHits().get(0).getId()).isEqualTo(7L);
+        assertThat(response.getHits().get(0).getFarmId()).isEqualTo(2L);
+    }
+
+    @Test
+    void search_FarmNotAssigned_ThrowsValidation() {
+        // Arrange
+        when(farmAssignmentRepository.findAssignedFarmIdsByManagerId(managerId)).thenReturn(List.of(1L));
+
+        // Act & Assert
+        assertThrows(ValidationException.class,
+                () -> searchService.search("aphid", 3L, Set.of(), 0, 20, managerId));
+        verifyNoInteractions(searchIndex);
+    }
+
+    @Test
+    void search_BeyondResultWindow_ThrowsValidation() {
+        // Act & Assert
+        assertThrows(ValidationException.class,
+                () -> searchService.search("aphid", null, Set.of(), 50, 100, managerId));
+        assertThrows(ValidationException.class,
+                () -> searchService.search(" ", null, Set.of(), 0, 20, managerId));
+        verify(searchIndex, never()).search(anyString(), any(), any(), anyInt(), eq(20));
+    }
+}
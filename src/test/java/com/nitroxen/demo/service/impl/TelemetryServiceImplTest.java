@@ -0,0 +1,270 @@
+package com.nitroxen.demo.service.impl;
+
+import com.nitroxen.demo.dto.request.TelemetryIngestRequest;
+import com.nitroxen.demo.dto.response.TelemetryIngestResponse;
+import com.nitroxen.demo.dto.response.TelemetrySeriesResponse;
+import com.nitroxen.demo.entity.User;
+import com.nitroxen.demo.enums.ResourceType;
+import com.nitroxen.demo.enums.Role;
+import com.nitroxen.demo.exception.ResourceNotFoundException;
+import com.nitroxen.demo.exception.TooManyRequestsException;
+import com.nitroxen.demo.exception.ValidationException;
+import com.nitroxen.demo.ownership.ManagerFarmCache;
+import com.nitroxen.demo.ownership.OwnershipIndex;
+import com.nitroxen.demo.telemetry.Aggregation;
+import com.nitroxen.demo.telemetry.LongLongHashMap;
+import com.nitroxen.demo.telemetry.Metric;
+import com.nitroxen.demo.telemetry.SourceType;
+import com.nitroxen.demo.telemetry.StepSeries;
+import com.nitroxen.demo.telemetry.TelemetryBatch;
+import com.nitroxen.demo.telemetry.TelemetryPipeline;
+import com.nitroxen.demo.telemetry.TelemetryQueryEngine;
+import com.nitroxen.demo.telemetry.ZoneFarmCache;
+import com.nitroxen.demo.telemetry.store.SeriesKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TelemetryServiceImplTest {
+
+    @Mock
+    private TelemetryPipeline telemetryPipeline;
+
+    @Mock
+    private TelemetryQueryEngine telemetryQueryEngine;
+
+    @Mock
+    private ZoneFarmCache zoneFarmCache;
+
+    @Mock
+    private OwnershipIndex ownershipIndex;
+
+    @Mock
+    private ManagerFarmCache managerFarmCache;
+
+    @InjectMocks
+    private TelemetryServiceImpl telemetryService;
+
+    private static final long HOUR = 3_600_000L;
+
+    private User owner;
+    private long now;
+
+    @BeforeEach
+    void setUp() {
+        owner = User.builder()
+                .id(1L)
+                .name("Owner")
+                .role(Role.OWNER)
+                .build();
+        now = System.currentTimeMillis();
+    }
+
+    @Test
+    void ingest_ValidBatch_QueuesAllReadings() {
+        // Arrange
+        ownerOwnsFarm(10L);
+        when(zoneFarmCache.farmOf(SourceType.ZONE, 100L)).thenReturn(10L);
+        when(telemetryPipeline.offer(any(TelemetryBatch.class))).thenReturn(true);
+        TelemetryIngestRequest request = request(new long[]{100L, 100L}, new Metric[]{Metric.TEMPERATURE, Metric.EC},
+                new double[]{24.5, 1.8});
+
+        // Act
+        TelemetryIngestResponse response = telemetryService.ingest(request, owner);
+
+        // Assert
+        assertThat(response.getAccepted()).isEqualTo(2);
+        ArgumentCaptor<TelemetryBatch> captor = ArgumentCaptor.forClass(TelemetryBatch.class);
+        verify(telemetryPipeline).offer(captor.capture());
+        assertThat(captor.getValue().size()).isEqualTo(2);
+        assertThat(captor.getValue().metric(1)).isEqualTo(Metric.EC.code());
+        assertThat(captor.getValue().value(0)).isEqualTo(24.5);
+    }
+
+    @Test
+    void ingest_BufferFull_ThrowsTooManyRequests() {
+        // Arrange
+        ownerOwnsFarm(10L);
+        when(zoneFarmCache.farmOf(SourceType.ZONE, 100L)).thenReturn(10L);
+        when(telemetryPipeline.offer(any(TelemetryBatch.class))).thenReturn(false);
+
+        // Act & Assert
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class, () -> telemetryService.ingest(
+                request(new long[]{100L}, new Metric[]{Metric.PH}, new double[]{6.2}), owner));
+        assertThat(exception.getRetryAfterSeconds()).isPositive();
+    }
+
+    @Test
+    void ingest_ZoneOfOtherFarm_ThrowsValidation() {
+        // Arrange
+        ownerOwnsFarm(10L);
+        when(zoneFarmCache.farmOf(SourceType.ZONE, 200L)).thenReturn(20L);
+
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> telemetryService.ingest(
+                request(new long[]{200L}, new Metric[]{Metric.PH}, new double[]{6.2}), owner));
+        verifyNoInteractions(telemetryPipeline);
+    }
+
+    @Test
+    void ingest_UnknownZone_ThrowsResourceNotFound() {
+        // Arrange
+        User manager = User.builder().id(2L).role(Role.MANAGER).build();
+        when(managerFarmCache.farmsOf(2L)).thenReturn(farms(10L));
+        when(zoneFarmCache.farmOf(SourceType.ZONE, 999L)).thenReturn(LongLongHashMap.MISSING);
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> telemetryService.ingest(
+                request(new long[]{999L}, new Metric[]{Metric.HUMIDITY}, new double[]{70}), manager));
+        verifyNoInteractions(telemetryPipeline);
+    }
+
+    @Test
+    void ingest_ReservoirMetric_ResolvesReservoirFarm() {
+        // Arrange
+        ownerOwnsFarm(10L);
+        when(zoneFarmCache.farmOf(SourceType.ZONE, 100L)).thenReturn(10L);
+        when(zoneFarmCache.farmOf(SourceType.RESERVOIR, 100L)).thenReturn(LongLongHashMap.MISSING);
+
+        // Act & Assert: the same ID is a zone for EC but an unknown reservoir for WATER_LEVEL
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> telemetryService.ingest(
+                request(new long[]{100L, 100L}, new Metric[]{Metric.EC, Metric.WATER_LEVEL}, new double[]{1.2, 800}), owner));
+        assertThat(exception.getMessage()).startsWith("Reservoir not found");
+        verifyNoInteractions(telemetryPipeline);
+    }
+
+    @Test
+    void ingest_InvalidReadings_ThrowsValidation() {
+        // Act & Assert
+        TelemetryIngestRequest mismatched = request(new long[]{100L, 101L}, new Metric[]{Metric.EC}, new double[]{1.0});
+        assertThrows(ValidationException.class, () -> telemetryService.ingest(mismatched, owner));
+
+        TelemetryIngestRequest notFinite = request(new long[]{100L}, new Metric[]{Metric.EC}, new double[]{Double.NaN});
+        assertThrows(ValidationException.class, () -> telemetryService.ingest(notFinite, owner));
+
+        TelemetryIngestRequest future = request(new long[]{100L}, new Metric[]{Metric.EC}, new double[]{1.0});
+        future.getTimestamps()[0] = now + 3_600_000;
+        assertThrows(ValidationException.class, () -> telemetryService.ingest(future, owner));
+        verifyNoInteractions(telemetryPipeline);
+    }
+
+    @Test
+    void query_AccessibleZones_ReturnsAggregatedSeriesInRequestOrder() {
+        // Arrange
+        ownerOwnsFarm(10L);
+        when(zoneFarmCache.farmOf(SourceType.ZONE, 100L)).thenReturn(10L);
+        when(zoneFarmCache.farmOf(SourceType.ZONE, 101L)).thenReturn(10L);
+        StepSeries first = new StepSeries(0, 3 * HOUR, HOUR);
+        first.add(0, 20);
+        first.add(60_000, 22);
+        first.add(2 * HOUR, 25);
+        StepSeries second = new StepSeries(0, 3 * HOUR, HOUR);
+        when(telemetryQueryEngine.queryAll(new long[]{
+                SeriesKey.of(SourceType.ZONE, 100L, Metric.TEMPERATURE),
+                SeriesKey.of(SourceType.ZONE, 101L, Metric.TEMPERATURE)}, 0, 3 * HOUR, HOUR))
+                .thenReturn(new StepSeries[]{first, second});
+
+        // Act
+        TelemetrySeriesResponse response = telemetryService.query(new long[]{100L, 101L}, Metric.TEMPERATURE,
+                0, 3 * HOUR, HOUR, Aggregation.AVG, owner);
+
+        // Assert
+        assertThat(response.getSteps()).isEqualTo(3);
+        assertThat(response.getSeries()).hasSize(2);
+        assertThat(response.getSeries().get(0).getSourceId()).isEqualTo(100L);
+        assertThat(response.getSeries().get(0).getValues()).containsExactly(21.0, null, 25.0);
+        assertThat(response.getSeries().get(1).getValues()).containsOnlyNulls();
+    }
+
+    @Test
+    void query_ZoneOfOtherFarm_ThrowsValidation() {
+        // Arrange
+        User manager = User.builder().id(2L).role(Role.MANAGER).build();
+        when(managerFarmCache.farmsOf(2L)).thenReturn(farms(10L));
+        when(zoneFarmCache.farmOf(SourceType.ZONE, 200L)).thenReturn(20L);
+
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> telemetryService.query(new long[]{200L}, Metric.EC,
+                0, HOUR, 60_000L, Aggregation.MAX, manager));
+        verifyNoInteractions(telemetryQueryEngine);
+    }
+
+    @Test
+    void query_TooManyPointsOrEmptyRange_ThrowsValidation() {
+        // Act & Assert: a year at one-second steps
+        assertThrows(ValidationException.class, () -> telemetryService.query(new long[]{100L}, Metric.EC,
+                0, 365 * 24 * HOUR, 1_000L, Aggregation.AVG, owner));
+        assertThrows(ValidationException.class, () -> telemetryService.query(new long[]{100L}, Metric.EC,
+                HOUR, 0, HOUR, Aggregation.AVG, owner));
+        verify(telemetryQueryEngine, never()).queryAll(any(), anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    void query_OverflowingRangeOrStep_ThrowsValidation() {
+        // Act & Assert: each would wrap a naive step count or point total negative
+        assertThrows(ValidationException.class, () -> telemetryService.query(new long[]{100L}, Metric.EC,
+                0, Long.MAX_VALUE, 2, Aggregation.AVG, owner));
+        long[] manySources = new long[TelemetryServiceImpl.MAX_QUERY_SOURCES];
+        Arrays.fill(manySources, 100L);
+        assertThrows(ValidationException.class, () -> telemetryService.query(manySources, Metric.EC,
+                0, TelemetryServiceImpl.MAX_QUERY_RANGE_MILLIS, 1, Aggregation.AVG, owner));
+        verify(telemetryQueryEngine, never()).queryAll(any(), anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    void query_StepLongerThanRange_ReturnsSingleStep() {
+        // Arrange
+        ownerOwnsFarm(10L);
+        when(zoneFarmCache.farmOf(SourceType.ZONE, 100L)).thenReturn(10L);
+        when(telemetryQueryEngine.queryAll(any(), eq(0L), eq(HOUR), eq(Long.MAX_VALUE)))
+                .thenReturn(new StepSeries[]{new StepSeries(0, HOUR, Long.MAX_VALUE)});
+
+        // Act
+        TelemetrySeriesResponse response = telemetryService.query(new long[]{100L}, Metric.EC,
+                0, HOUR, Long.MAX_VALUE, Aggregation.AVG, owner);
+
+        // Assert
+        assertThat(response.getSteps()).isEqualTo(1);
+        assertThat(response.getSeries().get(0).getValues()).containsExactly((Double) null);
+    }
+
+    private TelemetryIngestRequest request(long[] sourceIds, Metric[] metrics, double[] values) {
+        long[] timestamps = new long[sourceIds.length];
+        Arrays.fill(timestamps, now);
+        return TelemetryIngestRequest.builder()
+                .sourceIds(sourceIds)
+                .metrics(metrics)
+                .timestamps(timestamps)
+                .values(values)
+                .build();
+    }
+
+    // Helper method to make the owner in setUp own exactly the given farm
+    private void ownerOwnsFarm(long farmId) {
+        when(ownershipIndex.isOwnedBy(eq(ResourceType.FARM), anyLong(), eq(1L)))
+                .thenAnswer(invocation -> invocation.<Long>getArgument(1) == farmId);
+    }
+
+    private static LongLongHashMap farms(long... farmIds) {
+        LongLongHashMap farms = new LongLongHashMap(farmIds.length);
+        for (long farmId : farmIds) {
+            farms.put(farmId, 1L);
+        }
+        return farms;
+    }
+}
@@ -0,0 +1,160 @@
+package com.nitroxen.demo.service.impl;
+
+import com.nitroxen.demo.entity.Farm;
+import com.nitroxen.demo.entity.User;
+import com.nitroxen.demo.entity.Zone;
+import com.nitroxen.demo.entity.ZoneAlert;
+import com.nitroxen.demo.enums.AlertStatus;
+import com.nitroxen.demo.enums.NotificationCategory;
+import com.nitroxen.demo.enums.Role;
+import com.nitroxen.demo.enums.ThresholdBreach;
+import com.nitroxen.demo.notification.NotificationOutbox;
+import com.nitroxen.demo.repository.FarmAssignmentRepository;
+import com.nitroxen.demo.repository.FarmRepository;
+import com.nitroxen.demo.repository.ZoneAlertRepository;
+import com.nitroxen.demo.repository.ZoneRepository;
+import com.nitroxen.demo.telemetry.Metric;
+import com.nitroxen.demo.telemetry.ZoneFarmCache;
+import com.nitroxen.demo.telemetry.alert.AlertEvent;
+import com.nitroxen.demo.telemetry.alert.AlertNotification;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ZoneAlertServiceImplTest {
+
+    @Mock
+    private ZoneAlertRepository zoneAlertRepository;
+
+    @Mock
+    private ZoneRepository zoneRepository;
+
+    @Mock
+    private FarmRepository farmRepository;
+
+    @Mock
+    private FarmAssignmentRepository farmAssignmentRepository;
+
+    @Mock
+    private ZoneFarmCache zoneFarmCache;
+
+    @Mock
+    private NotificationOutbox notificationOutbox;
+
+    @InjectMocks
+    private ZoneAlertServiceImpl zoneAlertService;
+
+    private final AlertEvent raised = new AlertEvent(AlertEvent.Kind.RAISED, 5L, Metric.PH, ThresholdBreach.HIGH,
+            5.5, 6.5, 7.1, 1_700_000_000_000L);
+
+    @Test
+    void raise_NoOpenAlert_CreatesOpenAlert() {
+        // Arrange
+        when(zoneAlertRepository.findByOpenKey("5:PH")).thenReturn(Optional.empty());
+        when(zoneFarmCache.farmOf(5L)).thenReturn(3L);
+        when(zoneAlertRepository.save(any(ZoneAlert.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        Optional<ZoneAlert> result = zoneAlertService.raise(raised);
+
+        // Assert
+        assertThat(result).isPresent();
+        assertThat(result.get().getStatus()).isEqualTo(AlertStatus.OPEN);
+        assertThat(result.get().getFarmId()).isEqualTo(3L);
+        assertThat(result.get().getOpenKey()).isEqualTo("5:PH");
+        assertThat(result.get().getTriggerValue()).isEqualTo(7.1);
+        assertThat(result.get().getNotifiedAt()).isNull(); // nobody to tell
+        verifyNoInteractions(notificationOutbox);
+    }
+
+    @Test
+    void raise_WithRecipients_QueuesNotificationInSameTransaction() {
+        // Arrange
+        User owner = User.builder().id(1L).role(Role.OWNER).phoneNumber("+911111111111").enabled(true).build();
+        when(zoneAlertRepository.findByOpenKey("5:PH")).thenReturn(Optional.empty());
+        when(zoneFarmCache.farmOf(5L)).thenReturn(3L);
+        when(zoneAlertRepository.save(any(ZoneAlert.class))).thenAnswer(invocation -> {
+            ZoneAlert alert = invocation.getArgument(0);
+            alert.setId(9L);
+            return alert;
+        });
+        when(farmRepository.findById(3L)).thenReturn(Optional.of(Farm.builder().id(3L).name("Green Acres").owner(owner).build()));
+
+        // Act
+        Optional<ZoneAlert> result = zoneAlertService.raise(raised);
+
+        // Assert
+        assertThat(result.get().getNotifiedAt()).isNotNull();
+        verify(notificationOutbox).enqueue(eq(NotificationCategory.ALERT), eq("alert:9:OPEN"),
+                eq(List.of("+911111111111")), startsWith("AgriWealth alert: PH in zone #5 (Green Acres) is HIGH at 7.10"));
+    }
+
+    @Test
+    void raise_AlreadyOpen_UpdatesWithoutNewAlert() {
+        // Arrange
+        ZoneAlert open = ZoneAlert.builder().id(9L).status(AlertStatus.OPEN).openKey("5:PH").lastValue(6.9).build();
+        when(zoneAlertRepository.findByOpenKey("5:PH")).thenReturn(Optional.of(open));
+
+        // Act
+        Optional<ZoneAlert> result = zoneAlertService.raise(raised);
+
+        // Assert
+        assertThat(result).isEmpty();
+        assertThat(open.getLastValue()).isEqualTo(7.1);
+        verify(zoneAlertRepository, never()).save(any());
+    }
+
+    @Test
+    void resolve_OpenAlert_ReleasesOpenKey() {
+        // Arrange
+        ZoneAlert open = ZoneAlert.builder().id(9L).status(AlertStatus.OPEN).openKey("5:PH").build();
+        when(zoneAlertRepository.findByOpenKey("5:PH")).thenReturn(Optional.of(open));
+        when(zoneAlertRepository.save(open)).thenReturn(open);
+        AlertEvent cleared = new AlertEvent(AlertEvent.Kind.CLEARED, 5L, Metric.PH, ThresholdBreach.HIGH,
+                5.5, 6.5, Double.NaN, 1_700_000_600_000L);
+
+        // Act
+        Optional<ZoneAlert> result = zoneAlertService.resolve(cleared);
+
+        // Assert
+        assertThat(result).containsSame(open);
+        assertThat(open.getStatus()).isEqualTo(AlertStatus.RESOLVED);
+        assertThat(open.getOpenKey()).isNull();
+        assertThat(open.getResolvedAt()).isNotNull();
+        assertThat(open.getLastValue()).isNull();
+    }
+
+    @Test
+    void notificationFor_CollectsOwnerAndActiveManagers() {
+        // Arrange
+        User owner = User.builder().id(1L).role(Role.OWNER).phoneNumber("+911111111111").enabled(true).build();
+        User manager = User.builder().id(2L).role(Role.MANAGER).phoneNumber("+912222222222").enabled(true).build();
+        User disabled = User.builder().id(3L).role(Role.MANAGER).phoneNumber("+913333333333").enabled(false).build();
+        Farm farm = Farm.builder().id(3L).name("Green Acres").owner(owner).build();
+        ZoneAlert alert = ZoneAlert.builder().id(9L).zoneId(5L).farmId(3L).metric(Metric.PH)
+                .breach(ThresholdBreach.HIGH).status(AlertStatus.OPEN).bandLow(5.5).bandHigh(6.5)
+                .triggerValue(7.1).startedAt(LocalDateTime.of(2026, 10, 19, 7, 42)).build();
+        when(zoneRepository.findById(5L)).thenReturn(Optional.of(Zone.builder().id(5L).name("Bay 3").build()));
+        when(farmRepository.findById(3L)).thenReturn(Optional.of(farm));
+        when(farmAssignmentRepository.findActiveManagersByFarmId(3L)).thenReturn(List.of(manager, disabled));
+
+        // Act
+        AlertNotification notification = zoneAlertService.notificationFor(alert);
+
+        // Assert
+        assertThat(notification.phoneNumbers()).containsExactly("+911111111111", "+912222222222");
+        assertThat(notification.message())
+                .isEqualTo("AgriWealth alert: PH in zone Bay 3 (Green Acres) is HIGH at 7.10, outside 5.50-6.50 since 2026-10-19 07:42.");
+    }
+}
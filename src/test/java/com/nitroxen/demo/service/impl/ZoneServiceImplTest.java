@@ -7,19 +7,27 @@ import com.nitroxen.demo.entity.Polyhouse;
 import com.nitroxen.demo.entity.Reservoir;
 import com.nitroxen.demo.entity.User;
 import com.nitroxen.demo.entity.Zone;
+import com.nitroxen.demo.enums.HierarchyChangeType;
+import com.nitroxen.demo.enums.HierarchyEntityType;
+import com.nitroxen.demo.enums.ResourceType;
 import com.nitroxen.demo.enums.Role;
+import com.nitroxen.demo.events.DomainEventBus;
 import com.nitroxen.demo.exception.ResourceNotFoundException;
 import com.nitroxen.demo.exception.ValidationException;
+import com.nitroxen.demo.ownership.OwnershipIndex;
 import com.nitroxen.demo.repository.PolyhouseRepository;
 import com.nitroxen.demo.repository.ReservoirRepository;
 import com.nitroxen.demo.repository.ZoneRepository;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -28,6 +36,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,6 +51,12 @@ public class ZoneServiceImplTest {
     @Mock
     private ReservoirRepository reservoirRepository;
 
+    @Mock
+    private DomainEventBus domainEventBus;
+
+    @Mock
+    private OwnershipIndex ownershipIndex;
+
     @InjectMocks
     private ZoneServiceImpl zoneService;
 
@@ -142,10 +157,10 @@ public class ZoneServiceImplTest {
     @Test
     void createZone_Success() {
         // Arrange
+        when(ownershipIndex.isOwnedBy(ResourceType.POLYHOUSE, polyhouseId, ownerId)).thenReturn(true);
         when(polyhouseRepository.findById(polyhouseId)).thenReturn(Optional.of(polyhouse));
-        when(zoneRepository.existsByNameAndPolyhouseId("Test Zone", polyhouseId)).thenReturn(false);
         when(reservoirRepository.findById(reservoirId)).thenReturn(Optional.of(reservoir));
-        when(zoneRepository.save(any(Zone.class))).thenReturn(zone);
+        when(zoneRepository.saveAndFlush(any(Zone.class))).thenReturn(zone);
 
         // Act
         ZoneResponse response = zoneService.createZone(polyhouseId, zoneRequest, ownerId);
@@ -157,17 +172,19 @@ public class ZoneServiceImplTest {
         assertThat(response.getSystemType()).isEqualTo("NFT");
         assertThat(response.getPolyhouseId()).isEqualTo(polyhouseId);
         assertThat(response.getWaterSourceId()).isEqualTo(reservoirId);
-        verify(zoneRepository, times(1)).save(any(Zone.class));
+        verify(zoneRepository, times(1)).saveAndFlush(any(Zone.class));
+        verify(ownershipIndex).register(ResourceType.ZONE, zoneId, farmId, ownerId);
+        verify(domainEventBus).publish(HierarchyEntityType.ZONE, zoneId, HierarchyChangeType.CREATED, farmId, ownerId);
     }
 
     @Test
     void createZone_PolyhouseNotFound_ThrowsResourceNotFoundException() {
         // Arrange
-        when(polyhouseRepository.findById(polyhouseId)).thenReturn(Optional.empty());
+        when(ownershipIndex.isOwnedBy(ResourceType.POLYHOUSE, polyhouseId, ownerId)).thenReturn(false);
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> zoneService.createZone(polyhouseId, zoneRequest, ownerId));
-        verify(zoneRepository, never()).save(any(Zone.class));
+        verify(zoneRepository, never()).saveAndFlush(any(Zone.class));
     }
 
     @Test
@@ -181,39 +198,60 @@ public class ZoneServiceImplTest {
         }
         fullPolyhouse.setZones(zones);
 
+        when(ownershipIndex.isOwnedBy(ResourceType.POLYHOUSE, polyhouseId, ownerId)).thenReturn(true);
         when(polyhouseRepository.findById(polyhouseId)).thenReturn(Optional.of(fullPolyhouse));
 
         // Act & Assert
         assertThrows(ValidationException.class, () -> zoneService.createZone(polyhouseId, zoneRequest, ownerId));
-        verify(zoneRepository, never()).save(any(Zone.class));
+        verify(zoneRepository, never()).saveAndFlush(any(Zone.class));
     }
 
     @Test
     void createZone_DuplicateName_ThrowsValidationException() {
         // Arrange
+        when(ownershipIndex.isOwnedBy(ResourceType.POLYHOUSE, polyhouseId, ownerId)).thenReturn(true);
         when(polyhouseRepository.findById(polyhouseId)).thenReturn(Optional.of(polyhouse));
-        when(zoneRepository.existsByNameAndPolyhouseId("Test Zone", polyhouseId)).thenReturn(true);
+        when(reservoirRepository.findById(reservoirId)).thenReturn(Optional.of(reservoir));
+        when(zoneRepository.saveAndFlush(any(Zone.class))).thenThrow(duplicateName());
 
         // Act & Assert
         assertThrows(ValidationException.class, () -> zoneService.createZone(polyhouseId, zoneRequest, ownerId));
-        verify(zoneRepository, never()).save(any(Zone.class));
+        verify(ownershipIndex, never()).register(any(), anyLong(), anyLong(), anyLong());
+        verify(domainEventBus, never()).publish(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void createZone_OtherConstraintViolation_IsRethrown() {
+        // Arrange
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("FK violation", new SQLException("FK violation"), "fk_zone_polyhouse"));
+        when(ownershipIndex.isOwnedBy(ResourceType.POLYHOUSE, polyhouseId, ownerId)).thenReturn(true);
+        when(polyhouseRepository.findById(polyhouseId)).thenReturn(Optional.of(polyhouse));
+        when(reservoirRepository.findById(reservoirId)).thenReturn(Optional.of(reservoir));
+        when(zoneRepository.saveAndFlush(any(Zone.class))).thenThrow(violation);
+
+        // Act & Assert
+        DataIntegrityViolationException thrown = assertThrows(DataIntegrityViolationException.class,
+                () -> zoneService.createZone(polyhouseId, zoneRequest, ownerId));
+        assertThat(thrown).isSameAs(violation);
     }
 
     @Test
     void createZone_ReservoirNotFound_ThrowsResourceNotFoundException() {
         // Arrange
+        when(ownershipIndex.isOwnedBy(ResourceType.POLYHOUSE, polyhouseId, ownerId)).thenReturn(true);
         when(polyhouseRepository.findById(polyhouseId)).thenReturn(Optional.of(polyhouse));
-        when(zoneRepository.existsByNameAndPolyhouseId("Test Zone", polyhouseId)).thenReturn(false);
         when(reservoirRepository.findById(reservoirId)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> zoneService.createZone(polyhouseId, zoneRequest, ownerId));
-        verify(zoneRepository, never()).save(any(Zone.class));
+        verify(zoneRepository, never()).saveAndFlush(any(Zone.class));
     }
 
     @Test
     void getZoneById_Success() {
         // Arrange
+        when(ownershipIndex.isOwnedBy(ResourceType.ZONE, zoneId, ownerId)).thenReturn(true);
         when(zoneRepository.findById(zoneId)).thenReturn(Optional.of(zone));
 
         // Act
@@ -229,7 +267,7 @@ public class ZoneServiceImplTest {
     @Test
     void getZoneById_NotFound_ThrowsResourceNotFoundException() {
         // Arrange
-        when(zoneRepository.findById(zoneId)).thenReturn(Optional.empty());
+        when(ownershipIndex.isOwnedBy(ResourceType.ZONE, zoneId, ownerId)).thenReturn(false);
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> zoneService.getZoneById(zoneId, ownerId));
@@ -239,7 +277,7 @@ public class ZoneServiceImplTest {
     void getZonesByPolyhouse_Success() {
         // Arrange
         List<Zone> zones = List.of(zone);
-        when(polyhouseRepository.findById(polyhouseId)).thenReturn(Optional.of(polyhouse));
+        when(ownershipIndex.isOwnedBy(ResourceType.POLYHOUSE, polyhouseId, ownerId)).thenReturn(true);
         when(zoneRepository.findByPolyhouseId(polyhouseId)).thenReturn(zones);
 
         // Act
@@ -265,8 +303,8 @@ public class ZoneServiceImplTest {
         updateRequest.setDosingSystem("Updated dosing");
         updateRequest.setReservoirId(reservoirId);
 
+        when(ownershipIndex.isOwnedBy(ResourceType.ZONE, zoneId, ownerId)).thenReturn(true);
         when(zoneRepository.findById(zoneId)).thenReturn(Optional.of(zone));
-        when(zoneRepository.existsByNameAndPolyhouseId("Updated Zone", polyhouseId)).thenReturn(false);
         when(reservoirRepository.findById(reservoirId)).thenReturn(Optional.of(reservoir));
 
         Zone updatedZone = Zone.builder()
@@ -284,7 +322,7 @@ public class ZoneServiceImplTest {
                 .updatedAt(now)
                 .build();
 
-        when(zoneRepository.save(any(Zone.class))).thenReturn(updatedZone);
+        when(zoneRepository.saveAndFlush(any(Zone.class))).thenReturn(updatedZone);
 
         // Act
         ZoneResponse response = zoneService.updateZone(zoneId, updateRequest, ownerId);
@@ -294,12 +332,13 @@ public class ZoneServiceImplTest {
         assertThat(response.getName()).isEqualTo("Updated Zone");
         assertThat(response.getSystemType()).isEqualTo("DWC");
         assertThat(response.getCropType()).isEqualTo("Tomato");
-        verify(zoneRepository, times(1)).save(any(Zone.class));
+        verify(zoneRepository, times(1)).saveAndFlush(any(Zone.class));
     }
 
     @Test
     void deleteZone_Success() {
         // Arrange
+        when(ownershipIndex.isOwnedBy(ResourceType.ZONE, zoneId, ownerId)).thenReturn(true);
         when(zoneRepository.findById(zoneId)).thenReturn(Optional.of(zone));
         doNothing().when(zoneRepository).delete(zone);
 
@@ -308,5 +347,12 @@ public class ZoneServiceImplTest {
 
         // Assert
         verify(zoneRepository, times(1)).delete(zone);
+        verify(ownershipIndex).unregister(ResourceType.ZONE, List.of(zoneId));
+    }
+
+    // Helper method to build the exception the database raises for a duplicate name
+    private static DataIntegrityViolationException duplicateName() {
+        return new DataIntegrityViolationException("could not execute statement", new ConstraintViolationException(
+                "Duplicate entry", new SQLException("Duplicate entry"), "zones." + Zone.UNIQUE_NAME));
     }
 }
@@ -0,0 +1,60 @@
+package com.nitroxen.demo.telemetry;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LongLongHashMapTest {
+
+    @Test
+    void put_GrowsAndKeepsEveryEntry() {
+        LongLongHashMap map = new LongLongHashMap(2);
+        for (long key = 0; key < 10_000; key++) {
+            map.put(key, key * 10);
+        }
+        map.put(-5, 7);
+        map.put(42, 1);
+
+        assertThat(map.size()).isEqualTo(10_001);
+        assertThat(map.get(0)).isZero();
+        assertThat(map.get(42)).isEqualTo(1);
+        assertThat(map.get(9_999)).isEqualTo(99_990);
+        assertThat(map.get(-5)).isEqualTo(7);
+        assertThat(map.get(10_000)).isEqualTo(LongLongHashMap.MISSING);
+        assertThat(map.containsKey(10_000)).isFalse();
+    }
+
+    @Test
+    void copy_IsIndependentOfOriginal() {
+        LongLongHashMap map = new LongLongHashMap(4);
+        map.put(1, 100);
+
+        LongLongHashMap copy = map.copy();
+        copy.put(2, 200);
+        map.put(1, 101);
+
+        assertThat(copy.get(1)).isEqualTo(100);
+        assertThat(copy.get(2)).isEqualTo(200);
+        assertThat(map.containsKey(2)).isFalse();
+    }
+
+    @Test
+    void remove_KeepsCollidingEntriesReachable() {
+        LongLongHashMap map = new LongLongHashMap(64);
+        for (long key = 0; key < 5_000; key++) {
+            map.put(key, key + 1);
+        }
+
+        for (long key = 0; key < 5_000; key += 3) {
+            assertThat(map.remove(key)).isEqualTo(key + 1);
+        }
+        assertThat(map.remove(3)).isEqualTo(LongLongHashMap.MISSING);
+
+        for (long key = 0; key < 5_000; key++) {
+            assertThat(map.get(key)).isEqualTo(key % 3 == 0 ? LongLongHashMap.MISSING : key + 1);
+        }
+        assertThat(map.size()).isEqualTo(3_333);
+        map.put(3, 30);
+        assertThat(map.get(3)).isEqualTo(30);
+    }
+}
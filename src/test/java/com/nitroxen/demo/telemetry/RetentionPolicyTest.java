@@ -0,0 +1,69 @@
+package com.nitroxen.demo.telemetry;
+
+import com.nitroxen.demo.telemetry.store.ChunkRetention;
+import com.nitroxen.demo.telemetry.store.SeriesKey;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RetentionPolicyTest {
+
+    private static final long DAY = TimeUnit.DAYS.toMillis(1);
+
+    @Mock
+    private ZoneFarmCache zoneFarmCache;
+
+    @Test
+    void retentionMillis_FarmOverrideWinsOverMetricOverride() {
+        // Arrange
+        RetentionPolicy policy = new RetentionPolicy(zoneFarmCache, 30, "EC=90, ph=60", "12=365");
+        when(zoneFarmCache.farmOf(SourceType.ZONE, 1L)).thenReturn(12L);
+        when(zoneFarmCache.farmOf(SourceType.ZONE, 2L)).thenReturn(13L);
+
+        // Act & Assert
+        assertThat(policy.retentionMillis(SeriesKey.of(SourceType.ZONE, 1, Metric.EC))).isEqualTo(365 * DAY);
+        assertThat(policy.retentionMillis(SeriesKey.of(SourceType.ZONE, 2, Metric.EC))).isEqualTo(90 * DAY);
+        assertThat(policy.retentionMillis(SeriesKey.of(SourceType.ZONE, 2, Metric.PH))).isEqualTo(60 * DAY);
+        assertThat(policy.retentionMillis(SeriesKey.of(SourceType.ZONE, 2, Metric.TEMPERATURE))).isEqualTo(30 * DAY);
+    }
+
+    @Test
+    void retentionMillis_ReservoirUsesItsFarmOverride() {
+        // Arrange
+        RetentionPolicy policy = new RetentionPolicy(zoneFarmCache, 30, "", "12=365");
+        when(zoneFarmCache.farmOf(SourceType.RESERVOIR, 1L)).thenReturn(12L);
+
+        // Act & Assert
+        assertThat(policy.retentionMillis(SeriesKey.of(SourceType.RESERVOIR, 1, Metric.WATER_LEVEL))).isEqualTo(365 * DAY);
+    }
+
+    @Test
+    void asOf_ResolvesEachSeriesOnce() {
+        // Arrange
+        RetentionPolicy policy = new RetentionPolicy(zoneFarmCache, 30, "", "12=365");
+        when(zoneFarmCache.farmOf(SourceType.ZONE, 1L)).thenReturn(5L);
+        long now = 100 * DAY;
+        long key = SeriesKey.of(SourceType.ZONE, 1, Metric.HUMIDITY);
+
+        // Act
+        ChunkRetention retention = policy.asOf(now);
+
+        // Assert
+        assertThat(retention.isExpired(key, now - 31 * DAY)).isTrue();
+        assertThat(retention.isExpired(key, now - 29 * DAY)).isFalse();
+        verify(zoneFarmCache, times(1)).farmOf(SourceType.ZONE, 1L);
+    }
+
+    @Test
+    void constructor_MalformedOverride_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> new RetentionPolicy(zoneFarmCache, 30, "EC:90", ""));
+    }
+}
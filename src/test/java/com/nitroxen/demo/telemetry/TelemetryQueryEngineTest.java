@@ -0,0 +1,83 @@
+package com.nitroxen.demo.telemetry;
+
+import com.nitroxen.demo.telemetry.rollup.Resolution;
+import com.nitroxen.demo.telemetry.rollup.RollupStore;
+import com.nitroxen.demo.telemetry.store.TimeSeriesStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TelemetryQueryEngineTest {
+
+    private static final long DAY = 86_400_000L;
+
+    @Mock
+    private TimeSeriesStore timeSeriesStore;
+
+    @Mock
+    private RollupStore rollupStore;
+
+    private TelemetryQueryEngine queryEngine;
+
+    @BeforeEach
+    void setUp() {
+        queryEngine = new TelemetryQueryEngine(timeSeriesStore, rollupStore, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        queryEngine.shutdown();
+    }
+
+    @Test
+    void query_AlignedHourlySteps_ReadsHourRollups() {
+        // Act
+        StepSeries series = queryEngine.query(42L, 30 * DAY, 60 * DAY, 3_600_000L);
+
+        // Assert
+        assertThat(series.size()).isEqualTo(720);
+        verify(rollupStore).fold(eq(42L), eq(Resolution.HOUR), eq(30 * DAY), eq(60 * DAY), any(StepSeries.class));
+        verifyNoInteractions(timeSeriesStore);
+    }
+
+    @Test
+    void query_SubMinuteSteps_ScansRawPoints() {
+        // Act
+        queryEngine.query(42L, 0, 600_000L, 10_000L);
+
+        // Assert
+        verify(timeSeriesStore).scan(eq(42L), eq(0L), eq(600_000L), any());
+        verify(rollupStore, never()).fold(anyLong(), any(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void queryAll_SeveralSeries_ReturnsOneSeriesPerKeyInOrder() {
+        // Arrange
+        doAnswer(invocation -> {
+            long key = invocation.getArgument(0);
+            StepSeries into = invocation.getArgument(4);
+            into.merge(0, 1, key, key, key, key, 0);
+            return 1;
+        }).when(rollupStore).fold(anyLong(), eq(Resolution.DAY), eq(0L), eq(2 * DAY), any(StepSeries.class));
+
+        // Act
+        StepSeries[] series = queryEngine.queryAll(new long[]{7L, 3L, 5L}, 0, 2 * DAY, DAY);
+
+        // Assert
+        assertThat(series).hasSize(3);
+        assertThat(series[0].value(0, Aggregation.LAST)).isEqualTo(7.0);
+        assertThat(series[1].value(0, Aggregation.LAST)).isEqualTo(3.0);
+        assertThat(series[2].value(0, Aggregation.LAST)).isEqualTo(5.0);
+        assertThat(series[2].value(1, Aggregation.AVG)).isNaN();
+    }
+}
@@ -0,0 +1,100 @@
+package com.nitroxen.demo.telemetry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TelemetryRingBufferTest {
+
+    @Test
+    void offer_RejectsBatchThatDoesNotFitAndAcceptsAfterDrain() {
+        TelemetryRingBuffer ring = new TelemetryRingBuffer(8);
+        TelemetryBatch batch = batchOf(1, 5);
+
+        assertThat(ring.offer(batch)).isTrue();
+        assertThat(ring.offer(batch)).isFalse(); // 10 > 8, nothing partially written
+        assertThat(ring.size()).isEqualTo(5);
+
+        TelemetryBatch drained = new TelemetryBatch(16);
+        assertThat(ring.drainTo(drained)).isEqualTo(5);
+        assertThat(drained.sourceId(4)).isEqualTo(1);
+        assertThat(drained.timestamp(4)).isEqualTo(4);
+        assertThat(ring.offer(batch)).isTrue(); // wraps around the end of the ring
+        drained.clear();
+        assertThat(ring.drainTo(drained)).isEqualTo(5);
+        assertThat(drained.value(2)).isEqualTo(2.0);
+    }
+
+    @Test
+    void constructor_RejectsNonPowerOfTwoCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new TelemetryRingBuffer(100));
+    }
+
+    @Test
+    void offer_ConcurrentProducersLoseNothingAndKeepBatchOrder() throws InterruptedException {
+        int producers = 4;
+        int batchesPerProducer = 2_000;
+        int batchSize = 16;
+        TelemetryRingBuffer ring = new TelemetryRingBuffer(1024);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            long producerId = p;
+            Thread thread = new Thread(() -> {
+                TelemetryBatch batch = new TelemetryBatch(batchSize);
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int b = 0; b < batchesPerProducer; b++) {
+                    batch.clear();
+                    for (int i = 0; i < batchSize; i++) {
+                        batch.add(producerId, Metric.EC.code(), (long) b * batchSize + i, i);
+                    }
+                    while (!ring.offer(batch)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        start.countDown();
+        long[] lastTimestamp = {-1, -1, -1, -1};
+        long total = 0;
+        long expected = (long) producers * batchesPerProducer * batchSize;
+        TelemetryBatch drained = new TelemetryBatch(256);
+        while (total < expected) {
+            drained.clear();
+            ring.drainTo(drained);
+            for (int i = 0; i < drained.size(); i++) {
+                int producer = (int) drained.sourceId(i);
+                // Each producer's readings come out in the order it offered them
+                assertThat(drained.timestamp(i)).isEqualTo(lastTimestamp[producer] + 1);
+                lastTimestamp[producer] = drained.timestamp(i);
+            }
+            total += drained.size();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(total).isEqualTo(expected);
+        assertThat(ring.size()).isZero();
+    }
+
+    private TelemetryBatch batchOf(long zoneId, int count) {
+        TelemetryBatch batch = new TelemetryBatch(count);
+        for (int i = 0; i < count; i++) {
+            batch.add(zoneId, Metric.TEMPERATURE.code(), i, i);
+        }
+        return batch;
+    }
+}
@@ -0,0 +1,79 @@
+package com.nitroxen.demo.telemetry;
+
+import com.nitroxen.demo.enums.HierarchyChangeType;
+import com.nitroxen.demo.enums.HierarchyEntityType;
+import com.nitroxen.demo.events.HierarchyChangedEvent;
+import com.nitroxen.demo.repository.ReservoirRepository;
+import com.nitroxen.demo.repository.ZoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ZoneFarmCacheTest {
+
+    @Mock
+    private ZoneRepository zoneRepository;
+
+    @Mock
+    private ReservoirRepository reservoirRepository;
+
+    private ZoneFarmCache zoneFarmCache;
+
+    @BeforeEach
+    void setUp() {
+        zoneFarmCache = new ZoneFarmCache(zoneRepository, reservoirRepository, 60_000);
+    }
+
+    @Test
+    void preload_UnknownZone_IsQueriedOnceAndRemembered() {
+        // Arrange
+        TelemetryBatch batch = new TelemetryBatch(4);
+        batch.add(1L, Metric.HUMIDITY.code(), 1L, 70);
+        batch.add(999L, Metric.HUMIDITY.code(), 1L, 70);
+        batch.add(1L, Metric.HUMIDITY.code(), 2L, 71);
+        batch.add(999L, Metric.HUMIDITY.code(), 2L, 71);
+        when(zoneRepository.findZoneFarmIds(anyCollection())).thenReturn(List.<Object[]>of(new Object[]{1L, 10L}));
+
+        // Act
+        zoneFarmCache.preload(batch);
+        long unknownFarm = zoneFarmCache.farmOf(999L);
+        zoneFarmCache.preload(batch);
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Long>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(zoneRepository, times(1)).findZoneFarmIds(captor.capture());
+        assertThat(captor.getValue()).containsExactlyInAnyOrder(1L, 999L);
+        assertThat(zoneFarmCache.farmOf(1L)).isEqualTo(10L);
+        assertThat(unknownFarm).isEqualTo(LongLongHashMap.MISSING);
+    }
+
+    @Test
+    void farmOf_ZoneCreatedAfterMiss_IsLookedUpAgain() {
+        // Arrange
+        when(zoneRepository.findZoneFarmIds(anyCollection()))
+                .thenReturn(List.of())
+                .thenReturn(List.<Object[]>of(new Object[]{5L, 10L}));
+        zoneFarmCache.farmOf(5L);
+
+        // Act
+        zoneFarmCache.onHierarchyChanged(new HierarchyChangedEvent(1L, HierarchyEntityType.ZONE, 5L,
+                HierarchyChangeType.CREATED, 10L, 1L, LocalDateTime.now()));
+
+        // Assert
+        assertThat(zoneFarmCache.farmOf(5L)).isEqualTo(10L);
+        verify(zoneRepository, times(2)).findZoneFarmIds(anyCollection());
+    }
+}
@@ -0,0 +1,117 @@
+package com.nitroxen.demo.telemetry.alert;
+
+import com.nitroxen.demo.enums.ThresholdBreach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AlertRuleTableTest {
+
+    private static final long KEY = 42L;
+    private static final long MINUTE = 60_000L;
+
+    private AlertRuleTable table;
+    private int slot;
+
+    @BeforeEach
+    void setUp() {
+        table = new AlertRuleTable(4, 2 * MINUTE);
+        table.add(KEY, new CropBand(5.5, 6.5), 0.1);
+        slot = table.slotOf(KEY);
+    }
+
+    @Test
+    void evaluate_BreachShorterThanMinDuration_DoesNotRaise() {
+        // Act
+        int first = table.evaluate(slot, 0, 7.0);
+        int second = table.evaluate(slot, MINUTE, 7.1);
+        int back = table.evaluate(slot, 90_000, 6.0);
+
+        // Assert
+        assertThat(first).isEqualTo(AlertRuleTable.NO_CHANGE);
+        assertThat(second).isEqualTo(AlertRuleTable.NO_CHANGE);
+        assertThat(back).isEqualTo(AlertRuleTable.NO_CHANGE);
+        assertThat(table.state(slot)).isEqualTo(AlertRuleTable.NORMAL);
+    }
+
+    @Test
+    void evaluate_SustainedBreach_RaisesOnceWithBreachStart() {
+        // Act
+        table.evaluate(slot, 0, 5.0);
+        int raised = table.evaluate(slot, 2 * MINUTE, 5.1);
+        int again = table.evaluate(slot, 3 * MINUTE, 5.0);
+
+        // Assert
+        assertThat(raised).isEqualTo(AlertRuleTable.RAISED);
+        assertThat(again).isEqualTo(AlertRuleTable.NO_CHANGE);
+        assertThat(table.breach(slot)).isEqualTo(ThresholdBreach.LOW);
+        assertThat(table.since(slot)).isZero();
+    }
+
+    @Test
+    void evaluate_ValueInsideHysteresisMargin_DoesNotStartClearing() {
+        // Arrange
+        table.evaluate(slot, 0, 7.0);
+        table.evaluate(slot, 2 * MINUTE, 7.0);
+
+        // Act: 6.45 is inside the band but within 0.1 of the high edge
+        table.evaluate(slot, 3 * MINUTE, 6.45);
+        int result = table.evaluate(slot, 6 * MINUTE, 6.45);
+
+        // Assert
+        assertThat(result).isEqualTo(AlertRuleTable.NO_CHANGE);
+        assertThat(table.state(slot)).isEqualTo(AlertRuleTable.ALERTING);
+    }
+
+    @Test
+    void evaluate_SustainedRecovery_Clears() {
+        // Arrange
+        table.evaluate(slot, 0, 7.0);
+        table.evaluate(slot, 2 * MINUTE, 7.0);
+
+        // Act
+        int clearing = table.evaluate(slot, 3 * MINUTE, 6.0);
+        int relapse = table.evaluate(slot, 4 * MINUTE, 6.6);
+        table.evaluate(slot, 5 * MINUTE, 6.0);
+        int cleared = table.evaluate(slot, 7 * MINUTE, 6.1);
+
+        // Assert
+        assertThat(clearing).isEqualTo(AlertRuleTable.NO_CHANGE);
+        assertThat(relapse).isEqualTo(AlertRuleTable.NO_CHANGE);
+        assertThat(cleared).isEqualTo(AlertRuleTable.CLEARED);
+        assertThat(table.since(slot)).isEqualTo(5 * MINUTE);
+        assertThat(table.state(slot)).isEqualTo(AlertRuleTable.NORMAL);
+    }
+
+    @Test
+    void evaluate_OutOfOrderReading_Ignored() {
+        // Arrange
+        table.evaluate(slot, 5 * MINUTE, 6.0);
+
+        // Act
+        table.evaluate(slot, MINUTE, 9.0);
+
+        // Assert
+        assertThat(table.state(slot)).isEqualTo(AlertRuleTable.NORMAL);
+        assertThat(table.lastValue(slot)).isEqualTo(6.0);
+    }
+
+    @Test
+    void adoptState_CarriesStateOfMatchingSeries() {
+        // Arrange
+        table.evaluate(slot, 0, 7.0);
+        table.evaluate(slot, 2 * MINUTE, 7.0);
+        AlertRuleTable next = new AlertRuleTable(4, 2 * MINUTE);
+        next.add(7L, new CropBand(18, 29), 0.5);
+        next.add(KEY, new CropBand(5.5, 6.8), 0.1);
+
+        // Act
+        next.adoptState(table);
+
+        // Assert
+        assertThat(next.state(next.slotOf(KEY))).isEqualTo(AlertRuleTable.ALERTING);
+        assertThat(next.state(next.slotOf(7L))).isEqualTo(AlertRuleTable.NORMAL);
+        assertThat(next.slotOf(99L)).isEqualTo(-1);
+    }
+}
@@ -0,0 +1,46 @@
+package com.nitroxen.demo.telemetry.alert;
+
+import com.nitroxen.demo.telemetry.Metric;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CropBandCatalogTest {
+
+    @Test
+    void bandFor_PrefersVarietyThenCropTypeThenDefault() throws Exception {
+        // Arrange
+        CropBandCatalog catalog = new CropBandCatalog(new StringReader("""
+                # crop,metric,low,high
+                default,PH,5.5,6.8
+                default,TEMPERATURE,12,32
+                Tomato,PH,5.5,6.5
+                cherry tomato,PH,5.8,6.3
+                """));
+
+        // Act & Assert
+        assertThat(catalog.bandFor("tomato", "Cherry Tomato", Metric.PH)).isEqualTo(new CropBand(5.8, 6.3));
+        assertThat(catalog.bandFor("tomato", "Roma", Metric.PH)).isEqualTo(new CropBand(5.5, 6.5));
+        assertThat(catalog.bandFor("tomato", null, Metric.TEMPERATURE)).isEqualTo(new CropBand(12, 32));
+        assertThat(catalog.bandFor("tomato", null, Metric.HUMIDITY)).isNull();
+    }
+
+    @Test
+    void constructor_InvalidBand_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> new CropBandCatalog(new StringReader("lettuce,EC,1.8,0.8")));
+        assertThrows(IllegalArgumentException.class, () -> new CropBandCatalog(new StringReader("lettuce,EC,1.8")));
+    }
+
+    @Test
+    void constructor_ShippedCatalog_Loads() throws Exception {
+        // Act
+        CropBandCatalog catalog = new CropBandCatalog(new ClassPathResource("crop-bands.csv"));
+
+        // Assert
+        assertThat(catalog.bandFor("Lettuce", null, Metric.EC)).isEqualTo(new CropBand(0.8, 1.8));
+    }
+}
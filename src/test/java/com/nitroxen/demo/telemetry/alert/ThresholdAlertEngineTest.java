@@ -0,0 +1,143 @@
+package com.nitroxen.demo.telemetry.alert;
+
+import com.nitroxen.demo.entity.ZoneAlert;
+import com.nitroxen.demo.enums.AlertStatus;
+import com.nitroxen.demo.enums.ThresholdBreach;
+import com.nitroxen.demo.repository.ZoneAlertRepository;
+import com.nitroxen.demo.repository.ZoneRepository;
+import com.nitroxen.demo.telemetry.Metric;
+import com.nitroxen.demo.telemetry.TelemetryBatch;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ThresholdAlertEngineTest {
+
+    private static final long MINUTE = 60_000L;
+
+    @Mock
+    private ZoneRepository zoneRepository;
+
+    @Mock
+    private ZoneAlertRepository zoneAlertRepository;
+
+    @Mock
+    private AlertDispatcher dispatcher;
+
+    private ThresholdAlertEngine engine;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        CropBandCatalog catalog = new CropBandCatalog(new StringReader("""
+                default,TEMPERATURE,12,32
+                lettuce,EC,0.8,1.8
+                """));
+        engine = new ThresholdAlertEngine(zoneRepository, zoneAlertRepository, catalog, dispatcher,
+                new SimpleMeterRegistry(), 2 * MINUTE, "EC=0.1");
+        List<Object[]> zones = new ArrayList<>();
+        zones.add(new Object[]{1L, "Lettuce", "Butterhead"});
+        zones.add(new Object[]{2L, "Tomato", null});
+        when(zoneRepository.findAllZoneCrops()).thenReturn(zones);
+    }
+
+    @Test
+    void refreshRules_CompilesBandedMetricsOfEveryZone() {
+        // Act
+        engine.refreshRules();
+        engine.write(new TelemetryBatch(1));
+
+        // Assert: zone 1 has EC and TEMPERATURE, zone 2 only TEMPERATURE
+        assertThat(engine.getRuleCount()).isEqualTo(3);
+    }
+
+    @Test
+    void write_SustainedBreach_SubmitsRaisedThenCleared() {
+        // Arrange
+        when(dispatcher.submit(any())).thenReturn(true);
+        engine.refreshRules();
+        TelemetryBatch batch = new TelemetryBatch(16);
+        batch.add(1, Metric.EC.code(), 0, 2.4);
+        batch.add(2, Metric.EC.code(), 0, 9.9); // no EC band for tomato
+        batch.add(1, Metric.EC.code(), 2 * MINUTE, 2.2);
+        batch.add(1, Metric.EC.code(), 3 * MINUTE, 1.2);
+        batch.add(1, Metric.EC.code(), 5 * MINUTE, 1.3);
+
+        // Act
+        engine.write(batch);
+
+        // Assert
+        ArgumentCaptor<AlertEvent> captor = ArgumentCaptor.forClass(AlertEvent.class);
+        verify(dispatcher, times(2)).submit(captor.capture());
+        AlertEvent raised = captor.getAllValues().get(0);
+        assertThat(raised.kind()).isEqualTo(AlertEvent.Kind.RAISED);
+        assertThat(raised.zoneId()).isEqualTo(1L);
+        assertThat(raised.breach()).isEqualTo(ThresholdBreach.HIGH);
+        assertThat(raised.timestamp()).isZero();
+        assertThat(raised.bandHigh()).isEqualTo(1.8);
+        AlertEvent cleared = captor.getAllValues().get(1);
+        assertThat(cleared.kind()).isEqualTo(AlertEvent.Kind.CLEARED);
+        assertThat(cleared.timestamp()).isEqualTo(3 * MINUTE);
+    }
+
+    @Test
+    void refreshRules_OpenAlertFromBeforeRestart_CanClear() {
+        // Arrange
+        when(dispatcher.submit(any())).thenReturn(true);
+        LocalDateTime startedAt = LocalDateTime.now().minusHours(1);
+        when(zoneAlertRepository.findByStatus(AlertStatus.OPEN)).thenReturn(List.of(ZoneAlert.builder()
+                .zoneId(1L).metric(Metric.EC).breach(ThresholdBreach.LOW).startedAt(startedAt).build()));
+        engine.refreshRules();
+        long now = startedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() + 60 * MINUTE;
+        TelemetryBatch batch = new TelemetryBatch(4);
+        batch.add(1, Metric.EC.code(), now, 1.2);
+        batch.add(1, Metric.EC.code(), now + 2 * MINUTE, 1.2);
+
+        // Act
+        engine.write(batch);
+
+        // Assert
+        ArgumentCaptor<AlertEvent> captor = ArgumentCaptor.forClass(AlertEvent.class);
+        verify(dispatcher).submit(captor.capture());
+        assertThat(captor.getValue().kind()).isEqualTo(AlertEvent.Kind.CLEARED);
+        assertThat(captor.getValue().breach()).isEqualTo(ThresholdBreach.LOW);
+    }
+
+    @Test
+    void write_ZoneLosesBandWhileAlerting_SubmitsCleared() {
+        // Arrange
+        when(dispatcher.submit(any())).thenReturn(true);
+        engine.refreshRules();
+        TelemetryBatch batch = new TelemetryBatch(4);
+        batch.add(2, Metric.TEMPERATURE.code(), 0, 40);
+        batch.add(2, Metric.TEMPERATURE.code(), 2 * MINUTE, 41);
+        engine.write(batch);
+        List<Object[]> remaining = new ArrayList<>();
+        remaining.add(new Object[]{1L, "Lettuce", "Butterhead"});
+        when(zoneRepository.findAllZoneCrops()).thenReturn(remaining);
+
+        // Act
+        engine.refreshRules();
+        engine.write(new TelemetryBatch(1));
+
+        // Assert
+        ArgumentCaptor<AlertEvent> captor = ArgumentCaptor.forClass(AlertEvent.class);
+        verify(dispatcher, times(2)).submit(captor.capture());
+        assertThat(captor.getAllValues().get(1).kind()).isEqualTo(AlertEvent.Kind.CLEARED);
+        assertThat(captor.getAllValues().get(1).zoneId()).isEqualTo(2L);
+    }
+}
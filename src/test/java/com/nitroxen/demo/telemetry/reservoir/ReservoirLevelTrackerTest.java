@@ -0,0 +1,115 @@
+package com.nitroxen.demo.telemetry.reservoir;
+
+import com.nitroxen.demo.dto.response.ReservoirLevelResponse;
+import com.nitroxen.demo.dto.response.ZoneWaterUseResponse;
+import com.nitroxen.demo.entity.Reservoir;
+import com.nitroxen.demo.entity.Zone;
+import com.nitroxen.demo.telemetry.Metric;
+import com.nitroxen.demo.telemetry.TelemetryBatch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class ReservoirLevelTrackerTest {
+
+    private static final long HOUR = TimeUnit.HOURS.toMillis(1);
+    private static final long START = 1_700_000_000_000L;
+
+    private ReservoirLevelTracker tracker;
+    private Reservoir reservoir;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new ReservoirLevelTracker(6 * HOUR, 50);
+        reservoir = Reservoir.builder()
+                .id(7L)
+                .capacity(10_000.0)
+                .servingZones(List.of(Zone.builder().id(1L).name("Bay 1").build(),
+                        Zone.builder().id(2L).name("Bay 2").build()))
+                .build();
+    }
+
+    @Test
+    void forecast_NoLevelReading_ReturnsNull() {
+        assertThat(tracker.forecast(reservoir, START)).isNull();
+    }
+
+    @Test
+    void forecast_SteadyDrain_EstimatesTimeToEmpty() {
+        // Arrange: 100 L/h for 10 hours, reported every 10 minutes
+        TelemetryBatch batch = new TelemetryBatch(128);
+        for (int i = 0; i <= 60; i++) {
+            batch.add(7L, Metric.WATER_LEVEL.code(), START + i * HOUR / 6, 8000 - i * 100.0 / 6);
+        }
+        tracker.write(batch);
+        long now = START + 10 * HOUR;
+
+        // Act
+        ReservoirLevelResponse forecast = tracker.forecast(reservoir, now);
+
+        // Assert
+        assertThat(forecast.getCurrentLevel()).isCloseTo(7000, within(1e-6));
+        assertThat(forecast.getLevelPercent()).isCloseTo(70, within(1e-6));
+        assertThat(forecast.getConsumptionLitersPerHour()).isCloseTo(100, within(1e-6));
+        assertThat(forecast.getHoursToEmpty()).isCloseTo(70, within(1e-3));
+    }
+
+    @Test
+    void forecast_Refill_DoesNotCountAsNegativeConsumption() {
+        // Arrange
+        TelemetryBatch batch = new TelemetryBatch(8);
+        batch.add(7L, Metric.WATER_LEVEL.code(), START, 5000);
+        batch.add(7L, Metric.WATER_LEVEL.code(), START + HOUR, 4900);
+        batch.add(7L, Metric.WATER_LEVEL.code(), START + 2 * HOUR, 9000);
+        batch.add(7L, Metric.WATER_LEVEL.code(), START + 3 * HOUR, 8900);
+        batch.add(7L, Metric.WATER_LEVEL.code(), START + HOUR / 2, 100); // late reading, ignored
+        tracker.write(batch);
+
+        // Act
+        ReservoirLevelResponse forecast = tracker.forecast(reservoir, START + 3 * HOUR);
+
+        // Assert
+        assertThat(forecast.getCurrentLevel()).isEqualTo(8900);
+        assertThat(forecast.getConsumptionLitersPerHour()).isCloseTo(100, within(1e-6));
+    }
+
+    @Test
+    void forecast_AttributesConsumptionByMeteredZoneUse() {
+        // Arrange
+        TelemetryBatch batch = new TelemetryBatch(8);
+        batch.add(7L, Metric.WATER_LEVEL.code(), START, 5000);
+        batch.add(7L, Metric.WATER_LEVEL.code(), START + HOUR, 4800);
+        batch.add(1L, Metric.WATER_USED.code(), START + HOUR, 150);
+        batch.add(2L, Metric.WATER_USED.code(), START + HOUR, 50);
+        tracker.write(batch);
+
+        // Act
+        List<ZoneWaterUseResponse> zones = tracker.forecast(reservoir, START + HOUR).getZoneConsumption();
+
+        // Assert
+        assertThat(zones).extracting(ZoneWaterUseResponse::getZoneId).containsExactly(1L, 2L);
+        assertThat(zones.get(0).getShare()).isCloseTo(0.75, within(1e-9));
+        assertThat(zones.get(0).getLitersPerHour()).isCloseTo(150, within(1e-6));
+        assertThat(zones.get(1).getLitersPerHour()).isCloseTo(50, within(1e-6));
+    }
+
+    @Test
+    void forecast_NoMeteredZones_SplitsEvenly() {
+        // Arrange
+        TelemetryBatch batch = new TelemetryBatch(2);
+        batch.add(7L, Metric.WATER_LEVEL.code(), START, 5000);
+        tracker.write(batch);
+
+        // Act
+        ReservoirLevelResponse forecast = tracker.forecast(reservoir, START);
+
+        // Assert
+        assertThat(forecast.getZoneConsumption()).extracting(ZoneWaterUseResponse::getShare).containsExactly(0.5, 0.5);
+        assertThat(forecast.getHoursToEmpty()).isNull();
+    }
+}
@@ -0,0 +1,114 @@
+package com.nitroxen.demo.telemetry.rollup;
+
+import com.nitroxen.demo.telemetry.Aggregation;
+import com.nitroxen.demo.telemetry.Metric;
+import com.nitroxen.demo.telemetry.SourceType;
+import com.nitroxen.demo.telemetry.StepSeries;
+import com.nitroxen.demo.telemetry.TelemetryBatch;
+import com.nitroxen.demo.telemetry.store.SeriesKey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RollupStoreTest {
+
+    private static final long DAY = 86_400_000L;
+    private static final long HOUR = 3_600_000L;
+    private static final long MINUTE = 60_000L;
+    private static final long START = 20_000 * DAY; // midnight UTC
+
+    @TempDir
+    Path directory;
+
+    private final long key = SeriesKey.of(SourceType.ZONE, 4, Metric.TEMPERATURE);
+
+    @Test
+    void write_MaintainsAllResolutions() throws IOException {
+        RollupStore store = openStore();
+        // Two hours at one reading per second, value = minute of the day
+        TelemetryBatch batch = new TelemetryBatch(7_200);
+        for (int second = 0; second < 7_200; second++) {
+            batch.add(4, Metric.TEMPERATURE.code(), START + second * 1_000L, second / 60);
+        }
+        store.write(batch);
+
+        StepSeries minutes = new StepSeries(START, START + 10 * MINUTE, MINUTE);
+        assertThat(store.fold(key, Resolution.MINUTE, START, START + 10 * MINUTE, minutes)).isEqualTo(10);
+        assertThat(minutes.value(3, Aggregation.COUNT)).isEqualTo(60);
+        assertThat(minutes.value(3, Aggregation.AVG)).isEqualTo(3);
+
+        StepSeries hours = new StepSeries(START, START + DAY, HOUR);
+        assertThat(store.fold(key, Resolution.HOUR, START, START + DAY, hours)).isEqualTo(2);
+        assertThat(hours.value(1, Aggregation.MIN)).isEqualTo(60);
+        assertThat(hours.value(1, Aggregation.MAX)).isEqualTo(119);
+        assertThat(hours.value(1, Aggregation.LAST)).isEqualTo(119);
+        assertThat(hours.value(2, Aggregation.AVG)).isNaN();
+
+        StepSeries days = new StepSeries(START, START + DAY, DAY);
+        store.fold(key, Resolution.DAY, START, START + DAY, days);
+        assertThat(days.value(0, Aggregation.COUNT)).isEqualTo(7_200);
+    }
+
+    @Test
+    void write_LatePointUpdatesOnlyItsBuckets() throws IOException {
+        RollupStore store = openStore();
+        TelemetryBatch batch = new TelemetryBatch(3);
+        batch.add(4, Metric.TEMPERATURE.code(), START + 5 * MINUTE, 20);
+        batch.add(4, Metric.TEMPERATURE.code(), START + 2 * HOUR, 22);
+        store.write(batch);
+
+        TelemetryBatch late = new TelemetryBatch(1);
+        late.add(4, Metric.TEMPERATURE.code(), START + 5 * MINUTE + 30_000, 30);
+        store.write(late);
+
+        StepSeries minutes = new StepSeries(START, START + 3 * HOUR, MINUTE);
+        store.fold(key, Resolution.MINUTE, START, START + 3 * HOUR, minutes);
+        assertThat(minutes.value(5, Aggregation.COUNT)).isEqualTo(2);
+        assertThat(minutes.value(5, Aggregation.MAX)).isEqualTo(30);
+        assertThat(minutes.value(5, Aggregation.LAST)).isEqualTo(30); // newest by timestamp, not by arrival
+        assertThat(minutes.value(120, Aggregation.COUNT)).isEqualTo(1);
+
+        StepSeries days = new StepSeries(START, START + DAY, DAY);
+        store.fold(key, Resolution.DAY, START, START + DAY, days);
+        assertThat(days.value(0, Aggregation.LAST)).isEqualTo(22);
+        assertThat(days.value(0, Aggregation.SUM)).isEqualTo(72);
+    }
+
+    @Test
+    void open_RecoversBlocksFromDisk() throws IOException {
+        RollupStore store = openStore();
+        TelemetryBatch batch = new TelemetryBatch(400);
+        for (int day = 0; day < 400; day++) {
+            batch.add(4, Metric.TEMPERATURE.code(), START + day * DAY, day);
+        }
+        store.write(batch);
+        store.close();
+
+        RollupStore reopened = openStore();
+        StepSeries weeks = new StepSeries(START, START + 400 * DAY, 7 * DAY);
+        reopened.fold(key, Resolution.DAY, START, START + 400 * DAY, weeks);
+
+        assertThat(reopened.getBlockCount()).isEqualTo(store.getBlockCount());
+        assertThat(weeks.value(0, Aggregation.SUM)).isEqualTo(21);
+        assertThat(weeks.value(57, Aggregation.COUNT)).isEqualTo(1);
+    }
+
+    @Test
+    void coarsestFor_PicksWidestAlignedResolution() {
+        assertThat(Resolution.coarsestFor(START, START + 30 * DAY, DAY)).isEqualTo(Resolution.DAY);
+        assertThat(Resolution.coarsestFor(START, START + 30 * DAY, 6 * HOUR)).isEqualTo(Resolution.HOUR);
+        assertThat(Resolution.coarsestFor(START + MINUTE, START + DAY, DAY)).isEqualTo(Resolution.MINUTE);
+        assertThat(Resolution.coarsestFor(START, START + HOUR, 10_000)).isNull();
+    }
+
+    private RollupStore openStore() throws IOException {
+        RollupStore store = new RollupStore(directory.toString(), 64 * 1024, new SimpleMeterRegistry());
+        store.open();
+        return store;
+    }
+}
@@ -0,0 +1,61 @@
+package com.nitroxen.demo.telemetry.store;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GorillaEncoderTest {
+
+    @Test
+    void roundTrip_PreservesIrregularTimestampsAndValuesExactly() {
+        Random random = new Random(7);
+        int points = 5_000;
+        long[] timestamps = new long[points];
+        double[] values = new double[points];
+        long timestamp = 1_760_000_000_000L;
+        for (int i = 0; i < points; i++) {
+            // Mostly regular, with jitter, gaps, late points and value edge cases
+            timestamp += switch (i % 7) {
+                case 3 -> random.nextInt(5_000);
+                case 5 -> -random.nextInt(300);
+                case 6 -> 86_400_000L;
+                default -> 1_000;
+            };
+            timestamps[i] = timestamp;
+            values[i] = switch (i % 11) {
+                case 4 -> 0.0;
+                case 7 -> -1e300;
+                case 9 -> Double.MIN_VALUE;
+                default -> 20 + random.nextGaussian();
+            };
+        }
+
+        GorillaEncoder encoder = new GorillaEncoder(points);
+        for (int i = 0; i < points; i++) {
+            encoder.append(timestamps[i], values[i]);
+        }
+        GorillaDecoder decoder = new GorillaDecoder();
+        decoder.reset(encoder.buffer(), 0, encoder.count());
+
+        for (int i = 0; i < points; i++) {
+            assertThat(decoder.next()).isTrue();
+            assertThat(decoder.timestamp()).isEqualTo(timestamps[i]);
+            assertThat(decoder.value()).isEqualTo(values[i]);
+        }
+        assertThat(decoder.next()).isFalse();
+        assertThat(encoder.minValue()).isEqualTo(-1e300);
+    }
+
+    @Test
+    void append_RegularSlowlyChangingSeries_CompressesWell() {
+        GorillaEncoder encoder = new GorillaEncoder(1024);
+        for (int i = 0; i < 1024; i++) {
+            encoder.append(1_760_000_000_000L + i * 1_000L, 24.5 + (i / 60) * 0.1);
+        }
+
+        // 16 bytes per point uncompressed
+        assertThat(encoder.byteLength()).isLessThan(1024 * 2);
+    }
+}
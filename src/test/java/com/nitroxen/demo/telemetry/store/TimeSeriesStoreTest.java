@@ -0,0 +1,123 @@
+package com.nitroxen.demo.telemetry.store;
+
+import com.nitroxen.demo.telemetry.Metric;
+import com.nitroxen.demo.telemetry.SourceType;
+import com.nitroxen.demo.telemetry.TelemetryBatch;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TimeSeriesStoreTest {
+
+    private static final long START = 1_760_000_000_000L;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void scan_ReturnsPointsOfSealedAndOpenChunksInRange() throws IOException {
+        TimeSeriesStore store = openStore();
+        long temperature = SeriesKey.of(SourceType.ZONE, 7, Metric.TEMPERATURE);
+        long humidity = SeriesKey.of(SourceType.ZONE, 7, Metric.HUMIDITY);
+        for (int i = 0; i < 1_000; i++) {
+            store.append(temperature, START + i * 1_000L, 20 + i * 0.01);
+            store.append(humidity, START + i * 1_000L, 60);
+        }
+
+        List<Double> values = new ArrayList<>();
+        int delivered = store.scan(temperature, START + 100_000, START + 110_000, (timestamp, value) -> values.add(value));
+
+        assertThat(delivered).isEqualTo(10);
+        assertThat(values.get(0)).isEqualTo(21.0);
+        assertThat(store.scan(temperature, START + 995_000, START + 2_000_000, (timestamp, value) -> { }))
+                .isEqualTo(5); // still in the open chunk
+        assertThat(store.scan(SeriesKey.of(SourceType.ZONE, 8, Metric.TEMPERATURE), 0, Long.MAX_VALUE,
+                (timestamp, value) -> { })).isZero();
+    }
+
+    @Test
+    void summarize_CombinesIndexedChunksAndDecodedEdges() throws IOException {
+        TimeSeriesStore store = openStore();
+        long key = SeriesKey.of(SourceType.ZONE, 1, Metric.EC);
+        for (int i = 0; i < 1_000; i++) {
+            store.append(key, START + i, i);
+        }
+
+        SeriesSummary summary = store.summarize(key, START + 50, START + 950);
+
+        assertThat(summary.getCount()).isEqualTo(900);
+        assertThat(summary.getMin()).isEqualTo(50);
+        assertThat(summary.getMax()).isEqualTo(949);
+        assertThat(summary.getAverage()).isEqualTo(499.5);
+    }
+
+    @Test
+    void open_RecoversSealedChunksAcrossSegments() throws IOException {
+        TimeSeriesStore store = openStore();
+        TelemetryBatch batch = new TelemetryBatch(5_000);
+        for (int i = 0; i < 5_000; i++) {
+            batch.add(i % 10, Metric.PH.code(), START + (i / 10) * 60_000L, 6 + (i % 10) * 0.1);
+        }
+        store.write(batch);
+        store.close();
+        assertThat(store.getSegmentCount()).isGreaterThan(1);
+
+        TimeSeriesStore reopened = openStore();
+        long key = SeriesKey.of(SourceType.ZONE, 3, Metric.PH);
+        List<Long> timestamps = new ArrayList<>();
+        reopened.scan(key, 0, Long.MAX_VALUE, (timestamp, value) -> {
+            assertThat(value).isEqualTo(6.3);
+            timestamps.add(timestamp);
+        });
+
+        assertThat(reopened.getSeriesCount()).isEqualTo(10);
+        assertThat(reopened.getSegmentCount()).isEqualTo(store.getSegmentCount());
+        assertThat(timestamps).hasSize(500);
+        assertThat(timestamps.get(499)).isEqualTo(START + 499 * 60_000L);
+    }
+
+    @Test
+    void compact_DropsExpiredChunksAndMergesSegments() throws Exception {
+        TimeSeriesStore store = openStore();
+        long oldKey = SeriesKey.of(SourceType.ZONE, 1, Metric.EC);
+        long newKey = SeriesKey.of(SourceType.ZONE, 2, Metric.EC);
+        for (int i = 0; i < 30_000; i++) {
+            store.append(oldKey, START + i, 1.5);
+            store.append(newKey, START + 10_000_000 + i, 2.5);
+        }
+        store.sealAll();
+        int segmentsBefore = store.getSegmentCount();
+
+        CompactionResult result = store.compact((key, maxTimestamp) -> key == oldKey, IoThrottle.unlimited(),
+                64 * 1024, Long.MAX_VALUE);
+
+        assertThat(result.pointsDropped()).isGreaterThan(0);
+        assertThat(result.bytesReclaimed()).isPositive();
+        assertThat(store.getSegmentCount()).isLessThan(segmentsBefore);
+        int remainingOld = store.scan(oldKey, 0, Long.MAX_VALUE, (timestamp, value) -> { });
+        assertThat(remainingOld).isEqualTo(30_000 - result.pointsDropped());
+        assertThat(store.scan(newKey, 0, Long.MAX_VALUE, (timestamp, value) -> { })).isEqualTo(30_000);
+
+        // The compacted layout survives a restart
+        store.close();
+        TimeSeriesStore reopened = openStore();
+        assertThat(reopened.getSegmentCount()).isEqualTo(store.getSegmentCount());
+        assertThat(reopened.scan(newKey, 0, Long.MAX_VALUE, (timestamp, value) -> assertThat(value).isEqualTo(2.5)))
+                .isEqualTo(30_000);
+        assertThat(reopened.scan(oldKey, 0, Long.MAX_VALUE, (timestamp, value) -> { })).isEqualTo(remainingOld);
+    }
+
+    private TimeSeriesStore openStore() throws IOException {
+        // Small segments and chunks so tests cross segment boundaries
+        TimeSeriesStore store = new TimeSeriesStore(directory.toString(), 4_096, 128, new SimpleMeterRegistry());
+        store.open();
+        return store;
+    }
+}